@@ -1,8 +1,15 @@
 package com.sequenceiq.authorization.service.list;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 
@@ -10,6 +17,7 @@ import com.sequenceiq.authorization.resource.AuthorizationResourceAction;
 import com.sequenceiq.cloudbreak.auth.altus.EntitlementService;
 import com.sequenceiq.cloudbreak.auth.crn.Crn;
 import com.sequenceiq.cloudbreak.auth.crn.RegionAwareInternalCrnGeneratorUtil;
+import com.sequenceiq.cloudbreak.common.exception.BadRequestException;
 
 public abstract class AbstractAuthorizationFiltering<T> {
 
@@ -27,9 +35,7 @@ public abstract class AbstractAuthorizationFiltering<T> {
 
     public final T filterResources(Crn userCrn, AuthorizationResourceAction action, Map<String, Object> arguments) {
         T authorizedData;
-        if (RegionAwareInternalCrnGeneratorUtil.isInternalCrn(userCrn) ||
-                !userCrn.getResourceType().equals(Crn.ResourceType.USER) ||
-                !entitlementService.listFilteringEnabled(userCrn.getAccountId())) {
+        if (!isFilteringNeeded(userCrn)) {
             authorizedData = getAll(arguments);
         } else {
             List<ResourceWithId> resources = getAllResources(arguments);
@@ -39,6 +45,67 @@ public abstract class AbstractAuthorizationFiltering<T> {
         return authorizedData;
     }
 
+    /**
+     * Returns one page of the resources the user has right on, ordered by their ids. The candidate resources are read and checked against UMS in
+     * batches of the UMS chunk size until the page is filled. Filterings implementing {@link ResourcePageProvider} read the batches from the
+     * repository, the others read all resources once and page over them in memory.
+     */
+    public final ResourcePage<T> filterResourcePage(Crn userCrn, AuthorizationResourceAction action, Map<String, Object> arguments, String pageToken,
+            int pageSize) {
+        if (pageSize < 1) {
+            throw new BadRequestException("The page size must be positive.");
+        }
+        boolean filteringNeeded = isFilteringNeeded(userCrn);
+        int batchSize = resourceFilteringService.getChunkSize();
+        Function<Optional<Long>, List<ResourceWithId>> candidateBatches = getCandidateBatches(arguments, batchSize);
+        Optional<Long> cursor = ListPageToken.decode(pageToken);
+        List<Long> pageResourceIds = new ArrayList<>();
+        boolean hasMore = true;
+        while (hasMore && pageResourceIds.size() < pageSize) {
+            List<ResourceWithId> candidates = candidateBatches.apply(cursor);
+            Set<Long> authorizedResourceIds = filteringNeeded
+                    ? new HashSet<>(getAuthorizedResourceIds(userCrn, action, candidates))
+                    : candidates.stream().map(ResourceWithId::getId).collect(Collectors.toSet());
+            hasMore = candidates.size() == batchSize;
+            for (ResourceWithId candidate : candidates) {
+                if (pageResourceIds.size() == pageSize) {
+                    hasMore = true;
+                    break;
+                }
+                cursor = Optional.of(candidate.getId());
+                if (authorizedResourceIds.contains(candidate.getId())) {
+                    pageResourceIds.add(candidate.getId());
+                }
+            }
+        }
+        String nextPageToken = hasMore ? cursor.map(ListPageToken::encode).orElse(null) : null;
+        return new ResourcePage<>(filterByIds(pageResourceIds, arguments), nextPageToken);
+    }
+
+    private Function<Optional<Long>, List<ResourceWithId>> getCandidateBatches(Map<String, Object> arguments, int batchSize) {
+        if (this instanceof ResourcePageProvider) {
+            ResourcePageProvider resourcePageProvider = (ResourcePageProvider) this;
+            return afterId -> sortById(resourcePageProvider.getResourcePage(arguments, afterId, batchSize).stream());
+        }
+        List<ResourceWithId> allResources = sortById(getAllResources(arguments).stream());
+        return afterId -> allResources.stream()
+                .filter(resource -> afterId.isEmpty() || resource.getId() > afterId.get())
+                .limit(batchSize)
+                .collect(Collectors.toList());
+    }
+
+    private List<ResourceWithId> sortById(Stream<ResourceWithId> resources) {
+        return resources
+                .sorted(Comparator.comparingLong(ResourceWithId::getId))
+                .collect(Collectors.toList());
+    }
+
+    private boolean isFilteringNeeded(Crn userCrn) {
+        return !RegionAwareInternalCrnGeneratorUtil.isInternalCrn(userCrn) &&
+                userCrn.getResourceType().equals(Crn.ResourceType.USER) &&
+                entitlementService.listFilteringEnabled(userCrn.getAccountId());
+    }
+
     private List<Long> getAuthorizedResourceIds(Crn userCrn, AuthorizationResourceAction action, List<ResourceWithId> resources) {
         return resourceFilteringService.filter(userCrn, action, resources, hasRightPredicate -> resources.stream()
                 .filter(r -> hasRightPredicate.test(r.getResourceCrn()))
@@ -0,0 +1,33 @@
+package com.sequenceiq.authorization.service.list;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.sequenceiq.cloudbreak.common.exception.BadRequestException;
+
+/**
+ * The paging token of the authorization filtered lists is the opaque form of the id of the last resource examined for the previous page.
+ */
+final class ListPageToken {
+
+    private ListPageToken() {
+    }
+
+    static String encode(long lastResourceId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Long.toString(lastResourceId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Optional<Long> decode(String pageToken) {
+        if (StringUtils.isEmpty(pageToken)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.valueOf(new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid page token: " + pageToken);
+        }
+    }
+}
@@ -14,8 +14,10 @@ import java.util.stream.Collectors;
 import javax.inject.Inject;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.google.common.collect.Lists;
 import com.sequenceiq.authorization.resource.AuthorizationResourceAction;
 import com.sequenceiq.cloudbreak.auth.altus.GrpcUmsClient;
 import com.sequenceiq.cloudbreak.auth.crn.Crn;
@@ -24,6 +26,11 @@ import com.sequenceiq.cloudbreak.logger.MDCBuilder;
 @Service
 public class ResourceFilteringService {
 
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    @Value("${authorization.list.filtering.chunk-size:" + DEFAULT_CHUNK_SIZE + "}")
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
     @Inject
     private GrpcUmsClient umsClient;
 
@@ -37,11 +44,24 @@ public class ResourceFilteringService {
         }
         Map<Optional<String>, List<R>> resourcesByParents = sortByParentResources(resources);
         List<String> resourceCrns = flattenByParentResources(resourcesByParents);
-        List<Boolean> result = umsClient.hasRightsOnResources(userCrn.toString(), resourceCrns, action.getRight(), getRequestId());
+        List<Boolean> result = hasRightsOnResources(userCrn, action, resourceCrns);
         Map<String, Boolean> resultMap = calculateResultMap(resourcesByParents, result);
         return resultMapper.apply(resourceCrn -> resultMap.getOrDefault(resourceCrn, Boolean.FALSE));
     }
 
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    private List<Boolean> hasRightsOnResources(Crn userCrn, AuthorizationResourceAction action, List<String> resourceCrns) {
+        // the rights are returned in the order of the CRNs, so the results of the chunks can simply be concatenated
+        List<Boolean> result = new ArrayList<>(resourceCrns.size());
+        for (List<String> chunk : Lists.partition(resourceCrns, chunkSize)) {
+            result.addAll(umsClient.hasRightsOnResources(userCrn.toString(), chunk, action.getRight(), getRequestId()));
+        }
+        return result;
+    }
+
     private <R extends Resource> Map<Optional<String>, List<R>> sortByParentResources(List<R> resources) {
         Map<Optional<String>, List<R>> resourcesByParents = new LinkedHashMap<>();
         resources.forEach(resource -> resourcesByParents
@@ -0,0 +1,24 @@
+package com.sequenceiq.authorization.service.list;
+
+public class ResourcePage<T> {
+
+    private final T content;
+
+    private final String nextPageToken;
+
+    public ResourcePage(T content, String nextPageToken) {
+        this.content = content;
+        this.nextPageToken = nextPageToken;
+    }
+
+    public T getContent() {
+        return content;
+    }
+
+    /**
+     * @return the token of the next page, or null if this is the last page
+     */
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+}
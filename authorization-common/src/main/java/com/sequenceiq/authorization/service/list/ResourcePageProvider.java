@@ -0,0 +1,17 @@
+package com.sequenceiq.authorization.service.list;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Implemented by the {@link AbstractAuthorizationFiltering} subclasses which can read the candidate resources of a page from the repository
+ * page by page. The filterings without it read all the resources once per page request with {@link AbstractAuthorizationFiltering#getAllResources}.
+ */
+public interface ResourcePageProvider {
+
+    /**
+     * Returns at most {@code limit} resources ordered by their ids, starting after {@code afterId} if it is present.
+     */
+    List<ResourceWithId> getResourcePage(Map<String, Object> args, Optional<Long> afterId, int limit);
+}
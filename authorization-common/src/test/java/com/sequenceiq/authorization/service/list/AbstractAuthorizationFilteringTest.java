@@ -1,14 +1,20 @@
 package com.sequenceiq.authorization.service.list;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +29,7 @@ import com.sequenceiq.cloudbreak.auth.crn.CrnTestUtil;
 import com.sequenceiq.cloudbreak.auth.crn.Crn;
 import com.sequenceiq.cloudbreak.auth.altus.EntitlementService;
 import com.sequenceiq.cloudbreak.auth.altus.GrpcUmsClient;
+import com.sequenceiq.cloudbreak.common.exception.BadRequestException;
 
 @ExtendWith(MockitoExtension.class)
 public class AbstractAuthorizationFilteringTest {
@@ -379,6 +386,167 @@ public class AbstractAuthorizationFilteringTest {
         assertEquals(List.of(1L, 2L, 3L, 5L), result);
     }
 
+    @Test
+    public void testRightsAreCheckedInChunks() {
+        enableListFiltering();
+        ReflectionTestUtils.setField(resourceFilteringService, "chunkSize", 2);
+
+        String datahubCrn2 = dataHubCrn("datahub-2");
+        String datahubCrn3 = dataHubCrn("datahub-3");
+        LongFiltering underTest = longFiltering(
+                new ResourceWithId(1L, DATAHUB_CRN),
+                new ResourceWithId(2L, datahubCrn2),
+                new ResourceWithId(3L, datahubCrn3));
+
+        when(grpcUmsClient.hasRightsOnResources(
+                eq(USER_CRN.toString()),
+                eq(List.of(DATAHUB_CRN, datahubCrn2)),
+                eq(ACTION.getRight()),
+                any())).thenReturn(List.of(true, false));
+        when(grpcUmsClient.hasRightsOnResources(
+                eq(USER_CRN.toString()),
+                eq(List.of(datahubCrn3)),
+                eq(ACTION.getRight()),
+                any())).thenReturn(List.of(true));
+
+        List<Long> result = underTest.filterResources(USER_CRN, ACTION, Map.of());
+
+        assertEquals(List.of(1L, 3L), result);
+    }
+
+    @Test
+    public void testPagesAreFilledWithAuthorizedResources() {
+        enableListFiltering();
+        ReflectionTestUtils.setField(resourceFilteringService, "chunkSize", 2);
+
+        String datahubCrn2 = dataHubCrn("datahub-2");
+        String datahubCrn3 = dataHubCrn("datahub-3");
+        String datahubCrn4 = dataHubCrn("datahub-4");
+        String datahubCrn5 = dataHubCrn("datahub-5");
+        LongFiltering underTest = longFiltering(
+                new ResourceWithId(5L, datahubCrn5),
+                new ResourceWithId(4L, datahubCrn4),
+                new ResourceWithId(3L, datahubCrn3),
+                new ResourceWithId(2L, datahubCrn2),
+                new ResourceWithId(1L, DATAHUB_CRN));
+
+        when(grpcUmsClient.hasRightsOnResources(
+                eq(USER_CRN.toString()),
+                eq(List.of(DATAHUB_CRN, datahubCrn2)),
+                eq(ACTION.getRight()),
+                any())).thenReturn(List.of(false, true));
+        when(grpcUmsClient.hasRightsOnResources(
+                eq(USER_CRN.toString()),
+                eq(List.of(datahubCrn3, datahubCrn4)),
+                eq(ACTION.getRight()),
+                any())).thenReturn(List.of(true, true));
+
+        ResourcePage<List<Long>> firstPage = underTest.filterResourcePage(USER_CRN, ACTION, Map.of(), null, 2);
+
+        assertEquals(List.of(2L, 3L), firstPage.getContent());
+        assertNotNull(firstPage.getNextPageToken());
+
+        when(grpcUmsClient.hasRightsOnResources(
+                eq(USER_CRN.toString()),
+                eq(List.of(datahubCrn4, datahubCrn5)),
+                eq(ACTION.getRight()),
+                any())).thenReturn(List.of(true, false));
+
+        ResourcePage<List<Long>> secondPage = underTest.filterResourcePage(USER_CRN, ACTION, Map.of(), firstPage.getNextPageToken(), 2);
+
+        assertEquals(List.of(4L), secondPage.getContent());
+        assertNull(secondPage.getNextPageToken());
+        assertEquals(2, underTest.getAllResourcesCallCount());
+    }
+
+    @Test
+    public void testCandidatesAreCheckedInChunkSizedBatches() {
+        enableListFiltering();
+        ReflectionTestUtils.setField(resourceFilteringService, "chunkSize", 3);
+
+        String datahubCrn2 = dataHubCrn("datahub-2");
+        String datahubCrn3 = dataHubCrn("datahub-3");
+        String datahubCrn4 = dataHubCrn("datahub-4");
+        LongFiltering underTest = longFiltering(
+                new ResourceWithId(4L, datahubCrn4),
+                new ResourceWithId(1L, DATAHUB_CRN),
+                new ResourceWithId(3L, datahubCrn3),
+                new ResourceWithId(2L, datahubCrn2));
+
+        when(grpcUmsClient.hasRightsOnResources(
+                eq(USER_CRN.toString()),
+                eq(List.of(DATAHUB_CRN, datahubCrn2, datahubCrn3)),
+                eq(ACTION.getRight()),
+                any())).thenReturn(List.of(true, false, true));
+
+        ResourcePage<List<Long>> page = underTest.filterResourcePage(USER_CRN, ACTION, Map.of(), null, 1);
+
+        assertEquals(List.of(1L), page.getContent());
+        assertNotNull(page.getNextPageToken());
+        assertEquals(1, underTest.getAllResourcesCallCount());
+    }
+
+    @Test
+    public void testPagesAreReadFromTheResourcePageProviderInIdOrder() {
+        enableListFiltering();
+        ReflectionTestUtils.setField(resourceFilteringService, "chunkSize", 2);
+
+        String datahubCrn2 = dataHubCrn("datahub-2");
+        String datahubCrn3 = dataHubCrn("datahub-3");
+        PagedLongFiltering underTest = pagedLongFiltering(
+                new ResourceWithId(3L, datahubCrn3),
+                new ResourceWithId(2L, datahubCrn2),
+                new ResourceWithId(1L, DATAHUB_CRN));
+
+        when(grpcUmsClient.hasRightsOnResources(
+                eq(USER_CRN.toString()),
+                eq(List.of(DATAHUB_CRN, datahubCrn2)),
+                eq(ACTION.getRight()),
+                any())).thenReturn(List.of(true, true));
+
+        ResourcePage<List<Long>> firstPage = underTest.filterResourcePage(USER_CRN, ACTION, Map.of(), null, 2);
+
+        assertEquals(List.of(1L, 2L), firstPage.getContent());
+        assertNotNull(firstPage.getNextPageToken());
+
+        when(grpcUmsClient.hasRightsOnResources(
+                eq(USER_CRN.toString()),
+                eq(List.of(datahubCrn3)),
+                eq(ACTION.getRight()),
+                any())).thenReturn(List.of(true));
+
+        ResourcePage<List<Long>> secondPage = underTest.filterResourcePage(USER_CRN, ACTION, Map.of(), firstPage.getNextPageToken(), 2);
+
+        assertEquals(List.of(3L), secondPage.getContent());
+        assertNull(secondPage.getNextPageToken());
+        assertEquals(0, underTest.getAllResourcesCallCount());
+    }
+
+    @Test
+    public void testPagesWithoutListFiltering() {
+        disableListFiltering();
+
+        LongFiltering underTest = longFiltering(
+                new ResourceWithId(1L, DATAHUB_CRN),
+                new ResourceWithId(2L, dataHubCrn("datahub-2")),
+                new ResourceWithId(3L, dataHubCrn("datahub-3")));
+
+        ResourcePage<List<Long>> firstPage = underTest.filterResourcePage(USER_CRN, ACTION, Map.of(), null, 2);
+        ResourcePage<List<Long>> secondPage = underTest.filterResourcePage(USER_CRN, ACTION, Map.of(), firstPage.getNextPageToken(), 2);
+
+        assertEquals(List.of(1L, 2L), firstPage.getContent());
+        assertEquals(List.of(3L), secondPage.getContent());
+        assertNull(secondPage.getNextPageToken());
+        verifyNoInteractions(grpcUmsClient);
+    }
+
+    @Test
+    public void testInvalidPageToken() {
+        LongFiltering underTest = longFiltering();
+
+        assertThrows(BadRequestException.class, () -> underTest.filterResourcePage(USER_CRN, ACTION, Map.of(), "not a token", 2));
+    }
+
     private void enableListFiltering() {
         when(entitlementService.listFilteringEnabled(any())).thenReturn(true);
     }
@@ -410,12 +578,21 @@ public class AbstractAuthorizationFilteringTest {
         return longFiltering;
     }
 
+    private PagedLongFiltering pagedLongFiltering(ResourceWithId... authorizationResources) {
+        PagedLongFiltering pagedLongFiltering = new PagedLongFiltering(Arrays.asList(authorizationResources));
+        ReflectionTestUtils.setField(pagedLongFiltering, "entitlementService", entitlementService);
+        ReflectionTestUtils.setField(pagedLongFiltering, "resourceFilteringService", resourceFilteringService);
+        return pagedLongFiltering;
+    }
+
     private static class LongFiltering extends AbstractAuthorizationFiltering<List<Long>> {
 
         private List<ResourceWithId> authorizationResources;
 
         private List<Long> ids;
 
+        private int getAllResourcesCalls;
+
         LongFiltering(List<ResourceWithId> authorizationResources) {
             this.authorizationResources = authorizationResources;
             this.ids = authorizationResources
@@ -426,9 +603,14 @@ public class AbstractAuthorizationFilteringTest {
 
         @Override
         protected List<ResourceWithId> getAllResources(Map<String, Object> args) {
+            getAllResourcesCalls++;
             return authorizationResources;
         }
 
+        int getAllResourcesCallCount() {
+            return getAllResourcesCalls;
+        }
+
         @Override
         protected List<Long> filterByIds(List<Long> authorizedResourceIds, Map<String, Object> args) {
             return authorizedResourceIds;
@@ -440,4 +622,25 @@ public class AbstractAuthorizationFilteringTest {
         }
     }
 
+    private static class PagedLongFiltering extends LongFiltering implements ResourcePageProvider {
+
+        private final List<ResourceWithId> authorizationResources;
+
+        PagedLongFiltering(List<ResourceWithId> authorizationResources) {
+            super(authorizationResources);
+            this.authorizationResources = authorizationResources;
+        }
+
+        @Override
+        public List<ResourceWithId> getResourcePage(Map<String, Object> args, Optional<Long> afterId, int limit) {
+            // the page is returned in reverse order, the filtering has to order the candidates itself
+            List<ResourceWithId> page = authorizationResources.stream()
+                    .sorted(Comparator.comparingLong(ResourceWithId::getId))
+                    .filter(resource -> afterId.isEmpty() || resource.getId() > afterId.get())
+                    .limit(limit)
+                    .collect(Collectors.toList());
+            Collections.reverse(page);
+            return page;
+        }
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.sequenceiq.periscope.config;
 
+import java.time.Duration;
 import java.util.concurrent.Executor;
 
 import javax.inject.Inject;
@@ -24,7 +25,9 @@ import org.springframework.scheduling.quartz.SchedulerFactoryBean;
 import com.sequenceiq.cloudbreak.auth.altus.GrpcUmsClient;
 import com.sequenceiq.cloudbreak.client.ConfigKey;
 import com.sequenceiq.cloudbreak.client.RestClientUtil;
+import com.sequenceiq.cloudbreak.client.TlsClientCache;
 import com.sequenceiq.periscope.monitor.handler.PersistRejectedThreadExecutionHandler;
+import com.sequenceiq.periscope.service.PeriscopeMetricService;
 
 @Configuration
 @EnableAsync
@@ -58,9 +61,24 @@ public class AppConfig implements AsyncConfigurer {
     @Value("${cert.ignorePreValidation}")
     private boolean ignorePreValidation;
 
+    @Value("${periscope.tlsclient.cache.size:1000}")
+    private long tlsClientCacheSize;
+
+    @Value("${periscope.tlsclient.cache.expire.minutes:30}")
+    private long tlsClientCacheExpireMinutes;
+
+    @Value("${periscope.tlsclient.max.connections:5}")
+    private int tlsClientMaxConnections;
+
+    @Value("${periscope.tlsclient.close.delay.seconds:300}")
+    private long tlsClientCloseDelaySeconds;
+
     @Inject
     private PersistRejectedThreadExecutionHandler persistRejectedThreadExecutionHandler;
 
+    @Inject
+    private PeriscopeMetricService metricService;
+
     @Bean
     public ThreadPoolExecutorFactoryBean getThreadPoolExecutorFactoryBean() {
         ThreadPoolExecutorFactoryBean executorFactoryBean = new ThreadPoolExecutorFactoryBean();
@@ -90,6 +108,14 @@ public class AppConfig implements AsyncConfigurer {
         return RestClientUtil.get(new ConfigKey(certificateValidation, restDebug, ignorePreValidation));
     }
 
+    @Bean(destroyMethod = "close")
+    public TlsClientCache tlsClientCache() {
+        TlsClientCache tlsClientCache = new TlsClientCache(tlsClientCacheSize, Duration.ofMinutes(tlsClientCacheExpireMinutes), tlsClientMaxConnections,
+                Duration.ofSeconds(tlsClientCloseDelaySeconds));
+        tlsClientCache.registerMetrics(metricService);
+        return tlsClientCache;
+    }
+
     public Executor getScheduledExecutor() {
         try {
             return getThreadPoolExecutorFactoryBean().getObject();
@@ -16,10 +16,13 @@ public enum MetricType implements Metric {
     CLUSTER_DOWNSCALE_SUCCESSFUL("cluster.downscale.successful"),
     CLUSTER_DOWNSCALE_FAILED("cluster.downscale.failed"),
 
+    MONITOR_SUBMISSION_REJECTED("monitor.submission.rejected"),
+
     THREADPOOL_QUEUE_SIZE("threadpool.queue.size"),
     THREADPOOL_ACTIVE_THREADS("threadpool.threads.active"),
     THREADPOOL_THREADS_TOTAL("threadpool.threads.coresize"),
-    THREADPOOL_TASKS_COMPLETED("threadpool.tasks.completed");
+    THREADPOOL_TASKS_COMPLETED("threadpool.tasks.completed"),
+    THREADPOOL_EVALUATORS_IN_FLIGHT("threadpool.evaluators.inflight");
 
     private final String metricName;
 
@@ -1,5 +1,7 @@
 package com.sequenceiq.periscope.monitor;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.RejectedExecutionException;
 
@@ -9,43 +11,72 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
 
+import com.google.common.collect.Lists;
 import com.sequenceiq.cloudbreak.logger.MDCBuilder;
+import com.sequenceiq.periscope.domain.MetricType;
 import com.sequenceiq.periscope.monitor.context.EvaluatorContext;
 import com.sequenceiq.periscope.monitor.evaluator.EvaluatorExecutor;
 import com.sequenceiq.periscope.monitor.executor.ExecutorServiceWithRegistry;
+import com.sequenceiq.periscope.service.PeriscopeMetricService;
 import com.sequenceiq.periscope.service.RejectedThreadService;
 
 public abstract class AbstractMonitor<M extends Monitored> implements Monitor<M> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractMonitor.class);
 
+    private static final int WORK_UNIT_SIZE = 100;
+
+    private static final String MONITOR_TAG = "monitor";
+
     private ApplicationContext applicationContext;
 
     private ExecutorServiceWithRegistry executorServiceWithRegistry;
 
     private RejectedThreadService rejectedThreadService;
 
+    private PeriscopeMetricService metricService;
+
     @Override
     public void execute(JobExecutionContext context) {
         MDCBuilder.buildMdcContext();
         evalContext(context);
+        long tickStart = System.currentTimeMillis();
         List<M> monitoredData = getMonitored();
         LOGGER.debug("Job started: {}, monitored: {}", context.getJobDetail().getKey(), monitoredData.size());
-        for (M monitored : monitoredData) {
+        int submitted = 0;
+        for (List<M> workUnit : Lists.partition(monitoredData, WORK_UNIT_SIZE)) {
+            submitted += submitWorkUnit(workUnit);
+        }
+        Duration tickDuration = Duration.ofMillis(System.currentTimeMillis() - tickStart);
+        int evaluatorsInFlight = executorServiceWithRegistry.activeCount();
+        metricService.recordTimerMetric(MonitorMetricType.MONITOR_TICK_DURATION, tickDuration, MONITOR_TAG, String.valueOf(getIdentifier()));
+        metricService.submit(MetricType.THREADPOOL_EVALUATORS_IN_FLIGHT, evaluatorsInFlight);
+        LOGGER.info("Job finished: {}, submitted: {}/{} in {} ms, evaluators in flight: {}", context.getJobDetail().getKey(), submitted,
+                monitoredData.size(), tickDuration.toMillis(), evaluatorsInFlight);
+    }
+
+    private int submitWorkUnit(List<M> workUnit) {
+        List<M> submitted = new ArrayList<>(workUnit.size());
+        for (M monitored : workUnit) {
             try {
                 EvaluatorExecutor evaluatorExecutor = getEvaluatorExecutorBean(monitored);
                 EvaluatorContext evaluatorContext = getContext(monitored);
                 evaluatorExecutor.setContext(evaluatorContext);
                 executorServiceWithRegistry.submitIfAbsent(evaluatorExecutor, evaluatorContext.getItemId());
-                // TODO CB-14972: The size of the queue needs to be logged occasionally.
                 LOGGER.debug("Successfully submitted {} for cluster {}.", evaluatorExecutor.getName(), evaluatorContext.getData());
                 rejectedThreadService.remove(evaluatorContext.getData());
-                monitored.setLastEvaluated(System.currentTimeMillis());
-                save(monitored);
+                submitted.add(monitored);
             } catch (RejectedExecutionException ignore) {
                 LOGGER.info("Error in processing monitor: {}", monitored, ignore);
+                metricService.incrementMetricCounter(MetricType.MONITOR_SUBMISSION_REJECTED, MONITOR_TAG, String.valueOf(getIdentifier()));
             }
         }
+        if (!submitted.isEmpty()) {
+            long lastEvaluated = System.currentTimeMillis();
+            submitted.forEach(monitored -> monitored.setLastEvaluated(lastEvaluated));
+            saveAll(submitted);
+        }
+        return submitted.size();
     }
 
     void evalContext(JobExecutionContext context) {
@@ -53,6 +84,7 @@ public abstract class AbstractMonitor<M extends Monitored> implements Monitor<M>
         applicationContext = (ApplicationContext) monitorContext.get(MonitorContext.APPLICATION_CONTEXT.name());
         executorServiceWithRegistry = applicationContext.getBean(ExecutorServiceWithRegistry.class);
         rejectedThreadService = applicationContext.getBean(RejectedThreadService.class);
+        metricService = applicationContext.getBean(PeriscopeMetricService.class);
     }
 
     protected ApplicationContext getApplicationContext() {
@@ -67,6 +99,13 @@ public abstract class AbstractMonitor<M extends Monitored> implements Monitor<M>
 
     protected abstract void save(M monitored);
 
+    /**
+     * Persists the evaluation time of a work unit. Monitors whose items can be updated together should override it with a single bulk update.
+     */
+    protected void saveAll(List<M> monitored) {
+        monitored.forEach(this::save);
+    }
+
     protected RejectedThreadService getRejectedThreadService() {
         return rejectedThreadService;
     }
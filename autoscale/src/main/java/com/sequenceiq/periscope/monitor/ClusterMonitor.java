@@ -1,6 +1,7 @@
 package com.sequenceiq.periscope.monitor;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.quartz.JobExecutionContext;
 
@@ -36,6 +37,13 @@ public abstract class ClusterMonitor extends AbstractMonitor<Cluster> {
         clusterService.setLastEvaluated(monitored.getId(), monitored.getLastEvaluated());
     }
 
+    @Override
+    protected void saveAll(List<Cluster> monitored) {
+        //The clusters of a work unit are evaluated at the same time, so they are updated with one statement.
+        List<Long> clusterIds = monitored.stream().map(Cluster::getId).collect(Collectors.toList());
+        clusterService.setLastEvaluated(clusterIds, monitored.get(0).getLastEvaluated());
+    }
+
     PeriscopeNodeConfig getPeriscopeNodeConfig() {
         return periscopeNodeConfig;
     }
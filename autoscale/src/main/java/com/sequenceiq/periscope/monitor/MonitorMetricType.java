@@ -0,0 +1,23 @@
+package com.sequenceiq.periscope.monitor;
+
+import com.sequenceiq.cloudbreak.common.metrics.type.Metric;
+
+/**
+ * Timers of the monitor jobs. They are kept apart from {@link com.sequenceiq.periscope.domain.MetricType}, because every non gauge value of that
+ * is registered as a counter on startup.
+ */
+public enum MonitorMetricType implements Metric {
+
+    MONITOR_TICK_DURATION("monitor.tick.duration");
+
+    private final String metricName;
+
+    MonitorMetricType(String metricName) {
+        this.metricName = metricName;
+    }
+
+    @Override
+    public String getMetricName() {
+        return metricName;
+    }
+}
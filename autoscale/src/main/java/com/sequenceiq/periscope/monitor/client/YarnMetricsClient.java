@@ -16,7 +16,7 @@ import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackV4Response;
-import com.sequenceiq.cloudbreak.client.RestClientUtil;
+import com.sequenceiq.cloudbreak.client.TlsClientCache;
 import com.sequenceiq.periscope.aspects.RequestLogging;
 import com.sequenceiq.periscope.domain.Cluster;
 import com.sequenceiq.periscope.model.InstanceConfig;
@@ -53,6 +53,9 @@ public class YarnMetricsClient {
     @Inject
     private YarnServiceConfigClient yarnServiceConfigClient;
 
+    @Inject
+    private TlsClientCache tlsClientCache;
+
     @Retryable(value = Exception.class, maxAttempts = 2, backoff = @Backoff(delay = 5000))
     public YarnScalingServiceV1Response getYarnMetricsForCluster(Cluster cluster, StackV4Response stackV4Response,
             String hostGroup, Optional<Integer> mandatoryDownScaleCount) throws Exception {
@@ -61,7 +64,7 @@ public class YarnMetricsClient {
                 .orElseThrow(() -> new RuntimeException(String.format("ClusterProxy Not Configured for Cluster %s, " +
                         " cannot query YARN Metrics.", cluster.getStackCrn())));
 
-        Client restClient = RestClientUtil.createClient(tlsConfig.getServerCert(),
+        Client restClient = tlsClientCache.getClient(cluster.getStackCrn(), tlsConfig.getServerCert(),
                 tlsConfig.getClientCert(), tlsConfig.getClientKey(), true);
         String yarnApiUrl = String.format(YARN_API_URL, clusterProxyUrl, cluster.getStackCrn());
 
@@ -1,5 +1,6 @@
 package com.sequenceiq.periscope.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -86,6 +87,10 @@ public interface ClusterRepository extends CrudRepository<Cluster, Long> {
     @Query("UPDATE Cluster c SET c.lastEvaluated = :lastEvaluated WHERE c.id = :clusterId")
     void setClusterLastEvaluated(@Param("clusterId") Long clusterId, @Param("lastEvaluated") Long lastEvaluated);
 
+    @Modifying
+    @Query("UPDATE Cluster c SET c.lastEvaluated = :lastEvaluated WHERE c.id IN (:clusterIds)")
+    void setClustersLastEvaluated(@Param("clusterIds") Collection<Long> clusterIds, @Param("lastEvaluated") Long lastEvaluated);
+
     @Modifying
     @Query("UPDATE Cluster c SET c.lastScalingActivity = :lastScalingActivity WHERE c.id = :clusterId")
     void setClusterLastScalingActivity(@Param("clusterId") Long clusterId, @Param("lastScalingActivity") Long lastScalingActivity);
@@ -6,6 +6,7 @@ import static com.sequenceiq.periscope.common.MessageCode.CLUSTER_EXISTS_FOR_CRN
 import static com.sequenceiq.periscope.service.NotFoundException.notFound;
 import static org.springframework.util.StringUtils.isEmpty;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -212,6 +213,10 @@ public class ClusterService {
         clusterRepository.setClusterLastEvaluated(clusterId, lastEvaluated);
     }
 
+    public void setLastEvaluated(Collection<Long> clusterIds, Long lastEvaluated) {
+        clusterRepository.setClustersLastEvaluated(clusterIds, lastEvaluated);
+    }
+
     public void setLastScalingActivity(Long clusterId, Long lastScalingActivity) {
         clusterRepository.setClusterLastScalingActivity(clusterId, lastScalingActivity);
     }
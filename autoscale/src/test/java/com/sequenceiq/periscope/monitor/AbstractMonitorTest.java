@@ -1,12 +1,18 @@
 package com.sequenceiq.periscope.monitor;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 import javax.annotation.Nonnull;
 
@@ -21,10 +27,12 @@ import org.springframework.context.ApplicationContext;
 
 import com.sequenceiq.periscope.api.model.ClusterState;
 import com.sequenceiq.periscope.domain.Cluster;
+import com.sequenceiq.periscope.domain.MetricType;
 import com.sequenceiq.periscope.monitor.context.EvaluatorContext;
 import com.sequenceiq.periscope.monitor.evaluator.EvaluatorExecutor;
 import com.sequenceiq.periscope.monitor.executor.ExecutorServiceWithRegistry;
 import com.sequenceiq.periscope.service.ClusterService;
+import com.sequenceiq.periscope.service.PeriscopeMetricService;
 import com.sequenceiq.periscope.service.RejectedThreadService;
 import com.sequenceiq.periscope.service.ha.PeriscopeNodeConfig;
 
@@ -49,6 +57,9 @@ public class AbstractMonitorTest {
     @Mock
     private RejectedThreadService rejectedThreadService;
 
+    @Mock
+    private PeriscopeMetricService metricService;
+
     @Mock
     private Monitored monitored;
 
@@ -72,6 +83,18 @@ public class AbstractMonitorTest {
         verify(executorServiceWithRegistry).submitIfAbsent(testExecutor, CLUSTER_ID);
         verify(monitored).setLastEvaluated(anyLong());
         verify(rejectedThreadService).remove(CLUSTER_ID);
+        verify(metricService).recordTimerMetric(eq(MonitorMetricType.MONITOR_TICK_DURATION), any(Duration.class), eq("monitor"), eq("null"));
+    }
+
+    @Test
+    public void testExecuteWhenSubmissionIsRejected() {
+        doThrow(new RejectedExecutionException("queue is full")).when(executorServiceWithRegistry).submitIfAbsent(testExecutor, CLUSTER_ID);
+
+        underTest.execute(getContext());
+
+        verify(metricService).incrementMetricCounter(MetricType.MONITOR_SUBMISSION_REJECTED, "monitor", "null");
+        verify(monitored, never()).setLastEvaluated(anyLong());
+        verify(rejectedThreadService, never()).remove(CLUSTER_ID);
     }
 
     private JobExecutionContext getContext() {
@@ -88,6 +111,7 @@ public class AbstractMonitorTest {
         when(applicationContext.getBean(PeriscopeNodeConfig.class)).thenReturn(periscopeNodeConfig);
         when(applicationContext.getBean(testExecutor.getClass().getSimpleName(), EvaluatorExecutor.class)).thenReturn(testExecutor);
         when(applicationContext.getBean(RejectedThreadService.class)).thenReturn(rejectedThreadService);
+        when(applicationContext.getBean(PeriscopeMetricService.class)).thenReturn(metricService);
 
         return jobExecutionContext;
     }
@@ -19,6 +19,7 @@ import com.sequenceiq.cloudbreak.client.KeyStoreUtil;
 import com.sequenceiq.cloudbreak.cm.client.tracing.CmOkHttpTracingInterceptor;
 import com.sequenceiq.cloudbreak.cm.client.tracing.CmRequestIdProviderInterceptor;
 import com.sequenceiq.cloudbreak.util.HostUtil;
+import com.squareup.okhttp.OkHttpClient;
 
 @Component
 public class ClouderaManagerApiClientProvider {
@@ -54,6 +55,9 @@ public class ClouderaManagerApiClientProvider {
     @Inject
     private CmRequestIdProviderInterceptor cmRequestIdProviderInterceptor;
 
+    @Inject
+    private ClouderaManagerHttpClientPool clouderaManagerHttpClientPool;
+
     public ApiClient getDefaultClient(Integer gatewayPort, HttpClientConfig clientConfig, String apiVersion) throws ClouderaManagerClientInitException {
         ApiClient client = getClouderaManagerClient(clientConfig, gatewayPort, "admin", "admin", apiVersion);
         client.getHttpClient().interceptors().add(cmOkHttpTracingInterceptor);
@@ -96,6 +100,8 @@ public class ClouderaManagerApiClientProvider {
             throws ClouderaManagerClientInitException {
         try {
             ApiClient cmClient = new ApiClient();
+            cmClient.setVerifyingSsl(true);
+            cmClient.setHttpClient(clouderaManagerHttpClientPool.getHttpClient(clientConfig, port, () -> createHttpClient(clientConfig)));
             if (clientConfig.isClusterProxyEnabled()) {
                 cmClient.setBasePath(clientConfig.getClusterProxyUrl() + "/proxy/" + clientConfig.getClusterCrn() + "/cb-internal" + context);
                 cmClient.addDefaultHeader("Proxy-Ignore-Auth", "true");
@@ -105,36 +111,38 @@ public class ClouderaManagerApiClientProvider {
             } else {
                 cmClient.setBasePath("https://" + clientConfig.getApiAddress() + context);
             }
-            return decorateClient(clientConfig, userName, password, cmClient);
+            cmClient.setUsername(userName);
+            cmClient.setPassword(password);
+            return cmClient;
+        } catch (ClouderaManagerClientInitException e) {
+            throw e;
         } catch (Exception e) {
             LOGGER.warn("Couldn't create client", e);
             throw new ClouderaManagerClientInitException("Couldn't create client", e);
         }
     }
 
-    private ApiClient decorateClient(HttpClientConfig clientConfig, String userName, String password, ApiClient cmClient) throws Exception {
-        cmClient.setUsername(userName);
-        cmClient.setPassword(password);
-        cmClient.setVerifyingSsl(true);
+    private OkHttpClient createHttpClient(HttpClientConfig clientConfig) throws ClouderaManagerClientInitException {
+        OkHttpClient httpClient = new OkHttpClient();
         try {
             if (isCmSslConfigValidClientConfigValid(clientConfig) && !clientConfig.isClusterProxyEnabled()) {
                 SSLContext sslContext = SSLContexts.custom()
                         .loadTrustMaterial(KeyStoreUtil.createTrustStore(clientConfig.getServerCert()), null)
                         .loadKeyMaterial(KeyStoreUtil.createKeyStore(clientConfig.getClientCert(), clientConfig.getClientKey()), "consul".toCharArray())
                         .build();
-                cmClient.getHttpClient().setSslSocketFactory(sslContext.getSocketFactory());
-                cmClient.getHttpClient().setHostnameVerifier(CertificateTrustManager.hostnameVerifier());
+                httpClient.setSslSocketFactory(clouderaManagerHttpClientPool.countHandshakes(sslContext.getSocketFactory()));
+                httpClient.setHostnameVerifier(CertificateTrustManager.hostnameVerifier());
             }
-            cmClient.getHttpClient().interceptors().add(cmOkHttpTracingInterceptor);
-            cmClient.getHttpClient().interceptors().add(cmRequestIdProviderInterceptor);
-            cmClient.getHttpClient().setConnectTimeout(Long.valueOf(connectTimeoutSeconds), TimeUnit.SECONDS);
-            cmClient.getHttpClient().setReadTimeout(Long.valueOf(readTimeoutSeconds), TimeUnit.SECONDS);
-            cmClient.getHttpClient().setWriteTimeout(Long.valueOf(writeTimeoutSeconds), TimeUnit.SECONDS);
-            return cmClient;
         } catch (Exception e) {
             LOGGER.info("Cannot create SSL context for Cloudera Manager", e);
             throw new ClouderaManagerClientInitException("Couldn't create client", e);
         }
+        httpClient.interceptors().add(cmOkHttpTracingInterceptor);
+        httpClient.interceptors().add(cmRequestIdProviderInterceptor);
+        httpClient.setConnectTimeout(Long.valueOf(connectTimeoutSeconds), TimeUnit.SECONDS);
+        httpClient.setReadTimeout(Long.valueOf(readTimeoutSeconds), TimeUnit.SECONDS);
+        httpClient.setWriteTimeout(Long.valueOf(writeTimeoutSeconds), TimeUnit.SECONDS);
+        return httpClient;
     }
 
     private boolean isCmSslConfigValidClientConfigValid(HttpClientConfig config) {
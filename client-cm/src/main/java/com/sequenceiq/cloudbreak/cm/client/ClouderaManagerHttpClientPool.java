@@ -0,0 +1,121 @@
+package com.sequenceiq.cloudbreak.cm.client;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.net.ssl.SSLSocketFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.sequenceiq.cloudbreak.client.HttpClientConfig;
+import com.squareup.okhttp.ConnectionPool;
+import com.squareup.okhttp.OkHttpClient;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+
+/**
+ * Keeps the HTTP clients of the Cloudera Manager API clients, one per Cloudera Manager endpoint and TLS credential. Creating the TLS context
+ * is expensive and connections are only reused by the same client, so every API client of a cluster shares the pooled HTTP client and its
+ * kept alive connections. The key contains the hash of the certificates, a rotated credential gets a new HTTP client and the one with the
+ * old credential expires from the pool.
+ * <p>
+ * The API clients are not pooled themselves, because the callers change their timeouts, headers and interceptors. Every API client gets a
+ * copy of the pooled HTTP client which shares its connection pool and TLS context.
+ */
+@Component
+public class ClouderaManagerHttpClientPool {
+
+    private static final String KEY_SEPARATOR = "\n";
+
+    private static final String POOL_METRIC_NAME = "cm.client.pool";
+
+    private static final String HANDSHAKE_METRIC_NAME = "cm.client.tls.handshakes";
+
+    private static final String CONNECTIONS_METRIC_NAME = "cm.client.connections";
+
+    private static final String IDLE_CONNECTIONS_METRIC_NAME = "cm.client.connections.idle";
+
+    @Value("${cb.cm.client.pool.max.clients:1000}")
+    private long maxClients;
+
+    @Value("${cb.cm.client.pool.expiration.minutes:30}")
+    private long expirationMinutes;
+
+    @Value("${cb.cm.client.pool.max.idle.connections:200}")
+    private int maxIdleConnections;
+
+    @Value("${cb.cm.client.pool.keep.alive.seconds:300}")
+    private long keepAliveSeconds;
+
+    private Cache<String, OkHttpClient> httpClients;
+
+    private ConnectionPool connectionPool;
+
+    private Counter handshakes;
+
+    @PostConstruct
+    public void init() {
+        connectionPool = new ConnectionPool(maxIdleConnections, TimeUnit.SECONDS.toMillis(keepAliveSeconds));
+        httpClients = CacheBuilder.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(expirationMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(Metrics.globalRegistry, httpClients, POOL_METRIC_NAME);
+        Metrics.gauge(CONNECTIONS_METRIC_NAME, connectionPool, ConnectionPool::getConnectionCount);
+        Metrics.gauge(IDLE_CONNECTIONS_METRIC_NAME, connectionPool, ConnectionPool::getIdleConnectionCount);
+        handshakes = Metrics.counter(HANDSHAKE_METRIC_NAME);
+    }
+
+    /**
+     * Returns a copy of the pooled HTTP client of the endpoint and credential, creating the pooled client with the factory if there is none.
+     */
+    public OkHttpClient getHttpClient(HttpClientConfig clientConfig, Integer port, Callable<OkHttpClient> httpClientFactory)
+            throws ClouderaManagerClientInitException {
+        try {
+            return httpClients.get(getKey(clientConfig, port), () -> {
+                OkHttpClient httpClient = httpClientFactory.call();
+                httpClient.setConnectionPool(connectionPool);
+                return httpClient;
+            }).clone();
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof ClouderaManagerClientInitException) {
+                throw (ClouderaManagerClientInitException) e.getCause();
+            }
+            throw new ClouderaManagerClientInitException("Couldn't create client", e.getCause());
+        }
+    }
+
+    /**
+     * Wraps the socket factory of a pooled HTTP client to count the TLS handshakes, every socket it creates is a new TLS connection.
+     */
+    public SSLSocketFactory countHandshakes(SSLSocketFactory sslSocketFactory) {
+        return new HandshakeCountingSslSocketFactory(sslSocketFactory, handshakes::increment);
+    }
+
+    @VisibleForTesting
+    long getPoolSize() {
+        return httpClients.size();
+    }
+
+    private String getKey(HttpClientConfig clientConfig, Integer port) {
+        if (clientConfig.isClusterProxyEnabled()) {
+            return "proxy:" + clientConfig.getClusterProxyUrl();
+        }
+        String endpointAndCredential = String.join(KEY_SEPARATOR, clientConfig.getApiAddress(), Objects.toString(port),
+                Objects.toString(clientConfig.getServerCert()), Objects.toString(clientConfig.getClientCert()), Objects.toString(clientConfig.getClientKey()));
+        return Hashing.sha256().hashString(endpointAndCredential, StandardCharsets.UTF_8).toString();
+    }
+}
@@ -0,0 +1,59 @@
+package com.sequenceiq.cloudbreak.cm.client;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+
+import javax.net.ssl.SSLSocketFactory;
+
+class HandshakeCountingSslSocketFactory extends SSLSocketFactory {
+
+    private final SSLSocketFactory delegate;
+
+    private final Runnable handshakeCounter;
+
+    HandshakeCountingSslSocketFactory(SSLSocketFactory delegate, Runnable handshakeCounter) {
+        this.delegate = delegate;
+        this.handshakeCounter = handshakeCounter;
+    }
+
+    @Override
+    public String[] getDefaultCipherSuites() {
+        return delegate.getDefaultCipherSuites();
+    }
+
+    @Override
+    public String[] getSupportedCipherSuites() {
+        return delegate.getSupportedCipherSuites();
+    }
+
+    @Override
+    public Socket createSocket(Socket socket, String host, int port, boolean autoClose) throws IOException {
+        handshakeCounter.run();
+        return delegate.createSocket(socket, host, port, autoClose);
+    }
+
+    @Override
+    public Socket createSocket(String host, int port) throws IOException {
+        handshakeCounter.run();
+        return delegate.createSocket(host, port);
+    }
+
+    @Override
+    public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+        handshakeCounter.run();
+        return delegate.createSocket(host, port, localHost, localPort);
+    }
+
+    @Override
+    public Socket createSocket(InetAddress host, int port) throws IOException {
+        handshakeCounter.run();
+        return delegate.createSocket(host, port);
+    }
+
+    @Override
+    public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+        handshakeCounter.run();
+        return delegate.createSocket(address, port, localAddress, localPort);
+    }
+}
@@ -0,0 +1,99 @@
+package com.sequenceiq.cloudbreak.cm.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sequenceiq.cloudbreak.client.HttpClientConfig;
+import com.squareup.okhttp.OkHttpClient;
+
+class ClouderaManagerHttpClientPoolTest {
+
+    private static final Integer PORT = 9443;
+
+    private static final long READ_TIMEOUT_SECONDS = 125L;
+
+    private static final long MAX_CLIENTS = 10L;
+
+    private static final int MAX_IDLE_CONNECTIONS = 5;
+
+    private final ClouderaManagerHttpClientPool underTest = new ClouderaManagerHttpClientPool();
+
+    private final AtomicInteger createdClients = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(underTest, "maxClients", MAX_CLIENTS);
+        ReflectionTestUtils.setField(underTest, "expirationMinutes", 1L);
+        ReflectionTestUtils.setField(underTest, "maxIdleConnections", MAX_IDLE_CONNECTIONS);
+        ReflectionTestUtils.setField(underTest, "keepAliveSeconds", 1L);
+        underTest.init();
+    }
+
+    @Test
+    void testClientsOfTheSameEndpointShareTheConnectionPool() throws ClouderaManagerClientInitException {
+        HttpClientConfig clientConfig = new HttpClientConfig("10.0.0.1", "server", "client", "key");
+
+        OkHttpClient first = underTest.getHttpClient(clientConfig, PORT, this::createHttpClient);
+        OkHttpClient second = underTest.getHttpClient(new HttpClientConfig("10.0.0.1", "server", "client", "key"), PORT, this::createHttpClient);
+
+        assertNotSame(first, second);
+        assertSame(first.getConnectionPool(), second.getConnectionPool());
+        assertEquals(TimeUnit.SECONDS.toMillis(READ_TIMEOUT_SECONDS), second.getReadTimeout());
+        assertEquals(1, createdClients.get());
+        assertEquals(1L, underTest.getPoolSize());
+    }
+
+    @Test
+    void testChangesOfAClientDoNotAffectThePooledClient() throws ClouderaManagerClientInitException {
+        HttpClientConfig clientConfig = new HttpClientConfig("10.0.0.1", "server", "client", "key");
+
+        underTest.getHttpClient(clientConfig, PORT, this::createHttpClient).setReadTimeout(1L, TimeUnit.SECONDS);
+
+        OkHttpClient httpClient = underTest.getHttpClient(clientConfig, PORT, this::createHttpClient);
+        assertEquals(TimeUnit.SECONDS.toMillis(READ_TIMEOUT_SECONDS), httpClient.getReadTimeout());
+    }
+
+    @Test
+    void testRotatedCredentialGetsNewClient() throws ClouderaManagerClientInitException {
+        underTest.getHttpClient(new HttpClientConfig("10.0.0.1", "server", "client", "key"), PORT, this::createHttpClient);
+        underTest.getHttpClient(new HttpClientConfig("10.0.0.1", "server", "client2", "key2"), PORT, this::createHttpClient);
+        underTest.getHttpClient(new HttpClientConfig("10.0.0.2", "server", "client", "key"), PORT, this::createHttpClient);
+
+        assertEquals(3, createdClients.get());
+    }
+
+    @Test
+    void testClusterProxyClientIsShared() throws ClouderaManagerClientInitException {
+        underTest.getHttpClient(new HttpClientConfig("10.0.0.1").withClusterProxy("http://proxy", "crn1"), PORT, this::createHttpClient);
+        underTest.getHttpClient(new HttpClientConfig("10.0.0.2").withClusterProxy("http://proxy", "crn2"), PORT, this::createHttpClient);
+
+        assertEquals(1, createdClients.get());
+    }
+
+    @Test
+    void testCreationFailureIsRethrown() {
+        ClouderaManagerClientInitException failure = new ClouderaManagerClientInitException("Couldn't create client", new IllegalStateException());
+
+        assertSame(failure, assertThrows(ClouderaManagerClientInitException.class,
+                () -> underTest.getHttpClient(new HttpClientConfig("10.0.0.1"), PORT, () -> {
+                    throw failure;
+                })));
+        assertEquals(0L, underTest.getPoolSize());
+    }
+
+    private OkHttpClient createHttpClient() {
+        createdClients.incrementAndGet();
+        OkHttpClient httpClient = new OkHttpClient();
+        httpClient.setReadTimeout(READ_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        return httpClient;
+    }
+}
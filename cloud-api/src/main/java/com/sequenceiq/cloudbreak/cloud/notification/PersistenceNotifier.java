@@ -1,5 +1,7 @@
 package com.sequenceiq.cloudbreak.cloud.notification;
 
+import java.util.Collection;
+
 import com.sequenceiq.cloudbreak.cloud.context.CloudContext;
 import com.sequenceiq.cloudbreak.cloud.model.CloudResource;
 import com.sequenceiq.cloudbreak.cloud.notification.model.ResourcePersisted;
@@ -20,6 +22,21 @@ public interface PersistenceNotifier {
      */
     ResourcePersisted notifyAllocation(CloudResource cloudResource, CloudContext cloudContext);
 
+    /**
+     * Inform Cloudbreak about multiple resource allocations of the same stack at once.
+     *
+     * @param cloudResources the allocated {@link CloudResource}s
+     * @param cloudContext   the context containing information to identify which stack (cluster) is affected
+     * @return status of persisted resources
+     */
+    default ResourcePersisted notifyAllocations(Collection<CloudResource> cloudResources, CloudContext cloudContext) {
+        ResourcePersisted resourcePersisted = new ResourcePersisted();
+        for (CloudResource cloudResource : cloudResources) {
+            resourcePersisted = notifyAllocation(cloudResource, cloudContext);
+        }
+        return resourcePersisted;
+    }
+
     /**
      * Inform Cloudbreak about a resource has been updated
      *
@@ -29,6 +46,21 @@ public interface PersistenceNotifier {
      */
     ResourcePersisted notifyUpdate(CloudResource cloudResource, CloudContext cloudContext);
 
+    /**
+     * Inform Cloudbreak about multiple resources of the same stack have been updated
+     *
+     * @param cloudResources the updated {@link CloudResource}s
+     * @param cloudContext   the context containing information to identify which stack (cluster) is affected
+     * @return status of updated resources
+     */
+    default ResourcePersisted notifyUpdates(Collection<CloudResource> cloudResources, CloudContext cloudContext) {
+        ResourcePersisted resourcePersisted = new ResourcePersisted();
+        for (CloudResource cloudResource : cloudResources) {
+            resourcePersisted = notifyUpdate(cloudResource, cloudContext);
+        }
+        return resourcePersisted;
+    }
+
     /**
      * Inform Cloudbreak about a resource has been deleted
      *
@@ -26,6 +26,7 @@ import com.sequenceiq.cloudbreak.cloud.aws.view.AwsServiceEndpointView;
 import com.sequenceiq.cloudbreak.cloud.exception.CloudConnectorException;
 import com.sequenceiq.cloudbreak.cloud.model.network.NetworkCreationRequest;
 import com.sequenceiq.cloudbreak.cloud.model.network.SubnetRequest;
+import com.sequenceiq.cloudbreak.util.FreeMarkerTemplateCache;
 import com.sequenceiq.cloudbreak.util.FreeMarkerTemplateUtils;
 import com.sequenceiq.common.model.PrivateEndpointType;
 
@@ -62,7 +63,7 @@ public class AwsNetworkCfTemplateProvider {
         Map<String, Object> model = createModel(networkCreationRequest, subnets);
         try {
             String freeMarkerTemplate = freemarkerConfiguration.getTemplate(cloudFormationNetworkTemplatePath, "UTF-8").toString();
-            Template template = new Template("aws-template", freeMarkerTemplate, freemarkerConfiguration);
+            Template template = FreeMarkerTemplateCache.getTemplate("aws-template", freeMarkerTemplate, freemarkerConfiguration);
             return freeMarkerTemplateUtils.processTemplateIntoString(template, model).replaceAll("\\t|\\n| [\\s]+", "");
         } catch (IOException | TemplateException e) {
             throw new CloudConnectorException("Failed to process CloudFormation freemarker template", e);
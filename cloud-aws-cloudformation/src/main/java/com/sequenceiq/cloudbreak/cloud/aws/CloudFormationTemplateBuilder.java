@@ -23,6 +23,7 @@ import com.sequenceiq.cloudbreak.cloud.model.CloudStack;
 import com.sequenceiq.cloudbreak.cloud.model.Group;
 import com.sequenceiq.cloudbreak.cloud.model.Volume;
 import com.sequenceiq.cloudbreak.cloud.model.filesystem.CloudS3View;
+import com.sequenceiq.cloudbreak.util.FreeMarkerTemplateCache;
 import com.sequenceiq.cloudbreak.util.FreeMarkerTemplateUtils;
 import com.sequenceiq.common.api.type.InstanceGroupType;
 import com.sequenceiq.common.model.AwsDiskType;
@@ -98,8 +99,8 @@ public class CloudFormationTemplateBuilder {
         model.put("efsFileSystem", context.getEfsFileSystem());
 
         try {
-            String template = freeMarkerTemplateUtils.processTemplateIntoString(new Template("aws-template", context.getTemplate(), freemarkerConfiguration),
-                    model);
+            Template freeMarkerTemplate = FreeMarkerTemplateCache.getTemplate("aws-template", context.getTemplate(), freemarkerConfiguration);
+            String template = freeMarkerTemplateUtils.processTemplateIntoString(freeMarkerTemplate, model);
             return template.replaceAll("\\t|\\n| [\\s]+", "");
         } catch (IOException | TemplateException e) {
             throw new CloudConnectorException("Failed to process CloudFormation freemarker template", e);
@@ -123,8 +124,8 @@ public class CloudFormationTemplateBuilder {
         model.put("kmsKey", context.kmsKey);
         model.put("networkCidrs", context.networkCidrs);
         try {
-            String template = freeMarkerTemplateUtils.processTemplateIntoString(new Template("aws-rds-template", context.template, freemarkerConfiguration),
-                                                                                model);
+            Template freeMarkerTemplate = FreeMarkerTemplateCache.getTemplate("aws-rds-template", context.template, freemarkerConfiguration);
+            String template = freeMarkerTemplateUtils.processTemplateIntoString(freeMarkerTemplate, model);
             return template.replaceAll("\\t|\\n| [\\s]+", "");
         } catch (IOException | TemplateException e) {
             throw new CloudConnectorException("Failed to process CloudFormation freemarker template", e);
@@ -123,7 +123,7 @@ public class AwsRdsLaunchService {
                 () -> awsCloudFormationErrorMessageProvider.getErrorReason(ac, cFStackName, CREATE_FAILED));
 
         List<CloudResource> databaseResources = getCreatedOutputs(ac, stack, cFStackName, cfClient, resourceNotifier, useSslEnforcement);
-        databaseResources.forEach(dbr -> resourceNotifier.notifyAllocation(dbr, ac.getCloudContext()));
+        resourceNotifier.notifyAllocations(databaseResources, ac.getCloudContext());
         // FIXME: For now, just return everything wrapped in a status object
         return databaseResources.stream()
                 .map(resource -> new CloudResourceStatus(resource, ResourceStatus.CREATED))
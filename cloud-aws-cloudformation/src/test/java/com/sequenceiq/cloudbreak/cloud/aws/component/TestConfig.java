@@ -26,6 +26,7 @@ import com.sequenceiq.cloudbreak.cloud.aws.common.AwsPlatformParameters;
 import com.sequenceiq.cloudbreak.cloud.aws.common.AwsPlatformResources;
 import com.sequenceiq.cloudbreak.cloud.aws.common.AwsTagValidator;
 import com.sequenceiq.cloudbreak.cloud.notification.ResourceNotifier;
+import com.sequenceiq.cloudbreak.cloud.scheduler.AsyncPollingScheduler;
 import com.sequenceiq.cloudbreak.cloud.scheduler.SyncPollingScheduler;
 import com.sequenceiq.cloudbreak.cloud.template.GroupResourceBuilder;
 import com.sequenceiq.cloudbreak.cloud.template.NetworkResourceBuilder;
@@ -84,6 +85,9 @@ public class TestConfig {
     @MockBean
     private Tracer tracer;
 
+    @MockBean
+    private AsyncPollingScheduler asyncPollingScheduler;
+
     static Answer<?> getAnswer() {
         return invocation -> {
             Object[] args = invocation.getArguments();
@@ -56,6 +56,9 @@ public class AwsInstanceConnector implements InstanceConnector {
     @Inject
     private PollerUtil pollerUtil;
 
+    @Inject
+    private AwsInstanceStateAggregator awsInstanceStateAggregator;
+
     @Value("${cb.aws.hostkey.verify:}")
     private boolean verifyHostKey;
 
@@ -288,8 +291,7 @@ public class AwsInstanceConnector implements InstanceConnector {
 
         String region = ac.getCloudContext().getLocation().getRegion().value();
         try {
-            DescribeInstancesResult result = new AuthenticatedContextView(ac).getAmazonEC2Client()
-                    .describeInstances(new DescribeInstancesRequest().withInstanceIds(instanceIds));
+            DescribeInstancesResult result = awsInstanceStateAggregator.describeInstances(ac, instanceIds);
             LOGGER.debug("Result from AWS: {}", result);
             return fillCloudVmInstanceStatuses(ac, cloudInstancesWithInstanceId, region, result);
         } catch (AmazonEC2Exception e) {
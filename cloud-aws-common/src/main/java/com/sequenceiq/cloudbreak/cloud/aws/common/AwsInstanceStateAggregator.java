@@ -0,0 +1,303 @@
+package com.sequenceiq.cloudbreak.cloud.aws.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.retry.RetryUtils;
+import com.amazonaws.services.ec2.model.AmazonEC2Exception;
+import com.amazonaws.services.ec2.model.DescribeInstancesRequest;
+import com.amazonaws.services.ec2.model.DescribeInstancesResult;
+import com.amazonaws.services.ec2.model.Filter;
+import com.amazonaws.services.ec2.model.Instance;
+import com.amazonaws.services.ec2.model.Reservation;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sequenceiq.cloudbreak.cloud.aws.common.client.AmazonEc2Client;
+import com.sequenceiq.cloudbreak.cloud.aws.common.view.AuthenticatedContextView;
+import com.sequenceiq.cloudbreak.cloud.context.AuthenticatedContext;
+
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Collects the instance state queries of every stack of the same region and credential for a short window and describes their instances
+ * together, with as few paginated DescribeInstances calls as possible. The calls filter on the instance ids, so an instance id which does not
+ * exist any more does not fail the whole batch, only the query of the stack it belongs to fails with the same
+ * {@link AwsInstanceConnector#INSTANCE_NOT_FOUND_ERROR_CODE} error that a DescribeInstances call with the instance ids of the stack would give.
+ * EC2 accepts at most {@value #MAX_FILTER_VALUES} values in a filter, so the instance ids are split into chunks of at most that size.
+ * <p>
+ * Throttled calls are retried with an exponential backoff, every other error fails each query of the batch.
+ */
+@Component
+public class AwsInstanceStateAggregator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AwsInstanceStateAggregator.class);
+
+    private static final String INSTANCE_ID_FILTER = "instance-id";
+
+    private static final int MAX_FILTER_VALUES = 200;
+
+    private static final int MAX_RESULTS_PER_PAGE = 1000;
+
+    private static final String CALLS_METRIC_NAME = "aws.instance.state.describe.calls";
+
+    private static final String QUERIES_METRIC_NAME = "aws.instance.state.queries";
+
+    private static final String THROTTLED_METRIC_NAME = "aws.instance.state.describe.throttled";
+
+    private static final String BATCH_SIZE_METRIC_NAME = "aws.instance.state.batch.size";
+
+    private static final String REGION_TAG = "region";
+
+    @Value("${cb.aws.instance.state.batch.window.ms:100}")
+    private long batchWindowMillis;
+
+    @Value("${cb.aws.instance.state.batch.max.ids:200}")
+    private int maxInstanceIdsPerCall;
+
+    @Value("${cb.aws.instance.state.batch.threads:4}")
+    private int threads;
+
+    @Value("${cb.aws.instance.state.batch.throttle.attempts:5}")
+    private int throttleAttempts;
+
+    @Value("${cb.aws.instance.state.batch.throttle.backoff.ms:200}")
+    private long throttleBackoffMillis;
+
+    @Value("${cb.aws.instance.state.batch.throttle.max.backoff.ms:5000}")
+    private long maxThrottleBackoffMillis;
+
+    private final Map<BatchKey, Batch> pendingBatches = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newScheduledThreadPool(threads, new ThreadFactoryBuilder()
+                .setNameFormat("aws-instance-state-%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Describes the instances with the given ids together with the instances of the other stacks queried in the same region with the same
+     * credential. Blocks until the batch is described.
+     *
+     * @throws AmazonEC2Exception with {@link AwsInstanceConnector#INSTANCE_NOT_FOUND_ERROR_CODE} if some of the instances do not exist
+     */
+    public DescribeInstancesResult describeInstances(AuthenticatedContext ac, Collection<String> instanceIds) {
+        if (instanceIds.isEmpty()) {
+            return new DescribeInstancesResult();
+        }
+        String region = ac.getCloudContext().getLocation().getRegion().value();
+        BatchKey key = new BatchKey(region, ac.getCloudCredential().getId());
+        Query query = new Query(new LinkedHashSet<>(instanceIds));
+        Batch batch;
+        do {
+            batch = pendingBatches.computeIfAbsent(key, k -> new Batch(new AuthenticatedContextView(ac).getAmazonEC2Client()));
+        } while (!batch.add(query));
+        if (batch.markScheduled()) {
+            Batch scheduledBatch = batch;
+            executor.schedule(() -> flush(key, scheduledBatch), batchWindowMillis, TimeUnit.MILLISECONDS);
+        }
+        Metrics.counter(QUERIES_METRIC_NAME, REGION_TAG, region).increment();
+        try {
+            return query.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void flush(BatchKey key, Batch batch) {
+        pendingBatches.remove(key, batch);
+        List<Query> queries = batch.close();
+        try {
+            List<String> instanceIds = queries.stream()
+                    .flatMap(query -> query.instanceIds.stream())
+                    .distinct()
+                    .collect(Collectors.toList());
+            LOGGER.debug("Describe {} instances of {} queries in region {}", instanceIds.size(), queries.size(), key.region);
+            Metrics.summary(BATCH_SIZE_METRIC_NAME, REGION_TAG, key.region).record(instanceIds.size());
+            Map<String, Instance> instances = describe(batch.amazonEc2Client, key.region, instanceIds);
+            queries.forEach(query -> complete(query, instances));
+        } catch (RuntimeException e) {
+            LOGGER.info("Failed to describe the instances of {} queries in region {}", queries.size(), key.region, e);
+            queries.forEach(query -> query.result.completeExceptionally(e));
+        }
+    }
+
+    private Map<String, Instance> describe(AmazonEc2Client amazonEc2Client, String region, List<String> instanceIds) {
+        Map<String, Instance> instances = new HashMap<>();
+        for (List<String> chunk : Lists.partition(instanceIds, getInstanceIdsPerCall())) {
+            String nextToken = null;
+            do {
+                DescribeInstancesRequest request = new DescribeInstancesRequest()
+                        .withFilters(new Filter(INSTANCE_ID_FILTER, chunk))
+                        .withMaxResults(MAX_RESULTS_PER_PAGE)
+                        .withNextToken(nextToken);
+                DescribeInstancesResult result = describeWithBackoff(amazonEc2Client, region, request);
+                result.getReservations().stream()
+                        .flatMap(reservation -> reservation.getInstances().stream())
+                        .forEach(instance -> instances.put(instance.getInstanceId(), instance));
+                nextToken = result.getNextToken();
+            } while (nextToken != null);
+        }
+        return instances;
+    }
+
+    int getInstanceIdsPerCall() {
+        return Math.max(1, Math.min(maxInstanceIdsPerCall, MAX_FILTER_VALUES));
+    }
+
+    private DescribeInstancesResult describeWithBackoff(AmazonEc2Client amazonEc2Client, String region, DescribeInstancesRequest request) {
+        int attempt = 1;
+        while (true) {
+            try {
+                Metrics.counter(CALLS_METRIC_NAME, REGION_TAG, region).increment();
+                return amazonEc2Client.describeInstances(request);
+            } catch (AmazonServiceException e) {
+                if (!RetryUtils.isThrottlingException(e) || attempt >= throttleAttempts) {
+                    throw e;
+                }
+                Metrics.counter(THROTTLED_METRIC_NAME, REGION_TAG, region).increment();
+                long backoff = getBackoffMillis(attempt);
+                LOGGER.debug("DescribeInstances is throttled in region {}, retrying in {} ms", region, backoff);
+                sleep(backoff, e);
+                attempt++;
+            }
+        }
+    }
+
+    private long getBackoffMillis(int attempt) {
+        long backoff = Math.min(maxThrottleBackoffMillis, throttleBackoffMillis << Math.min(attempt - 1, Integer.SIZE - 2));
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    private void sleep(long millis, AmazonServiceException throttled) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw throttled;
+        }
+    }
+
+    private void complete(Query query, Map<String, Instance> instances) {
+        List<String> notFoundInstanceIds = query.instanceIds.stream()
+                .filter(instanceId -> !instances.containsKey(instanceId))
+                .collect(Collectors.toList());
+        if (notFoundInstanceIds.isEmpty()) {
+            List<Instance> queriedInstances = query.instanceIds.stream().map(instances::get).collect(Collectors.toList());
+            query.result.complete(new DescribeInstancesResult().withReservations(new Reservation().withInstances(queriedInstances)));
+        } else {
+            AmazonEC2Exception notFound = new AmazonEC2Exception(String.format("The instance IDs '%s' do not exist",
+                    String.join(", ", notFoundInstanceIds)));
+            notFound.setErrorCode(AwsInstanceConnector.INSTANCE_NOT_FOUND_ERROR_CODE);
+            notFound.setServiceName("AmazonEC2");
+            query.result.completeExceptionally(notFound);
+        }
+    }
+
+    private static class BatchKey {
+
+        private final String region;
+
+        private final String credentialId;
+
+        BatchKey(String region, String credentialId) {
+            this.region = region;
+            this.credentialId = credentialId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            BatchKey batchKey = (BatchKey) o;
+            return region.equals(batchKey.region) && Objects.equals(credentialId, batchKey.credentialId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(region, credentialId);
+        }
+    }
+
+    private static class Batch {
+
+        private final AmazonEc2Client amazonEc2Client;
+
+        private final List<Query> queries = new ArrayList<>();
+
+        private boolean scheduled;
+
+        private boolean closed;
+
+        Batch(AmazonEc2Client amazonEc2Client) {
+            this.amazonEc2Client = amazonEc2Client;
+        }
+
+        synchronized boolean add(Query query) {
+            if (!closed) {
+                queries.add(query);
+            }
+            return !closed;
+        }
+
+        synchronized boolean markScheduled() {
+            boolean firstQuery = !scheduled;
+            scheduled = true;
+            return firstQuery;
+        }
+
+        synchronized List<Query> close() {
+            closed = true;
+            return new ArrayList<>(queries);
+        }
+    }
+
+    private static class Query {
+
+        private final Set<String> instanceIds;
+
+        private final CompletableFuture<DescribeInstancesResult> result = new CompletableFuture<>();
+
+        Query(Set<String> instanceIds) {
+            this.instanceIds = instanceIds;
+        }
+    }
+}
@@ -81,7 +81,8 @@ import io.opentracing.Tracer;
         "cb.vm.retry.backoff.delay=20",
         "cb.vm.retry.backoff.multiplier=2",
         "cb.vm.retry.backoff.maxdelay=10000",
-        "cb.vm.retry.attempt=5"
+        "cb.vm.retry.attempt=5",
+        "cb.aws.instance.state.batch.window.ms=1"
 })
 public class AwsInstanceConnectorTest {
 
@@ -457,6 +458,7 @@ public class AwsInstanceConnectorTest {
     @Configuration
     @EnableRetry(proxyTargetClass = true)
     @Import({AwsInstanceConnector.class,
+            AwsInstanceStateAggregator.class,
             AwsAuthenticator.class,
             CommonAwsClient.class,
             PollerUtil.class,
@@ -0,0 +1,233 @@
+package com.sequenceiq.cloudbreak.cloud.aws.common;
+
+import static com.sequenceiq.cloudbreak.cloud.aws.common.AwsInstanceConnector.INSTANCE_NOT_FOUND_ERROR_CODE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.amazonaws.services.ec2.model.AmazonEC2Exception;
+import com.amazonaws.services.ec2.model.DescribeInstancesRequest;
+import com.amazonaws.services.ec2.model.DescribeInstancesResult;
+import com.amazonaws.services.ec2.model.Instance;
+import com.amazonaws.services.ec2.model.InstanceState;
+import com.amazonaws.services.ec2.model.Reservation;
+import com.sequenceiq.cloudbreak.cloud.aws.common.client.AmazonEc2Client;
+import com.sequenceiq.cloudbreak.cloud.context.AuthenticatedContext;
+import com.sequenceiq.cloudbreak.cloud.context.CloudContext;
+import com.sequenceiq.cloudbreak.cloud.model.CloudCredential;
+import com.sequenceiq.cloudbreak.cloud.model.Location;
+import com.sequenceiq.cloudbreak.cloud.model.Region;
+
+class AwsInstanceStateAggregatorTest {
+
+    private static final long BATCH_WINDOW_MILLIS = 200L;
+
+    private static final int MAX_INSTANCE_IDS_PER_CALL = 2;
+
+    private static final int THROTTLE_ATTEMPTS = 3;
+
+    private static final int CHUNKED_AND_PAGED_CALLS = 3;
+
+    private static final int RUNNING_CODE = 16;
+
+    private static final int MAX_FILTER_VALUES = 200;
+
+    private final AmazonEc2Client amazonEc2Client = mock(AmazonEc2Client.class);
+
+    private AwsInstanceStateAggregator underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new AwsInstanceStateAggregator();
+        ReflectionTestUtils.setField(underTest, "batchWindowMillis", BATCH_WINDOW_MILLIS);
+        ReflectionTestUtils.setField(underTest, "maxInstanceIdsPerCall", MAX_INSTANCE_IDS_PER_CALL);
+        ReflectionTestUtils.setField(underTest, "threads", 1);
+        ReflectionTestUtils.setField(underTest, "throttleAttempts", THROTTLE_ATTEMPTS);
+        ReflectionTestUtils.setField(underTest, "throttleBackoffMillis", 1L);
+        ReflectionTestUtils.setField(underTest, "maxThrottleBackoffMillis", 1L);
+        underTest.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.shutdown();
+    }
+
+    @Test
+    void testQueriesOfStacksWithSameCredentialAreDescribedTogether() {
+        when(amazonEc2Client.describeInstances(any(DescribeInstancesRequest.class))).thenReturn(result(null, "i-1", "i-2"));
+
+        CompletableFuture<DescribeInstancesResult> first = CompletableFuture.supplyAsync(() ->
+                underTest.describeInstances(authenticatedContext("credential"), List.of("i-1")));
+        CompletableFuture<DescribeInstancesResult> second = CompletableFuture.supplyAsync(() ->
+                underTest.describeInstances(authenticatedContext("credential"), List.of("i-2")));
+
+        assertEquals(List.of("i-1"), instanceIds(first.join()));
+        assertEquals(List.of("i-2"), instanceIds(second.join()));
+        verify(amazonEc2Client, times(1)).describeInstances(any(DescribeInstancesRequest.class));
+    }
+
+    @Test
+    void testQueriesOfDifferentCredentialsAreDescribedSeparately() {
+        when(amazonEc2Client.describeInstances(any(DescribeInstancesRequest.class))).thenReturn(result(null, "i-1", "i-2"));
+
+        CompletableFuture<DescribeInstancesResult> first = CompletableFuture.supplyAsync(() ->
+                underTest.describeInstances(authenticatedContext("credential"), List.of("i-1")));
+        CompletableFuture<DescribeInstancesResult> second = CompletableFuture.supplyAsync(() ->
+                underTest.describeInstances(authenticatedContext("other-credential"), List.of("i-2")));
+        first.join();
+        second.join();
+
+        verify(amazonEc2Client, times(2)).describeInstances(any(DescribeInstancesRequest.class));
+    }
+
+    @Test
+    void testInstanceIdsAreChunkedAndPagesAreFollowed() {
+        when(amazonEc2Client.describeInstances(any(DescribeInstancesRequest.class)))
+                .thenReturn(result("token", "i-1"), result(null, "i-2"), result(null, "i-3"));
+
+        DescribeInstancesResult result = underTest.describeInstances(authenticatedContext("credential"), List.of("i-1", "i-2", "i-3"));
+
+        assertEquals(List.of("i-1", "i-2", "i-3"), instanceIds(result));
+        ArgumentCaptor<DescribeInstancesRequest> requestCaptor = ArgumentCaptor.forClass(DescribeInstancesRequest.class);
+        verify(amazonEc2Client, times(CHUNKED_AND_PAGED_CALLS)).describeInstances(requestCaptor.capture());
+        List<DescribeInstancesRequest> requests = requestCaptor.getAllValues();
+        assertEquals(List.of("i-1", "i-2"), requests.get(0).getFilters().get(0).getValues());
+        assertEquals("token", requests.get(1).getNextToken());
+        assertEquals(List.of("i-3"), requests.get(2).getFilters().get(0).getValues());
+    }
+
+    @Test
+    void testDefaultChunkSizeIsWithinTheFilterValueLimitOfEc2() throws NoSuchFieldException {
+        String property = AwsInstanceStateAggregator.class.getDeclaredField("maxInstanceIdsPerCall").getAnnotation(Value.class).value();
+        int defaultMaxInstanceIds = Integer.parseInt(property.substring(property.indexOf(':') + 1, property.indexOf('}')));
+        ReflectionTestUtils.setField(underTest, "maxInstanceIdsPerCall", defaultMaxInstanceIds);
+
+        assertEquals(MAX_FILTER_VALUES, underTest.getInstanceIdsPerCall());
+    }
+
+    @Test
+    void testChunksAreCappedAtTheFilterValueLimitOfEc2() {
+        ReflectionTestUtils.setField(underTest, "maxInstanceIdsPerCall", MAX_FILTER_VALUES * 5);
+        List<String> instanceIds = IntStream.range(0, MAX_FILTER_VALUES * 2 + 1).mapToObj(i -> "i-" + i).collect(Collectors.toList());
+        when(amazonEc2Client.describeInstances(any(DescribeInstancesRequest.class)))
+                .thenAnswer(invocation -> result(null, invocation.getArgument(0, DescribeInstancesRequest.class).getFilters().get(0).getValues()
+                        .toArray(String[]::new)));
+
+        DescribeInstancesResult result = underTest.describeInstances(authenticatedContext("credential"), instanceIds);
+
+        assertEquals(instanceIds, instanceIds(result));
+        ArgumentCaptor<DescribeInstancesRequest> requestCaptor = ArgumentCaptor.forClass(DescribeInstancesRequest.class);
+        verify(amazonEc2Client, times(3)).describeInstances(requestCaptor.capture());
+        assertEquals(List.of(MAX_FILTER_VALUES, MAX_FILTER_VALUES, 1), requestCaptor.getAllValues().stream()
+                .map(request -> request.getFilters().get(0).getValues().size())
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void testThrottledCallIsRetried() {
+        AmazonEC2Exception throttled = new AmazonEC2Exception("Request limit exceeded.");
+        throttled.setErrorCode("RequestLimitExceeded");
+        when(amazonEc2Client.describeInstances(any(DescribeInstancesRequest.class))).thenThrow(throttled).thenReturn(result(null, "i-1"));
+
+        DescribeInstancesResult result = underTest.describeInstances(authenticatedContext("credential"), List.of("i-1"));
+
+        assertEquals(List.of("i-1"), instanceIds(result));
+        verify(amazonEc2Client, times(2)).describeInstances(any(DescribeInstancesRequest.class));
+    }
+
+    @Test
+    void testOtherErrorFailsTheQuery() {
+        AmazonEC2Exception unauthorized = new AmazonEC2Exception("You are not authorized to perform this operation.");
+        unauthorized.setErrorCode("UnauthorizedOperation");
+        when(amazonEc2Client.describeInstances(any(DescribeInstancesRequest.class))).thenThrow(unauthorized);
+
+        AmazonEC2Exception exception = assertThrows(AmazonEC2Exception.class,
+                () -> underTest.describeInstances(authenticatedContext("credential"), List.of("i-1")));
+
+        assertEquals("UnauthorizedOperation", exception.getErrorCode());
+        verify(amazonEc2Client, times(1)).describeInstances(any(DescribeInstancesRequest.class));
+    }
+
+    @Test
+    void testNotFoundInstanceFailsOnlyTheQueryOfItsStack() {
+        when(amazonEc2Client.describeInstances(any(DescribeInstancesRequest.class))).thenReturn(result(null, "i-1"));
+
+        CompletableFuture<DescribeInstancesResult> found = CompletableFuture.supplyAsync(() ->
+                underTest.describeInstances(authenticatedContext("credential"), List.of("i-1")));
+        CompletableFuture<DescribeInstancesResult> notFound = CompletableFuture.supplyAsync(() ->
+                underTest.describeInstances(authenticatedContext("credential"), List.of("i-2")));
+
+        assertEquals(List.of("i-1"), instanceIds(found.join()));
+        AmazonEC2Exception exception = assertThrows(AmazonEC2Exception.class, () -> {
+            try {
+                notFound.join();
+            } catch (RuntimeException e) {
+                throw e.getCause();
+            }
+        });
+        assertEquals(INSTANCE_NOT_FOUND_ERROR_CODE, exception.getErrorCode());
+        assertTrue(exception.getErrorMessage().contains("i-2"));
+    }
+
+    @Test
+    void testEmptyQueryIsNotSent() {
+        DescribeInstancesResult result = underTest.describeInstances(authenticatedContext("credential"), List.of());
+
+        assertTrue(result.getReservations().isEmpty());
+        verify(amazonEc2Client, times(0)).describeInstances(any(DescribeInstancesRequest.class));
+    }
+
+    private AuthenticatedContext authenticatedContext(String credentialId) {
+        CloudContext cloudContext = CloudContext.Builder.builder()
+                .withId(1L)
+                .withName("context")
+                .withCrn("crn")
+                .withPlatform("AWS")
+                .withVariant("AWS")
+                .withLocation(Location.location(Region.region("region")))
+                .withAccountId("account")
+                .build();
+        CloudCredential credential = new CloudCredential(credentialId, "credential", Map.of(), "account", false);
+        AuthenticatedContext authenticatedContext = new AuthenticatedContext(cloudContext, credential);
+        authenticatedContext.putParameter(AmazonEc2Client.class, amazonEc2Client);
+        return authenticatedContext;
+    }
+
+    private DescribeInstancesResult result(String nextToken, String... instanceIds) {
+        List<Instance> instances = Arrays.stream(instanceIds)
+                .map(instanceId -> new Instance()
+                        .withInstanceId(instanceId)
+                        .withState(new InstanceState().withName("running").withCode(RUNNING_CODE)))
+                .collect(Collectors.toList());
+        return new DescribeInstancesResult()
+                .withReservations(new Reservation().withInstances(instances))
+                .withNextToken(nextToken);
+    }
+
+    private List<String> instanceIds(DescribeInstancesResult result) {
+        return result.getReservations().stream()
+                .flatMap(reservation -> reservation.getInstances().stream())
+                .map(Instance::getInstanceId)
+                .collect(Collectors.toList());
+    }
+}
@@ -253,7 +253,7 @@ public class AzureCloudResourceService {
     }
 
     public void saveCloudResources(PersistenceNotifier notifier, CloudContext cloudContext, List<CloudResource> cloudResources) {
-        cloudResources.forEach(cloudResource -> notifier.notifyAllocation(cloudResource, cloudContext));
+        notifier.notifyAllocations(cloudResources, cloudContext);
     }
 
     public void deleteCloudResources(PersistenceNotifier notifier, CloudContext cloudContext, List<CloudResource> cloudResources) {
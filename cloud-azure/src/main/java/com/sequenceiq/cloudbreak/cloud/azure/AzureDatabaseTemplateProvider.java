@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 
 import com.sequenceiq.cloudbreak.cloud.exception.CloudConnectorException;
 import com.sequenceiq.cloudbreak.cloud.model.DatabaseStack;
+import com.sequenceiq.cloudbreak.util.FreeMarkerTemplateCache;
 
 import freemarker.template.Configuration;
 import freemarker.template.Template;
@@ -28,7 +29,7 @@ public class AzureDatabaseTemplateProvider {
 
     Template getTemplate(DatabaseStack stack) {
         try {
-            return new Template(chooseTemplate(), stack.getTemplate(), freemarkerConfiguration);
+            return FreeMarkerTemplateCache.getTemplate(chooseTemplate(), stack.getTemplate(), freemarkerConfiguration);
         } catch (IOException e) {
             throw new CloudConnectorException("Couldn't create template object", e);
         }
@@ -5,21 +5,28 @@ import static com.sequenceiq.cloudbreak.common.network.NetworkConstants.SUBNET_I
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 
+import com.microsoft.azure.PagedList;
 import com.microsoft.azure.management.compute.VirtualMachine;
+import com.microsoft.azure.management.compute.VirtualMachineInstanceView;
 import com.microsoft.azure.management.network.NetworkInterface;
+import com.microsoft.azure.management.network.PublicIPAddress;
 import com.sequenceiq.cloudbreak.cloud.MetadataCollector;
 import com.sequenceiq.cloudbreak.cloud.azure.client.AzureClient;
 import com.sequenceiq.cloudbreak.cloud.azure.loadbalancer.AzureLoadBalancer;
@@ -37,6 +44,9 @@ import com.sequenceiq.cloudbreak.cloud.model.InstanceStoreMetadata;
 import com.sequenceiq.cloudbreak.cloud.model.InstanceTemplate;
 import com.sequenceiq.common.api.type.LoadBalancerType;
 
+import rx.Observable;
+import rx.schedulers.Schedulers;
+
 @Service
 public class AzureMetadataCollector implements MetadataCollector {
 
@@ -59,6 +69,9 @@ public class AzureMetadataCollector implements MetadataCollector {
     @Inject
     private AzurePlatformResources azurePlatformResources;
 
+    @Value("${cb.azure.metadata.collector.parallelism:10}")
+    private int parallelism;
+
     @Override
     @Retryable(backoff = @Backoff(delay = 1000, multiplier = 2, maxDelay = 10000), maxAttempts = 5)
     public List<CloudVmMetaDataStatus> collect(AuthenticatedContext authenticatedContext, List<CloudResource> resources, List<CloudInstance> vms,
@@ -73,22 +86,20 @@ public class AzureMetadataCollector implements MetadataCollector {
                 templateMap.keySet());
         azureVirtualMachineService.refreshInstanceViews(virtualMachinesByName);
         try {
+            Map<String, VmNetworkMetadata> networkMetadataByName = getNetworkMetadataByName(azureClient, resourceGroup, virtualMachinesByName);
             for (Entry<String, InstanceTemplate> instance : templateMap.entrySet()) {
                 VirtualMachine vm = virtualMachinesByName.get(instance.getKey());
-                //TODO: network interface is lazy, so we will fetch it for every instances
                 if (vm != null) {
-                    NetworkInterface networkInterface = vm.getPrimaryNetworkInterface();
+                    VmNetworkMetadata networkMetadata = networkMetadataByName.get(vm.name());
+                    NetworkInterface networkInterface = networkMetadata.getNetworkInterface();
                     String subnetId = networkInterface.primaryIPConfiguration().subnetName();
 
-                    Integer faultDomainCount = azureClient.getFaultDomainNumber(resourceGroup, vm.name());
-
-                    String publicIp = azureVmPublicIpProvider.getPublicIp(networkInterface);
-
                     String instanceId = instance.getKey();
-                    String localityIndicator = Optional.ofNullable(faultDomainCount)
+                    String localityIndicator = Optional.ofNullable(networkMetadata.getFaultDomainCount())
                             .map(domainCount -> getLocalityIndicator(domainCount, authenticatedContext.getCloudContext(), instance.getValue(), resourceGroup))
                             .orElse(null);
-                    CloudInstanceMetaData md = new CloudInstanceMetaData(networkInterface.primaryPrivateIP(), publicIp, localityIndicator);
+                    CloudInstanceMetaData md = new CloudInstanceMetaData(networkInterface.primaryPrivateIP(), networkMetadata.getPublicIp(),
+                            localityIndicator);
 
                     InstanceTemplate template = templateMap.get(instanceId);
                     if (template != null) {
@@ -109,6 +120,55 @@ public class AzureMetadataCollector implements MetadataCollector {
         return results;
     }
 
+    /**
+     * Lists the network interfaces and public IP addresses of the resource group once and joins them to the VMs in memory. The network
+     * interface or public IP address of a VM is fetched one by one only if it was not listed, e.g. because it is in another resource group.
+     * These fetches and the fault domain lookups of the VMs without an instance view run in parallel, at most {@link #parallelism} at a time.
+     */
+    private Map<String, VmNetworkMetadata> getNetworkMetadataByName(AzureClient azureClient, String resourceGroup,
+            Map<String, VirtualMachine> virtualMachinesByName) {
+        Map<String, NetworkInterface> networkInterfacesById = listByLowerCaseId(() -> azureClient.getNetworkInterfaces(resourceGroup),
+                NetworkInterface::id, resourceGroup);
+        Map<String, PublicIPAddress> publicIpAddressesById = listByLowerCaseId(() -> azureClient.getPublicIpAddresses(resourceGroup),
+                PublicIPAddress::id, resourceGroup);
+        return Observable.from(virtualMachinesByName.values())
+                .flatMap(vm -> Observable.fromCallable(() -> getNetworkMetadata(azureClient, resourceGroup, vm, networkInterfacesById,
+                        publicIpAddressesById)).subscribeOn(Schedulers.io()), parallelism)
+                .toMap(VmNetworkMetadata::getName)
+                .toBlocking()
+                .single();
+    }
+
+    private VmNetworkMetadata getNetworkMetadata(AzureClient azureClient, String resourceGroup, VirtualMachine vm,
+            Map<String, NetworkInterface> networkInterfacesById, Map<String, PublicIPAddress> publicIpAddressesById) {
+        String primaryNetworkInterfaceId = vm.primaryNetworkInterfaceId();
+        NetworkInterface networkInterface = primaryNetworkInterfaceId == null ? null
+                : networkInterfacesById.get(primaryNetworkInterfaceId.toLowerCase(Locale.ROOT));
+        if (networkInterface == null) {
+            LOGGER.debug("Primary network interface of {} was not listed in {}, fetching it", vm.name(), resourceGroup);
+            networkInterface = vm.getPrimaryNetworkInterface();
+        }
+        String publicIp = azureVmPublicIpProvider.getPublicIp(networkInterface, publicIpAddressesById);
+        VirtualMachineInstanceView instanceView = vm.instanceView();
+        Integer faultDomainCount = instanceView != null ? instanceView.platformFaultDomain() : azureClient.getFaultDomainNumber(resourceGroup, vm.name());
+        return new VmNetworkMetadata(vm.name(), networkInterface, publicIp, faultDomainCount);
+    }
+
+    private <T> Map<String, T> listByLowerCaseId(Supplier<PagedList<T>> lister, Function<T, String> idFunction, String resourceGroup) {
+        try {
+            PagedList<T> resources = lister.get();
+            if (resources == null) {
+                return Map.of();
+            }
+            resources.loadAll();
+            return resources.stream().collect(Collectors.toMap(resource -> idFunction.apply(resource).toLowerCase(Locale.ROOT), resource -> resource,
+                    (first, second) -> first));
+        } catch (RuntimeException e) {
+            LOGGER.info("Failed to list the network resources of {}, they are fetched one by one", resourceGroup, e);
+            return Map.of();
+        }
+    }
+
     private String getLocalityIndicator(Integer faultDomainCount, CloudContext cloudContext, InstanceTemplate instanceTemplate, String resourceGroup) {
         String platform = cloudContext.getPlatform().value();
         String location = cloudContext.getLocation().getRegion().value();
@@ -219,4 +279,38 @@ public class AzureMetadataCollector implements MetadataCollector {
             return Optional.ofNullable(ip);
         }
     }
+
+    private static class VmNetworkMetadata {
+
+        private final String name;
+
+        private final NetworkInterface networkInterface;
+
+        private final String publicIp;
+
+        private final Integer faultDomainCount;
+
+        VmNetworkMetadata(String name, NetworkInterface networkInterface, String publicIp, Integer faultDomainCount) {
+            this.name = name;
+            this.networkInterface = networkInterface;
+            this.publicIp = publicIp;
+            this.faultDomainCount = faultDomainCount;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public NetworkInterface getNetworkInterface() {
+            return networkInterface;
+        }
+
+        public String getPublicIp() {
+            return publicIp;
+        }
+
+        public Integer getFaultDomainCount() {
+            return faultDomainCount;
+        }
+    }
 }
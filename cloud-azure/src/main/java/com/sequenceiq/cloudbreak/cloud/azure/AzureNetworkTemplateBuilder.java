@@ -17,6 +17,7 @@ import org.springframework.stereotype.Component;
 import com.sequenceiq.cloudbreak.cloud.exception.CloudConnectorException;
 import com.sequenceiq.cloudbreak.cloud.model.network.NetworkCreationRequest;
 import com.sequenceiq.cloudbreak.cloud.model.network.SubnetRequest;
+import com.sequenceiq.cloudbreak.util.FreeMarkerTemplateCache;
 import com.sequenceiq.cloudbreak.util.FreeMarkerTemplateUtils;
 
 import freemarker.template.Configuration;
@@ -51,7 +52,7 @@ public class AzureNetworkTemplateBuilder {
     private Template getTemplate() {
         try {
             String freeMarkerTemplate = freemarkerConfiguration.getTemplate(armTemplatePath, "UTF-8").toString();
-            return new Template("azure-template", freeMarkerTemplate, freemarkerConfiguration);
+            return FreeMarkerTemplateCache.getTemplate("azure-template", freeMarkerTemplate, freemarkerConfiguration);
         } catch (IOException e) {
             throw new CloudConnectorException("Couldn't create template object", e);
         }
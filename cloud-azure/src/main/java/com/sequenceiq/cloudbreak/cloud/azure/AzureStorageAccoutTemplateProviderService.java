@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.sequenceiq.cloudbreak.cloud.exception.CloudConnectorException;
+import com.sequenceiq.cloudbreak.util.FreeMarkerTemplateCache;
 
 import freemarker.template.Configuration;
 import freemarker.template.Template;
@@ -24,7 +25,7 @@ public class AzureStorageAccoutTemplateProviderService {
     public Template getTemplate() {
         try {
             String armTemplate = freemarkerConfiguration.getTemplate(armStorageAccountTemplatePath, "UTF-8").toString();
-            return new Template(armStorageAccountTemplatePath, armTemplate, freemarkerConfiguration);
+            return FreeMarkerTemplateCache.getTemplate(armStorageAccountTemplatePath, armTemplate, freemarkerConfiguration);
         } catch (IOException e) {
             throw new CloudConnectorException("Couldn't create template object", e);
         }
@@ -28,6 +28,7 @@ import com.sequenceiq.cloudbreak.cloud.model.CloudCredential;
 import com.sequenceiq.cloudbreak.cloud.model.CloudStack;
 import com.sequenceiq.cloudbreak.cloud.model.Image;
 import com.sequenceiq.cloudbreak.cloud.model.Network;
+import com.sequenceiq.cloudbreak.util.FreeMarkerTemplateCache;
 import com.sequenceiq.cloudbreak.util.FreeMarkerTemplateUtils;
 import com.sequenceiq.common.api.type.InstanceGroupType;
 
@@ -146,7 +147,7 @@ public class AzureTemplateBuilder {
 
     public Template getTemplate(CloudStack stack) {
         try {
-            return new Template(armTemplatePath, stack.getTemplate(), freemarkerConfiguration);
+            return FreeMarkerTemplateCache.getTemplate(armTemplatePath, stack.getTemplate(), freemarkerConfiguration);
         } catch (IOException e) {
             throw new CloudConnectorException("Couldn't create template object", e);
         }
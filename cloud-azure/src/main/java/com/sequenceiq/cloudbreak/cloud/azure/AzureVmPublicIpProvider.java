@@ -1,10 +1,14 @@
 package com.sequenceiq.cloudbreak.cloud.azure;
 
+import java.util.Locale;
+import java.util.Map;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import com.microsoft.azure.management.network.NetworkInterface;
+import com.microsoft.azure.management.network.NicIPConfiguration;
 import com.microsoft.azure.management.network.PublicIPAddress;
 
 @Component
@@ -12,8 +16,17 @@ class AzureVmPublicIpProvider {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AzureVmPublicIpProvider.class);
 
-    String getPublicIp(NetworkInterface networkInterface) {
-        PublicIPAddress publicIpAddress = networkInterface.primaryIPConfiguration().getPublicIPAddress();
+    /**
+     * Returns the public IP of the network interface. The public IP address resource is taken from the already listed ones by its lower case
+     * id, it is fetched from Azure only if it was not listed.
+     */
+    String getPublicIp(NetworkInterface networkInterface, Map<String, PublicIPAddress> publicIpAddressesById) {
+        NicIPConfiguration primaryIpConfiguration = networkInterface.primaryIPConfiguration();
+        String publicIpAddressId = primaryIpConfiguration.publicIPAddressId();
+        PublicIPAddress publicIpAddress = publicIpAddressId == null ? null : publicIpAddressesById.get(publicIpAddressId.toLowerCase(Locale.ROOT));
+        if (publicIpAddress == null) {
+            publicIpAddress = primaryIpConfiguration.getPublicIPAddress();
+        }
 
         if (publicIpAddress != null && publicIpAddress.ipAddress() != null) {
             LOGGER.info("Azure network interface {} has public IP address {}.", networkInterface.id(), publicIpAddress.ipAddress());
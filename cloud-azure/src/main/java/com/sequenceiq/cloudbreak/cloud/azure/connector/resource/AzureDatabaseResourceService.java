@@ -102,13 +102,13 @@ public class AzureDatabaseResourceService {
             deployment = client.getTemplateDeployment(resourceGroupName, stackName);
             if (deployment != null) {
                 List<CloudResource> cloudResources = azureCloudResourceService.getDeploymentCloudResources(deployment);
-                cloudResources.forEach(cloudResource -> persistenceNotifier.notifyAllocation(cloudResource, cloudContext));
+                persistenceNotifier.notifyAllocations(cloudResources, cloudContext);
             }
         }
 
         String fqdn = (String) ((Map) ((Map) deployment.outputs()).get(DATABASE_SERVER_FQDN)).get("value");
         List<CloudResource> databaseResources = createCloudResources(fqdn);
-        databaseResources.forEach(dbr -> persistenceNotifier.notifyAllocation(dbr, cloudContext));
+        persistenceNotifier.notifyAllocations(databaseResources, cloudContext);
         return databaseResources.stream()
                 .map(resource -> new CloudResourceStatus(resource, ResourceStatus.CREATED))
                 .collect(Collectors.toList());
@@ -7,6 +7,8 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -15,15 +17,22 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import com.microsoft.azure.Page;
+import com.microsoft.azure.PagedList;
 import com.microsoft.azure.management.compute.VirtualMachine;
+import com.microsoft.azure.management.compute.VirtualMachineInstanceView;
 import com.microsoft.azure.management.network.NetworkInterface;
 import com.microsoft.azure.management.network.NicIPConfiguration;
+import com.microsoft.azure.management.network.PublicIPAddress;
+import com.microsoft.rest.RestException;
 import com.sequenceiq.cloudbreak.cloud.azure.client.AzureClient;
 import com.sequenceiq.cloudbreak.cloud.azure.loadbalancer.AzureLoadBalancer;
 import com.sequenceiq.cloudbreak.cloud.context.AuthenticatedContext;
@@ -81,6 +90,14 @@ public class AzureMetadataCollectorTest {
 
     private static final String SECOND_PUBLIC_IP = "10.32.13.1";
 
+    private static final int PARALLELISM = 2;
+
+    private static final String NETWORK_PROVIDER_ID_PREFIX = "/subscriptions/sub/resourceGroups/resourceGroup-1/providers/Microsoft.Network/";
+
+    private static final String NETWORK_INTERFACE_ID_PREFIX = NETWORK_PROVIDER_ID_PREFIX + "networkInterfaces/";
+
+    private static final String PUBLIC_IP_ID = NETWORK_PROVIDER_ID_PREFIX + "publicIPAddresses/ip-1";
+
     @InjectMocks
     private AzureMetadataCollector underTest;
 
@@ -105,6 +122,11 @@ public class AzureMetadataCollectorTest {
     @Mock
     private AzureLoadBalancerMetadataCollector azureLbMetadataCollector;
 
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(underTest, "parallelism", PARALLELISM);
+    }
+
     @Test
     public void testCollectShouldReturnsTheAllVmMetadata() {
         List<CloudResource> resources = Collections.emptyList();
@@ -125,7 +147,7 @@ public class AzureMetadataCollectorTest {
         when(azureClient.getFaultDomainNumber(RESOURCE_GROUP_NAME, INSTANCE_1)).thenReturn(FAULT_DOMAIN_COUNT);
         when(azureClient.getFaultDomainNumber(RESOURCE_GROUP_NAME, INSTANCE_2)).thenReturn(FAULT_DOMAIN_COUNT);
         when(azureClient.getFaultDomainNumber(RESOURCE_GROUP_NAME, INSTANCE_3)).thenReturn(FAULT_DOMAIN_COUNT);
-        when(azureVmPublicIpProvider.getPublicIp(any())).thenReturn(PUBLIC_IP);
+        when(azureVmPublicIpProvider.getPublicIp(any(), any())).thenReturn(PUBLIC_IP);
         when(cloudContext.getPlatform()).thenReturn(Platform.platform(PLATFORM));
         when(cloudContext.getLocation()).thenReturn(Location.location(Region.region(REGION), null));
 
@@ -148,6 +170,45 @@ public class AzureMetadataCollectorTest {
         assertEquals(LOCALITY_INDICATOR, actual.get(2).getMetaData().getLocalityIndicator());
     }
 
+    @Test
+    public void testCollectShouldJoinListedNetworkInterfacesAndPublicIpsWithoutFetchingThemOneByOne() {
+        List<CloudResource> resources = Collections.emptyList();
+        List<CloudInstance> vms = List.of(createCloudInstance(INSTANCE_1, PRIVATE_ID_1));
+        CloudContext cloudContext = mock(CloudContext.class);
+        NetworkInterface networkInterface = createNetworkInterface();
+        when(networkInterface.id()).thenReturn(NETWORK_INTERFACE_ID_PREFIX + INSTANCE_1);
+        PublicIPAddress publicIpAddress = mock(PublicIPAddress.class);
+        when(publicIpAddress.id()).thenReturn(PUBLIC_IP_ID);
+        VirtualMachine virtualMachine = mock(VirtualMachine.class);
+        VirtualMachineInstanceView instanceView = mock(VirtualMachineInstanceView.class);
+        when(virtualMachine.name()).thenReturn(INSTANCE_1);
+        when(virtualMachine.primaryNetworkInterfaceId()).thenReturn((NETWORK_INTERFACE_ID_PREFIX + INSTANCE_1).toLowerCase());
+        when(virtualMachine.instanceView()).thenReturn(instanceView);
+        when(instanceView.platformFaultDomain()).thenReturn(FAULT_DOMAIN_COUNT);
+
+        when(azureUtils.getTemplateResource(resources)).thenReturn(createCloudResource());
+        when(authenticatedContext.getParameter(AzureClient.class)).thenReturn(azureClient);
+        when(authenticatedContext.getCloudContext()).thenReturn(cloudContext);
+        when(azureUtils.getStackName(cloudContext)).thenReturn(STACK_NAME);
+        when(azureUtils.getPrivateInstanceId(any(), any(), any())).thenReturn(INSTANCE_1);
+        when(azureVirtualMachineService.getVirtualMachinesByName(eq(azureClient), eq(RESOURCE_GROUP_NAME), anySet()))
+                .thenReturn(Map.of(INSTANCE_1, virtualMachine));
+        when(azureClient.getNetworkInterfaces(RESOURCE_GROUP_NAME)).thenReturn(createPagedList(networkInterface));
+        when(azureClient.getPublicIpAddresses(RESOURCE_GROUP_NAME)).thenReturn(createPagedList(publicIpAddress));
+        when(azureVmPublicIpProvider.getPublicIp(networkInterface, Map.of(PUBLIC_IP_ID.toLowerCase(), publicIpAddress))).thenReturn(PUBLIC_IP);
+        when(cloudContext.getPlatform()).thenReturn(Platform.platform(PLATFORM));
+        when(cloudContext.getLocation()).thenReturn(Location.location(Region.region(REGION), null));
+
+        List<CloudVmMetaDataStatus> actual = underTest.collect(authenticatedContext, resources, vms, KNOWN_INSTANCES);
+
+        assertEquals(1, actual.size());
+        assertEquals(PRIVATE_IP, actual.get(0).getMetaData().getPrivateIp());
+        assertEquals(PUBLIC_IP, actual.get(0).getMetaData().getPublicIp());
+        assertEquals(LOCALITY_INDICATOR, actual.get(0).getMetaData().getLocalityIndicator());
+        verify(virtualMachine, never()).getPrimaryNetworkInterface();
+        verify(azureClient, never()).getFaultDomainNumber(anyString(), anyString());
+    }
+
     private Map<String, VirtualMachine> getMachines() {
         return Map.of(
                 INSTANCE_1, createVirtualMachine(INSTANCE_1),
@@ -157,14 +218,39 @@ public class AzureMetadataCollectorTest {
 
     private VirtualMachine createVirtualMachine(String name) {
         VirtualMachine virtualMachine = mock(VirtualMachine.class);
-        NetworkInterface networkInterface = mock(NetworkInterface.class);
-        NicIPConfiguration nicIPConfiguration = mock(NicIPConfiguration.class);
+        NetworkInterface networkInterface = createNetworkInterface();
         when(virtualMachine.name()).thenReturn(name);
         when(virtualMachine.getPrimaryNetworkInterface()).thenReturn(networkInterface);
+        return virtualMachine;
+    }
+
+    private NetworkInterface createNetworkInterface() {
+        NetworkInterface networkInterface = mock(NetworkInterface.class);
+        NicIPConfiguration nicIPConfiguration = mock(NicIPConfiguration.class);
         when(networkInterface.primaryIPConfiguration()).thenReturn(nicIPConfiguration);
         when(networkInterface.primaryPrivateIP()).thenReturn(PRIVATE_IP);
         when(nicIPConfiguration.subnetName()).thenReturn(SUBNET_NAME);
-        return virtualMachine;
+        return networkInterface;
+    }
+
+    private <T> PagedList<T> createPagedList(T element) {
+        PagedList<T> pagedList = new PagedList<>() {
+            @Override
+            public Page<T> nextPage(String nextPageLink) throws RestException {
+                return null;
+            }
+
+            @Override
+            public void loadNextPage() {
+            }
+
+            @Override
+            public boolean hasNextPage() {
+                return false;
+            }
+        };
+        pagedList.add(element);
+        return pagedList;
     }
 
     private List<CloudInstance> createVms() {
@@ -0,0 +1,27 @@
+package com.sequenceiq.cloudbreak.util;
+
+import java.io.IOException;
+
+import com.sequenceiq.cloudbreak.common.template.CompiledTemplateCache;
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+
+/**
+ * Shares the templates compiled from template texts, e.g. the ARM and CloudFormation templates stored with the stacks. FreeMarker caches the
+ * templates it loads by name on its own, but not the ones created from a string.
+ */
+public final class FreeMarkerTemplateCache {
+
+    private static final long MAX_CACHED_TEMPLATES = 200L;
+
+    private static final CompiledTemplateCache<Template> COMPILED_TEMPLATES = new CompiledTemplateCache<>("freemarker.templates", MAX_CACHED_TEMPLATES);
+
+    private FreeMarkerTemplateCache() {
+    }
+
+    public static Template getTemplate(String name, String templateText, Configuration configuration) throws IOException {
+        Template template = COMPILED_TEMPLATES.get(name, templateText, (templateName, text) -> new Template(templateName, text, configuration));
+        return template.getConfiguration() == configuration ? template : new Template(name, templateText, configuration);
+    }
+}
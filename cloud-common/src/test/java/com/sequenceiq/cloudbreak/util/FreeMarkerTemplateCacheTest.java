@@ -0,0 +1,57 @@
+package com.sequenceiq.cloudbreak.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+
+class FreeMarkerTemplateCacheTest {
+
+    private static final String TEMPLATE_NAME = "freemarker-template-cache-test.ftl";
+
+    private static final String TEMPLATE_TEXT = "${name} of FreeMarkerTemplateCacheTest";
+
+    private static final Configuration CONFIGURATION = new Configuration(Configuration.VERSION_2_3_28);
+
+    @Test
+    void testSameTemplateTextIsCompiledOnce() throws IOException {
+        assertSame(FreeMarkerTemplateCache.getTemplate(TEMPLATE_NAME, TEMPLATE_TEXT, CONFIGURATION),
+                FreeMarkerTemplateCache.getTemplate(TEMPLATE_NAME, new String(TEMPLATE_TEXT), CONFIGURATION));
+    }
+
+    @Test
+    void testDifferentTemplateTextsAreCompiledSeparately() throws IOException, TemplateException {
+        Template template = FreeMarkerTemplateCache.getTemplate(TEMPLATE_NAME, TEMPLATE_TEXT, CONFIGURATION);
+        Template otherTemplate = FreeMarkerTemplateCache.getTemplate(TEMPLATE_NAME, "${name} of other FreeMarkerTemplateCacheTest", CONFIGURATION);
+
+        assertNotSame(template, otherTemplate);
+        assertEquals("stack of FreeMarkerTemplateCacheTest", render(template, "stack"));
+        assertEquals("stack of other FreeMarkerTemplateCacheTest", render(otherTemplate, "stack"));
+    }
+
+    @Test
+    void testTemplateIsNotSharedWithOtherConfiguration() throws IOException, TemplateException {
+        Configuration otherConfiguration = new Configuration(Configuration.VERSION_2_3_28);
+        FreeMarkerTemplateCache.getTemplate(TEMPLATE_NAME, TEMPLATE_TEXT, CONFIGURATION);
+
+        Template template = FreeMarkerTemplateCache.getTemplate(TEMPLATE_NAME, TEMPLATE_TEXT, otherConfiguration);
+
+        assertSame(otherConfiguration, template.getConfiguration());
+        assertEquals("stack of FreeMarkerTemplateCacheTest", render(template, "stack"));
+    }
+
+    private String render(Template template, String name) throws IOException, TemplateException {
+        StringWriter writer = new StringWriter();
+        template.process(Map.of("name", name), writer);
+        return writer.toString();
+    }
+}
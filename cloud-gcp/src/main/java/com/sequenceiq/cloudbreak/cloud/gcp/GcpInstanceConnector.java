@@ -1,6 +1,5 @@
 package com.sequenceiq.cloudbreak.cloud.gcp;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -14,14 +13,14 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import com.google.api.client.googleapis.json.GoogleJsonResponseException;
 import com.google.api.services.compute.Compute;
 import com.google.api.services.compute.Compute.Instances.GetSerialPortOutput;
 import com.google.api.services.compute.model.Instance;
 import com.sequenceiq.cloudbreak.cloud.context.AuthenticatedContext;
-import com.sequenceiq.cloudbreak.cloud.context.CloudContext;
 import com.sequenceiq.cloudbreak.cloud.exception.CloudOperationNotSupportedException;
 import com.sequenceiq.cloudbreak.cloud.gcp.client.GcpComputeFactory;
+import com.sequenceiq.cloudbreak.cloud.gcp.compute.GcpBatchResponse;
+import com.sequenceiq.cloudbreak.cloud.gcp.compute.GcpComputeBatchExecutor;
 import com.sequenceiq.cloudbreak.cloud.gcp.util.GcpStackUtil;
 import com.sequenceiq.cloudbreak.cloud.model.CloudCredential;
 import com.sequenceiq.cloudbreak.cloud.model.CloudInstance;
@@ -44,6 +43,9 @@ public class GcpInstanceConnector extends AbstractInstanceConnector {
     @Inject
     private GcpStackUtil gcpStackUtil;
 
+    @Inject
+    private GcpComputeBatchExecutor gcpComputeBatchExecutor;
+
     @Override
     public List<CloudVmInstanceStatus> reboot(AuthenticatedContext ac, List<CloudResource> resources, List<CloudInstance> vms) {
         List<CloudVmInstanceStatus> rebootedVmsStatus = new ArrayList<>();
@@ -120,25 +122,25 @@ public class GcpInstanceConnector extends AbstractInstanceConnector {
     public List<CloudVmInstanceStatus> check(AuthenticatedContext ac, List<CloudInstance> vms) {
         List<CloudVmInstanceStatus> statuses = new ArrayList<>();
         CloudCredential credential = ac.getCloudCredential();
-        CloudContext cloudContext = ac.getCloudContext();
         Compute compute = computeClient.buildCompute(credential);
-        for (CloudInstance instance : vms) {
+        String projectId = gcpStackUtil.getProjectId(credential);
+        List<GcpBatchResponse<Instance>> responses = gcpComputeBatchExecutor.execute(compute, vms, CloudInstance::getAvailabilityZone,
+                instance -> compute.instances().get(projectId, instance.getAvailabilityZone(), instance.getInstanceId()));
+        for (int i = 0; i < vms.size(); i++) {
+            CloudInstance instance = vms.get(i);
+            GcpBatchResponse<Instance> response = responses.get(i);
             InstanceStatus status = InstanceStatus.UNKNOWN;
-            try {
-                Instance executeInstance = getInstance(cloudContext, credential, compute, instance);
+            if (response.isSuccessful()) {
+                Instance executeInstance = response.getResult();
                 if ("RUNNING".equals(executeInstance.getStatus())) {
                     status = InstanceStatus.STARTED;
                 } else if ("TERMINATED".equals(executeInstance.getStatus())) {
                     status = InstanceStatus.STOPPED;
                 }
-            } catch (GoogleJsonResponseException e) {
-                if (e.getStatusCode() == HttpStatus.SC_NOT_FOUND) {
-                    status = InstanceStatus.TERMINATED;
-                } else {
-                    LOGGER.info(String.format("Instance %s is not reachable", instance), e);
-                }
-            } catch (IOException e) {
-                LOGGER.info(String.format("Instance %s is not reachable", instance), e);
+            } else if (response.getStatusCode() == HttpStatus.SC_NOT_FOUND) {
+                status = InstanceStatus.TERMINATED;
+            } else {
+                LOGGER.info(String.format("Instance %s is not reachable", instance), response.getException());
             }
             statuses.add(new CloudVmInstanceStatus(instance, status));
         }
@@ -160,9 +162,4 @@ public class GcpInstanceConnector extends AbstractInstanceConnector {
             throw new GcpResourceException("Couldn't parse SSH fingerprint from console output.", e);
         }
     }
-
-    private Instance getInstance(CloudContext context, CloudCredential credential, Compute compute, CloudInstance instance) throws IOException {
-        return compute.instances().get(gcpStackUtil.getProjectId(credential),
-                instance.getAvailabilityZone(), instance.getInstanceId()).execute();
-    }
 }
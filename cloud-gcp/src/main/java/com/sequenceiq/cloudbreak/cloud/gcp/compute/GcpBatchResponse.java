@@ -0,0 +1,86 @@
+package com.sequenceiq.cloudbreak.cloud.gcp.compute;
+
+import java.io.IOException;
+
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+
+/**
+ * The response of one request of a {@link GcpComputeBatchExecutor} batch: either the result, the error returned by GCP for the request, or
+ * the exception of the whole batch call.
+ */
+public class GcpBatchResponse<T> {
+
+    private final T result;
+
+    private final GoogleJsonError error;
+
+    private final int statusCode;
+
+    private final IOException exception;
+
+    private GcpBatchResponse(T result, GoogleJsonError error, int statusCode, IOException exception) {
+        this.result = result;
+        this.error = error;
+        this.statusCode = statusCode;
+        this.exception = exception;
+    }
+
+    static <T> GcpBatchResponse<T> success(T result) {
+        return new GcpBatchResponse<>(result, null, 0, null);
+    }
+
+    static <T> GcpBatchResponse<T> error(GoogleJsonError error) {
+        return new GcpBatchResponse<>(null, error, error.getCode(), null);
+    }
+
+    static <T> GcpBatchResponse<T> exception(IOException exception) {
+        if (exception instanceof GoogleJsonResponseException) {
+            GoogleJsonResponseException responseException = (GoogleJsonResponseException) exception;
+            return new GcpBatchResponse<>(null, responseException.getDetails(), responseException.getStatusCode(), exception);
+        }
+        return new GcpBatchResponse<>(null, null, 0, exception);
+    }
+
+    public boolean isSuccessful() {
+        return error == null && exception == null;
+    }
+
+    public T getResult() {
+        return result;
+    }
+
+    /**
+     * @return the error details returned by GCP, null if the request succeeded or failed without error details
+     */
+    public GoogleJsonError getError() {
+        return error;
+    }
+
+    /**
+     * @return the HTTP status code of the failed request, 0 if it is unknown
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return the exception of the failed request, or an exception describing the error returned for the request in a batch
+     */
+    public IOException getException() {
+        if (exception == null && error != null) {
+            return new IOException(String.format("GCP returned %d: %s", error.getCode(), error.getMessage()));
+        }
+        return exception;
+    }
+
+    @Override
+    public String toString() {
+        return "GcpBatchResponse{"
+                + "result=" + result
+                + ", error=" + error
+                + ", statusCode=" + statusCode
+                + ", exception=" + exception
+                + '}';
+    }
+}
@@ -0,0 +1,154 @@
+package com.sequenceiq.cloudbreak.cloud.gcp.compute;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.services.compute.Compute;
+import com.google.api.services.compute.ComputeRequest;
+import com.google.common.collect.Lists;
+import com.sequenceiq.cloudbreak.cloud.gcp.GcpResourceException;
+
+/**
+ * Executes many Compute API requests with the batch HTTP support of the Google API client. The requests are grouped by zone, every batch
+ * request contains the requests of one zone and at most {@code cb.gcp.batch.request.size} of them. The batch requests of different zones
+ * or of the same zone run in parallel, a lone request is executed in the calling thread without a batch request.
+ */
+@Component
+public class GcpComputeBatchExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GcpComputeBatchExecutor.class);
+
+    private final AsyncTaskExecutor intermediateBuilderExecutor;
+
+    private final int maxBatchSize;
+
+    public GcpComputeBatchExecutor(@Qualifier("intermediateBuilderExecutor") AsyncTaskExecutor intermediateBuilderExecutor,
+            @Value("${cb.gcp.batch.request.size:100}") int maxBatchSize) {
+        this.intermediateBuilderExecutor = intermediateBuilderExecutor;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Creates a request for every item with the request factory and executes them.
+     *
+     * @return the responses of the requests in the order of the items
+     */
+    public <I, T> List<GcpBatchResponse<T>> execute(Compute compute, List<I> items, Function<I, String> zoneFunction,
+            RequestFactory<I, T> requestFactory) {
+        List<GcpBatchResponse<T>> responses = new ArrayList<>(Collections.nCopies(items.size(), null));
+        Map<String, List<Integer>> indexesByZone = IntStream.range(0, items.size())
+                .boxed()
+                .collect(Collectors.groupingBy(index -> Objects.toString(zoneFunction.apply(items.get(index)), ""), LinkedHashMap::new,
+                        Collectors.toList()));
+        List<List<Integer>> batches = indexesByZone.values().stream()
+                .flatMap(indexes -> Lists.partition(indexes, maxBatchSize).stream())
+                .collect(Collectors.toList());
+        LOGGER.debug("Execute {} requests in {} zones with {} batches", items.size(), indexesByZone.size(), batches.size());
+        if (batches.size() == 1) {
+            executeBatch(compute, items, batches.get(0), requestFactory, responses);
+        } else {
+            List<Future<?>> futures = batches.stream()
+                    .map(batch -> intermediateBuilderExecutor.submit(() -> executeBatch(compute, items, batch, requestFactory, responses)))
+                    .collect(Collectors.toList());
+            waitFor(futures);
+        }
+        return responses;
+    }
+
+    private <I, T> void executeBatch(Compute compute, List<I> items, List<Integer> indexes, RequestFactory<I, T> requestFactory,
+            List<GcpBatchResponse<T>> responses) {
+        if (indexes.size() == 1) {
+            int index = indexes.get(0);
+            try {
+                responses.set(index, GcpBatchResponse.success(createRequest(requestFactory, items.get(index)).execute()));
+            } catch (IOException e) {
+                responses.set(index, GcpBatchResponse.exception(e));
+            }
+        } else {
+            BatchRequest batchRequest = compute.batch(compute.getRequestFactory().getInitializer());
+            for (int index : indexes) {
+                try {
+                    createRequest(requestFactory, items.get(index)).queue(batchRequest, new JsonBatchCallback<T>() {
+                        @Override
+                        public void onSuccess(T result, HttpHeaders responseHeaders) {
+                            responses.set(index, GcpBatchResponse.success(result));
+                        }
+
+                        @Override
+                        public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                            responses.set(index, GcpBatchResponse.error(error));
+                        }
+                    });
+                } catch (IOException e) {
+                    responses.set(index, GcpBatchResponse.exception(e));
+                }
+            }
+            IOException batchException = null;
+            if (batchRequest.size() > 0) {
+                try {
+                    batchRequest.execute();
+                } catch (IOException e) {
+                    LOGGER.info("Failed to execute batch request with {} requests", batchRequest.size(), e);
+                    batchException = e;
+                }
+            }
+            IOException missingResponse = batchException != null ? batchException : new IOException("No response was returned in the batch");
+            indexes.stream()
+                    .filter(index -> responses.get(index) == null)
+                    .forEach(index -> responses.set(index, GcpBatchResponse.exception(missingResponse)));
+        }
+    }
+
+    private <I, T> ComputeRequest<T> createRequest(RequestFactory<I, T> requestFactory, I item) throws IOException {
+        try {
+            return requestFactory.create(item);
+        } catch (GcpResourceException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new GcpResourceException("Failed to create the Compute API request of " + item, e);
+        }
+    }
+
+    private void waitFor(List<Future<?>> futures) {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GcpResourceException("Interrupted while waiting for the batch requests", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new GcpResourceException("Failed to execute the batch requests", e.getCause());
+        }
+    }
+
+    @FunctionalInterface
+    public interface RequestFactory<I, T> {
+
+        ComputeRequest<T> create(I item) throws IOException;
+    }
+}
@@ -13,6 +13,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import com.google.api.client.googleapis.json.GoogleJsonError;
 import com.google.api.client.googleapis.json.GoogleJsonResponseException;
 import com.google.api.services.compute.model.Instance;
 import com.google.api.services.compute.model.Operation;
@@ -32,38 +33,47 @@ public class GcpInstanceStateChecker {
 
     private final GcpStackUtil gcpStackUtil;
 
-    public GcpInstanceStateChecker(GcpStackUtil gcpStackUtil) {
+    private final GcpComputeBatchExecutor gcpComputeBatchExecutor;
+
+    public GcpInstanceStateChecker(GcpStackUtil gcpStackUtil, GcpComputeBatchExecutor gcpComputeBatchExecutor) {
         this.gcpStackUtil = gcpStackUtil;
+        this.gcpComputeBatchExecutor = gcpComputeBatchExecutor;
     }
 
     public List<CloudVmInstanceStatus> checkBasedOnOperation(GcpContext context, List<CloudInstance> instances) {
         LOGGER.info("Checking instances('{}') states based on operation id if the operation couldn't be found then fall back to get the instance details.",
                 instances.stream().map(CloudInstance::getInstanceId).collect(Collectors.joining(",")));
         List<CloudVmInstanceStatus> result = new ArrayList<>();
-        for (CloudInstance instance : instances) {
+        if (instances.isEmpty()) {
+            return result;
+        }
+        List<GcpBatchResponse<Operation>> operationResponses = gcpComputeBatchExecutor.execute(context.getCompute(), instances,
+                CloudInstance::getAvailabilityZone, instance -> gcpStackUtil.zoneOperation(context.getCompute(), context.getProjectId(),
+                        instance.getStringParameter(OPERATION_ID), instance.getAvailabilityZone()));
+        for (int i = 0; i < instances.size(); i++) {
+            CloudInstance instance = instances.get(i);
+            GcpBatchResponse<Operation> operationResponse = operationResponses.get(i);
             String operationName = instance.getStringParameter(OPERATION_ID);
-            String availabilityZone = instance.getAvailabilityZone();
             String instanceId = instance.getInstanceId();
-            try {
-                LOGGER.debug("Get operations of instance('{}'), with operation id:'{}' in availability zone:'{}'", instanceId, operationName, availabilityZone);
-                Operation operation = gcpStackUtil.zoneOperation(context.getCompute(), context.getProjectId(), operationName, availabilityZone).execute();
-                InstanceStatus status = getInstanceStatusFromOperation(operation);
-                LOGGER.info("The status of the instance('{}') based on the related operation('{}') is: {}", instanceId, operationName, status.name());
-                result.add(new CloudVmInstanceStatus(instance, status));
-            } catch (GoogleJsonResponseException gJsonRespExc) {
-                if (resourceNotFoundException(gJsonRespExc)) {
-                    LOGGER.info("Operation '{}' could not be found for instance '{}'", operationName, instanceId);
-                    CloudVmInstanceStatus vmInstanceStatus = getInstanceStatusFromGcpInstance(context, instance);
-                    result.add(vmInstanceStatus);
-                } else {
+            LOGGER.debug("Operation of instance('{}'), with operation id:'{}' in availability zone:'{}': {}", instanceId, operationName,
+                    instance.getAvailabilityZone(), operationResponse);
+            if (operationResponse.isSuccessful()) {
+                try {
+                    InstanceStatus status = getInstanceStatusFromOperation(operationResponse.getResult());
+                    LOGGER.info("The status of the instance('{}') based on the related operation('{}') is: {}", instanceId, operationName, status.name());
+                    result.add(new CloudVmInstanceStatus(instance, status));
+                } catch (Exception ex) {
                     String message = String.format("Failed to check the '%s' operation on the instance '%s'.", operationName, instanceId);
-                    LOGGER.warn(message, gJsonRespExc);
-                    throw new GcpResourceException(message, gJsonRespExc);
+                    LOGGER.warn(message, ex);
+                    throw new GcpResourceException(message, ex);
                 }
-            } catch (Exception ex) {
+            } else if (resourceNotFound(operationResponse.getError())) {
+                LOGGER.info("Operation '{}' could not be found for instance '{}'", operationName, instanceId);
+                result.add(getInstanceStatusFromGcpInstance(context, instance));
+            } else {
                 String message = String.format("Failed to check the '%s' operation on the instance '%s'.", operationName, instanceId);
-                LOGGER.warn(message, ex);
-                throw new GcpResourceException(message, ex);
+                LOGGER.warn(message, operationResponse.getException());
+                throw new GcpResourceException(message, operationResponse.getException());
             }
         }
         return result;
@@ -121,9 +131,13 @@ public class GcpInstanceStateChecker {
     }
 
     private boolean resourceNotFoundException(GoogleJsonResponseException ex) {
-        return ex.getDetails() != null
-                && ex.getDetails().containsKey(ERROR_CODE)
-                && (ex.getDetails().get(ERROR_CODE).equals(HttpStatus.SC_NOT_FOUND) || ex.getDetails().get(ERROR_CODE).equals(HttpStatus.SC_FORBIDDEN));
+        return resourceNotFound(ex.getDetails());
+    }
+
+    private boolean resourceNotFound(GoogleJsonError error) {
+        return error != null
+                && error.containsKey(ERROR_CODE)
+                && (error.get(ERROR_CODE).equals(HttpStatus.SC_NOT_FOUND) || error.get(ERROR_CODE).equals(HttpStatus.SC_FORBIDDEN));
     }
 
     @NotNull
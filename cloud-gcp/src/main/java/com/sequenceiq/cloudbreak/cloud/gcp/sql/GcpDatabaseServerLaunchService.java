@@ -109,7 +109,7 @@ public class GcpDatabaseServerLaunchService extends GcpDatabaseServerBaseService
                         operationAwareCloudResource = createOperationAwareCloudResource(buildableResource.get(0), operation);
                         databasePollerService.insertUserPoller(ac, List.of(operationAwareCloudResource));
                     }
-                    buildableResource.forEach(dbr -> resourceNotifier.notifyAllocation(dbr, ac.getCloudContext()));
+                    resourceNotifier.notifyAllocations(buildableResource, ac.getCloudContext());
                     return Collections.singletonList(operationAwareCloudResource);
                 } catch (GoogleJsonResponseException e) {
                     throw new GcpResourceException(checkException(e), resourceType(), buildableResource.get(0).getName());
@@ -0,0 +1,231 @@
+package com.sequenceiq.cloudbreak.cloud.gcp.compute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.http.HttpStatusCodes;
+import com.google.api.client.json.jackson2.JacksonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.api.services.compute.Compute;
+import com.google.api.services.compute.model.Instance;
+import com.sequenceiq.cloudbreak.cloud.gcp.GcpResourceException;
+import com.sequenceiq.cloudbreak.cloud.model.CloudInstance;
+
+@ExtendWith(MockitoExtension.class)
+class GcpComputeBatchExecutorTest {
+
+    private static final String ZONE_A = "zone-a";
+
+    private static final String ZONE_B = "zone-b";
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final String PROJECT_ID = "project-id";
+
+    private static final String BOUNDARY = "batch_boundary";
+
+    @Mock
+    private AsyncTaskExecutor intermediateBuilderExecutor;
+
+    @Mock
+    private Compute compute;
+
+    @Test
+    void testLoneRequestIsExecutedInTheCallingThread() throws IOException {
+        GcpComputeBatchExecutor underTest = new GcpComputeBatchExecutor(intermediateBuilderExecutor, BATCH_SIZE);
+        CloudInstance cloudInstance = cloudInstance("vm-1", ZONE_A);
+        Map<CloudInstance, Compute.Instances.Get> requests = Map.of(cloudInstance, request("vm-1"));
+
+        List<GcpBatchResponse<Instance>> responses = underTest.execute(compute, List.of(cloudInstance), CloudInstance::getAvailabilityZone,
+                requests::get);
+
+        assertTrue(responses.get(0).isSuccessful());
+        assertEquals("vm-1", responses.get(0).getResult().getName());
+        verifyNoInteractions(intermediateBuilderExecutor);
+    }
+
+    @Test
+    void testBatchesOfZonesAreExecutedInParallelAndResponsesKeepTheOrderOfItems() throws IOException {
+        GcpComputeBatchExecutor underTest = new GcpComputeBatchExecutor(intermediateBuilderExecutor, 1);
+        when(intermediateBuilderExecutor.submit(any(Runnable.class))).thenAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return CompletableFuture.completedFuture(null);
+        });
+        List<CloudInstance> cloudInstances = List.of(cloudInstance("vm-1", ZONE_A), cloudInstance("vm-2", ZONE_B), cloudInstance("vm-3", ZONE_A));
+        Map<CloudInstance, Compute.Instances.Get> requests = Map.of(
+                cloudInstances.get(0), request("vm-1"),
+                cloudInstances.get(1), request("vm-2"),
+                cloudInstances.get(2), request("vm-3"));
+
+        List<GcpBatchResponse<Instance>> responses = underTest.execute(compute, cloudInstances, CloudInstance::getAvailabilityZone, requests::get);
+
+        assertEquals(List.of("vm-1", "vm-2", "vm-3"), responses.stream().map(response -> response.getResult().getName()).collect(Collectors.toList()));
+        verify(intermediateBuilderExecutor, times(cloudInstances.size())).submit(any(Runnable.class));
+    }
+
+    @Test
+    void testFailedRequestIsMappedToErrorResponse() throws IOException {
+        GcpComputeBatchExecutor underTest = new GcpComputeBatchExecutor(intermediateBuilderExecutor, BATCH_SIZE);
+        CloudInstance cloudInstance = cloudInstance("vm-1", ZONE_A);
+        GoogleJsonError error = new GoogleJsonError();
+        error.setCode(HttpStatusCodes.STATUS_CODE_NOT_FOUND);
+        GoogleJsonResponseException notFound = new GoogleJsonResponseException(
+                new HttpResponseException.Builder(HttpStatusCodes.STATUS_CODE_NOT_FOUND, "Not found", new HttpHeaders()), error);
+        Compute.Instances.Get request = mock(Compute.Instances.Get.class);
+        when(request.execute()).thenThrow(notFound);
+
+        List<GcpBatchResponse<Instance>> responses = underTest.execute(compute, List.of(cloudInstance), CloudInstance::getAvailabilityZone,
+                instance -> request);
+
+        GcpBatchResponse<Instance> response = responses.get(0);
+        assertFalse(response.isSuccessful());
+        assertEquals(HttpStatusCodes.STATUS_CODE_NOT_FOUND, response.getStatusCode());
+        assertSame(error, response.getError());
+        assertSame(notFound, response.getException());
+    }
+
+    @Test
+    void testRequestCreationFailureIsMappedToExceptionResponse() {
+        GcpComputeBatchExecutor underTest = new GcpComputeBatchExecutor(intermediateBuilderExecutor, BATCH_SIZE);
+        IOException creationFailure = new IOException("Something went wrong!");
+
+        List<GcpBatchResponse<Instance>> responses = underTest.execute(compute, List.of(cloudInstance("vm-1", ZONE_A)),
+                CloudInstance::getAvailabilityZone, instance -> {
+                    throw creationFailure;
+                });
+
+        assertFalse(responses.get(0).isSuccessful());
+        assertSame(creationFailure, responses.get(0).getException());
+    }
+
+    @Test
+    void testResponsesOfBatchRequestAreMappedToTheirItems() {
+        GcpComputeBatchExecutor underTest = new GcpComputeBatchExecutor(intermediateBuilderExecutor, BATCH_SIZE);
+        Compute batchCompute = compute(batchResponse(successPart("vm-1"), notFoundPart()));
+        List<CloudInstance> cloudInstances = List.of(cloudInstance("vm-1", ZONE_A), cloudInstance("vm-2", ZONE_A));
+
+        List<GcpBatchResponse<Instance>> responses = underTest.execute(batchCompute, cloudInstances, CloudInstance::getAvailabilityZone,
+                instance -> batchCompute.instances().get(PROJECT_ID, instance.getAvailabilityZone(), instance.getInstanceId()));
+
+        assertTrue(responses.get(0).isSuccessful());
+        assertEquals("vm-1", responses.get(0).getResult().getName());
+        assertFalse(responses.get(1).isSuccessful());
+        assertEquals(HttpStatusCodes.STATUS_CODE_NOT_FOUND, responses.get(1).getStatusCode());
+        assertEquals("The resource 'vm-2' was not found", responses.get(1).getError().getMessage());
+        verifyNoInteractions(intermediateBuilderExecutor);
+    }
+
+    @Test
+    void testRequestWithoutResponseInTheBatchIsMappedToExceptionResponse() {
+        GcpComputeBatchExecutor underTest = new GcpComputeBatchExecutor(intermediateBuilderExecutor, BATCH_SIZE);
+        Compute batchCompute = compute(batchResponse(successPart("vm-1")));
+        List<CloudInstance> cloudInstances = List.of(cloudInstance("vm-1", ZONE_A), cloudInstance("vm-2", ZONE_A));
+
+        List<GcpBatchResponse<Instance>> responses = underTest.execute(batchCompute, cloudInstances, CloudInstance::getAvailabilityZone,
+                instance -> batchCompute.instances().get(PROJECT_ID, instance.getAvailabilityZone(), instance.getInstanceId()));
+
+        assertTrue(responses.get(0).isSuccessful());
+        assertFalse(responses.get(1).isSuccessful());
+        assertEquals("No response was returned in the batch", responses.get(1).getException().getMessage());
+    }
+
+    @Test
+    void testFailedBatchRequestIsMappedToExceptionResponseOfEveryItem() {
+        GcpComputeBatchExecutor underTest = new GcpComputeBatchExecutor(intermediateBuilderExecutor, BATCH_SIZE);
+        Compute batchCompute = compute(new MockLowLevelHttpResponse().setStatusCode(HttpStatusCodes.STATUS_CODE_SERVER_ERROR));
+        List<CloudInstance> cloudInstances = List.of(cloudInstance("vm-1", ZONE_A), cloudInstance("vm-2", ZONE_A));
+
+        List<GcpBatchResponse<Instance>> responses = underTest.execute(batchCompute, cloudInstances, CloudInstance::getAvailabilityZone,
+                instance -> batchCompute.instances().get(PROJECT_ID, instance.getAvailabilityZone(), instance.getInstanceId()));
+
+        assertFalse(responses.get(0).isSuccessful());
+        assertTrue(responses.get(0).getException() instanceof HttpResponseException);
+        assertSame(responses.get(0).getException(), responses.get(1).getException());
+    }
+
+    @Test
+    void testRuntimeExceptionOfRequestFactoryIsWrapped() {
+        GcpComputeBatchExecutor underTest = new GcpComputeBatchExecutor(intermediateBuilderExecutor, BATCH_SIZE);
+        NullPointerException creationFailure = new NullPointerException("operation id is null");
+        List<CloudInstance> cloudInstances = List.of(cloudInstance("vm-1", ZONE_A));
+
+        GcpResourceException exception = assertThrows(GcpResourceException.class, () -> underTest.execute(compute, cloudInstances,
+                CloudInstance::getAvailabilityZone, instance -> {
+                    throw creationFailure;
+                }));
+
+        assertSame(creationFailure, exception.getCause());
+    }
+
+    private Compute compute(MockLowLevelHttpResponse batchResponse) {
+        MockHttpTransport transport = new MockHttpTransport.Builder().setLowLevelHttpResponse(batchResponse).build();
+        return new Compute.Builder(transport, JacksonFactory.getDefaultInstance(), null).setApplicationName("test").build();
+    }
+
+    private MockLowLevelHttpResponse batchResponse(String... parts) {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            content.append("--").append(BOUNDARY).append("\r\n")
+                    .append("Content-Type: application/http\r\n")
+                    .append("Content-ID: <response-").append(i + 1).append(">\r\n")
+                    .append("\r\n")
+                    .append(parts[i]);
+        }
+        content.append("--").append(BOUNDARY).append("--\r\n");
+        return new MockLowLevelHttpResponse()
+                .setContentType("multipart/mixed; boundary=" + BOUNDARY)
+                .setContent(content.toString());
+    }
+
+    private String successPart(String instanceName) {
+        return "HTTP/1.1 200 OK\r\n"
+                + "Content-Type: application/json; charset=UTF-8\r\n"
+                + "\r\n"
+                + "{\"name\": \"" + instanceName + "\"}\r\n";
+    }
+
+    private String notFoundPart() {
+        return "HTTP/1.1 404 Not Found\r\n"
+                + "Content-Type: application/json; charset=UTF-8\r\n"
+                + "\r\n"
+                + "{\"error\": {\"code\": 404, \"message\": \"The resource 'vm-2' was not found\"}}\r\n";
+    }
+
+    private CloudInstance cloudInstance(String instanceId, String availabilityZone) {
+        return new CloudInstance(instanceId, null, null, "subnetId", availabilityZone);
+    }
+
+    private Compute.Instances.Get request(String instanceName) throws IOException {
+        Compute.Instances.Get request = mock(Compute.Instances.Get.class);
+        Instance instance = new Instance();
+        instance.setName(instanceName);
+        when(request.execute()).thenReturn(instance);
+        return request;
+    }
+}
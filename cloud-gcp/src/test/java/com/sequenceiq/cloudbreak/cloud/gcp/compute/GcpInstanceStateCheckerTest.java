@@ -18,6 +18,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.google.api.client.googleapis.json.GoogleJsonError;
@@ -45,6 +46,8 @@ class GcpInstanceStateCheckerTest {
 
     private static final String OPERATION_ID = "anOperationIdentifier";
 
+    private static final int BATCH_SIZE = 100;
+
     @Mock
     private GcpStackUtil gcpStackUtil;
 
@@ -54,6 +57,9 @@ class GcpInstanceStateCheckerTest {
     @Mock
     private Compute gcpCompute;
 
+    @Spy
+    private GcpComputeBatchExecutor gcpComputeBatchExecutor = new GcpComputeBatchExecutor(null, BATCH_SIZE);
+
     @InjectMocks
     private GcpInstanceStateChecker underTest;
 
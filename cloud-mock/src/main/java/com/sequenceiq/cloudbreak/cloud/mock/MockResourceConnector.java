@@ -101,7 +101,7 @@ public class MockResourceConnector implements ResourceConnector<Object> {
                         .persistent(true)
                         .build()
         );
-        cloudResources.forEach(cr -> persistenceNotifier.notifyAllocation(cr, authenticatedContext.getCloudContext()));
+        persistenceNotifier.notifyAllocations(cloudResources, authenticatedContext.getCloudContext());
         return cloudResources.stream()
                 .map(cr -> new CloudResourceStatus(cr, CREATED))
                 .collect(Collectors.toList());
@@ -5,6 +5,7 @@ import javax.inject.Inject;
 
 import org.springframework.stereotype.Component;
 
+import com.sequenceiq.cloudbreak.cloud.notification.model.ResourceBatchNotification;
 import com.sequenceiq.cloudbreak.cloud.notification.model.ResourceNotification;
 import com.sequenceiq.cloudbreak.cloud.notification.model.ResourceRetrievalNotification;
 
@@ -22,12 +23,16 @@ public class CloudReactorInitializer {
     @Inject
     private Consumer<Event<ResourceNotification>> resourcePersistenceHandler;
 
+    @Inject
+    private Consumer<Event<ResourceBatchNotification>> resourceBatchPersistenceHandler;
+
     @Inject
     private Consumer<Event<ResourceRetrievalNotification>> resourceRetrievalHandler;
 
     @PostConstruct
     public void initialize() {
         eventBus.on(Selectors.$("resource-persisted"), resourcePersistenceHandler);
+        eventBus.on(Selectors.$("resources-persisted"), resourceBatchPersistenceHandler);
         eventBus.on(Selectors.$("resource-retrieved"), resourceRetrievalHandler);
     }
 
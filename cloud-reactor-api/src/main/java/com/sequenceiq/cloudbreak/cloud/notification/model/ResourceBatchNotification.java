@@ -0,0 +1,66 @@
+package com.sequenceiq.cloudbreak.cloud.notification.model;
+
+import java.util.List;
+
+import com.sequenceiq.cloudbreak.cloud.context.CloudContext;
+import com.sequenceiq.cloudbreak.cloud.exception.CloudConnectorException;
+import com.sequenceiq.cloudbreak.cloud.model.CloudResource;
+
+import reactor.rx.Promise;
+import reactor.rx.Promises;
+
+/**
+ * Notification sent to Cloudbreak about multiple resources of the same stack, persisted with a single event bus round-trip.
+ */
+public class ResourceBatchNotification {
+
+    private final List<CloudResource> cloudResources;
+
+    private final CloudContext cloudContext;
+
+    private final Promise<ResourcePersisted> promise;
+
+    private final ResourceNotificationType type;
+
+    public ResourceBatchNotification(List<CloudResource> cloudResources, CloudContext cloudContext, ResourceNotificationType type) {
+        this.cloudResources = cloudResources;
+        this.cloudContext = cloudContext;
+        promise = Promises.prepare();
+        this.type = type;
+    }
+
+    public List<CloudResource> getCloudResources() {
+        return cloudResources;
+    }
+
+    public Promise<ResourcePersisted> getPromise() {
+        return promise;
+    }
+
+    public ResourcePersisted getResult() {
+        try {
+            return promise.await();
+        } catch (InterruptedException e) {
+            throw new CloudConnectorException("ResourceBatchNotification has been interrupted", e);
+        }
+    }
+
+    public CloudContext getCloudContext() {
+        return cloudContext;
+    }
+
+    public ResourceNotificationType getType() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("ResourceBatchNotification{");
+        sb.append("cloudResources=").append(cloudResources);
+        sb.append(", promise=").append(promise);
+        sb.append(", cloudContext=").append(cloudContext);
+        sb.append(", type=").append(type);
+        sb.append('}');
+        return sb.toString();
+    }
+}
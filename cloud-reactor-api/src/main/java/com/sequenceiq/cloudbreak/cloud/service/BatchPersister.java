@@ -0,0 +1,14 @@
+package com.sequenceiq.cloudbreak.cloud.service;
+
+/**
+ * Optional extension of the {@link Persister} for persistence provider modules which are able to write multiple items in one transaction.
+ * When it is not implemented, the items are persisted one by one with the {@link Persister}.
+ *
+ * @param <T> the type of the (wrapped) data to be persisted.
+ */
+public interface BatchPersister<T> {
+
+    T persistAll(T data);
+
+    T updateAll(T data);
+}
@@ -7,4 +7,12 @@ public interface CloudPlatformEventHandler<T> extends Consumer<Event<T>> {
 
     Class<T> type();
 
+    /**
+     * Handlers which wait on the cloud provider for a long time (e.g. polling the resources) return true, so they can be executed outside of the
+     * event bus threads when cb.cloud.handler.offload.enabled is set.
+     */
+    default boolean blocking() {
+        return false;
+    }
+
 }
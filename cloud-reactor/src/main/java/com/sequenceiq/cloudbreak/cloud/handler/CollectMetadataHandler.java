@@ -34,6 +34,11 @@ public class CollectMetadataHandler implements CloudPlatformEventHandler<Collect
         return CollectMetadataRequest.class;
     }
 
+    @Override
+    public boolean blocking() {
+        return true;
+    }
+
     @Override
     public void accept(Event<CollectMetadataRequest> collectMetadataRequestEvent) {
         LOGGER.debug("Received event: {}", collectMetadataRequestEvent);
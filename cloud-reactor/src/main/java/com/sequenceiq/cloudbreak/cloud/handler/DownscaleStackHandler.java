@@ -49,6 +49,11 @@ public class DownscaleStackHandler implements CloudPlatformEventHandler<Downscal
         return DownscaleStackRequest.class;
     }
 
+    @Override
+    public boolean blocking() {
+        return true;
+    }
+
     @Override
     public void accept(Event<DownscaleStackRequest> downscaleStackRequestEvent) {
         LOGGER.debug("Received event: {}", downscaleStackRequestEvent);
@@ -35,6 +35,11 @@ public class InstanceStateHandler implements CloudPlatformEventHandler<GetInstan
         return GetInstancesStateRequest.class;
     }
 
+    @Override
+    public boolean blocking() {
+        return true;
+    }
+
     @Override
     public void accept(Event<GetInstancesStateRequest> event) {
         LOGGER.debug("Received event: {}", event);
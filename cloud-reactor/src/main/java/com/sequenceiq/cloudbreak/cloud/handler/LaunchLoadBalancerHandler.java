@@ -54,6 +54,11 @@ public class LaunchLoadBalancerHandler implements CloudPlatformEventHandler<Laun
         return LaunchLoadBalancerRequest.class;
     }
 
+    @Override
+    public boolean blocking() {
+        return true;
+    }
+
     @Override
     public void accept(Event<LaunchLoadBalancerRequest> launchLoadBalancerRequestEvent) {
         LOGGER.debug("Received event: {}", launchLoadBalancerRequestEvent);
@@ -54,6 +54,11 @@ public class LaunchStackHandler implements CloudPlatformEventHandler<LaunchStack
         return LaunchStackRequest.class;
     }
 
+    @Override
+    public boolean blocking() {
+        return true;
+    }
+
     @Override
     public void accept(Event<LaunchStackRequest> launchStackRequestEvent) {
         LOGGER.debug("Received event: {}", launchStackRequestEvent);
@@ -0,0 +1,75 @@
+package com.sequenceiq.cloudbreak.cloud.handler;
+
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sequenceiq.cloudbreak.cloud.event.CloudPlatformRequest;
+
+import reactor.bus.Event;
+import reactor.core.support.Exceptions;
+import reactor.fn.Consumer;
+
+/**
+ * Runs the wrapped handler on a dedicated executor, so a handler waiting for the cloud provider does not hold an event bus thread.
+ * <p>
+ * An exception of the offloaded handler can not reach the event bus anymore, so it is passed to the error handler of the event bus together with
+ * the event, like the event bus does for the handlers running on its own threads, and the result of the request is completed with the error.
+ */
+public class OffloadingCloudPlatformEventHandler<T> implements CloudPlatformEventHandler<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OffloadingCloudPlatformEventHandler.class);
+
+    private final CloudPlatformEventHandler<T> delegate;
+
+    private final Executor executor;
+
+    private final Consumer<Throwable> errorHandler;
+
+    public OffloadingCloudPlatformEventHandler(CloudPlatformEventHandler<T> delegate, Executor executor, Consumer<Throwable> errorHandler) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.errorHandler = errorHandler;
+    }
+
+    @Override
+    public Class<T> type() {
+        return delegate.type();
+    }
+
+    @Override
+    public boolean blocking() {
+        return delegate.blocking();
+    }
+
+    @Override
+    public void accept(Event<T> event) {
+        executor.execute(() -> {
+            try {
+                delegate.accept(event);
+            } catch (RuntimeException e) {
+                LOGGER.error("Unhandled exception in offloaded cloud platform event handler {}", delegate.getClass().getSimpleName(), e);
+                completeResultWithError(event, e);
+                if (errorHandler != null) {
+                    errorHandler.accept(Exceptions.addValueAsLastCause(e, event));
+                }
+            }
+        });
+    }
+
+    private void completeResultWithError(Event<T> event, RuntimeException e) {
+        if (event.getData() instanceof CloudPlatformRequest) {
+            try {
+                ((CloudPlatformRequest<?>) event.getData()).getResult().onError(e);
+            } catch (RuntimeException resultException) {
+                LOGGER.debug("The result of the request has already been completed", resultException);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OffloadingCloudPlatformEventHandler{delegate=" + delegate + '}';
+    }
+}
@@ -37,6 +37,11 @@ public class RebootInstanceHandler implements CloudPlatformEventHandler<RebootIn
         return RebootInstancesRequest.class;
     }
 
+    @Override
+    public boolean blocking() {
+        return true;
+    }
+
     @Override
     public void accept(Event<RebootInstancesRequest> event) {
         LOGGER.debug("Received event: {}", event);
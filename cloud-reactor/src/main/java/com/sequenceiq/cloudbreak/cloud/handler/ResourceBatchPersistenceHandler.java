@@ -0,0 +1,66 @@
+package com.sequenceiq.cloudbreak.cloud.handler;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.sequenceiq.cloudbreak.cloud.model.CloudResource;
+import com.sequenceiq.cloudbreak.cloud.notification.model.ResourceBatchNotification;
+import com.sequenceiq.cloudbreak.cloud.notification.model.ResourceNotification;
+import com.sequenceiq.cloudbreak.cloud.notification.model.ResourcePersisted;
+import com.sequenceiq.cloudbreak.cloud.service.BatchPersister;
+import com.sequenceiq.cloudbreak.cloud.service.Persister;
+import com.sequenceiq.cloudbreak.retry.RetryUtil;
+
+import reactor.bus.Event;
+import reactor.fn.Consumer;
+
+@Component
+public class ResourceBatchPersistenceHandler implements Consumer<Event<ResourceBatchNotification>> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResourceBatchPersistenceHandler.class);
+
+    @Inject
+    private Persister<ResourceNotification> cloudResourcePersisterService;
+
+    @Inject
+    private Optional<BatchPersister<ResourceBatchNotification>> cloudResourceBatchPersisterService;
+
+    @Override
+    public void accept(Event<ResourceBatchNotification> event) {
+        ResourceBatchNotification notification = event.getData();
+        LOGGER.debug("Resource batch notification event received with {} resources, type: {}", notification.getCloudResources().size(),
+                notification.getType());
+
+        RetryUtil.withDefaultRetries()
+                .retry(() -> {
+                    switch (notification.getType()) {
+                        case CREATE:
+                            cloudResourceBatchPersisterService.ifPresentOrElse(persister -> persister.persistAll(notification),
+                                    () -> persistOneByOne(notification, cloudResourcePersisterService::persist));
+                            break;
+                        case UPDATE:
+                            cloudResourceBatchPersisterService.ifPresentOrElse(persister -> persister.updateAll(notification),
+                                    () -> persistOneByOne(notification, cloudResourcePersisterService::update));
+                            break;
+                        default:
+                            throw new IllegalArgumentException("Unsupported batch notification type: " + notification.getType());
+                    }
+                    notification.getPromise().onNext(new ResourcePersisted());
+                })
+                .checkIfRecoverable(e -> e instanceof TransientDataAccessException)
+                .ifNotRecoverable(e -> notification.getPromise().onError(e))
+                .run();
+    }
+
+    private void persistOneByOne(ResourceBatchNotification notification, Function<ResourceNotification, ResourceNotification> persistFunction) {
+        for (CloudResource cloudResource : notification.getCloudResources()) {
+            persistFunction.apply(new ResourceNotification(cloudResource, notification.getCloudContext(), notification.getType()));
+        }
+    }
+}
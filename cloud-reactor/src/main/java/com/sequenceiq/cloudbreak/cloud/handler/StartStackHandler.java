@@ -37,6 +37,11 @@ public class StartStackHandler implements CloudPlatformEventHandler<StartInstanc
         return StartInstancesRequest.class;
     }
 
+    @Override
+    public boolean blocking() {
+        return true;
+    }
+
     @Override
     public void accept(Event<StartInstancesRequest> event) {
         LOGGER.debug("Received event: {}", event);
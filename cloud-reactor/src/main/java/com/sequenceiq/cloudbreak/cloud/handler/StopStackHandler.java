@@ -37,6 +37,11 @@ public class StopStackHandler implements CloudPlatformEventHandler<StopInstances
         return StopInstancesRequest.class;
     }
 
+    @Override
+    public boolean blocking() {
+        return true;
+    }
+
     @Override
     public void accept(Event<StopInstancesRequest> event) {
         LOGGER.debug("Received event: {}", event);
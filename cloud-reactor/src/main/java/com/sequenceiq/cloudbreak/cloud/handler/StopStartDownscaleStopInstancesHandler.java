@@ -40,6 +40,11 @@ public class StopStartDownscaleStopInstancesHandler implements CloudPlatformEven
         return StopStartDownscaleStopInstancesRequest.class;
     }
 
+    @Override
+    public boolean blocking() {
+        return true;
+    }
+
     @Override
     public void accept(Event<StopStartDownscaleStopInstancesRequest> event) {
         StopStartDownscaleStopInstancesRequest request = event.getData();
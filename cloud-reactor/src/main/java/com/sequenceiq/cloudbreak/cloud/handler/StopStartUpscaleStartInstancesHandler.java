@@ -44,6 +44,11 @@ public class StopStartUpscaleStartInstancesHandler implements CloudPlatformEvent
         return StopStartUpscaleStartInstancesRequest.class;
     }
 
+    @Override
+    public boolean blocking() {
+        return true;
+    }
+
     @Override
     public void accept(Event<StopStartUpscaleStartInstancesRequest> event) {
         StopStartUpscaleStartInstancesRequest request = event.getData();
@@ -51,6 +51,11 @@ public class TerminateStackHandler implements CloudPlatformEventHandler<Terminat
         return TerminateStackRequest.class;
     }
 
+    @Override
+    public boolean blocking() {
+        return true;
+    }
+
     @Override
     public void accept(Event<TerminateStackRequest> terminateStackRequestEvent) {
         LOGGER.debug("Received event: {}", terminateStackRequestEvent);
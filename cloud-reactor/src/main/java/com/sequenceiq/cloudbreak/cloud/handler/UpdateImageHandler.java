@@ -37,6 +37,11 @@ public class UpdateImageHandler implements CloudPlatformEventHandler<UpdateImage
         return UpdateImageRequest.class;
     }
 
+    @Override
+    public boolean blocking() {
+        return true;
+    }
+
     @Override
     public void accept(Event<UpdateImageRequest> event) {
         LOGGER.debug("Received event: {}", event);
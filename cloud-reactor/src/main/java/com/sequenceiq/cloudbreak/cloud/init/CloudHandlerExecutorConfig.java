@@ -0,0 +1,51 @@
+package com.sequenceiq.cloudbreak.cloud.init;
+
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import javax.inject.Inject;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.sequenceiq.cloudbreak.concurrent.ActorCrnTaskDecorator;
+import com.sequenceiq.cloudbreak.concurrent.CompositeTaskDecorator;
+import com.sequenceiq.cloudbreak.concurrent.TracingAndMdcCopyingTaskDecorator;
+
+import io.opentracing.Tracer;
+
+@Configuration
+public class CloudHandlerExecutorConfig {
+
+    @Value("${cb.cloud.handler.offload.threadpool.core.size:40}")
+    private int corePoolSize;
+
+    @Value("${cb.cloud.handler.offload.threadpool.max.size:400}")
+    private int maxPoolSize;
+
+    /**
+     * The pool only grows above the core size when the queue is full, and the handlers run on the event bus thread only when the pool is at its
+     * max size, so the default hands the handlers over to the pool threads directly.
+     */
+    @Value("${cb.cloud.handler.offload.threadpool.queue.size:0}")
+    private int queueCapacity;
+
+    @Inject
+    private Tracer tracer;
+
+    @Bean
+    public AsyncTaskExecutor cloudHandlerExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("cloudHandlerExecutor-");
+        executor.setTaskDecorator(new CompositeTaskDecorator(List.of(new TracingAndMdcCopyingTaskDecorator(tracer), new ActorCrnTaskDecorator())));
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -9,13 +9,17 @@ import java.util.Map;
 import javax.annotation.PostConstruct;
 import javax.annotation.Resource;
 import javax.inject.Inject;
+import javax.inject.Named;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Component;
 
 import com.sequenceiq.cloudbreak.cloud.event.CloudPlatformRequest;
 import com.sequenceiq.cloudbreak.cloud.handler.CloudPlatformEventHandler;
+import com.sequenceiq.cloudbreak.cloud.handler.OffloadingCloudPlatformEventHandler;
 
 import reactor.bus.EventBus;
 
@@ -29,6 +33,13 @@ public class CloudPlatformInitializer {
     @Inject
     private EventBus eventBus;
 
+    @Inject
+    @Named("cloudHandlerExecutor")
+    private AsyncTaskExecutor cloudHandlerExecutor;
+
+    @Value("${cb.cloud.handler.offload.enabled:false}")
+    private boolean offloadBlockingHandlers;
+
     @PostConstruct
     public void init() {
         validateSelectors();
@@ -36,8 +47,16 @@ public class CloudPlatformInitializer {
         for (CloudPlatformEventHandler<?> handler : handlers) {
             String selector = CloudPlatformRequest.selector(handler.type());
             LOGGER.debug("Registering handler [{}] for selector [{}]", handler.getClass(), selector);
-            eventBus.on($(selector), handler);
+            eventBus.on($(selector), offloadIfBlocking(handler));
+        }
+    }
+
+    private <T> CloudPlatformEventHandler<T> offloadIfBlocking(CloudPlatformEventHandler<T> handler) {
+        if (offloadBlockingHandlers && handler.blocking()) {
+            LOGGER.debug("Handler [{}] will be executed on the offload executor", handler.getClass());
+            return new OffloadingCloudPlatformEventHandler<>(handler, cloudHandlerExecutor, eventBus.getUncaughtErrorHandler());
         }
+        return handler;
     }
 
     private void validateSelectors() {
@@ -15,6 +15,7 @@ import org.springframework.stereotype.Component;
 
 import com.sequenceiq.cloudbreak.cloud.context.CloudContext;
 import com.sequenceiq.cloudbreak.cloud.event.CloudPlatformRequest;
+import com.sequenceiq.cloudbreak.cloud.notification.model.ResourceBatchNotification;
 import com.sequenceiq.cloudbreak.cloud.notification.model.ResourceNotification;
 import com.sequenceiq.cloudbreak.logger.LoggerContextKey;
 import com.sequenceiq.cloudbreak.logger.MDCBuilder;
@@ -35,6 +36,10 @@ public class LogContextAspects {
     public void interceptResourcePersistenceHandlerAcceptMethod() {
     }
 
+    @Pointcut("execution(public * com.sequenceiq.cloudbreak.cloud.handler.ResourceBatchPersistenceHandler.accept(..))")
+    public void interceptResourceBatchPersistenceHandlerAcceptMethod() {
+    }
+
     @Before("com.sequenceiq.cloudbreak.cloud.logger.LogContextAspects.interceptCloudPlatformEventHandlersAcceptMethod()")
     public void buildLogContextForCloudPlatformEventHandler(JoinPoint joinPoint) {
         Event<CloudPlatformRequest<?>> event = (Event<CloudPlatformRequest<?>>) joinPoint.getArgs()[0];
@@ -52,6 +57,15 @@ public class LogContextAspects {
         LOGGER.debug("A Resource persistence handler's 'accept' method has been intercepted: {}, MDC logger context is built.", joinPoint.toShortString());
     }
 
+    @Before("com.sequenceiq.cloudbreak.cloud.logger.LogContextAspects.interceptResourceBatchPersistenceHandlerAcceptMethod()")
+    public void buildLogContextForBatchPersistenceHandler(JoinPoint joinPoint) {
+        Event<ResourceBatchNotification> event = (Event<ResourceBatchNotification>) joinPoint.getArgs()[0];
+        CloudContext cloudContext = event.getData().getCloudContext();
+        buildMdcContext(cloudContext, event);
+        LOGGER.debug("A Resource batch persistence handler's 'accept' method has been intercepted: {}, MDC logger context is built.",
+                joinPoint.toShortString());
+    }
+
     private void buildMdcContext(CloudContext cloudContext, Event<?> event) {
         Map<String, String> eventMdcContext = event.getHeaders().get(MDCBuilder.MDC_CONTEXT_ID);
         if (cloudContext != null) {
@@ -1,5 +1,8 @@
 package com.sequenceiq.cloudbreak.cloud.notification;
 
+import java.util.ArrayList;
+import java.util.Collection;
+
 import javax.inject.Inject;
 
 import org.slf4j.Logger;
@@ -8,6 +11,7 @@ import org.springframework.stereotype.Component;
 
 import com.sequenceiq.cloudbreak.cloud.context.CloudContext;
 import com.sequenceiq.cloudbreak.cloud.model.CloudResource;
+import com.sequenceiq.cloudbreak.cloud.notification.model.ResourceBatchNotification;
 import com.sequenceiq.cloudbreak.cloud.notification.model.ResourceNotification;
 import com.sequenceiq.cloudbreak.cloud.notification.model.ResourceNotificationType;
 import com.sequenceiq.cloudbreak.cloud.notification.model.ResourcePersisted;
@@ -34,6 +38,11 @@ public class ResourceNotifier implements PersistenceNotifier {
         return notification.getResult();
     }
 
+    @Override
+    public ResourcePersisted notifyAllocations(Collection<CloudResource> cloudResources, CloudContext cloudContext) {
+        return notifyBatch(cloudResources, cloudContext, ResourceNotificationType.CREATE);
+    }
+
     @Override
     public ResourcePersisted notifyUpdate(CloudResource cloudResource, CloudContext cloudContext) {
         ResourceNotification notification = new ResourceNotification(cloudResource, cloudContext, ResourceNotificationType.UPDATE);
@@ -42,6 +51,11 @@ public class ResourceNotifier implements PersistenceNotifier {
         return notification.getResult();
     }
 
+    @Override
+    public ResourcePersisted notifyUpdates(Collection<CloudResource> cloudResources, CloudContext cloudContext) {
+        return notifyBatch(cloudResources, cloudContext, ResourceNotificationType.UPDATE);
+    }
+
     @Override
     public ResourcePersisted notifyDeletion(CloudResource cloudResource, CloudContext cloudContext) {
         ResourceNotification notification = new ResourceNotification(cloudResource, cloudContext, ResourceNotificationType.DELETE);
@@ -49,4 +63,14 @@ public class ResourceNotifier implements PersistenceNotifier {
         eventBus.notify("resource-persisted", eventFactory.createEvent(notification));
         return notification.getResult();
     }
+
+    private ResourcePersisted notifyBatch(Collection<CloudResource> cloudResources, CloudContext cloudContext, ResourceNotificationType type) {
+        if (cloudResources.isEmpty()) {
+            return new ResourcePersisted();
+        }
+        ResourceBatchNotification notification = new ResourceBatchNotification(new ArrayList<>(cloudResources), cloudContext, type);
+        LOGGER.debug("Sending resource batch notification with {} resources, type: {}, context: {}", cloudResources.size(), type, cloudContext);
+        eventBus.notify("resources-persisted", eventFactory.createEvent(notification));
+        return notification.getResult();
+    }
 }
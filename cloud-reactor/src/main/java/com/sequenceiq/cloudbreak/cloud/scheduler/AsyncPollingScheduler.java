@@ -0,0 +1,155 @@
+package com.sequenceiq.cloudbreak.cloud.scheduler;
+
+import static com.sequenceiq.cloudbreak.cloud.scheduler.SyncPollingScheduler.FAILURE_TOLERANT_ATTEMPT;
+import static com.sequenceiq.cloudbreak.cloud.scheduler.SyncPollingScheduler.MAX_POLLING_ATTEMPT;
+import static com.sequenceiq.cloudbreak.cloud.scheduler.SyncPollingScheduler.POLLING_INTERVAL;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.sequenceiq.cloudbreak.cloud.task.PollTask;
+import com.sequenceiq.cloudbreak.logger.MDCBuilder;
+import com.sequenceiq.cloudbreak.logger.concurrent.MDCCleanerThreadPoolExecutor;
+
+import reactor.core.support.NamedDaemonThreadFactory;
+import reactor.fn.timer.Timer;
+
+/**
+ * Polling scheduler which keeps all the outstanding {@link PollTask}s on the shared hashed wheel {@link Timer} instead of a sleeping thread per task.
+ * The tasks are executed on a small worker pool when their period elapses, and the returned future is completed when the task finishes,
+ * times out or gets cancelled. When the worker queue is full, the attempt is postponed by the polling interval without being counted, so
+ * a saturated pool slows the polling down instead of failing the tasks.
+ */
+@Component
+public class AsyncPollingScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncPollingScheduler.class);
+
+    @Value("${cb.polling.async.worker.size:10}")
+    private int workerPoolSize;
+
+    @Value("${cb.polling.async.worker.queue.size:1000}")
+    private int workerQueueSize;
+
+    @Inject
+    private Timer timer;
+
+    private MDCCleanerThreadPoolExecutor workerPool;
+
+    private final AtomicInteger outstandingTasks = new AtomicInteger();
+
+    @PostConstruct
+    public void init() {
+        workerPool = new MDCCleanerThreadPoolExecutor(workerPoolSize, workerPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(workerQueueSize), new NamedDaemonThreadFactory("asyncPollingWorker"), (r, executor) -> {
+                    throw new RejectedExecutionException("Task has been rejected from 'asyncPollingWorker' threadpool. Executor state: " + executor);
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdownNow();
+    }
+
+    public <T> CompletableFuture<T> schedule(PollTask<T> task) {
+        return schedule(task, POLLING_INTERVAL, MAX_POLLING_ATTEMPT, FAILURE_TOLERANT_ATTEMPT);
+    }
+
+    public <T> CompletableFuture<T> schedule(PollTask<T> task, int interval, int maxAttempt, int maxFailureTolerant) {
+        PollingState<T> state = new PollingState<>(task, interval, maxAttempt, maxFailureTolerant, MDCBuilder.getMdcContextMap());
+        outstandingTasks.incrementAndGet();
+        state.future.whenComplete((result, throwable) -> outstandingTasks.decrementAndGet());
+        submitAttempt(state);
+        return state.future;
+    }
+
+    public int getOutstandingTaskCount() {
+        return outstandingTasks.get();
+    }
+
+    private <T> void attempt(PollingState<T> state) {
+        if (state.future.isDone()) {
+            return;
+        }
+        MDCBuilder.buildMdcContextFromMap(state.mdcContext);
+        PollTask<T> task = state.task;
+        if (task.cancelled()) {
+            state.future.completeExceptionally(new CancellationException("Task was cancelled."));
+            return;
+        }
+        try {
+            T callResult = task.call();
+            if (task.completed(callResult)) {
+                state.future.complete(callResult);
+                return;
+            }
+        } catch (Exception ex) {
+            if (state.failures.incrementAndGet() >= state.maxFailureTolerant) {
+                state.future.completeExceptionally(ex);
+                return;
+            }
+        }
+        if (state.attempts.incrementAndGet() >= state.maxAttempt) {
+            long duration = (long) state.interval * state.maxAttempt;
+            state.future.completeExceptionally(new TimeoutException(String.format("Task (%s) did not finish within %d seconds",
+                    task.getClass().getSimpleName(), TimeUnit.MILLISECONDS.toSeconds(duration))));
+        } else {
+            timer.submit(now -> submitAttempt(state), state.interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private <T> void submitAttempt(PollingState<T> state) {
+        try {
+            workerPool.execute(() -> attempt(state));
+        } catch (RejectedExecutionException e) {
+            if (workerPool.isShutdown()) {
+                LOGGER.error("Polling attempt of {} has been rejected", state.task.getClass().getSimpleName(), e);
+                state.future.completeExceptionally(e);
+            } else {
+                LOGGER.warn("Worker queue is full, postponing the polling attempt of {} by {}ms", state.task.getClass().getSimpleName(), state.interval);
+                timer.submit(now -> submitAttempt(state), state.interval, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private static class PollingState<T> {
+
+        private final PollTask<T> task;
+
+        private final int interval;
+
+        private final int maxAttempt;
+
+        private final int maxFailureTolerant;
+
+        private final Map<String, String> mdcContext;
+
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        private final AtomicInteger failures = new AtomicInteger();
+
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        PollingState(PollTask<T> task, int interval, int maxAttempt, int maxFailureTolerant, Map<String, String> mdcContext) {
+            this.task = task;
+            this.interval = interval;
+            this.maxAttempt = maxAttempt;
+            this.maxFailureTolerant = maxFailureTolerant;
+            this.mdcContext = mdcContext;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.sequenceiq.cloudbreak.cloud.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sequenceiq.cloudbreak.cloud.event.CloudPlatformRequest;
+
+import reactor.bus.Event;
+import reactor.core.support.Exceptions;
+
+@ExtendWith(MockitoExtension.class)
+class OffloadingCloudPlatformEventHandlerTest {
+
+    @Mock
+    private CloudPlatformEventHandler<String> delegate;
+
+    @Mock
+    private CloudPlatformEventHandler<CloudPlatformRequest<String>> requestDelegate;
+
+    private final List<Runnable> submittedTasks = new ArrayList<>();
+
+    private final List<Throwable> errors = new ArrayList<>();
+
+    private OffloadingCloudPlatformEventHandler<String> underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new OffloadingCloudPlatformEventHandler<>(delegate, submittedTasks::add, errors::add);
+    }
+
+    @Test
+    void testAcceptIsExecutedOnTheExecutor() {
+        Event<String> event = Event.wrap("request");
+
+        underTest.accept(event);
+
+        verify(delegate, never()).accept(event);
+        assertEquals(1, submittedTasks.size());
+        submittedTasks.get(0).run();
+        verify(delegate).accept(event);
+        assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    void testExceptionIsPassedToErrorHandlerWithTheEvent() {
+        Event<String> event = Event.wrap("request");
+        IllegalStateException failure = new IllegalStateException("provider error");
+        doThrow(failure).when(delegate).accept(any());
+
+        underTest.accept(event);
+        submittedTasks.get(0).run();
+
+        assertEquals(1, errors.size());
+        assertSame(failure, errors.get(0));
+        assertTrue(failure.getCause() instanceof Exceptions.ValueCause);
+        assertSame(event, ((Exceptions.ValueCause) failure.getCause()).getValue());
+    }
+
+    @Test
+    void testExceptionCompletesTheResultOfTheRequest() {
+        CloudPlatformRequest<String> request = new CloudPlatformRequest<>(null, null);
+        doThrow(new IllegalStateException("provider error")).when(requestDelegate).accept(any());
+        OffloadingCloudPlatformEventHandler<CloudPlatformRequest<String>> requestHandler =
+                new OffloadingCloudPlatformEventHandler<>(requestDelegate, submittedTasks::add, errors::add);
+
+        requestHandler.accept(Event.wrap(request));
+        submittedTasks.get(0).run();
+
+        assertThrows(RuntimeException.class, () -> request.await(1L, TimeUnit.SECONDS));
+        assertEquals(1, errors.size());
+    }
+
+    @Test
+    void testTypeAndBlockingAreDelegated() {
+        when(delegate.type()).thenReturn(String.class);
+        when(delegate.blocking()).thenReturn(true);
+
+        assertEquals(String.class, underTest.type());
+        assertTrue(underTest.blocking());
+    }
+}
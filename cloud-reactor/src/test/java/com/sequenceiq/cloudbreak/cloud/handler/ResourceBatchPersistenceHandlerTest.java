@@ -0,0 +1,77 @@
+package com.sequenceiq.cloudbreak.cloud.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sequenceiq.cloudbreak.cloud.context.CloudContext;
+import com.sequenceiq.cloudbreak.cloud.model.CloudResource;
+import com.sequenceiq.cloudbreak.cloud.notification.model.ResourceBatchNotification;
+import com.sequenceiq.cloudbreak.cloud.notification.model.ResourceNotification;
+import com.sequenceiq.cloudbreak.cloud.notification.model.ResourceNotificationType;
+import com.sequenceiq.cloudbreak.cloud.service.BatchPersister;
+import com.sequenceiq.cloudbreak.cloud.service.Persister;
+import com.sequenceiq.common.api.type.CommonStatus;
+import com.sequenceiq.common.api.type.ResourceType;
+
+import reactor.bus.Event;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceBatchPersistenceHandlerTest {
+
+    @InjectMocks
+    private ResourceBatchPersistenceHandler underTest;
+
+    @Mock
+    private Persister<ResourceNotification> cloudResourcePersisterService;
+
+    @Mock
+    private BatchPersister<ResourceBatchNotification> batchPersister;
+
+    private final CloudContext cloudContext = CloudContext.Builder.builder().withId(1L).build();
+
+    @Test
+    void testAllocationsArePersistedWithBatchPersister() {
+        ReflectionTestUtils.setField(underTest, "cloudResourceBatchPersisterService", Optional.of(batchPersister));
+        ResourceBatchNotification notification = new ResourceBatchNotification(List.of(resource("vm-1"), resource("vm-2")), cloudContext,
+                ResourceNotificationType.CREATE);
+
+        underTest.accept(Event.wrap(notification));
+
+        verify(batchPersister).persistAll(notification);
+        verify(cloudResourcePersisterService, never()).persist(any());
+        assertNotNull(notification.getResult());
+    }
+
+    @Test
+    void testUpdatesArePersistedOneByOneWithoutBatchPersister() {
+        ReflectionTestUtils.setField(underTest, "cloudResourceBatchPersisterService", Optional.empty());
+        ResourceBatchNotification notification = new ResourceBatchNotification(List.of(resource("vm-1"), resource("vm-2")), cloudContext,
+                ResourceNotificationType.UPDATE);
+
+        underTest.accept(Event.wrap(notification));
+
+        ArgumentCaptor<ResourceNotification> captor = ArgumentCaptor.forClass(ResourceNotification.class);
+        verify(cloudResourcePersisterService, times(2)).update(captor.capture());
+        assertEquals("vm-2", captor.getAllValues().get(1).getCloudResource().getName());
+        assertNotNull(notification.getResult());
+    }
+
+    private CloudResource resource(String name) {
+        return CloudResource.builder().type(ResourceType.AZURE_INSTANCE).status(CommonStatus.CREATED).name(name).build();
+    }
+}
@@ -33,6 +33,7 @@ import com.sequenceiq.cloudbreak.cloud.MetadataCollector;
 import com.sequenceiq.cloudbreak.cloud.ResourceConnector;
 import com.sequenceiq.cloudbreak.cloud.context.AuthenticatedContext;
 import com.sequenceiq.cloudbreak.cloud.handler.ParameterGenerator;
+import com.sequenceiq.cloudbreak.cloud.init.CloudHandlerExecutorConfig;
 import com.sequenceiq.cloudbreak.cloud.init.CloudPlatformConnectors;
 import com.sequenceiq.cloudbreak.cloud.init.CloudPlatformInitializer;
 import com.sequenceiq.cloudbreak.cloud.model.CloudCredentialStatus;
@@ -68,7 +69,7 @@ import reactor.Environment;
 
 @MockBeans({@MockBean(ApplicationFlowInformation.class), @MockBean(FlowLogDBService.class), @MockBean(FlowRegister.class)})
 @Configuration
-@Import({ParameterGenerator.class, EventBusConfig.class, CloudPlatformInitializer.class})
+@Import({ParameterGenerator.class, EventBusConfig.class, CloudHandlerExecutorConfig.class, CloudPlatformInitializer.class})
 @PropertySource("classpath:application.properties")
 public class TestApplicationContext {
 
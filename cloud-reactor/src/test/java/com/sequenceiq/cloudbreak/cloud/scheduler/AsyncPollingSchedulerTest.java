@@ -0,0 +1,247 @@
+package com.sequenceiq.cloudbreak.cloud.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sequenceiq.cloudbreak.cloud.context.AuthenticatedContext;
+import com.sequenceiq.cloudbreak.cloud.task.PollTask;
+
+import reactor.fn.Consumer;
+import reactor.fn.timer.Timer;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncPollingSchedulerTest {
+
+    private static final int WORKER_POOL_SIZE = 2;
+
+    private static final int INTERVAL = 1;
+
+    private static final int MAX_ATTEMPT = 5;
+
+    private static final int MAX_FAILURE_TOLERANT = 2;
+
+    private static final int SIMULATED_TASK_COUNT = 10000;
+
+    private static final long TIMEOUT_SECONDS = 30L;
+
+    @InjectMocks
+    private AsyncPollingScheduler underTest;
+
+    @Mock
+    private Timer timer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(underTest, "workerPoolSize", WORKER_POOL_SIZE);
+        ReflectionTestUtils.setField(underTest, "workerQueueSize", SIMULATED_TASK_COUNT);
+        underTest.init();
+        lenient().when(timer.submit(any(Consumer.class), anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> {
+            Consumer<Long> consumer = invocation.getArgument(0);
+            consumer.accept(System.currentTimeMillis());
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.shutdown();
+    }
+
+    @Test
+    void testTaskCompletesAfterSomeAttempts() throws Exception {
+        CompletableFuture<Integer> future = underTest.schedule(new CountingPollTask(3, false), INTERVAL, MAX_ATTEMPT, MAX_FAILURE_TOLERANT);
+
+        assertEquals(3, future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testTaskTimesOut() {
+        CompletableFuture<Integer> future = underTest.schedule(new CountingPollTask(Integer.MAX_VALUE, false), INTERVAL, MAX_ATTEMPT,
+                MAX_FAILURE_TOLERANT);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof TimeoutException);
+    }
+
+    @Test
+    void testCancelledTask() {
+        CompletableFuture<Integer> future = underTest.schedule(new CountingPollTask(3, true), INTERVAL, MAX_ATTEMPT, MAX_FAILURE_TOLERANT);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof CancellationException);
+    }
+
+    @Test
+    void testFailingTaskStopsAfterToleratedFailures() {
+        CompletableFuture<Integer> future = underTest.schedule(new FailingPollTask(), INTERVAL, MAX_ATTEMPT, MAX_FAILURE_TOLERANT);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals("provider error", exception.getCause().getMessage());
+    }
+
+    @Test
+    void testManySimulatedPollTasksOnSmallWorkerPool() throws Exception {
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < SIMULATED_TASK_COUNT; i++) {
+            futures.add(underTest.schedule(new CountingPollTask(3, false), INTERVAL, MAX_ATTEMPT, MAX_FAILURE_TOLERANT));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        for (CompletableFuture<Integer> future : futures) {
+            assertEquals(3, future.get());
+        }
+    }
+
+    @Test
+    void testRejectedAttemptIsPostponedUntilTheWorkerQueueHasRoom() throws Exception {
+        Timer postponingTimer = mock(Timer.class);
+        List<Consumer<Long>> postponedAttempts = new ArrayList<>();
+        when(postponingTimer.submit(any(Consumer.class), anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> {
+            postponedAttempts.add(invocation.getArgument(0));
+            return null;
+        });
+        AsyncPollingScheduler scheduler = new AsyncPollingScheduler();
+        ReflectionTestUtils.setField(scheduler, "timer", postponingTimer);
+        ReflectionTestUtils.setField(scheduler, "workerPoolSize", 1);
+        ReflectionTestUtils.setField(scheduler, "workerQueueSize", 1);
+        scheduler.init();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<Integer> running = scheduler.schedule(new BlockingPollTask(started, release), INTERVAL, MAX_ATTEMPT, MAX_FAILURE_TOLERANT);
+            assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            CompletableFuture<Integer> queued = scheduler.schedule(new CountingPollTask(1, false), INTERVAL, MAX_ATTEMPT, MAX_FAILURE_TOLERANT);
+
+            CompletableFuture<Integer> postponed = scheduler.schedule(new CountingPollTask(1, false), INTERVAL, MAX_ATTEMPT, MAX_FAILURE_TOLERANT);
+
+            assertFalse(postponed.isDone());
+            assertEquals(1, postponedAttempts.size());
+            release.countDown();
+            assertEquals(1, running.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertEquals(1, queued.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            postponedAttempts.get(0).accept(System.currentTimeMillis());
+            assertEquals(1, postponed.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testAttemptRejectedAfterShutdownFailsTheFuture() {
+        underTest.shutdown();
+
+        CompletableFuture<Integer> future = underTest.schedule(new CountingPollTask(1, false), INTERVAL, MAX_ATTEMPT, MAX_FAILURE_TOLERANT);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof RejectedExecutionException);
+    }
+
+    private static class BlockingPollTask extends CountingPollTask {
+
+        private final CountDownLatch started;
+
+        private final CountDownLatch release;
+
+        BlockingPollTask(CountDownLatch started, CountDownLatch release) {
+            super(1, false);
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public Integer call() {
+            started.countDown();
+            try {
+                release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.call();
+        }
+    }
+
+    private static class CountingPollTask implements PollTask<Integer> {
+
+        private final int completeAfter;
+
+        private final boolean cancelled;
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        CountingPollTask(int completeAfter, boolean cancelled) {
+            this.completeAfter = completeAfter;
+            this.cancelled = cancelled;
+        }
+
+        @Override
+        public AuthenticatedContext getAuthenticatedContext() {
+            return null;
+        }
+
+        @Override
+        public Integer call() {
+            return calls.incrementAndGet();
+        }
+
+        @Override
+        public boolean completed(Integer result) {
+            return result >= completeAfter;
+        }
+
+        @Override
+        public boolean cancelled() {
+            return cancelled;
+        }
+    }
+
+    private static class FailingPollTask implements PollTask<Integer> {
+
+        @Override
+        public AuthenticatedContext getAuthenticatedContext() {
+            return null;
+        }
+
+        @Override
+        public Integer call() {
+            throw new IllegalStateException("provider error");
+        }
+
+        @Override
+        public boolean completed(Integer result) {
+            return false;
+        }
+
+        @Override
+        public boolean cancelled() {
+            return false;
+        }
+    }
+}
@@ -8,9 +8,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -27,6 +29,7 @@ import org.springframework.stereotype.Service;
 import com.google.common.collect.Ordering;
 import com.google.common.primitives.Ints;
 import com.sequenceiq.cloudbreak.cloud.context.AuthenticatedContext;
+import com.sequenceiq.cloudbreak.cloud.exception.CloudConnectorException;
 import com.sequenceiq.cloudbreak.cloud.model.CloudInstance;
 import com.sequenceiq.cloudbreak.cloud.model.CloudResource;
 import com.sequenceiq.cloudbreak.cloud.model.CloudResourceStatus;
@@ -36,6 +39,7 @@ import com.sequenceiq.cloudbreak.cloud.model.Group;
 import com.sequenceiq.cloudbreak.cloud.model.InstanceStatus;
 import com.sequenceiq.cloudbreak.cloud.model.ResourceStatus;
 import com.sequenceiq.cloudbreak.cloud.model.Variant;
+import com.sequenceiq.cloudbreak.cloud.scheduler.AsyncPollingScheduler;
 import com.sequenceiq.cloudbreak.cloud.scheduler.CancellationException;
 import com.sequenceiq.cloudbreak.cloud.scheduler.PollGroup;
 import com.sequenceiq.cloudbreak.cloud.scheduler.SyncPollingScheduler;
@@ -60,6 +64,9 @@ public class ComputeResourceService {
     @Value("${cb.gcp.create.batch.size}")
     private Integer createBatchSize;
 
+    @Value("${cb.polling.async.enabled:false}")
+    private boolean asyncPollingEnabled;
+
     @Inject
     private AsyncTaskExecutor resourceBuilderExecutor;
 
@@ -75,6 +82,9 @@ public class ComputeResourceService {
     @Inject
     private SyncPollingScheduler<List<CloudResourceStatus>> syncPollingScheduler;
 
+    @Inject
+    private AsyncPollingScheduler asyncPollingScheduler;
+
     @Inject
     private ResourcePollTaskFactory resourcePollTaskFactory;
 
@@ -317,25 +327,28 @@ public class ComputeResourceService {
                     }
                     ComputeResourceBuilder<ResourceBuilderContext> builder = builderOpt.get();
                     LOGGER.debug("Determined resource builder for instances: {}", builder.resourceType());
+                    Map<CloudResourceStatus, CompletableFuture<List<CloudResourceStatus>>> pollings = new LinkedHashMap<>();
                     for (CloudResourceStatus instanceResourceStatus : instanceResourceStatuses) {
                         PollGroup pollGroup = InMemoryStateStore.getStack(auth.getCloudContext().getId());
                         if (pollGroup == null || CANCELLED.equals(pollGroup)) {
+                            pollings.values().forEach(polling -> polling.cancel(true));
                             throw new CancellationException(format("Building of %s has been cancelled", instanceResourceStatus));
                         }
                         CloudResource instance = instanceResourceStatus.getCloudResource();
                         PollTask<List<CloudResourceStatus>> pollTask = resourcePollTaskFactory
                                 .newPollResourceTask(builder, auth, List.of(instance), ctx, true);
-                        try {
-                            List<CloudResourceStatus> statuses = syncPollingScheduler.schedule(pollTask);
-                            instanceResourceStatus.setStatus(statuses.get(0).getStatus());
-                        } catch (Exception e) {
-                            LOGGER.debug("Failure during polling the instance status of {}", instanceResourceStatus, e);
-                            cloudResourceStatuses.stream().filter(crs -> crs.getPrivateId().equals(instanceResourceStatus.getPrivateId())).forEach(crs -> {
-                                crs.setStatus(ResourceStatus.FAILED);
-                                crs.setStatusReason(e.getMessage());
-                            });
+                        if (asyncPollingEnabled) {
+                            pollings.put(instanceResourceStatus, asyncPollingScheduler.schedule(pollTask));
+                        } else {
+                            try {
+                                List<CloudResourceStatus> statuses = syncPollingScheduler.schedule(pollTask);
+                                instanceResourceStatus.setStatus(statuses.get(0).getStatus());
+                            } catch (Exception e) {
+                                setFailed(cloudResourceStatuses, instanceResourceStatus, e);
+                            }
                         }
                     }
+                    waitForPollings(cloudResourceStatuses, pollings);
                     result.addAll(cloudResourceStatuses);
                 } else {
                     result.addAll(cloudResourceStatuses);
@@ -345,6 +358,34 @@ public class ComputeResourceService {
             return result;
         }
 
+        private void waitForPollings(List<CloudResourceStatus> cloudResourceStatuses,
+                Map<CloudResourceStatus, CompletableFuture<List<CloudResourceStatus>>> pollings) {
+            if (!pollings.isEmpty()) {
+                LOGGER.debug("Wait for the asynchronous polling of {} instances", pollings.size());
+            }
+            for (Map.Entry<CloudResourceStatus, CompletableFuture<List<CloudResourceStatus>>> polling : pollings.entrySet()) {
+                CloudResourceStatus instanceResourceStatus = polling.getKey();
+                try {
+                    List<CloudResourceStatus> statuses = polling.getValue().get();
+                    instanceResourceStatus.setStatus(statuses.get(0).getStatus());
+                } catch (InterruptedException e) {
+                    pollings.values().forEach(future -> future.cancel(true));
+                    Thread.currentThread().interrupt();
+                    throw new CloudConnectorException("Interrupted while polling the instance statuses", e);
+                } catch (ExecutionException e) {
+                    setFailed(cloudResourceStatuses, instanceResourceStatus, e.getCause());
+                }
+            }
+        }
+
+        private void setFailed(List<CloudResourceStatus> cloudResourceStatuses, CloudResourceStatus instanceResourceStatus, Throwable e) {
+            LOGGER.debug("Failure during polling the instance status of {}", instanceResourceStatus, e);
+            cloudResourceStatuses.stream().filter(crs -> crs.getPrivateId().equals(instanceResourceStatus.getPrivateId())).forEach(crs -> {
+                crs.setStatus(ResourceStatus.FAILED);
+                crs.setStatusReason(e.getMessage());
+            });
+        }
+
         private List<CloudResourceStatus> filterResourceStatuses(List<CloudResourceStatus> cloudResourceStatuses, ResourceStatus resourceStatus) {
             return cloudResourceStatuses.stream().filter(rs -> resourceStatus.equals(rs.getStatus())).collect(Collectors.toList());
         }
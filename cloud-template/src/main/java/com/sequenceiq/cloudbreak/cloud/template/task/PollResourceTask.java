@@ -2,6 +2,8 @@ package com.sequenceiq.cloudbreak.cloud.template.task;
 
 import java.util.List;
 
+import javax.inject.Inject;
+
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
@@ -23,6 +25,9 @@ public class PollResourceTask extends AbstractPollTask<List<CloudResourceStatus>
 
     private final ResourceBuilderContext context;
 
+    @Inject
+    private ResourcePollCoalescer resourcePollCoalescer;
+
     public PollResourceTask(AuthenticatedContext authenticatedContext, ResourceChecker<ResourceBuilderContext> checker,
             List<CloudResource> cloudResources, ResourceBuilderContext context, boolean cancellable) {
         super(authenticatedContext, cancellable);
@@ -33,7 +38,7 @@ public class PollResourceTask extends AbstractPollTask<List<CloudResourceStatus>
 
     @Override
     protected List<CloudResourceStatus> doCall() {
-        return checker.checkResources(context, getAuthenticatedContext(), cloudResources);
+        return resourcePollCoalescer.checkResources(checker, context, getAuthenticatedContext(), cloudResources);
     }
 
     @Override
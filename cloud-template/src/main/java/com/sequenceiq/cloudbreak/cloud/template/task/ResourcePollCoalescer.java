@@ -0,0 +1,168 @@
+package com.sequenceiq.cloudbreak.cloud.template.task;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.sequenceiq.cloudbreak.cloud.context.AuthenticatedContext;
+import com.sequenceiq.cloudbreak.cloud.exception.CloudConnectorException;
+import com.sequenceiq.cloudbreak.cloud.model.CloudResource;
+import com.sequenceiq.cloudbreak.cloud.model.CloudResourceStatus;
+import com.sequenceiq.cloudbreak.cloud.template.ResourceChecker;
+import com.sequenceiq.cloudbreak.cloud.template.context.ResourceBuilderContext;
+
+/**
+ * Merges the status checks of the outstanding {@link PollResourceTask}s which belong to the same stack, region and resource checker into a single
+ * {@link ResourceChecker#checkResources} call. The first caller of a tick waits for the coalescing window, sends the merged request to the provider
+ * and fans the statuses back out to the waiting callers by resource name.
+ */
+@Component
+public class ResourcePollCoalescer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResourcePollCoalescer.class);
+
+    @Value("${cb.cloud.template.poll.coalescing.enabled:false}")
+    private boolean enabled;
+
+    @Value("${cb.cloud.template.poll.coalescing.window.ms:200}")
+    private long windowMs;
+
+    private final Map<CoalescingKey, List<PollRequest>> openBatches = new HashMap<>();
+
+    public List<CloudResourceStatus> checkResources(ResourceChecker<ResourceBuilderContext> checker, ResourceBuilderContext context,
+            AuthenticatedContext auth, List<CloudResource> resources) {
+        if (!enabled) {
+            return checker.checkResources(context, auth, resources);
+        }
+        CoalescingKey key = new CoalescingKey(auth.getCloudContext().getId(), context.getLocation().getRegion().value(), checker);
+        PollRequest request = new PollRequest(resources);
+        boolean leader;
+        synchronized (openBatches) {
+            List<PollRequest> batch = openBatches.get(key);
+            leader = batch == null;
+            if (leader) {
+                batch = new ArrayList<>();
+                openBatches.put(key, batch);
+            }
+            batch.add(request);
+        }
+        if (leader) {
+            executeBatch(key, checker, context, auth);
+        }
+        return awaitResult(request).orElseGet(() -> checker.checkResources(context, auth, resources));
+    }
+
+    private void executeBatch(CoalescingKey key, ResourceChecker<ResourceBuilderContext> checker, ResourceBuilderContext context,
+            AuthenticatedContext auth) {
+        waitForWindow();
+        List<PollRequest> batch;
+        synchronized (openBatches) {
+            batch = openBatches.remove(key);
+        }
+        List<CloudResource> mergedResources = new ArrayList<>();
+        batch.forEach(request -> mergedResources.addAll(request.resources));
+        LOGGER.debug("Checking {} resources of {} poll tasks with a single request for {}", mergedResources.size(), batch.size(), key);
+        try {
+            Map<String, List<CloudResourceStatus>> statusesByName = new HashMap<>();
+            for (CloudResourceStatus status : checker.checkResources(context, auth, mergedResources)) {
+                statusesByName.computeIfAbsent(status.getCloudResource().getName(), name -> new ArrayList<>()).add(status);
+            }
+            batch.forEach(request -> request.result.complete(collectStatuses(request, statusesByName)));
+        } catch (RuntimeException e) {
+            batch.forEach(request -> request.result.completeExceptionally(e));
+        }
+    }
+
+    private Optional<List<CloudResourceStatus>> collectStatuses(PollRequest request, Map<String, List<CloudResourceStatus>> statusesByName) {
+        List<CloudResourceStatus> statuses = new ArrayList<>();
+        for (CloudResource resource : request.resources) {
+            List<CloudResourceStatus> resourceStatuses = statusesByName.get(resource.getName());
+            if (resourceStatuses == null) {
+                LOGGER.debug("Status of resource {} is missing from the coalesced response, it will be checked separately", resource.getName());
+                return Optional.empty();
+            }
+            statuses.addAll(resourceStatuses);
+        }
+        return Optional.of(statuses);
+    }
+
+    private void waitForWindow() {
+        try {
+            Thread.sleep(windowMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Optional<List<CloudResourceStatus>> awaitResult(PollRequest request) {
+        try {
+            return request.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CloudConnectorException("Interrupted while waiting for the coalesced resource status check", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new CloudConnectorException(e.getCause());
+        }
+    }
+
+    private static class PollRequest {
+
+        private final List<CloudResource> resources;
+
+        private final CompletableFuture<Optional<List<CloudResourceStatus>>> result = new CompletableFuture<>();
+
+        PollRequest(List<CloudResource> resources) {
+            this.resources = resources;
+        }
+    }
+
+    private static class CoalescingKey {
+
+        private final Long stackId;
+
+        private final String region;
+
+        private final ResourceChecker<?> checker;
+
+        CoalescingKey(Long stackId, String region, ResourceChecker<?> checker) {
+            this.stackId = stackId;
+            this.region = region;
+            this.checker = checker;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CoalescingKey that = (CoalescingKey) o;
+            return Objects.equals(stackId, that.stackId) && Objects.equals(region, that.region) && checker == that.checker;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(stackId, region, System.identityHashCode(checker));
+        }
+
+        @Override
+        public String toString() {
+            return "CoalescingKey{stackId=" + stackId + ", region='" + region + "', checker=" + checker.getClass().getSimpleName() + '}';
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.sequenceiq.cloudbreak.cloud.template.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sequenceiq.cloudbreak.cloud.context.AuthenticatedContext;
+import com.sequenceiq.cloudbreak.cloud.context.CloudContext;
+import com.sequenceiq.cloudbreak.cloud.model.CloudResource;
+import com.sequenceiq.cloudbreak.cloud.model.CloudResourceStatus;
+import com.sequenceiq.cloudbreak.cloud.model.Location;
+import com.sequenceiq.cloudbreak.cloud.model.Region;
+import com.sequenceiq.cloudbreak.cloud.model.ResourceStatus;
+import com.sequenceiq.cloudbreak.cloud.template.ResourceChecker;
+import com.sequenceiq.cloudbreak.cloud.template.context.ResourceBuilderContext;
+import com.sequenceiq.common.api.type.CommonStatus;
+import com.sequenceiq.common.api.type.ResourceType;
+
+@ExtendWith(MockitoExtension.class)
+class ResourcePollCoalescerTest {
+
+    private static final int TASK_COUNT = 5;
+
+    private static final long WINDOW_MS = 500L;
+
+    private static final long TIMEOUT_SECONDS = 10L;
+
+    @Mock
+    private ResourceChecker<ResourceBuilderContext> checker;
+
+    private final ResourcePollCoalescer underTest = new ResourcePollCoalescer();
+
+    private final ResourceBuilderContext context = new ResourceBuilderContext("stack", Location.location(Region.region("region")), 1);
+
+    private final AuthenticatedContext auth = new AuthenticatedContext(CloudContext.Builder.builder().withId(1L).build(), null);
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(TASK_COUNT);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(underTest, "enabled", true);
+        ReflectionTestUtils.setField(underTest, "windowMs", WINDOW_MS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void testDisabledCoalescingChecksResourcesDirectly() {
+        ReflectionTestUtils.setField(underTest, "enabled", false);
+        List<CloudResource> resources = List.of(resource("vm-1"));
+        List<CloudResourceStatus> statuses = statuses(resources);
+        when(checker.checkResources(context, auth, resources)).thenReturn(statuses);
+
+        assertEquals(statuses, underTest.checkResources(checker, context, auth, resources));
+    }
+
+    @Test
+    void testConcurrentPollsAreMergedAndFannedOut() throws Exception {
+        when(checker.checkResources(eq(context), eq(auth), anyList())).thenAnswer(invocation -> statuses(invocation.getArgument(2)));
+
+        List<Future<List<CloudResourceStatus>>> futures = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            List<CloudResource> resources = List.of(resource("vm-" + i));
+            futures.add(executorService.submit(() -> underTest.checkResources(checker, context, auth, resources)));
+        }
+
+        for (int i = 0; i < TASK_COUNT; i++) {
+            List<CloudResourceStatus> result = futures.get(i).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertEquals(List.of("vm-" + i), result.stream().map(status -> status.getCloudResource().getName()).collect(Collectors.toList()));
+        }
+        verify(checker, times(1)).checkResources(eq(context), eq(auth), anyList());
+    }
+
+    @Test
+    void testResourceMissingFromMergedResponseIsCheckedSeparately() {
+        List<CloudResource> resources = List.of(resource("vm-1"));
+        List<CloudResourceStatus> statuses = statuses(resources);
+        when(checker.checkResources(context, auth, resources)).thenReturn(List.of()).thenReturn(statuses);
+
+        assertEquals(statuses, underTest.checkResources(checker, context, auth, resources));
+        verify(checker, times(2)).checkResources(context, auth, resources);
+    }
+
+    @Test
+    void testProviderErrorIsPropagated() {
+        when(checker.checkResources(any(), any(), anyList())).thenThrow(new IllegalStateException("provider error"));
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> underTest.checkResources(checker, context, auth, List.of(resource("vm-1"))));
+        assertEquals("provider error", exception.getMessage());
+    }
+
+    private CloudResource resource(String name) {
+        return CloudResource.builder().type(ResourceType.GCP_INSTANCE).status(CommonStatus.REQUESTED).name(name).build();
+    }
+
+    private List<CloudResourceStatus> statuses(List<CloudResource> resources) {
+        return resources.stream().map(resource -> new CloudResourceStatus(resource, ResourceStatus.CREATED)).collect(Collectors.toList());
+    }
+}
@@ -4,6 +4,8 @@ import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.BlockingDeque;
 
 import org.slf4j.Logger;
@@ -66,6 +68,26 @@ public class CloudwatchRecordWorker extends RecordWorker<AbstractCloudwatchRecor
         getAwsLogsClient().putLogEvents(putLogEvents);
     }
 
+    /**
+     * Puts the log events of the whole batch with one request.
+     */
+    @Override
+    public void processRecordBatch(List<CloudwatchRecordRequest> inputs) throws StreamProcessingException {
+        DescribeLogStreamsResult logStreamsResult = describeLogStreams();
+        String sequenceToken = logStreamsResult.getLogStreams().get(0).getUploadSequenceToken();
+        List<InputLogEvent> logEvents = new ArrayList<>();
+        for (CloudwatchRecordRequest input : inputs) {
+            logEvents.addAll(createLogEvents(input));
+        }
+        logEvents.sort(Comparator.comparing(InputLogEvent::getTimestamp));
+        PutLogEventsRequest putLogEvents = new PutLogEventsRequest();
+        putLogEvents.setSequenceToken(sequenceToken);
+        putLogEvents.setLogGroupName(logGroup);
+        putLogEvents.setLogStreamName(logStream);
+        putLogEvents.setLogEvents(logEvents);
+        getAwsLogsClient().putLogEvents(putLogEvents);
+    }
+
     @Override
     public void onInterrupt() {
         if (awsLogsClient != null) {
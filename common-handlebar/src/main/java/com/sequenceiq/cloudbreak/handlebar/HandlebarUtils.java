@@ -1,11 +1,23 @@
 package com.sequenceiq.cloudbreak.handlebar;
 
+import java.io.IOException;
+
 import org.apache.commons.lang3.StringEscapeUtils;
 
 import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.Template;
+import com.sequenceiq.cloudbreak.common.template.CompiledTemplateCache;
 
 public final class HandlebarUtils {
 
+    private static final String INLINE_TEMPLATE_NAME = "inline";
+
+    private static final long MAX_CACHED_TEMPLATES = 500L;
+
+    private static final Handlebars SHARED_HANDLEBARS = handlebars();
+
+    private static final CompiledTemplateCache<Template> COMPILED_TEMPLATES = new CompiledTemplateCache<>("handlebars.templates", MAX_CACHED_TEMPLATES);
+
     private HandlebarUtils() {
     }
 
@@ -24,4 +36,12 @@ public final class HandlebarUtils {
         handlebars.registerHelperMissing((context, options) -> options.fn.text());
         return handlebars;
     }
+
+    /**
+     * Compiles the template with the default delimiters. The compiled templates are shared, the same template text is compiled only once.
+     */
+    public static Template compileInline(String sourceTemplate) throws IOException {
+        return COMPILED_TEMPLATES.get(INLINE_TEMPLATE_NAME, sourceTemplate, (name, text) ->
+                SHARED_HANDLEBARS.compileInline(text, HandlebarTemplate.DEFAULT_PREFIX.key(), HandlebarTemplate.DEFAULT_POSTFIX.key()));
+    }
 }
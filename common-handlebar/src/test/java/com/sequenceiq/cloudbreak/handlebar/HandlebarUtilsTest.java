@@ -0,0 +1,40 @@
+package com.sequenceiq.cloudbreak.handlebar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.jknack.handlebars.Template;
+
+class HandlebarUtilsTest {
+
+    private static final String TEMPLATE_TEXT = "{{{name}}} of HandlebarUtilsTest";
+
+    @Test
+    void testSameTemplateTextIsCompiledOnce() throws IOException {
+        assertSame(HandlebarUtils.compileInline(TEMPLATE_TEXT), HandlebarUtils.compileInline(new String(TEMPLATE_TEXT)));
+    }
+
+    @Test
+    void testDifferentTemplateTextsAreCompiledSeparately() throws IOException {
+        Template template = HandlebarUtils.compileInline(TEMPLATE_TEXT);
+        Template otherTemplate = HandlebarUtils.compileInline("{{{name}}} of other HandlebarUtilsTest");
+
+        assertNotSame(template, otherTemplate);
+        assertEquals("cluster of HandlebarUtilsTest", template.apply(Map.of("name", "cluster")));
+        assertEquals("cluster of other HandlebarUtilsTest", otherTemplate.apply(Map.of("name", "cluster")));
+    }
+
+    @Test
+    void testSharedTemplateRendersTheContextOfEachCall() throws IOException {
+        Template template = HandlebarUtils.compileInline(TEMPLATE_TEXT);
+
+        assertEquals("first of HandlebarUtilsTest", template.apply(Map.of("name", "first")));
+        assertEquals("second of HandlebarUtilsTest", HandlebarUtils.compileInline(TEMPLATE_TEXT).apply(Map.of("name", "second")));
+    }
+}
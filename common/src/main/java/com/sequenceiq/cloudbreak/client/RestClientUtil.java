@@ -9,7 +9,10 @@ import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.http.conn.HttpClientConnectionManager;
 import org.apache.http.ssl.SSLContexts;
+import org.glassfish.jersey.apache.connector.ApacheClientProperties;
+import org.glassfish.jersey.apache.connector.ApacheConnectorProvider;
 import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.client.filter.EncodingFilter;
@@ -52,24 +55,41 @@ public class RestClientUtil {
 
     public static Client createClient(String serverCert, String clientCert, String clientKey, int connectionTimeout, OptionalInt readTimeout, boolean debug)
             throws Exception {
-        SSLContext sslContext;
+        return createClient(createSslContext(serverCert, clientCert, clientKey), connectionTimeout, readTimeout, debug);
+    }
+
+    public static SSLContext createSslContext(String serverCert, String clientCert, String clientKey) throws Exception {
         if (StringUtils.isNoneBlank(serverCert, clientCert, clientKey)) {
-            sslContext = SSLContexts.custom()
+            return SSLContexts.custom()
                     .loadTrustMaterial(KeyStoreUtil.createTrustStore(serverCert), null)
                     .loadKeyMaterial(KeyStoreUtil.createKeyStore(clientCert, clientKey), "consul".toCharArray())
                     .build();
         } else {
-            sslContext = CertificateTrustManager.sslContext();
+            return CertificateTrustManager.sslContext();
         }
-        return createClient(sslContext, connectionTimeout, readTimeout, debug);
     }
 
     public static Client createClient(SSLContext sslContext, boolean debug) {
         return createClient(sslContext, CONNECT_TIMEOUT_MS, OptionalInt.empty(), debug);
     }
 
-    private static Client createClient(SSLContext sslContext, int connectionTimeout, OptionalInt readTimeout, boolean debug) {
+    /**
+     * Creates a client which sends its requests through the given pooled connection manager, so the TLS connections are kept alive and reused
+     * between the calls. The connection manager is closed together with the client.
+     */
+    public static Client createPooledClient(SSLContext sslContext, HttpClientConnectionManager connectionManager, boolean debug) {
         ClientConfig config = new ClientConfig();
+        config.connectorProvider(new ApacheConnectorProvider());
+        config.property(ApacheClientProperties.CONNECTION_MANAGER, connectionManager);
+        config.property(ApacheClientProperties.CONNECTION_MANAGER_SHARED, false);
+        return createClient(config, sslContext, CONNECT_TIMEOUT_MS, OptionalInt.empty(), debug);
+    }
+
+    private static Client createClient(SSLContext sslContext, int connectionTimeout, OptionalInt readTimeout, boolean debug) {
+        return createClient(new ClientConfig(), sslContext, connectionTimeout, readTimeout, debug);
+    }
+
+    private static Client createClient(ClientConfig config, SSLContext sslContext, int connectionTimeout, OptionalInt readTimeout, boolean debug) {
         config.property(ClientProperties.FOLLOW_REDIRECTS, "false");
         config.property(ClientProperties.CONNECT_TIMEOUT, connectionTimeout);
         readTimeout.ifPresent(rt -> config.property(ClientProperties.READ_TIMEOUT, rt));
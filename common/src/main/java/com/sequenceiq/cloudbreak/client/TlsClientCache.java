@@ -0,0 +1,203 @@
+package com.sequenceiq.cloudbreak.client;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.SSLContext;
+import javax.ws.rs.client.Client;
+
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sequenceiq.cloudbreak.common.metrics.MetricService;
+
+/**
+ * Bounded cache of mutual TLS clients keyed by the fingerprint of the certificates they were built from. Every cached client owns a pooled
+ * connection manager, so the repeated calls of the same cluster reuse the kept-alive connections instead of parsing the keys and doing a new
+ * TLS handshake every time. When the certificates of an owner change, the client built from the old ones is evicted. The evicted clients are
+ * closed only after a delay, so the requests which got the client before the eviction can finish. The owners are forgotten together with the
+ * client of their certificates.
+ */
+public class TlsClientCache implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TlsClientCache.class);
+
+    private final Cache<String, Client> clients;
+
+    private final Map<String, String> fingerprintsByOwner = new ConcurrentHashMap<>();
+
+    private final Set<Client> clientsToClose = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong handshakeCount = new AtomicLong();
+
+    private final int maxConnectionsPerClient;
+
+    private final Duration closeDelay;
+
+    private final ScheduledExecutorService closeExecutor;
+
+    public TlsClientCache(long maximumSize, Duration expireAfterAccess, int maxConnectionsPerClient, Duration closeDelay) {
+        this.maxConnectionsPerClient = maxConnectionsPerClient;
+        this.closeDelay = closeDelay;
+        closeExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("tlsClientCloser-%d").setDaemon(true).build());
+        clients = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .executor(Runnable::run)
+                .removalListener(this::onRemoval)
+                .recordStats()
+                .build();
+    }
+
+    public Client getClient(String ownerId, String serverCert, String clientCert, String clientKey, boolean debug) throws Exception {
+        String fingerprint = fingerprint(serverCert, clientCert, clientKey, debug);
+        String previousFingerprint = fingerprintsByOwner.put(ownerId, fingerprint);
+        if (previousFingerprint != null && !previousFingerprint.equals(fingerprint)) {
+            LOGGER.info("The certificates of {} have been changed, the client built from the old ones is invalidated", ownerId);
+            clients.invalidate(previousFingerprint);
+        }
+        try {
+            return clients.get(fingerprint, key -> createClient(serverCert, clientCert, clientKey, debug));
+        } catch (ClientCreationException e) {
+            fingerprintsByOwner.remove(ownerId, fingerprint);
+            throw (Exception) e.getCause();
+        }
+    }
+
+    public void registerMetrics(MetricService metricService) {
+        metricService.registerGaugeMetric(TlsClientCacheMetricType.TLS_CLIENT_CACHE_HITS, this, TlsClientCache::getHitCount, Map.of());
+        metricService.registerGaugeMetric(TlsClientCacheMetricType.TLS_CLIENT_CACHE_MISSES, this, TlsClientCache::getMissCount, Map.of());
+        metricService.registerGaugeMetric(TlsClientCacheMetricType.TLS_CLIENT_CACHE_SIZE, this, TlsClientCache::size, Map.of());
+        metricService.registerGaugeMetric(TlsClientCacheMetricType.TLS_CLIENT_HANDSHAKES, this, TlsClientCache::getHandshakeCount, Map.of());
+    }
+
+    public void invalidate(String ownerId) {
+        String fingerprint = fingerprintsByOwner.remove(ownerId);
+        if (fingerprint != null) {
+            clients.invalidate(fingerprint);
+        }
+    }
+
+    public long getHitCount() {
+        return clients.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return clients.stats().missCount();
+    }
+
+    public long getHandshakeCount() {
+        return handshakeCount.get();
+    }
+
+    public long size() {
+        return clients.estimatedSize();
+    }
+
+    public long ownerCount() {
+        return fingerprintsByOwner.size();
+    }
+
+    public void cleanUp() {
+        clients.cleanUp();
+    }
+
+    @Override
+    public void close() {
+        clients.invalidateAll();
+        clients.cleanUp();
+        fingerprintsByOwner.clear();
+        closeExecutor.shutdownNow();
+        clientsToClose.forEach(this::closeClient);
+    }
+
+    private Client createClient(String serverCert, String clientCert, String clientKey, boolean debug) {
+        try {
+            SSLContext sslContext = RestClientUtil.createSslContext(serverCert, clientCert, clientKey);
+            SSLConnectionSocketFactory sslSocketFactory = new HandshakeCountingSocketFactory(sslContext, handshakeCount);
+            PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(RegistryBuilder.<ConnectionSocketFactory>create()
+                    .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                    .register("https", sslSocketFactory)
+                    .build());
+            connectionManager.setMaxTotal(maxConnectionsPerClient);
+            connectionManager.setDefaultMaxPerRoute(maxConnectionsPerClient);
+            return RestClientUtil.createPooledClient(sslContext, connectionManager, debug);
+        } catch (Exception e) {
+            throw new ClientCreationException(e);
+        }
+    }
+
+    private void onRemoval(String fingerprint, Client client, RemovalCause cause) {
+        if (fingerprint != null) {
+            fingerprintsByOwner.values().removeIf(fingerprint::equals);
+        }
+        if (client != null) {
+            LOGGER.debug("Closing cached TLS client in {}, cause: {}", closeDelay, cause);
+            clientsToClose.add(client);
+            try {
+                closeExecutor.schedule(() -> closeClient(client), closeDelay.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                closeClient(client);
+            }
+        }
+    }
+
+    private void closeClient(Client client) {
+        if (clientsToClose.remove(client)) {
+            client.close();
+        }
+    }
+
+    private String fingerprint(String serverCert, String clientCert, String clientKey, boolean debug) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (String part : new String[]{serverCert, clientCert, clientKey}) {
+            hasher.putString(String.valueOf(part), StandardCharsets.UTF_8).putChar('\0');
+        }
+        return hasher.putBoolean(debug).hash().toString();
+    }
+
+    private static class HandshakeCountingSocketFactory extends SSLConnectionSocketFactory {
+
+        private final AtomicLong handshakeCount;
+
+        HandshakeCountingSocketFactory(SSLContext sslContext, AtomicLong handshakeCount) {
+            super(sslContext, CertificateTrustManager.hostnameVerifier());
+            this.handshakeCount = handshakeCount;
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context) throws IOException {
+            handshakeCount.incrementAndGet();
+            return super.createLayeredSocket(socket, target, port, context);
+        }
+    }
+
+    private static class ClientCreationException extends RuntimeException {
+
+        ClientCreationException(Exception cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.sequenceiq.cloudbreak.client;
+
+import com.sequenceiq.cloudbreak.common.metrics.type.Metric;
+
+public enum TlsClientCacheMetricType implements Metric {
+    TLS_CLIENT_CACHE_HITS("tlsclient.cache.hits"),
+    TLS_CLIENT_CACHE_MISSES("tlsclient.cache.misses"),
+    TLS_CLIENT_CACHE_SIZE("tlsclient.cache.size"),
+    TLS_CLIENT_HANDSHAKES("tlsclient.handshakes");
+
+    private final String metricName;
+
+    TlsClientCacheMetricType(String metricName) {
+        this.metricName = metricName;
+    }
+
+    @Override
+    public String getMetricName() {
+        return metricName;
+    }
+}
@@ -0,0 +1,69 @@
+package com.sequenceiq.cloudbreak.common.template;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+
+/**
+ * Bounded cache of compiled templates keyed by the hash of the template name and text, so a template text is compiled only once no matter
+ * which stack or request renders it. The compiled templates must be safe to render concurrently. The hit and miss counts are published as the
+ * {@code cache.gets} metric tagged with the name of the cache.
+ *
+ * @param <T> the type of the compiled template
+ */
+public class CompiledTemplateCache<T> {
+
+    private static final long CACHE_EXPIRATION_MINUTES = 60L;
+
+    private final Cache<String, T> compiledTemplates;
+
+    public CompiledTemplateCache(String cacheName, long maximumSize) {
+        compiledTemplates = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(CACHE_EXPIRATION_MINUTES, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(Metrics.globalRegistry, compiledTemplates, cacheName);
+    }
+
+    public T get(String templateName, String templateText, TemplateCompiler<T> compiler) throws IOException {
+        String key = Hashing.sha256().newHasher()
+                .putString(templateName, StandardCharsets.UTF_8)
+                .putByte((byte) 0)
+                .putString(templateText, StandardCharsets.UTF_8)
+                .hash()
+                .toString();
+        try {
+            return compiledTemplates.get(key, () -> compiler.compile(templateName, templateText));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public double getHitRate() {
+        return compiledTemplates.stats().hitRate();
+    }
+
+    public long getHitCount() {
+        return compiledTemplates.stats().hitCount();
+    }
+
+    @FunctionalInterface
+    public interface TemplateCompiler<T> {
+        T compile(String templateName, String templateText) throws IOException;
+    }
+}
@@ -14,6 +14,8 @@ import org.springframework.stereotype.Component;
 
 import com.sequenceiq.cloudbreak.quartz.model.JobInitializer;
 import com.sequenceiq.cloudbreak.quartz.statuschecker.StatusCheckerConfig;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.StatusCheckerJobInitializer;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.service.ShardedStatusCheckerService;
 
 @Component
 public class QuartzJobInitializer {
@@ -29,16 +31,29 @@ public class QuartzJobInitializer {
     @Inject
     private Scheduler scheduler;
 
+    @Inject
+    private Optional<ShardedStatusCheckerService> shardedStatusCheckerService;
+
     @PostConstruct
     private void init() {
         if (properties.isAutoSyncEnabled() && initJobDefinitions.isPresent()) {
+            boolean sharded = shardedStatusCheckerService.map(ShardedStatusCheckerService::isEnabled).orElse(false);
             try {
-                LOGGER.info("AutoSync is enabled and there are job initializers, clearing the Quartz scheduler.");
-                scheduler.clear();
+                if (sharded) {
+                    LOGGER.info("AutoSync is enabled in sharded mode, replacing per resource jobs with status checker shard leases.");
+                    shardedStatusCheckerService.get().initLeaseJobs();
+                } else {
+                    LOGGER.info("AutoSync is enabled and there are job initializers, clearing the Quartz scheduler.");
+                    scheduler.clear();
+                }
             } catch (SchedulerException e) {
                 LOGGER.error("Error during clearing quartz jobs", e);
             }
             for (JobInitializer jobDef : initJobDefinitions.get()) {
+                if (sharded && jobDef instanceof StatusCheckerJobInitializer) {
+                    LOGGER.debug("Status checks of '{}' are loaded when a shard lease is acquired", jobDef.getClass());
+                    continue;
+                }
                 LOGGER.debug("Initialize quartz jobs with initializer '{}'", jobDef.getClass());
                 jobDef.initJobs();
             }
@@ -21,10 +21,38 @@ public class StatusCheckerConfig {
     @Value("${statuschecker.enabled:true}")
     private boolean autoSyncEnabled;
 
+    @Value("${statuschecker.sharded.enabled:false}")
+    private boolean shardedEnabled;
+
+    @Value("${statuschecker.sharded.shards:64}")
+    private int shardCount;
+
+    @Value("${statuschecker.sharded.tickintervalsec:10}")
+    private int tickIntervalInSeconds;
+
+    @Value("${statuschecker.sharded.batchsize:200}")
+    private int batchSize;
+
+    @Value("${statuschecker.sharded.threads:10}")
+    private int threadCount;
+
+    @Value("${statuschecker.sharded.leaseintervalsec:60}")
+    private int leaseIntervalInSeconds;
+
+    @Value("${statuschecker.sharded.leasedurationsec:300}")
+    private int leaseDurationInSeconds;
+
+    @Value("${statuschecker.sharded.rescanintervalsec:0}")
+    private int rescanIntervalInSeconds;
+
     @PostConstruct
     void logEnablement() {
         if (autoSyncEnabled) {
             LOGGER.info("Auto sync is enabled. Short sync period is {} sec. Long sync period is {} sec.", intervalInSeconds, longIntervalInSeconds);
+            if (shardedEnabled) {
+                LOGGER.info("Sharded status checking is enabled with {} shards, {} sec ticks and batches of {} resources.", shardCount,
+                        tickIntervalInSeconds, batchSize);
+            }
         } else {
             LOGGER.info("Auto sync is disabled.");
         }
@@ -41,4 +69,36 @@ public class StatusCheckerConfig {
     public int getLongIntervalInSeconds() {
         return longIntervalInSeconds;
     }
+
+    public boolean isShardedEnabled() {
+        return autoSyncEnabled && shardedEnabled;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int getTickIntervalInSeconds() {
+        return tickIntervalInSeconds;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public int getLeaseIntervalInSeconds() {
+        return leaseIntervalInSeconds;
+    }
+
+    public int getLeaseDurationInSeconds() {
+        return leaseDurationInSeconds;
+    }
+
+    public int getRescanIntervalInSeconds() {
+        return rescanIntervalInSeconds;
+    }
 }
@@ -0,0 +1,10 @@
+package com.sequenceiq.cloudbreak.quartz.statuschecker;
+
+import com.sequenceiq.cloudbreak.quartz.model.JobInitializer;
+
+/**
+ * Job initializer of the status checker jobs. When the sharded status checking is enabled, these initializers are not run on startup, but
+ * whenever the node acquires new shards or the shards are rescanned, to load the resources of the owned shards.
+ */
+public interface StatusCheckerJobInitializer extends JobInitializer {
+}
@@ -0,0 +1,57 @@
+package com.sequenceiq.cloudbreak.quartz.statuschecker.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+@Entity
+public class StatusCheckerShardLease {
+
+    @Id
+    private Integer shard;
+
+    private String owner;
+
+    @Column(nullable = false)
+    private long expiry;
+
+    public StatusCheckerShardLease() {
+    }
+
+    public StatusCheckerShardLease(Integer shard) {
+        this.shard = shard;
+    }
+
+    public Integer getShard() {
+        return shard;
+    }
+
+    public void setShard(Integer shard) {
+        this.shard = shard;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public long getExpiry() {
+        return expiry;
+    }
+
+    public void setExpiry(long expiry) {
+        this.expiry = expiry;
+    }
+
+    @Override
+    public String toString() {
+        return "StatusCheckerShardLease{"
+                + "shard=" + shard
+                + ", owner='" + owner + '\''
+                + ", expiry=" + expiry
+                + '}';
+    }
+}
@@ -0,0 +1,136 @@
+package com.sequenceiq.cloudbreak.quartz.statuschecker.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+
+/**
+ * A status checker schedule or unschedule request made on a node which does not own the shard of the resource. The owner of the shard
+ * applies and deletes the requests of its shards on its ticks.
+ */
+@Entity
+public class StatusCheckerShardRequest {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO, generator = "statuscheckershardrequest_generator")
+    @SequenceGenerator(name = "statuscheckershardrequest_generator", sequenceName = "statuscheckershardrequest_id_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(nullable = false)
+    private Integer shard;
+
+    @Column(nullable = false)
+    private String localId;
+
+    private String jobClass;
+
+    @Column(length = Integer.MAX_VALUE, columnDefinition = "TEXT")
+    private String jobData;
+
+    private int delayInSeconds;
+
+    private int intervalInSeconds;
+
+    private boolean unschedule;
+
+    public StatusCheckerShardRequest() {
+    }
+
+    public static StatusCheckerShardRequest schedule(Integer shard, String localId, String jobClass, String jobData, int delayInSeconds,
+            int intervalInSeconds) {
+        StatusCheckerShardRequest request = new StatusCheckerShardRequest();
+        request.shard = shard;
+        request.localId = localId;
+        request.jobClass = jobClass;
+        request.jobData = jobData;
+        request.delayInSeconds = delayInSeconds;
+        request.intervalInSeconds = intervalInSeconds;
+        return request;
+    }
+
+    public static StatusCheckerShardRequest unschedule(Integer shard, String localId) {
+        StatusCheckerShardRequest request = new StatusCheckerShardRequest();
+        request.shard = shard;
+        request.localId = localId;
+        request.unschedule = true;
+        return request;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Integer getShard() {
+        return shard;
+    }
+
+    public void setShard(Integer shard) {
+        this.shard = shard;
+    }
+
+    public String getLocalId() {
+        return localId;
+    }
+
+    public void setLocalId(String localId) {
+        this.localId = localId;
+    }
+
+    public String getJobClass() {
+        return jobClass;
+    }
+
+    public void setJobClass(String jobClass) {
+        this.jobClass = jobClass;
+    }
+
+    public String getJobData() {
+        return jobData;
+    }
+
+    public void setJobData(String jobData) {
+        this.jobData = jobData;
+    }
+
+    public int getDelayInSeconds() {
+        return delayInSeconds;
+    }
+
+    public void setDelayInSeconds(int delayInSeconds) {
+        this.delayInSeconds = delayInSeconds;
+    }
+
+    public int getIntervalInSeconds() {
+        return intervalInSeconds;
+    }
+
+    public void setIntervalInSeconds(int intervalInSeconds) {
+        this.intervalInSeconds = intervalInSeconds;
+    }
+
+    public boolean isUnschedule() {
+        return unschedule;
+    }
+
+    public void setUnschedule(boolean unschedule) {
+        this.unschedule = unschedule;
+    }
+
+    @Override
+    public String toString() {
+        return "StatusCheckerShardRequest{"
+                + "id=" + id
+                + ", shard=" + shard
+                + ", localId='" + localId + '\''
+                + ", jobClass='" + jobClass + '\''
+                + ", unschedule=" + unschedule
+                + '}';
+    }
+}
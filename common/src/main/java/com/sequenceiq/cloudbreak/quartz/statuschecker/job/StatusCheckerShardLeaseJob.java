@@ -0,0 +1,42 @@
+package com.sequenceiq.cloudbreak.quartz.statuschecker.job;
+
+import javax.inject.Inject;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.SchedulerException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.sequenceiq.cloudbreak.quartz.TracedQuartzJob;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.service.ShardedStatusCheckerService;
+
+import io.opentracing.Tracer;
+
+@DisallowConcurrentExecution
+@Component
+@ConditionalOnProperty(name = "statuschecker.sharded.enabled", havingValue = "true")
+public class StatusCheckerShardLeaseJob extends TracedQuartzJob {
+
+    @Inject
+    private ShardedStatusCheckerService shardedStatusCheckerService;
+
+    public StatusCheckerShardLeaseJob(Tracer tracer) {
+        super(tracer, "Status Checker Shard Lease Job");
+    }
+
+    @Override
+    protected Object getMdcContextObject() {
+        return null;
+    }
+
+    @Override
+    protected void executeTracedJob(JobExecutionContext context) throws JobExecutionException {
+        try {
+            shardedStatusCheckerService.acquireLease(Integer.parseInt(context.getJobDetail().getJobDataMap().getString(ShardedStatusCheckerService.SHARD)));
+        } catch (SchedulerException e) {
+            throw new JobExecutionException(e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.sequenceiq.cloudbreak.quartz.statuschecker.repository;
+
+import javax.transaction.Transactional;
+import javax.transaction.Transactional.TxType;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import com.sequenceiq.cloudbreak.quartz.statuschecker.domain.StatusCheckerShardLease;
+import com.sequenceiq.cloudbreak.workspace.repository.EntityType;
+
+@EntityType(entityClass = StatusCheckerShardLease.class)
+@Transactional(TxType.REQUIRED)
+public interface StatusCheckerShardLeaseRepository extends CrudRepository<StatusCheckerShardLease, Integer> {
+
+    /**
+     * Sets the owner and the expiry of the lease if it is free, expired or already owned by the node.
+     *
+     * @return 1 if the lease is acquired, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE StatusCheckerShardLease l SET l.owner = :owner, l.expiry = :expiry "
+            + "WHERE l.shard = :shard AND (l.owner IS NULL OR l.owner = :owner OR l.expiry <= :now)")
+    int acquire(@Param("shard") Integer shard, @Param("owner") String owner, @Param("now") long now, @Param("expiry") long expiry);
+
+    /**
+     * Extends the lease if it is still owned by the node.
+     *
+     * @return 1 if the lease is renewed, 0 if it was taken over by another node
+     */
+    @Modifying
+    @Query("UPDATE StatusCheckerShardLease l SET l.expiry = :expiry WHERE l.shard = :shard AND l.owner = :owner")
+    int renew(@Param("shard") Integer shard, @Param("owner") String owner, @Param("expiry") long expiry);
+
+    /**
+     * Frees the lease if it is still owned by the node, so another node can acquire it without waiting for its expiry.
+     *
+     * @return 1 if the lease is released, 0 if it was not owned by the node
+     */
+    @Modifying
+    @Query("UPDATE StatusCheckerShardLease l SET l.owner = NULL, l.expiry = 0 WHERE l.shard = :shard AND l.owner = :owner")
+    int release(@Param("shard") Integer shard, @Param("owner") String owner);
+}
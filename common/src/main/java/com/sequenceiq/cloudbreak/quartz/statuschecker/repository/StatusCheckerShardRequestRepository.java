@@ -0,0 +1,19 @@
+package com.sequenceiq.cloudbreak.quartz.statuschecker.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import javax.transaction.Transactional;
+import javax.transaction.Transactional.TxType;
+
+import org.springframework.data.repository.CrudRepository;
+
+import com.sequenceiq.cloudbreak.quartz.statuschecker.domain.StatusCheckerShardRequest;
+import com.sequenceiq.cloudbreak.workspace.repository.EntityType;
+
+@EntityType(entityClass = StatusCheckerShardRequest.class)
+@Transactional(TxType.REQUIRED)
+public interface StatusCheckerShardRequestRepository extends CrudRepository<StatusCheckerShardRequest, Long> {
+
+    List<StatusCheckerShardRequest> findAllByShardInOrderByIdAsc(Collection<Integer> shards);
+}
@@ -0,0 +1,80 @@
+package com.sequenceiq.cloudbreak.quartz.statuschecker.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.quartz.Job;
+import org.quartz.JobDataMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.sequenceiq.cloudbreak.quartz.model.JobResourceAdapter;
+
+/**
+ * Loads the statuses of the remote resources of a batch of status checks with one call, before the checks of the batch are started by the
+ * {@link ShardedStatusCheckerService}. The status checker jobs of {@link #getJobClass()} take the status of their remote resource from here
+ * and call the remote service one by one only when it was not loaded, e.g. when the sharded status checking is disabled. The status loaded
+ * for a check is invalidated when the check finishes or is not started, so a later check never takes a status of an earlier batch.
+ *
+ * @param <T> the type of the remote status
+ */
+public abstract class RemoteStatusBatchLoader<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RemoteStatusBatchLoader.class);
+
+    private static final long LOADED_STATUS_TTL_MINUTES = 5L;
+
+    private static final long MAX_LOADED_STATUSES = 10000L;
+
+    private final Cache<String, T> loadedStatuses = CacheBuilder.newBuilder()
+            .expireAfterWrite(LOADED_STATUS_TTL_MINUTES, TimeUnit.MINUTES)
+            .maximumSize(MAX_LOADED_STATUSES)
+            .build();
+
+    public abstract Class<? extends Job> getJobClass();
+
+    public void load(Collection<JobDataMap> jobDataMaps) {
+        List<String> remoteResourceCrns = jobDataMaps.stream()
+                .map(jobDataMap -> jobDataMap.getString(JobResourceAdapter.REMOTE_RESOURCE_CRN))
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        if (!remoteResourceCrns.isEmpty()) {
+            try {
+                Map<String, T> statuses = loadStatuses(remoteResourceCrns);
+                loadedStatuses.putAll(statuses);
+                LOGGER.debug("Loaded {} remote statuses for {} {} checks", statuses.size(), remoteResourceCrns.size(), getJobClass().getSimpleName());
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to load the remote statuses for {} {} checks, they are queried one by one", remoteResourceCrns.size(),
+                        getJobClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    public Optional<T> takeLoadedStatus(String remoteResourceCrn) {
+        if (remoteResourceCrn == null) {
+            return Optional.empty();
+        }
+        T status = loadedStatuses.getIfPresent(remoteResourceCrn);
+        if (status != null) {
+            loadedStatuses.invalidate(remoteResourceCrn);
+        }
+        return Optional.ofNullable(status);
+    }
+
+    public void invalidate(JobDataMap jobDataMap) {
+        String remoteResourceCrn = jobDataMap.getString(JobResourceAdapter.REMOTE_RESOURCE_CRN);
+        if (remoteResourceCrn != null) {
+            loadedStatuses.invalidate(remoteResourceCrn);
+        }
+    }
+
+    protected abstract Map<String, T> loadStatuses(List<String> remoteResourceCrns);
+}
@@ -0,0 +1,559 @@
+package com.sequenceiq.cloudbreak.quartz.statuschecker.service;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+
+import org.apache.commons.lang3.StringUtils;
+import org.quartz.Job;
+import org.quartz.JobBuilder;
+import org.quartz.JobDataMap;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionException;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.quartz.impl.JobExecutionContextImpl;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.TriggerFiredBundle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sequenceiq.cloudbreak.common.json.JsonUtil;
+import com.sequenceiq.cloudbreak.common.service.Clock;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.StatusCheckerConfig;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.StatusCheckerJobInitializer;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.domain.StatusCheckerShardLease;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.domain.StatusCheckerShardRequest;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.job.StatusCheckerShardLeaseJob;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.repository.StatusCheckerShardLeaseRepository;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.repository.StatusCheckerShardRequestRepository;
+
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Runs the status checker jobs from an in-memory schedule instead of one clustered Quartz job and trigger per resource. The resources are
+ * split into shards by their local id, and every node checks only the resources of the shards it holds a lease on. The owner and the expiry
+ * of a lease are stored in a {@link StatusCheckerShardLease} row and changed only with conditional updates. The owner renews its leases from
+ * its ticker, the clustered Quartz lease job of a shard is used only to acquire the free or expired lease, on whichever node it fires. The
+ * owner of a lease is the {@code instance.node.id} of the node, or its Quartz instance id when that is not set. A node releases its leases
+ * when it is shut down.
+ * <p>
+ * The owned shards are loaded with the {@link StatusCheckerJobInitializer}s when a shard is acquired, and optionally every
+ * {@code statuschecker.sharded.rescanintervalsec}. A resource scheduled or unscheduled on a node which does not own its shard is written
+ * to a {@link StatusCheckerShardRequest} row, which the owner applies on its next tick. The due checks are started in batches on every tick,
+ * a resource is never checked concurrently. The remote statuses of a batch are loaded with one call by the {@link RemoteStatusBatchLoader}s
+ * of the job classes before the checks start.
+ * <p>
+ * The service and its lease job exist only when {@code statuschecker.sharded.enabled} is set, so the services without the lease table do
+ * not need its repository.
+ */
+@Service
+@ConditionalOnProperty(name = "statuschecker.sharded.enabled", havingValue = "true")
+public class ShardedStatusCheckerService {
+
+    public static final String SHARD = "shard";
+
+    private static final String LEASE_JOB_GROUP = "status-checker-shard-jobs";
+
+    private static final String LEASE_TRIGGER_GROUP = "status-checker-shard-triggers";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShardedStatusCheckerService.class);
+
+    private final Map<Integer, Long> leases = new ConcurrentHashMap<>();
+
+    private final Map<Integer, Map<String, ScheduledCheck>> schedule = new ConcurrentHashMap<>();
+
+    private final Set<Integer> shardsToLoad = ConcurrentHashMap.newKeySet();
+
+    private final ThreadLocal<Boolean> rescanning = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    @Value("${instance.node.id:}")
+    private String configuredNodeId;
+
+    @Inject
+    private StatusCheckerConfig statusCheckerConfig;
+
+    @Inject
+    private Scheduler scheduler;
+
+    @Inject
+    private ApplicationContext applicationContext;
+
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private StatusCheckerShardLeaseRepository leaseRepository;
+
+    @Inject
+    private StatusCheckerShardRequestRepository requestRepository;
+
+    @Inject
+    private Optional<List<RemoteStatusBatchLoader<?>>> remoteStatusBatchLoaders;
+
+    private ScheduledExecutorService ticker;
+
+    private ExecutorService workers;
+
+    private volatile long lastRescan;
+
+    @PostConstruct
+    public void init() {
+        if (isEnabled()) {
+            ticker = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("statusCheckerTicker-%d").build());
+            workers = new ThreadPoolExecutor(statusCheckerConfig.getThreadCount(), statusCheckerConfig.getThreadCount(), 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(statusCheckerConfig.getBatchSize()),
+                    new ThreadFactoryBuilder().setNameFormat("statusCheckerWorker-%d").build());
+            ticker.scheduleWithFixedDelay(this::tick, statusCheckerConfig.getTickIntervalInSeconds(), statusCheckerConfig.getTickIntervalInSeconds(),
+                    TimeUnit.SECONDS);
+            Metrics.gauge("statuschecker.sharded.shards", leases, Map::size);
+            Metrics.gauge("statuschecker.sharded.resources", schedule, s -> s.values().stream().mapToInt(Map::size).sum());
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            workers.shutdownNow();
+        }
+        releaseLeases();
+    }
+
+    public boolean isEnabled() {
+        return statusCheckerConfig.isShardedEnabled();
+    }
+
+    /**
+     * Creates the missing leases and lease jobs, and removes every other job from the scheduler. The leases and the lease jobs are kept, so
+     * the leases held by the running nodes survive the restart of a node.
+     */
+    public void initLeaseJobs() throws SchedulerException {
+        initLeases();
+        Set<JobKey> leaseJobKeys = IntStream.range(0, statusCheckerConfig.getShardCount())
+                .mapToObj(shard -> JobKey.jobKey(String.valueOf(shard), LEASE_JOB_GROUP))
+                .collect(Collectors.toSet());
+        for (String group : scheduler.getJobGroupNames()) {
+            List<JobKey> obsoleteJobKeys = scheduler.getJobKeys(GroupMatcher.jobGroupEquals(group)).stream()
+                    .filter(jobKey -> !leaseJobKeys.contains(jobKey))
+                    .collect(Collectors.toList());
+            scheduler.deleteJobs(obsoleteJobKeys);
+        }
+        for (JobKey leaseJobKey : leaseJobKeys) {
+            if (!scheduler.checkExists(leaseJobKey)) {
+                scheduleLeaseJob(leaseJobKey);
+            }
+        }
+        LOGGER.info("Lease jobs are initialized for {} status checker shards", leaseJobKeys.size());
+    }
+
+    /**
+     * Acquires the lease of the shard if it is free, expired or already held by this node. Called by the lease job, which can fire on any
+     * node, so a lease held by another node is never changed before it expires.
+     */
+    public void acquireLease(int shard) throws SchedulerException {
+        String nodeId = getNodeId();
+        long now = clock.getCurrentTimeMillis();
+        long newExpiry = now + TimeUnit.SECONDS.toMillis(statusCheckerConfig.getLeaseDurationInSeconds());
+        if (leaseRepository.acquire(shard, nodeId, now, newExpiry) > 0) {
+            Long previousExpiry = leases.put(shard, newExpiry);
+            if (previousExpiry == null) {
+                LOGGER.info("Status checker shard {} is acquired", shard);
+                shardsToLoad.add(shard);
+            }
+        } else {
+            LOGGER.debug("Status checker shard {} is owned by another node", shard);
+            dropShard(shard);
+        }
+    }
+
+    /**
+     * Schedules the check on this node if it owns the shard of the resource, otherwise routes it to the owner. The resources of the shards
+     * not owned are skipped while the owned shards are loaded, they are loaded by their owners.
+     */
+    public void schedule(JobDetail jobDetail, Trigger trigger, int delayInSeconds, int intervalInSeconds) {
+        String localId = jobDetail.getKey().getName();
+        int shard = getShard(localId);
+        if (leases.containsKey(shard)) {
+            scheduleOwned(shard, jobDetail, trigger, delayInSeconds, intervalInSeconds);
+        } else if (!rescanning.get()) {
+            LOGGER.debug("Status checker of {} is routed to the owner of shard {}", localId, shard);
+            routeToOwner(StatusCheckerShardRequest.schedule(shard, localId, jobDetail.getJobClass().getName(),
+                    JsonUtil.writeValueAsStringSilent(toStringMap(jobDetail.getJobDataMap())), delayInSeconds, intervalInSeconds));
+        }
+    }
+
+    public void unschedule(String localId) {
+        int shard = getShard(localId);
+        if (leases.containsKey(shard)) {
+            unscheduleOwned(shard, localId);
+        } else {
+            LOGGER.debug("Unscheduling of the status checker of {} is routed to the owner of shard {}", localId, shard);
+            routeToOwner(StatusCheckerShardRequest.unschedule(shard, localId));
+        }
+    }
+
+    public void deleteAll() {
+        schedule.clear();
+    }
+
+    @VisibleForTesting
+    void tick() {
+        try {
+            long now = clock.getCurrentTimeMillis();
+            renewLeases(now);
+            releaseExpiredLeases(now);
+            loadShardsIfNecessary(now);
+            applyRoutedRequests();
+            startDueChecks(now);
+        } catch (SchedulerException | RuntimeException e) {
+            LOGGER.error("Status checker tick failed", e);
+        }
+    }
+
+    @VisibleForTesting
+    int getShard(String localId) {
+        return Math.floorMod(localId.hashCode(), statusCheckerConfig.getShardCount());
+    }
+
+    @VisibleForTesting
+    boolean isScheduled(String localId) {
+        Map<String, ScheduledCheck> checks = schedule.get(getShard(localId));
+        return checks != null && checks.containsKey(localId);
+    }
+
+    @VisibleForTesting
+    boolean isLeaseOwned(int shard) {
+        return leases.containsKey(shard);
+    }
+
+    private String getNodeId() throws SchedulerException {
+        return StringUtils.isNotBlank(configuredNodeId) ? configuredNodeId : scheduler.getSchedulerInstanceId();
+    }
+
+    private void scheduleOwned(int shard, JobDetail jobDetail, Trigger trigger, int delayInSeconds, int intervalInSeconds) {
+        String localId = jobDetail.getKey().getName();
+        Map<String, ScheduledCheck> checks = schedule.computeIfAbsent(shard, key -> new ConcurrentHashMap<>());
+        long now = clock.getCurrentTimeMillis();
+        ScheduledCheck existing = checks.get(localId);
+        if (rescanning.get() && existing != null) {
+            existing.registeredAt = now;
+        } else {
+            checks.put(localId, new ScheduledCheck(jobDetail, trigger, now + TimeUnit.SECONDS.toMillis(delayInSeconds),
+                    TimeUnit.SECONDS.toMillis(intervalInSeconds), now));
+            LOGGER.debug("Status checker of {} is scheduled in shard {}", localId, shard);
+        }
+    }
+
+    private void unscheduleOwned(int shard, String localId) {
+        Map<String, ScheduledCheck> checks = schedule.get(shard);
+        if (checks != null && checks.remove(localId) != null) {
+            LOGGER.debug("Status checker of {} is unscheduled", localId);
+        }
+    }
+
+    private void routeToOwner(StatusCheckerShardRequest request) {
+        try {
+            requestRepository.save(request);
+        } catch (RuntimeException e) {
+            LOGGER.error("Status checker request {} cannot be routed to the owner of the shard", request, e);
+        }
+    }
+
+    /**
+     * Applies the schedule and unschedule requests made for the owned shards on other nodes, in the order they were made.
+     */
+    private void applyRoutedRequests() {
+        if (!leases.isEmpty()) {
+            List<StatusCheckerShardRequest> requests = requestRepository.findAllByShardInOrderByIdAsc(Set.copyOf(leases.keySet()));
+            for (StatusCheckerShardRequest request : requests) {
+                if (!leases.containsKey(request.getShard())) {
+                    continue;
+                }
+                if (request.isUnschedule()) {
+                    unscheduleOwned(request.getShard(), request.getLocalId());
+                } else {
+                    toJobDetail(request).ifPresent(jobDetail -> scheduleOwned(request.getShard(), jobDetail,
+                            toTrigger(jobDetail, request.getIntervalInSeconds()), request.getDelayInSeconds(), request.getIntervalInSeconds()));
+                }
+            }
+            if (!requests.isEmpty()) {
+                requestRepository.deleteAll(requests);
+                LOGGER.debug("Applied {} status checker requests routed from other nodes", requests.size());
+            }
+        }
+    }
+
+    private Optional<JobDetail> toJobDetail(StatusCheckerShardRequest request) {
+        try {
+            Class<? extends Job> jobClass = Class.forName(request.getJobClass()).asSubclass(Job.class);
+            Map<String, String> jobData = JsonUtil.jsonToType(request.getJobData(), new TypeReference<>() {
+            });
+            return Optional.of(JobBuilder.newJob(jobClass)
+                    .withIdentity(request.getLocalId(), StatusCheckerJobService.JOB_GROUP)
+                    .usingJobData(new JobDataMap(jobData))
+                    .storeDurably()
+                    .build());
+        } catch (ClassNotFoundException | ClassCastException | IllegalArgumentException e) {
+            LOGGER.warn("Routed status checker request {} has an unknown job class or invalid job data, it is dropped", request, e);
+            return Optional.empty();
+        }
+    }
+
+    private Trigger toTrigger(JobDetail jobDetail, int intervalInSeconds) {
+        return TriggerBuilder.newTrigger()
+                .forJob(jobDetail)
+                .withIdentity(jobDetail.getKey().getName(), StatusCheckerJobService.TRIGGER_GROUP)
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                        .withIntervalInSeconds(intervalInSeconds)
+                        .repeatForever())
+                .build();
+    }
+
+    private Map<String, String> toStringMap(JobDataMap jobDataMap) {
+        Map<String, String> jobData = new HashMap<>();
+        jobDataMap.forEach((key, value) -> {
+            if (value != null) {
+                jobData.put(key, String.valueOf(value));
+            }
+        });
+        return jobData;
+    }
+
+    private void releaseLeases() {
+        if (!leases.isEmpty()) {
+            try {
+                String nodeId = getNodeId();
+                for (Integer shard : leases.keySet()) {
+                    leaseRepository.release(shard, nodeId);
+                }
+                LOGGER.info("Status checker shards are released: {}", leases.keySet());
+            } catch (SchedulerException | RuntimeException e) {
+                LOGGER.warn("Status checker shards cannot be released, they are taken over by other nodes when they expire", e);
+            }
+            leases.clear();
+            schedule.clear();
+        }
+    }
+
+    private void initLeases() {
+        Set<Integer> existingShards = StreamSupport.stream(leaseRepository.findAll().spliterator(), false)
+                .map(StatusCheckerShardLease::getShard)
+                .collect(Collectors.toSet());
+        IntStream.range(0, statusCheckerConfig.getShardCount())
+                .filter(shard -> !existingShards.contains(shard))
+                .forEach(shard -> {
+                    try {
+                        leaseRepository.save(new StatusCheckerShardLease(shard));
+                    } catch (DataIntegrityViolationException e) {
+                        LOGGER.debug("Lease of status checker shard {} is already created by another node", shard);
+                    }
+                });
+    }
+
+    private void scheduleLeaseJob(JobKey leaseJobKey) throws SchedulerException {
+        JobDetail jobDetail = JobBuilder.newJob(StatusCheckerShardLeaseJob.class)
+                .withIdentity(leaseJobKey)
+                .withDescription("Status checker shard lease job")
+                .usingJobData(SHARD, leaseJobKey.getName())
+                .storeDurably()
+                .build();
+        Trigger trigger = TriggerBuilder.newTrigger()
+                .forJob(jobDetail)
+                .withIdentity(leaseJobKey.getName(), LEASE_TRIGGER_GROUP)
+                .withDescription("Status checker shard lease trigger")
+                .startAt(Date.from(ZonedDateTime.now().toInstant().plus(Duration.ofSeconds(statusCheckerConfig.getTickIntervalInSeconds()))))
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                        .withIntervalInSeconds(statusCheckerConfig.getLeaseIntervalInSeconds())
+                        .repeatForever()
+                        .withMisfireHandlingInstructionNextWithRemainingCount())
+                .build();
+        scheduler.scheduleJob(jobDetail, trigger);
+    }
+
+    /**
+     * Extends the leases of this node once a lease interval passed since their last renewal. A lease that was taken over by another node,
+     * because it could not be renewed in time, is dropped.
+     */
+    private void renewLeases(long now) throws SchedulerException {
+        long leaseDurationMillis = TimeUnit.SECONDS.toMillis(statusCheckerConfig.getLeaseDurationInSeconds());
+        long renewalThreshold = now + leaseDurationMillis - TimeUnit.SECONDS.toMillis(statusCheckerConfig.getLeaseIntervalInSeconds());
+        String nodeId = null;
+        for (Map.Entry<Integer, Long> lease : leases.entrySet()) {
+            if (lease.getValue() <= renewalThreshold) {
+                nodeId = nodeId == null ? getNodeId() : nodeId;
+                int shard = lease.getKey();
+                try {
+                    if (leaseRepository.renew(shard, nodeId, now + leaseDurationMillis) > 0) {
+                        lease.setValue(now + leaseDurationMillis);
+                    } else {
+                        LOGGER.info("Lease of status checker shard {} is taken over by another node", shard);
+                        dropShard(shard);
+                    }
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Lease of status checker shard {} cannot be renewed", shard, e);
+                }
+            }
+        }
+    }
+
+    private void releaseExpiredLeases(long now) {
+        leases.entrySet().stream()
+                .filter(lease -> lease.getValue() <= now)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList())
+                .forEach(shard -> {
+                    LOGGER.info("Lease of status checker shard {} is expired, its resources are dropped from this node", shard);
+                    dropShard(shard);
+                });
+    }
+
+    private void dropShard(int shard) {
+        leases.remove(shard);
+        schedule.remove(shard);
+        shardsToLoad.remove(shard);
+    }
+
+    private void loadShardsIfNecessary(long now) {
+        int rescanIntervalInSeconds = statusCheckerConfig.getRescanIntervalInSeconds();
+        boolean rescanDue = rescanIntervalInSeconds > 0 && now - lastRescan >= TimeUnit.SECONDS.toMillis(rescanIntervalInSeconds);
+        if (!leases.isEmpty() && (!shardsToLoad.isEmpty() || rescanDue)) {
+            shardsToLoad.clear();
+            rescanning.set(Boolean.TRUE);
+            try {
+                for (StatusCheckerJobInitializer initializer : applicationContext.getBeansOfType(StatusCheckerJobInitializer.class).values()) {
+                    LOGGER.debug("Loading the owned status checker shards with initializer '{}'", initializer.getClass());
+                    initializer.initJobs();
+                }
+            } finally {
+                rescanning.set(Boolean.FALSE);
+            }
+            schedule.values().forEach(checks -> checks.values().removeIf(check -> check.registeredAt < now));
+            lastRescan = now;
+            LOGGER.info("Status checker shards are loaded: {}", leases.keySet());
+        }
+    }
+
+    private void startDueChecks(long now) {
+        List<ScheduledCheck> dueChecks = schedule.values().stream()
+                .flatMap(checks -> checks.values().stream())
+                .filter(check -> check.nextFireTime <= now && !check.running.get())
+                .sorted(Comparator.comparingLong(check -> check.nextFireTime))
+                .limit(statusCheckerConfig.getBatchSize())
+                .collect(Collectors.toList());
+        loadRemoteStatuses(dueChecks);
+        int handled = 0;
+        for (ScheduledCheck check : dueChecks) {
+            if (check.running.compareAndSet(false, true)) {
+                try {
+                    workers.execute(() -> runCheck(check));
+                    check.nextFireTime = now + check.intervalMillis;
+                } catch (RejectedExecutionException e) {
+                    check.running.set(false);
+                    LOGGER.debug("Status checker workers are busy, the remaining checks are started on the next tick");
+                    break;
+                }
+            } else {
+                invalidateRemoteStatus(check);
+            }
+            handled++;
+        }
+        dueChecks.subList(handled, dueChecks.size()).forEach(this::invalidateRemoteStatus);
+        if (!dueChecks.isEmpty()) {
+            LOGGER.debug("Started {} status checks", dueChecks.size());
+        }
+    }
+
+    private void loadRemoteStatuses(List<ScheduledCheck> dueChecks) {
+        if (!dueChecks.isEmpty() && remoteStatusBatchLoaders.isPresent()) {
+            Map<Class<? extends Job>, List<JobDataMap>> jobDataMapsByJobClass = dueChecks.stream()
+                    .collect(Collectors.groupingBy(check -> check.jobDetail.getJobClass(),
+                            Collectors.mapping(check -> check.jobDetail.getJobDataMap(), Collectors.toList())));
+            for (RemoteStatusBatchLoader<?> loader : remoteStatusBatchLoaders.get()) {
+                List<JobDataMap> jobDataMaps = jobDataMapsByJobClass.get(loader.getJobClass());
+                if (jobDataMaps != null) {
+                    loader.load(jobDataMaps);
+                }
+            }
+        }
+    }
+
+    private void runCheck(ScheduledCheck check) {
+        try {
+            Job job = applicationContext.getAutowireCapableBeanFactory().createBean(check.jobDetail.getJobClass());
+            Date fireTime = new Date(clock.getCurrentTimeMillis());
+            TriggerFiredBundle firedBundle = new TriggerFiredBundle(check.jobDetail, (OperableTrigger) check.trigger, null, false, fireTime, fireTime,
+                    null, null);
+            job.execute(new JobExecutionContextImpl(scheduler, firedBundle, job));
+        } catch (JobExecutionException | RuntimeException e) {
+            LOGGER.warn("Status check failed for {}", check.jobDetail.getKey().getName(), e);
+        } finally {
+            invalidateRemoteStatus(check);
+            check.running.set(false);
+        }
+    }
+
+    private void invalidateRemoteStatus(ScheduledCheck check) {
+        remoteStatusBatchLoaders.ifPresent(loaders -> loaders.stream()
+                .filter(loader -> loader.getJobClass().equals(check.jobDetail.getJobClass()))
+                .forEach(loader -> loader.invalidate(check.jobDetail.getJobDataMap())));
+    }
+
+    private static class ScheduledCheck {
+
+        private final JobDetail jobDetail;
+
+        private final Trigger trigger;
+
+        private final long intervalMillis;
+
+        private final AtomicBoolean running = new AtomicBoolean();
+
+        private volatile long nextFireTime;
+
+        private volatile long registeredAt;
+
+        ScheduledCheck(JobDetail jobDetail, Trigger trigger, long nextFireTime, long intervalMillis, long registeredAt) {
+            this.jobDetail = jobDetail;
+            this.trigger = trigger;
+            this.nextFireTime = nextFireTime;
+            this.intervalMillis = intervalMillis;
+            this.registeredAt = registeredAt;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.Date;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
 
 import javax.inject.Inject;
@@ -37,9 +38,9 @@ public class StatusCheckerJobService {
 
     public static final String LONG_SYNC_JOB_TYPE = "longSyncJobType";
 
-    private static final String JOB_GROUP = "status-checker-jobs";
+    static final String JOB_GROUP = "status-checker-jobs";
 
-    private static final String TRIGGER_GROUP = "status-checker-triggers";
+    static final String TRIGGER_GROUP = "status-checker-triggers";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(StatusCheckerJobService.class);
 
@@ -54,17 +55,16 @@ public class StatusCheckerJobService {
     @Inject
     private ApplicationContext applicationContext;
 
+    @Inject
+    private Optional<ShardedStatusCheckerService> shardedStatusCheckerService;
+
     public <T> void schedule(JobResourceAdapter<T> resource) {
-        JobDetail jobDetail = buildJobDetail(resource);
-        Trigger trigger = buildJobTrigger(jobDetail, resource.getJobResource(), RANDOM.nextInt(statusCheckerConfig.getIntervalInSeconds()),
+        schedule(buildJobDetail(resource), resource.getJobResource(), RANDOM.nextInt(statusCheckerConfig.getIntervalInSeconds()),
                 statusCheckerConfig.getIntervalInSeconds());
-        schedule(jobDetail, trigger, resource.getJobResource());
     }
 
     public <T> void schedule(JobResourceAdapter<T> resource, int delayInSeconds) {
-        JobDetail jobDetail = buildJobDetail(resource);
-        Trigger trigger = buildJobTrigger(jobDetail, resource.getJobResource(), delayInSeconds, statusCheckerConfig.getIntervalInSeconds());
-        schedule(jobDetail, trigger, resource.getJobResource());
+        schedule(buildJobDetail(resource), resource.getJobResource(), delayInSeconds, statusCheckerConfig.getIntervalInSeconds());
     }
 
     public void schedule(Long id, Class<? extends JobResourceAdapter<?>> resourceAdapterClass) {
@@ -79,9 +79,7 @@ public class StatusCheckerJobService {
 
     public <T> void scheduleLongIntervalCheck(JobResourceAdapter<T> resource) {
         JobDetail jobDetail = buildJobDetail(resource, Map.of(SYNC_JOB_TYPE, LONG_SYNC_JOB_TYPE));
-        Trigger trigger = buildJobTrigger(jobDetail, resource.getJobResource(), statusCheckerConfig.getIntervalInSeconds(),
-                statusCheckerConfig.getLongIntervalInSeconds());
-        schedule(jobDetail, trigger, resource.getJobResource());
+        schedule(jobDetail, resource.getJobResource(), statusCheckerConfig.getIntervalInSeconds(), statusCheckerConfig.getLongIntervalInSeconds());
     }
 
     public <T> void scheduleLongIntervalCheck(Long id, Class<? extends JobResourceAdapter<?>> resourceAdapterClass) {
@@ -95,6 +93,10 @@ public class StatusCheckerJobService {
     }
 
     public void unschedule(String id) {
+        if (isSharded()) {
+            shardedStatusCheckerService.get().unschedule(id);
+            return;
+        }
         try {
             JobKey jobKey = JobKey.jobKey(id, JOB_GROUP);
             LOGGER.info("Unscheduling status checker job for stack with key: '{}' and group: '{}'", jobKey.getName(), jobKey.getGroup());
@@ -106,6 +108,11 @@ public class StatusCheckerJobService {
     }
 
     public void deleteAll() {
+        if (isSharded()) {
+            shardedStatusCheckerService.get().deleteAll();
+            LOGGER.info("All sharded status checks are cleared, shard leases are kept");
+            return;
+        }
         try {
             scheduler.clear();
             LOGGER.info("All scheduled tasks are cleared");
@@ -114,7 +121,12 @@ public class StatusCheckerJobService {
         }
     }
 
-    private void schedule(JobDetail jobDetail, Trigger trigger, JobResource jobResource) {
+    private void schedule(JobDetail jobDetail, JobResource jobResource, int delayInSeconds, int intervalInSeconds) {
+        Trigger trigger = buildJobTrigger(jobDetail, jobResource, delayInSeconds, intervalInSeconds);
+        if (isSharded()) {
+            shardedStatusCheckerService.get().schedule(jobDetail, trigger, delayInSeconds, intervalInSeconds);
+            return;
+        }
         try {
             JobKey jobKey = JobKey.jobKey(jobResource.getLocalId(), JOB_GROUP);
             if (scheduler.getJobDetail(jobKey) != null) {
@@ -131,6 +143,10 @@ public class StatusCheckerJobService {
         }
     }
 
+    private boolean isSharded() {
+        return shardedStatusCheckerService.map(ShardedStatusCheckerService::isEnabled).orElse(false);
+    }
+
     private <T> JobDetail buildJobDetail(JobResourceAdapter<T> resource) {
         return buildJobDetail(resource, Map.of());
     }
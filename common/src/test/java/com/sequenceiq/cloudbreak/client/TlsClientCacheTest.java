@@ -0,0 +1,112 @@
+package com.sequenceiq.cloudbreak.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import javax.ws.rs.client.Client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TlsClientCacheTest {
+
+    private static final String OWNER = "crn:cdp:datahub:us-west-1:tenant:cluster:1";
+
+    private static final int MAX_SIZE = 10;
+
+    private static final int MAX_CONNECTIONS = 2;
+
+    private static final Duration CLOSE_DELAY = Duration.ofMillis(500L);
+
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000L;
+
+    private final TlsClientCache underTest = new TlsClientCache(MAX_SIZE, Duration.ofMinutes(1L), MAX_CONNECTIONS, CLOSE_DELAY);
+
+    @AfterEach
+    void tearDown() {
+        underTest.close();
+    }
+
+    @Test
+    void testClientIsReusedForTheSameCertificates() throws Exception {
+        Client first = underTest.getClient(OWNER, "server-cert", "", "", false);
+        Client second = underTest.getClient(OWNER, "server-cert", "", "", false);
+
+        assertSame(first, second);
+        assertEquals(1L, underTest.getMissCount());
+        assertEquals(1L, underTest.getHitCount());
+        assertEquals(1L, underTest.size());
+    }
+
+    @Test
+    void testRotatedCertificatesInvalidateTheOldClientAndCloseItAfterTheDelay() throws Exception {
+        Client oldClient = underTest.getClient(OWNER, "server-cert", "", "", false);
+
+        Client newClient = underTest.getClient(OWNER, "rotated-server-cert", "", "", false);
+
+        assertNotSame(oldClient, newClient);
+        assertEquals(1L, underTest.size());
+        assertNotNull(oldClient.target("https://localhost"));
+        awaitClosed(oldClient);
+        assertNotNull(newClient.target("https://localhost"));
+    }
+
+    @Test
+    void testOwnersAreForgottenWithTheEvictedClients() throws Exception {
+        try (TlsClientCache cache = new TlsClientCache(1L, Duration.ofMinutes(1L), MAX_CONNECTIONS, CLOSE_DELAY)) {
+            cache.getClient(OWNER, "server-cert", "", "", false);
+            cache.getClient("crn:cdp:datahub:us-west-1:tenant:cluster:2", "other-server-cert", "", "", false);
+            cache.getClient("crn:cdp:datahub:us-west-1:tenant:cluster:3", "third-server-cert", "", "", false);
+            cache.cleanUp();
+
+            assertEquals(1L, cache.size());
+            assertEquals(1L, cache.ownerCount());
+        }
+    }
+
+    @Test
+    void testCloseClosesTheClientsWaitingForTheDelay() throws Exception {
+        TlsClientCache cache = new TlsClientCache(MAX_SIZE, Duration.ofMinutes(1L), MAX_CONNECTIONS, Duration.ofHours(1L));
+        Client client = cache.getClient(OWNER, "server-cert", "", "", false);
+        cache.invalidate(OWNER);
+        assertNotNull(client.target("https://localhost"));
+
+        cache.close();
+
+        assertThrows(IllegalStateException.class, () -> client.target("https://localhost"));
+    }
+
+    @Test
+    void testInvalidate() throws Exception {
+        Client client = underTest.getClient(OWNER, "server-cert", "", "", false);
+
+        underTest.invalidate(OWNER);
+
+        assertNotSame(client, underTest.getClient(OWNER, "server-cert", "", "", false));
+        assertEquals(2L, underTest.getMissCount());
+        assertEquals(1L, underTest.ownerCount());
+    }
+
+    private void awaitClosed(Client client) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + CLOSE_TIMEOUT_MILLIS;
+        while (!isClosed(client) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertTrue(isClosed(client));
+    }
+
+    private boolean isClosed(Client client) {
+        try {
+            client.target("https://localhost");
+            return false;
+        } catch (IllegalStateException e) {
+            return true;
+        }
+    }
+}
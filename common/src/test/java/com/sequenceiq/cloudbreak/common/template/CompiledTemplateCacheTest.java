@@ -0,0 +1,56 @@
+package com.sequenceiq.cloudbreak.common.template;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class CompiledTemplateCacheTest {
+
+    private static final long MAX_CACHED_TEMPLATES = 10L;
+
+    private final AtomicInteger compilations = new AtomicInteger();
+
+    private final CompiledTemplateCache<StringBuilder> underTest = new CompiledTemplateCache<>("test.templates", MAX_CACHED_TEMPLATES);
+
+    @Test
+    void testTemplateIsCompiledOnceForTheSameText() throws IOException {
+        StringBuilder first = underTest.get("name", "text", this::compile);
+        StringBuilder second = underTest.get("name", new String("text"), this::compile);
+
+        assertSame(first, second);
+        assertEquals(1, compilations.get());
+        assertEquals(1L, underTest.getHitCount());
+        assertEquals(0.5, underTest.getHitRate());
+    }
+
+    @Test
+    void testTemplatesWithDifferentNameOrTextAreCompiledSeparately() throws IOException {
+        StringBuilder template = underTest.get("name", "text", this::compile);
+
+        assertNotSame(template, underTest.get("other", "text", this::compile));
+        assertNotSame(template, underTest.get("name", "other", this::compile));
+        assertEquals(3, compilations.get());
+    }
+
+    @Test
+    void testCompilationFailureIsRethrownAndNotCached() throws IOException {
+        IOException failure = new IOException("invalid template");
+
+        assertSame(failure, assertThrows(IOException.class, () -> underTest.get("name", "text", (name, text) -> {
+            throw failure;
+        })));
+        underTest.get("name", "text", this::compile);
+        assertEquals(1, compilations.get());
+    }
+
+    private StringBuilder compile(String name, String text) {
+        compilations.incrementAndGet();
+        return new StringBuilder(name).append(text);
+    }
+}
@@ -0,0 +1,466 @@
+package com.sequenceiq.cloudbreak.quartz.statuschecker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobBuilder;
+import org.quartz.JobDataMap;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sequenceiq.cloudbreak.common.service.Clock;
+import com.sequenceiq.cloudbreak.quartz.model.JobResourceAdapter;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.StatusCheckerConfig;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.StatusCheckerJobInitializer;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.domain.StatusCheckerShardLease;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.domain.StatusCheckerShardRequest;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.job.StatusCheckerShardLeaseJob;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.repository.StatusCheckerShardLeaseRepository;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.repository.StatusCheckerShardRequestRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedStatusCheckerServiceTest {
+
+    private static final String NODE_ID = "node-1";
+
+    private static final String OTHER_NODE_ID = "node-2";
+
+    private static final int SHARD_COUNT = 4;
+
+    private static final int LEASE_DURATION_IN_SECONDS = 300;
+
+    private static final int LEASE_INTERVAL_IN_SECONDS = 60;
+
+    private static final int INTERVAL_IN_SECONDS = 180;
+
+    private static final long NOW = 1_000_000L;
+
+    private static final long LEASE_DURATION_IN_MILLIS = LEASE_DURATION_IN_SECONDS * 1000L;
+
+    private static final long LEASE_INTERVAL_IN_MILLIS = LEASE_INTERVAL_IN_SECONDS * 1000L;
+
+    private final Map<Integer, StatusCheckerShardLease> storedLeases = new HashMap<>();
+
+    @Mock
+    private StatusCheckerConfig statusCheckerConfig;
+
+    @Mock
+    private Scheduler scheduler;
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    @Mock
+    private Clock clock;
+
+    @Mock
+    private StatusCheckerShardLeaseRepository leaseRepository;
+
+    @Mock
+    private StatusCheckerShardRequestRepository requestRepository;
+
+    @Mock
+    private ExecutorService workers;
+
+    @Mock
+    private RemoteStatusBatchLoader<String> remoteStatusBatchLoader;
+
+    @Captor
+    private ArgumentCaptor<Collection<JobDataMap>> jobDataMapsCaptor;
+
+    @InjectMocks
+    private ShardedStatusCheckerService underTest;
+
+    @BeforeEach
+    void setUp() throws SchedulerException {
+        lenient().when(statusCheckerConfig.getShardCount()).thenReturn(SHARD_COUNT);
+        lenient().when(statusCheckerConfig.getLeaseDurationInSeconds()).thenReturn(LEASE_DURATION_IN_SECONDS);
+        lenient().when(statusCheckerConfig.getLeaseIntervalInSeconds()).thenReturn(LEASE_INTERVAL_IN_SECONDS);
+        lenient().when(leaseRepository.acquire(anyInt(), anyString(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            StatusCheckerShardLease lease = storedLeases.computeIfAbsent(invocation.getArgument(0), StatusCheckerShardLease::new);
+            String owner = invocation.getArgument(1);
+            if (lease.getOwner() == null || lease.getOwner().equals(owner) || lease.getExpiry() <= invocation.<Long>getArgument(2)) {
+                lease.setOwner(owner);
+                lease.setExpiry(invocation.getArgument(3));
+                return 1;
+            }
+            return 0;
+        });
+        lenient().when(leaseRepository.renew(anyInt(), anyString(), anyLong())).thenAnswer(invocation -> {
+            StatusCheckerShardLease lease = storedLeases.get(invocation.<Integer>getArgument(0));
+            if (lease != null && invocation.getArgument(1).equals(lease.getOwner())) {
+                lease.setExpiry(invocation.getArgument(2));
+                return 1;
+            }
+            return 0;
+        });
+        lenient().when(scheduler.getSchedulerInstanceId()).thenReturn(NODE_ID);
+        lenient().when(clock.getCurrentTimeMillis()).thenReturn(NOW);
+        ReflectionTestUtils.setField(underTest, "remoteStatusBatchLoaders", Optional.empty());
+    }
+
+    @Test
+    void testAcquireFreeLease() throws SchedulerException {
+        underTest.acquireLease(0);
+
+        assertTrue(underTest.isLeaseOwned(0));
+        assertEquals(NODE_ID, storedLeases.get(0).getOwner());
+        assertEquals(NOW + LEASE_DURATION_IN_MILLIS, storedLeases.get(0).getExpiry());
+    }
+
+    @Test
+    void testLeaseOfOtherNodeIsNotTakenOverBeforeExpiry() throws SchedulerException {
+        storeLease(0, OTHER_NODE_ID, NOW + 1);
+
+        underTest.acquireLease(0);
+
+        assertFalse(underTest.isLeaseOwned(0));
+        assertEquals(OTHER_NODE_ID, storedLeases.get(0).getOwner());
+        assertEquals(NOW + 1, storedLeases.get(0).getExpiry());
+    }
+
+    @Test
+    void testExpiredLeaseOfOtherNodeIsTakenOver() throws SchedulerException {
+        storeLease(0, OTHER_NODE_ID, NOW);
+
+        underTest.acquireLease(0);
+
+        assertTrue(underTest.isLeaseOwned(0));
+        assertEquals(NODE_ID, storedLeases.get(0).getOwner());
+        assertEquals(NOW + LEASE_DURATION_IN_MILLIS, storedLeases.get(0).getExpiry());
+    }
+
+    @Test
+    void testConfiguredNodeIdIsTheOwnerOfTheLease() throws SchedulerException {
+        ReflectionTestUtils.setField(underTest, "configuredNodeId", "stable-node");
+
+        underTest.acquireLease(0);
+
+        assertTrue(underTest.isLeaseOwned(0));
+        assertEquals("stable-node", storedLeases.get(0).getOwner());
+        verify(scheduler, never()).getSchedulerInstanceId();
+    }
+
+    @Test
+    void testOwnedLeasesAreReleasedOnShutdown() throws SchedulerException {
+        String localId = localIdOfShard(1);
+        underTest.acquireLease(0);
+        underTest.acquireLease(1);
+        underTest.schedule(jobDetail(localId), trigger(localId), INTERVAL_IN_SECONDS, INTERVAL_IN_SECONDS);
+
+        underTest.destroy();
+
+        verify(leaseRepository).release(0, NODE_ID);
+        verify(leaseRepository).release(1, NODE_ID);
+        assertFalse(underTest.isLeaseOwned(0));
+        assertFalse(underTest.isScheduled(localId));
+    }
+
+    @Test
+    void testOwnLeaseIsRenewedOnTick() throws SchedulerException {
+        when(statusCheckerConfig.getRescanIntervalInSeconds()).thenReturn(Integer.MAX_VALUE);
+        when(applicationContext.getBeansOfType(StatusCheckerJobInitializer.class)).thenReturn(Map.of());
+        underTest.acquireLease(0);
+        long renewalTime = NOW + LEASE_INTERVAL_IN_MILLIS;
+        when(clock.getCurrentTimeMillis()).thenReturn(renewalTime);
+
+        underTest.tick();
+
+        assertTrue(underTest.isLeaseOwned(0));
+        assertEquals(renewalTime + LEASE_DURATION_IN_MILLIS, storedLeases.get(0).getExpiry());
+    }
+
+    @Test
+    void testOwnedLeaseIsKeptWhenTheLeaseJobFiresOnOtherNode() throws SchedulerException {
+        when(statusCheckerConfig.getRescanIntervalInSeconds()).thenReturn(Integer.MAX_VALUE);
+        when(applicationContext.getBeansOfType(StatusCheckerJobInitializer.class)).thenReturn(Map.of());
+        ShardedStatusCheckerService otherNode = otherNode();
+        underTest.acquireLease(0);
+        when(clock.getCurrentTimeMillis()).thenReturn(NOW + LEASE_INTERVAL_IN_MILLIS);
+        underTest.tick();
+        when(clock.getCurrentTimeMillis()).thenReturn(NOW + LEASE_DURATION_IN_MILLIS);
+
+        otherNode.acquireLease(0);
+        underTest.tick();
+
+        assertFalse(otherNode.isLeaseOwned(0));
+        assertTrue(underTest.isLeaseOwned(0));
+        assertEquals(NODE_ID, storedLeases.get(0).getOwner());
+    }
+
+    @Test
+    void testLeaseTakenOverByOtherNodeIsDroppedOnTick() throws SchedulerException {
+        String localId = localIdOfShard(1);
+        underTest.acquireLease(1);
+        underTest.schedule(jobDetail(localId), trigger(localId), INTERVAL_IN_SECONDS, INTERVAL_IN_SECONDS);
+        storeLease(1, OTHER_NODE_ID, NOW + LEASE_DURATION_IN_MILLIS);
+        when(clock.getCurrentTimeMillis()).thenReturn(NOW + LEASE_INTERVAL_IN_MILLIS);
+
+        underTest.tick();
+
+        assertFalse(underTest.isLeaseOwned(1));
+        assertFalse(underTest.isScheduled(localId));
+    }
+
+    @Test
+    void testScheduleOfNotOwnedShardIsRoutedToTheOwner() throws SchedulerException {
+        String ownedId = localIdOfShard(1);
+        String notOwnedId = localIdOfShard(2);
+        underTest.acquireLease(1);
+
+        underTest.schedule(jobDetail(ownedId), trigger(ownedId), INTERVAL_IN_SECONDS, INTERVAL_IN_SECONDS);
+        underTest.schedule(jobDetail(notOwnedId), trigger(notOwnedId), INTERVAL_IN_SECONDS, INTERVAL_IN_SECONDS);
+
+        assertTrue(underTest.isScheduled(ownedId));
+        assertFalse(underTest.isScheduled(notOwnedId));
+        ArgumentCaptor<StatusCheckerShardRequest> requestCaptor = ArgumentCaptor.forClass(StatusCheckerShardRequest.class);
+        verify(requestRepository, times(1)).save(requestCaptor.capture());
+        StatusCheckerShardRequest request = requestCaptor.getValue();
+        assertEquals(2, request.getShard().intValue());
+        assertEquals(notOwnedId, request.getLocalId());
+        assertEquals(StatusCheckerShardLeaseJob.class.getName(), request.getJobClass());
+        assertFalse(request.isUnschedule());
+    }
+
+    @Test
+    void testUnscheduleOfNotOwnedShardIsRoutedToTheOwner() {
+        String localId = localIdOfShard(2);
+
+        underTest.unschedule(localId);
+
+        ArgumentCaptor<StatusCheckerShardRequest> requestCaptor = ArgumentCaptor.forClass(StatusCheckerShardRequest.class);
+        verify(requestRepository, times(1)).save(requestCaptor.capture());
+        assertEquals(localId, requestCaptor.getValue().getLocalId());
+        assertTrue(requestCaptor.getValue().isUnschedule());
+    }
+
+    @Test
+    void testRoutedRequestsAreAppliedByTheOwnerOnTick() throws SchedulerException {
+        String scheduledId = localIdOfShard(1);
+        String unscheduledId = localIdOfShard(1, scheduledId);
+        when(applicationContext.getBeansOfType(StatusCheckerJobInitializer.class)).thenReturn(Map.of());
+        underTest.acquireLease(1);
+        underTest.schedule(jobDetail(unscheduledId), trigger(unscheduledId), INTERVAL_IN_SECONDS, INTERVAL_IN_SECONDS);
+        ShardedStatusCheckerService otherNode = otherNode();
+        otherNode.schedule(jobDetail(scheduledId), trigger(scheduledId), INTERVAL_IN_SECONDS, INTERVAL_IN_SECONDS);
+        otherNode.unschedule(unscheduledId);
+        ArgumentCaptor<StatusCheckerShardRequest> requestCaptor = ArgumentCaptor.forClass(StatusCheckerShardRequest.class);
+        verify(requestRepository, times(2)).save(requestCaptor.capture());
+        List<StatusCheckerShardRequest> requests = requestCaptor.getAllValues();
+        when(requestRepository.findAllByShardInOrderByIdAsc(Set.of(1))).thenReturn(requests);
+
+        underTest.tick();
+
+        assertTrue(underTest.isScheduled(scheduledId));
+        assertFalse(underTest.isScheduled(unscheduledId));
+        verify(requestRepository).deleteAll(requests);
+    }
+
+    @Test
+    void testNotOwnedShardsAreNotRoutedWhileTheOwnedShardsAreLoaded() throws SchedulerException {
+        String notOwnedId = localIdOfShard(2);
+        StatusCheckerJobInitializer initializer = () -> underTest.schedule(jobDetail(notOwnedId), trigger(notOwnedId), INTERVAL_IN_SECONDS,
+                INTERVAL_IN_SECONDS);
+        when(applicationContext.getBeansOfType(StatusCheckerJobInitializer.class)).thenReturn(Map.of("initializer", initializer));
+        underTest.acquireLease(1);
+
+        underTest.tick();
+
+        verify(requestRepository, never()).save(any());
+    }
+
+    @Test
+    void testUnschedule() throws SchedulerException {
+        String localId = localIdOfShard(1);
+        underTest.acquireLease(1);
+        underTest.schedule(jobDetail(localId), trigger(localId), INTERVAL_IN_SECONDS, INTERVAL_IN_SECONDS);
+
+        underTest.unschedule(localId);
+
+        assertFalse(underTest.isScheduled(localId));
+    }
+
+    @Test
+    void testAcquiredShardIsLoadedWithStatusCheckerInitializersOnTick() throws SchedulerException {
+        String localId = localIdOfShard(1);
+        StatusCheckerJobInitializer initializer = () -> underTest.schedule(jobDetail(localId), trigger(localId), INTERVAL_IN_SECONDS,
+                INTERVAL_IN_SECONDS);
+        when(applicationContext.getBeansOfType(StatusCheckerJobInitializer.class)).thenReturn(Map.of("initializer", initializer));
+        when(statusCheckerConfig.getRescanIntervalInSeconds()).thenReturn(Integer.MAX_VALUE);
+        underTest.acquireLease(1);
+
+        underTest.tick();
+        underTest.tick();
+
+        assertTrue(underTest.isScheduled(localId));
+        verify(applicationContext, times(1)).getBeansOfType(StatusCheckerJobInitializer.class);
+    }
+
+    @Test
+    void testResourcesOfExpiredLeaseAreDroppedOnTick() throws SchedulerException {
+        String localId = localIdOfShard(1);
+        underTest.acquireLease(1);
+        underTest.schedule(jobDetail(localId), trigger(localId), INTERVAL_IN_SECONDS, INTERVAL_IN_SECONDS);
+        when(clock.getCurrentTimeMillis()).thenReturn(NOW + LEASE_DURATION_IN_MILLIS);
+
+        underTest.tick();
+
+        assertFalse(underTest.isScheduled(localId));
+        verify(applicationContext, never()).getBeansOfType(StatusCheckerJobInitializer.class);
+    }
+
+    @Test
+    void testRemoteStatusesOfDueChecksAreLoadedInOneBatch() throws SchedulerException {
+        String localId = localIdOfShard(1);
+        String otherLocalId = localIdOfShard(1, localId);
+        when(statusCheckerConfig.getBatchSize()).thenReturn(SHARD_COUNT);
+        when(statusCheckerConfig.getRescanIntervalInSeconds()).thenReturn(Integer.MAX_VALUE);
+        when(applicationContext.getBeansOfType(StatusCheckerJobInitializer.class)).thenReturn(Map.of());
+        doReturn(StatusCheckerShardLeaseJob.class).when(remoteStatusBatchLoader).getJobClass();
+        ReflectionTestUtils.setField(underTest, "remoteStatusBatchLoaders", Optional.of(List.of(remoteStatusBatchLoader)));
+        ReflectionTestUtils.setField(underTest, "workers", workers);
+        underTest.acquireLease(1);
+        underTest.schedule(jobDetail(localId), trigger(localId), 0, INTERVAL_IN_SECONDS);
+        underTest.schedule(jobDetail(otherLocalId), trigger(otherLocalId), 0, INTERVAL_IN_SECONDS);
+
+        underTest.tick();
+
+        verify(remoteStatusBatchLoader, times(1)).load(jobDataMapsCaptor.capture());
+        assertEquals(Set.of("crn-" + localId, "crn-" + otherLocalId), jobDataMapsCaptor.getValue().stream()
+                .map(jobDataMap -> jobDataMap.getString(JobResourceAdapter.REMOTE_RESOURCE_CRN))
+                .collect(Collectors.toSet()));
+        verify(workers, times(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void testRemoteStatusesAreInvalidatedWhenTheirChecksFinishOrAreNotStarted() throws SchedulerException {
+        String localId = localIdOfShard(1);
+        String otherLocalId = localIdOfShard(1, localId);
+        when(statusCheckerConfig.getBatchSize()).thenReturn(SHARD_COUNT);
+        when(statusCheckerConfig.getRescanIntervalInSeconds()).thenReturn(Integer.MAX_VALUE);
+        when(applicationContext.getBeansOfType(StatusCheckerJobInitializer.class)).thenReturn(Map.of());
+        doReturn(StatusCheckerShardLeaseJob.class).when(remoteStatusBatchLoader).getJobClass();
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).doThrow(new RejectedExecutionException("busy")).when(workers).execute(any(Runnable.class));
+        ReflectionTestUtils.setField(underTest, "remoteStatusBatchLoaders", Optional.of(List.of(remoteStatusBatchLoader)));
+        ReflectionTestUtils.setField(underTest, "workers", workers);
+        underTest.acquireLease(1);
+        underTest.schedule(jobDetail(localId), trigger(localId), 0, INTERVAL_IN_SECONDS);
+        underTest.schedule(jobDetail(otherLocalId), trigger(otherLocalId), 0, INTERVAL_IN_SECONDS);
+
+        underTest.tick();
+
+        ArgumentCaptor<JobDataMap> invalidatedCaptor = ArgumentCaptor.forClass(JobDataMap.class);
+        verify(remoteStatusBatchLoader, times(2)).invalidate(invalidatedCaptor.capture());
+        assertEquals(Set.of("crn-" + localId, "crn-" + otherLocalId), invalidatedCaptor.getAllValues().stream()
+                .map(jobDataMap -> jobDataMap.getString(JobResourceAdapter.REMOTE_RESOURCE_CRN))
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    void testInitLeaseJobsKeepsLeaseJobsAndRemovesOtherJobs() throws SchedulerException {
+        JobKey leaseJobKey = JobKey.jobKey("0", "status-checker-shard-jobs");
+        JobKey resourceJobKey = JobKey.jobKey("1", "status-checker-jobs");
+        when(scheduler.getJobGroupNames()).thenReturn(List.of(leaseJobKey.getGroup(), resourceJobKey.getGroup()));
+        when(scheduler.getJobKeys(any())).thenReturn(Set.of(leaseJobKey), Set.of(resourceJobKey));
+        when(scheduler.checkExists(any(JobKey.class))).thenAnswer(invocation -> leaseJobKey.equals(invocation.getArgument(0)));
+
+        underTest.initLeaseJobs();
+
+        verify(scheduler).deleteJobs(List.of());
+        verify(scheduler).deleteJobs(List.of(resourceJobKey));
+        verify(scheduler, times(SHARD_COUNT - 1)).scheduleJob(any(JobDetail.class), any(Trigger.class));
+    }
+
+    @Test
+    void testInitLeaseJobsCreatesMissingLeases() throws SchedulerException {
+        when(scheduler.getJobGroupNames()).thenReturn(List.of());
+        when(scheduler.checkExists(any(JobKey.class))).thenReturn(true);
+        when(leaseRepository.findAll()).thenReturn(List.of(new StatusCheckerShardLease(0)));
+
+        underTest.initLeaseJobs();
+
+        ArgumentCaptor<StatusCheckerShardLease> leaseCaptor = ArgumentCaptor.forClass(StatusCheckerShardLease.class);
+        verify(leaseRepository, times(SHARD_COUNT - 1)).save(leaseCaptor.capture());
+        assertEquals(Set.of(1, 2, 3), leaseCaptor.getAllValues().stream().map(StatusCheckerShardLease::getShard).collect(Collectors.toSet()));
+    }
+
+    private void storeLease(int shard, String owner, long expiry) {
+        StatusCheckerShardLease lease = new StatusCheckerShardLease(shard);
+        lease.setOwner(owner);
+        lease.setExpiry(expiry);
+        storedLeases.put(shard, lease);
+    }
+
+    private ShardedStatusCheckerService otherNode() throws SchedulerException {
+        Scheduler otherScheduler = mock(Scheduler.class);
+        lenient().when(otherScheduler.getSchedulerInstanceId()).thenReturn(OTHER_NODE_ID);
+        ShardedStatusCheckerService otherNode = new ShardedStatusCheckerService();
+        ReflectionTestUtils.setField(otherNode, "statusCheckerConfig", statusCheckerConfig);
+        ReflectionTestUtils.setField(otherNode, "scheduler", otherScheduler);
+        ReflectionTestUtils.setField(otherNode, "clock", clock);
+        ReflectionTestUtils.setField(otherNode, "leaseRepository", leaseRepository);
+        ReflectionTestUtils.setField(otherNode, "requestRepository", requestRepository);
+        return otherNode;
+    }
+
+    private String localIdOfShard(int shard, String... excludedLocalIds) {
+        Set<String> excluded = Set.of(excludedLocalIds);
+        return IntStream.range(0, SHARD_COUNT * SHARD_COUNT)
+                .mapToObj(String::valueOf)
+                .filter(localId -> underTest.getShard(localId) == shard && !excluded.contains(localId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private JobDetail jobDetail(String localId) {
+        return JobBuilder.newJob(StatusCheckerShardLeaseJob.class)
+                .withIdentity(localId, "status-checker-jobs")
+                .usingJobData(JobResourceAdapter.REMOTE_RESOURCE_CRN, "crn-" + localId)
+                .build();
+    }
+
+    private Trigger trigger(String localId) {
+        return TriggerBuilder.newTrigger().withIdentity(localId, "status-checker-triggers").build();
+    }
+}
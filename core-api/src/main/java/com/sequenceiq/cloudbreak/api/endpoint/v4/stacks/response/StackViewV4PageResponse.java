@@ -0,0 +1,53 @@
+package com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.sequenceiq.common.model.JsonEntity;
+
+import io.swagger.annotations.ApiModelProperty;
+
+@JsonInclude(Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class StackViewV4PageResponse implements JsonEntity {
+
+    private List<StackViewV4Response> content = new ArrayList<>();
+
+    @ApiModelProperty("The token of the next page, it is missing on the last page")
+    private String nextPageToken;
+
+    public StackViewV4PageResponse() {
+    }
+
+    public StackViewV4PageResponse(List<StackViewV4Response> content, String nextPageToken) {
+        this.content = content;
+        this.nextPageToken = nextPageToken;
+    }
+
+    public List<StackViewV4Response> getContent() {
+        return content;
+    }
+
+    public void setContent(List<StackViewV4Response> content) {
+        this.content = content;
+    }
+
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+    public void setNextPageToken(String nextPageToken) {
+        this.nextPageToken = nextPageToken;
+    }
+
+    @Override
+    public String toString() {
+        return "StackViewV4PageResponse{"
+                + "content=" + content
+                + ", nextPageToken='" + nextPageToken + '\''
+                + '}';
+    }
+}
@@ -18,6 +18,7 @@ public class OperationDescriptions {
     public static class StackOpDescription {
         public static final String GET_BY_CRN = "retrieve stack by crn";
         public static final String GET_STATUS_BY_NAME = "retrieve stack status by stack name";
+        public static final String GET_STATUS_BY_CRNS = "retrieve the statuses of stacks by crns";
         public static final String PUT_BY_ID = "update stack by id";
         public static final String PUT_START_INSTANCES_BY_ID = "update stack to start instances by id";
         public static final String PUT_BY_NAME = "update stack by name";
@@ -31,6 +31,7 @@ import static com.sequenceiq.distrox.api.v1.distrox.doc.DistroXOpDescription.GET
 import static com.sequenceiq.distrox.api.v1.distrox.doc.DistroXOpDescription.GET_STATUS_BY_NAME;
 import static com.sequenceiq.distrox.api.v1.distrox.doc.DistroXOpDescription.LIST;
 import static com.sequenceiq.distrox.api.v1.distrox.doc.DistroXOpDescription.LIST_FLOW_PROGRESS;
+import static com.sequenceiq.distrox.api.v1.distrox.doc.DistroXOpDescription.LIST_PAGE;
 import static com.sequenceiq.distrox.api.v1.distrox.doc.DistroXOpDescription.POST_STACK_FOR_BLUEPRINT;
 import static com.sequenceiq.distrox.api.v1.distrox.doc.DistroXOpDescription.RENEW_CERTIFICATE;
 import static com.sequenceiq.distrox.api.v1.distrox.doc.DistroXOpDescription.REPAIR_CLUSTER_BY_CRN;
@@ -51,6 +52,8 @@ import java.util.List;
 import java.util.Set;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.Consumes;
@@ -75,6 +78,7 @@ import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.DistroXSyncCmV1
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.GeneratedBlueprintV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackStatusV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackV4Response;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackViewV4PageResponse;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackViewV4Responses;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.recipe.AttachRecipeV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.recipe.DetachRecipeV4Response;
@@ -123,6 +127,16 @@ public interface DistroXV1Endpoint {
             @QueryParam("environmentName") String environmentName,
             @QueryParam("environmentCrn") String environmentCrn);
 
+    @GET
+    @Path("page")
+    @ApiOperation(value = LIST_PAGE, produces = MediaType.APPLICATION_JSON, notes = Notes.STACK_NOTES,
+            nickname = "listDistroXPageV1")
+    StackViewV4PageResponse listPage(
+            @QueryParam("environmentName") String environmentName,
+            @QueryParam("environmentCrn") String environmentCrn,
+            @QueryParam("pageToken") String pageToken,
+            @QueryParam("pageSize") @DefaultValue("20") @Min(1) @Max(100) int pageSize);
+
     @POST
     @Path("")
     @ApiOperation(value = CREATE, produces = MediaType.APPLICATION_JSON, notes = Notes.STACK_NOTES,
@@ -35,9 +35,11 @@ import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.ClusterProx
 import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.LimitsConfigurationResponse;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.connector.responses.AutoscaleRecommendationV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.dto.NameOrCrn;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.request.StatusCrnsV4Request;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.request.UpdateClusterV4Request;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.AutoscaleStackV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackStatusV4Response;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackStatusV4Responses;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackV4Response;
 import com.sequenceiq.cloudbreak.auth.security.internal.AccountId;
 import com.sequenceiq.cloudbreak.auth.security.internal.TenantAwareParam;
@@ -193,6 +195,13 @@ public class AutoscaleV4Controller implements AutoscaleV4Endpoint {
         return stackOperations.getStatus(crn);
     }
 
+    @Override
+    @InternalOnly
+    @AccountIdNotNeeded
+    public StackStatusV4Responses getStatusByCrns(StatusCrnsV4Request request) {
+        return stackOperations.getStatusByCrns(request.getCrns());
+    }
+
     @Override
     @InternalOnly
     public AuthorizeForAutoscaleV4Response authorizeForAutoscale(@TenantAwareParam String crn, String userId, String tenant, String permission) {
@@ -4,10 +4,11 @@ import javax.inject.Inject;
 
 import org.springframework.stereotype.Component;
 
+import com.sequenceiq.cloudbreak.quartz.statuschecker.StatusCheckerJobInitializer;
 import com.sequenceiq.cloudbreak.quartz.statuschecker.service.StatusCheckerJobService;
 
 @Component
-public class StackJobInitializer extends AbstractStackJobInitializer {
+public class StackJobInitializer extends AbstractStackJobInitializer implements StatusCheckerJobInitializer {
 
     @Inject
     private StatusCheckerJobService jobService;
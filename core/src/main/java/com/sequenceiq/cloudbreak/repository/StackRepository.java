@@ -10,6 +10,7 @@ import java.util.Set;
 import javax.transaction.Transactional;
 import javax.transaction.Transactional.TxType;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -176,6 +177,19 @@ public interface StackRepository extends WorkspaceResourceRepository<Stack, Long
             + "WHERE s.resourceCrn in :crns AND (s.type IS null OR s.type = :stackType)")
     List<StackClusterStatusView> getStatusByCrnsInternal(@Param("crns") List<String> crns, @Param("stackType") StackType stackType);
 
+    @Query("SELECT s.id as id, "
+            + "s.resourceCrn as crn, "
+            + "ss.status as status, "
+            + "ss.statusReason as statusReason, "
+            + "c.status as clusterStatus, "
+            + "c.statusReason as clusterStatusReason, "
+            + "c.certExpirationState as certExpirationState "
+            + "FROM Stack s "
+            + "LEFT JOIN s.cluster c "
+            + "LEFT JOIN s.stackStatus ss "
+            + "WHERE s.resourceCrn in :crns")
+    List<StackClusterStatusView> getStatusByCrns(@Param("crns") List<String> crns);
+
     @Query("SELECT s.id as id, "
             + "s.resourceCrn as crn, "
             + "ss.status as status, "
@@ -367,6 +381,25 @@ public interface StackRepository extends WorkspaceResourceRepository<Stack, Long
             + "AND (s.type IS null OR s.type = :stackType)")
     List<ResourceWithId> getAsAuthorizationResources(@Param("id") Long id, @Param("stackType") StackType stackType);
 
+    @Query("SELECT new com.sequenceiq.authorization.service.list.ResourceWithId(s.id, s.resourceCrn, s.environmentCrn) "
+            + "FROM Stack s "
+            + "WHERE s.workspace.id = :id AND s.terminated = null "
+            + "AND (s.type IS null OR s.type = :stackType) "
+            + "AND s.id > :afterId "
+            + "ORDER BY s.id")
+    List<ResourceWithId> getAsAuthorizationResourcesAfterId(@Param("id") Long id, @Param("stackType") StackType stackType, @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    @Query("SELECT new com.sequenceiq.authorization.service.list.ResourceWithId(s.id, s.resourceCrn, s.environmentCrn) "
+            + "FROM Stack s "
+            + "WHERE s.workspace.id = :id AND s.terminated = null "
+            + "AND s.environmentCrn = :environmentCrn "
+            + "AND (s.type IS null OR s.type = :stackType) "
+            + "AND s.id > :afterId "
+            + "ORDER BY s.id")
+    List<ResourceWithId> getAsAuthorizationResourcesByEnvCrnAfterId(@Param("id") Long id, @Param("environmentCrn") String environmentCrn,
+            @Param("stackType") StackType stackType, @Param("afterId") Long afterId, Pageable pageable);
+
     @Query("SELECT new com.sequenceiq.authorization.service.list.ResourceWithId(s.id, s.resourceCrn, s.environmentCrn) "
             + "FROM Stack s "
             + "WHERE s.workspace.id = :id "
@@ -2,7 +2,14 @@ package com.sequenceiq.cloudbreak.service.eventbus;
 
 import static com.sequenceiq.cloudbreak.common.exception.NotFoundException.notFound;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -11,16 +18,19 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import com.sequenceiq.cloudbreak.cloud.model.CloudResource;
+import com.sequenceiq.cloudbreak.cloud.notification.model.ResourceBatchNotification;
 import com.sequenceiq.cloudbreak.cloud.notification.model.ResourceNotification;
+import com.sequenceiq.cloudbreak.cloud.service.BatchPersister;
 import com.sequenceiq.cloudbreak.cloud.service.Persister;
 import com.sequenceiq.cloudbreak.converter.spi.CloudResourceToResourceConverter;
 import com.sequenceiq.cloudbreak.domain.Resource;
 import com.sequenceiq.cloudbreak.domain.stack.Stack;
 import com.sequenceiq.cloudbreak.repository.StackReferenceRepository;
 import com.sequenceiq.cloudbreak.service.resource.ResourceService;
+import com.sequenceiq.common.api.type.ResourceType;
 
 @Component
-public class CloudResourcePersisterService implements Persister<ResourceNotification> {
+public class CloudResourcePersisterService implements Persister<ResourceNotification>, BatchPersister<ResourceBatchNotification> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CloudResourcePersisterService.class);
 
@@ -74,6 +84,50 @@ public class CloudResourcePersisterService implements Persister<ResourceNotifica
         return notification;
     }
 
+    @Override
+    public ResourceBatchNotification persistAll(ResourceBatchNotification notification) {
+        Long stackId = notification.getCloudContext().getId();
+        LOGGER.debug("Resource batch allocation notification received for stack {} with {} resources", stackId, notification.getCloudResources().size());
+        Map<String, Resource> persistedStackResources = getPersistedStackResources(stackId);
+        Set<String> referencesInBatch = new HashSet<>();
+        List<Resource> resources = new ArrayList<>();
+        for (CloudResource cloudResource : notification.getCloudResources()) {
+            if (isReferenceInBatch(cloudResource, referencesInBatch) || getPersistedResource(cloudResource, persistedStackResources).isPresent()) {
+                LOGGER.debug("Trying to persist a resource (name: {}, type: {}, stackId: {}) that is already persisted, skipping..",
+                        cloudResource.getName(), cloudResource.getType().name(), stackId);
+            } else {
+                Resource resource = cloudResourceToResourceConverter.convert(cloudResource);
+                setStack(stackId, cloudResource, resource);
+                resources.add(resource);
+                if (cloudResource.isStackAware()) {
+                    persistedStackResources.put(resourceKey(cloudResource.getName(), cloudResource.getType()), resource);
+                } else {
+                    referencesInBatch.add(resourceKey(cloudResource.getReference(), cloudResource.getType()));
+                }
+            }
+        }
+        resourceService.saveAll(resources);
+        return notification;
+    }
+
+    @Override
+    public ResourceBatchNotification updateAll(ResourceBatchNotification notification) {
+        Long stackId = notification.getCloudContext().getId();
+        LOGGER.debug("Resource batch update notification received for stack {} with {} resources", stackId, notification.getCloudResources().size());
+        Map<String, Resource> persistedStackResources = getPersistedStackResources(stackId);
+        List<Resource> resources = new ArrayList<>();
+        for (CloudResource cloudResource : notification.getCloudResources()) {
+            Resource persistedResource = getPersistedResource(cloudResource, persistedStackResources)
+                    .orElseThrow(notFound("resource", cloudResource.getName()));
+            Resource resource = cloudResourceToResourceConverter.convert(cloudResource);
+            updateWithPersistedFields(resource, persistedResource);
+            setStack(stackId, cloudResource, resource);
+            resources.add(resource);
+        }
+        resourceService.saveAll(resources);
+        return notification;
+    }
+
     private Stack findStackById(Long stackId) {
         return stackReferenceRepository.getOne(stackId);
     }
@@ -93,6 +147,28 @@ public class CloudResourcePersisterService implements Persister<ResourceNotifica
         }
     }
 
+    private Map<String, Resource> getPersistedStackResources(Long stackId) {
+        return resourceService.getAllByStackId(stackId).stream()
+                .collect(Collectors.toMap(resource -> resourceKey(resource.getResourceName(), resource.getResourceType()), Function.identity(),
+                        (first, second) -> first));
+    }
+
+    private Optional<Resource> getPersistedResource(CloudResource cloudResource, Map<String, Resource> persistedStackResources) {
+        if (cloudResource.isStackAware()) {
+            return Optional.ofNullable(persistedStackResources.get(resourceKey(cloudResource.getName(), cloudResource.getType())));
+        } else {
+            return resourceService.findByResourceReferenceAndType(cloudResource.getReference(), cloudResource.getType());
+        }
+    }
+
+    private boolean isReferenceInBatch(CloudResource cloudResource, Set<String> referencesInBatch) {
+        return !cloudResource.isStackAware() && referencesInBatch.contains(resourceKey(cloudResource.getReference(), cloudResource.getType()));
+    }
+
+    private String resourceKey(String name, ResourceType type) {
+        return type + "/" + name;
+    }
+
     private void setStack(Long stackId, CloudResource cloudResource, Resource resource) {
         if (cloudResource.isStackAware()) {
             LOGGER.debug("Setting stack {} for cloud resource {} and type {}", stackId, cloudResource.getName(), cloudResource.getType());
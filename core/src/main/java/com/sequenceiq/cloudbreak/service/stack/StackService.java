@@ -30,6 +30,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -109,6 +110,7 @@ import com.sequenceiq.cloudbreak.service.image.ImageService;
 import com.sequenceiq.cloudbreak.service.image.StatedImage;
 import com.sequenceiq.cloudbreak.service.orchestrator.OrchestratorService;
 import com.sequenceiq.cloudbreak.service.resource.ResourceService;
+import com.sequenceiq.cloudbreak.service.secret.service.SecretPrefetchService;
 import com.sequenceiq.cloudbreak.service.stack.ShowTerminatedClusterConfigService.ShowTerminatedClustersAfterConfig;
 import com.sequenceiq.cloudbreak.service.stack.connector.adapter.ServiceProviderConnectorAdapter;
 import com.sequenceiq.cloudbreak.service.stackstatus.StackStatusService;
@@ -240,6 +242,9 @@ public class StackService implements ResourceIdProvider, AuthorizationResourceNa
     @Inject
     private AutoscaleStackToAutoscaleStackResponseJsonConverter autoscaleStackToAutoscaleStackResponseJsonConverter;
 
+    @Inject
+    private SecretPrefetchService secretPrefetchService;
+
     @Value("${cb.nginx.port}")
     private Integer nginxPort;
 
@@ -341,6 +346,10 @@ public class StackService implements ResourceIdProvider, AuthorizationResourceNa
         return foundStack.orElseThrow(() -> new NotFoundException(String.format(STACK_NOT_FOUND_BY_NAME_OR_CRN_EXCEPTION_MESSAGE, nameOrCrn)));
     }
 
+    public List<StackClusterStatusView> getStatusesByCrns(List<String> crns) {
+        return crns.isEmpty() ? List.of() : stackRepository.getStatusByCrns(crns);
+    }
+
     public List<StackClusterStatusView> getStatusesByCrnsInternal(List<String> crns, StackType stackType) {
         return stackRepository.getStatusByCrnsInternal(crns, stackType);
     }
@@ -384,6 +393,7 @@ public class StackService implements ResourceIdProvider, AuthorizationResourceNa
         if (stack == null) {
             throw new NotFoundException(format(STACK_NOT_FOUND_BY_ID_EXCEPTION_MESSAGE, id));
         }
+        secretPrefetchService.prefetch(stack);
         return stack;
     }
 
@@ -972,6 +982,16 @@ public class StackService implements ResourceIdProvider, AuthorizationResourceNa
         return stackRepository.getAsAuthorizationResources(workspaceId, stackType);
     }
 
+    public List<ResourceWithId> getAsAuthorizationResourcesPage(Long workspaceId, StackType stackType, Optional<Long> afterId, int limit) {
+        return stackRepository.getAsAuthorizationResourcesAfterId(workspaceId, stackType, afterId.orElse(Long.MIN_VALUE), PageRequest.of(0, limit));
+    }
+
+    public List<ResourceWithId> getAsAuthorizationResourcesPageByEnvCrn(Long workspaceId, String environmentCrn, StackType stackType, Optional<Long> afterId,
+            int limit) {
+        return stackRepository.getAsAuthorizationResourcesByEnvCrnAfterId(workspaceId, environmentCrn, stackType, afterId.orElse(Long.MIN_VALUE),
+                PageRequest.of(0, limit));
+    }
+
     public List<ResourceWithId> getAsAuthorizationResourcesByCrns(Long workspaceId, StackType stackType, List<String> crns) {
         return stackRepository.getAsAuthorizationResourcesByCrns(workspaceId, stackType, crns);
     }
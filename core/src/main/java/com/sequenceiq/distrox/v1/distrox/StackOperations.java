@@ -2,6 +2,7 @@ package com.sequenceiq.distrox.v1.distrox;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -175,8 +176,9 @@ public class StackOperations implements HierarchyAuthResourcePropertyProvider {
         Set<StackViewV4Response> stackViewResponses;
         stackViewResponses = stackApiViewService.retrieveStackViewsByStackIdsAndEnvironmentCrn(workspaceId, stackIds, environmentCrn, stackTypes)
                 .stream()
+                .sorted(Comparator.comparing(StackApiView::getId))
                 .map(s -> stackApiViewToStackViewV4ResponseConverter.convert(s))
-                .collect(Collectors.toSet());
+                .collect(Collectors.toCollection(LinkedHashSet::new));
         LOGGER.info("Adding environment name and credential to the responses.");
         NameOrCrn nameOrCrn = Strings.isNullOrEmpty(environmentCrn) ? NameOrCrn.empty() : NameOrCrn.ofCrn(environmentCrn);
         environmentServiceDecorator.prepareEnvironmentsAndCredentialName(stackViewResponses, nameOrCrn);
@@ -314,6 +316,12 @@ public class StackOperations implements HierarchyAuthResourcePropertyProvider {
         return stackClusterStatusViewToStatusConverter.convert(stackStatusView);
     }
 
+    public StackStatusV4Responses getStatusByCrns(List<String> crns) {
+        List<StackClusterStatusView> statuses = stackService.getStatusesByCrns(crns);
+        LOGGER.debug("Query Stack (status) finished with {} results for {} crns", statuses.size(), crns.size());
+        return stackClusterStatusViewToStatusConverter.convert(statuses);
+    }
+
     public FlowIdentifier putPassword(@NotNull NameOrCrn nameOrCrn, Long workspaceId, @Valid UserNamePasswordV4Request userNamePasswordJson) {
         Stack stack = nameOrCrn.hasName()
                 ? stackService.getByNameInWorkspace(nameOrCrn.getName(), workspaceId)
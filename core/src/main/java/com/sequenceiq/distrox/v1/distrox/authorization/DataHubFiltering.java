@@ -13,6 +13,8 @@ import com.google.common.base.Strings;
 import com.sequenceiq.authorization.service.list.ResourceWithId;
 import com.sequenceiq.authorization.resource.AuthorizationResourceAction;
 import com.sequenceiq.authorization.service.list.AbstractAuthorizationFiltering;
+import com.sequenceiq.authorization.service.list.ResourcePage;
+import com.sequenceiq.authorization.service.list.ResourcePageProvider;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.common.StackType;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackViewV4Responses;
 import com.sequenceiq.cloudbreak.auth.ThreadBasedUserCrnProvider;
@@ -23,7 +25,7 @@ import com.sequenceiq.cloudbreak.service.workspace.WorkspaceService;
 import com.sequenceiq.distrox.v1.distrox.StackOperations;
 
 @Component
-public class DataHubFiltering extends AbstractAuthorizationFiltering<StackViewV4Responses> {
+public class DataHubFiltering extends AbstractAuthorizationFiltering<StackViewV4Responses> implements ResourcePageProvider {
 
     public static final String ENV_NAME = "ENV_NAME";
 
@@ -48,6 +50,14 @@ public class DataHubFiltering extends AbstractAuthorizationFiltering<StackViewV4
         return filterResources(Crn.safeFromString(ThreadBasedUserCrnProvider.getUserCrn()), action, args);
     }
 
+    public ResourcePage<StackViewV4Responses> filterDataHubPage(AuthorizationResourceAction action, String environmentName, String environmentCrn,
+            String pageToken, int pageSize) {
+        Map<String, Object> args = new HashMap<>();
+        args.put(ENV_NAME, environmentName);
+        args.put(ENV_CRN, environmentCrn);
+        return filterResourcePage(Crn.safeFromString(ThreadBasedUserCrnProvider.getUserCrn()), action, args, pageToken, pageSize);
+    }
+
     @Override
     protected List<ResourceWithId> getAllResources(Map<String, Object> args) {
         Optional<String> envCrn = resolveEnvCrn(args);
@@ -59,6 +69,17 @@ public class DataHubFiltering extends AbstractAuthorizationFiltering<StackViewV4
         }
     }
 
+    @Override
+    public List<ResourceWithId> getResourcePage(Map<String, Object> args, Optional<Long> afterId, int limit) {
+        Optional<String> envCrn = resolveEnvCrn(args);
+        Long workspaceId = workspaceService.getForCurrentUser().getId();
+        if (envCrn.isPresent()) {
+            return stackService.getAsAuthorizationResourcesPageByEnvCrn(workspaceId, envCrn.get(), StackType.WORKLOAD, afterId, limit);
+        } else {
+            return stackService.getAsAuthorizationResourcesPage(workspaceId, StackType.WORKLOAD, afterId, limit);
+        }
+    }
+
     @Override
     protected StackViewV4Responses filterByIds(List<Long> authorizedResourceIds, Map<String, Object> args) {
         Optional<String> envCrn = resolveEnvCrn(args);
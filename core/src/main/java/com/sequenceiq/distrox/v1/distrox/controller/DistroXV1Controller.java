@@ -13,6 +13,7 @@ import static com.sequenceiq.authorization.resource.AuthorizationVariableType.CR
 import static com.sequenceiq.authorization.resource.AuthorizationVariableType.NAME;
 import static com.sequenceiq.authorization.resource.AuthorizationVariableType.NAME_LIST;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -45,6 +46,7 @@ import com.sequenceiq.authorization.annotation.ResourceCrnList;
 import com.sequenceiq.authorization.annotation.ResourceName;
 import com.sequenceiq.authorization.annotation.ResourceNameList;
 import com.sequenceiq.authorization.resource.AuthorizationResourceAction;
+import com.sequenceiq.authorization.service.list.ResourcePage;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.common.StackType;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.dto.NameOrCrn;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.request.CertificatesRotationV4Request;
@@ -59,6 +61,7 @@ import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.DistroXSyncCmV1
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.GeneratedBlueprintV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackStatusV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackV4Response;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackViewV4PageResponse;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackViewV4Responses;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.recipe.AttachRecipeV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.recipe.DetachRecipeV4Response;
@@ -167,6 +170,14 @@ public class DistroXV1Controller implements DistroXV1Endpoint {
         return dataHubFiltering.filterDataHubs(DESCRIBE_DATAHUB, environmentName, environmentCrn);
     }
 
+    @Override
+    @FilterListBasedOnPermissions
+    public StackViewV4PageResponse listPage(@FilterParam(DataHubFiltering.ENV_NAME) String environmentName,
+            @FilterParam(DataHubFiltering.ENV_CRN) String environmentCrn, String pageToken, int pageSize) {
+        ResourcePage<StackViewV4Responses> page = dataHubFiltering.filterDataHubPage(DESCRIBE_DATAHUB, environmentName, environmentCrn, pageToken, pageSize);
+        return new StackViewV4PageResponse(new ArrayList<>(page.getContent().getResponses()), page.getNextPageToken());
+    }
+
     @Override
     @CheckPermissionByRequestProperty(path = "environmentName", type = NAME, action = ENVIRONMENT_CREATE_DATAHUB)
     @CheckPermissionByRequestProperty(path = "image.catalog", type = NAME, action = DESCRIBE_IMAGE_CATALOG, skipOnNull = true)
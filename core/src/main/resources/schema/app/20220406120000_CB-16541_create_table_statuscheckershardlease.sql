@@ -0,0 +1,15 @@
+-- // CB-16541 create table statuscheckershardlease
+-- Migration SQL that makes the change goes here.
+
+CREATE TABLE IF NOT EXISTS statuscheckershardlease (
+    shard             INTEGER NOT NULL,
+    owner             VARCHAR(255),
+    expiry            BIGINT NOT NULL DEFAULT 0,
+
+    CONSTRAINT        pk_statuscheckershardlease_shard     PRIMARY KEY (shard)
+);
+
+-- //@UNDO
+-- SQL to undo the change goes here.
+
+DROP TABLE IF EXISTS statuscheckershardlease;
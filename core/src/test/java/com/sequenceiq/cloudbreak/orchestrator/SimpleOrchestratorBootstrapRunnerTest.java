@@ -4,9 +4,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.Test;
 import org.slf4j.MDC;
 
+import com.sequenceiq.cloudbreak.orchestrator.exception.CloudbreakOrchestratorInProgressException;
 import com.sequenceiq.cloudbreak.orchestrator.exception.CloudbreakOrchestratorTimeoutException;
 import com.sequenceiq.cloudbreak.orchestrator.state.ExitCriteria;
 import com.sequenceiq.cloudbreak.orchestrator.state.ExitCriteriaModel;
@@ -16,6 +21,8 @@ public class SimpleOrchestratorBootstrapRunnerTest {
 
     private static final String EXCEPTION_MESSAGE = "exceptionTest";
 
+    private static final int ATTEMPT_MILLIS = 50;
+
     @Test
     public void bootstrapSuccessWithoutException() throws Exception {
         MDC.put("test", "test");
@@ -42,6 +49,71 @@ public class SimpleOrchestratorBootstrapRunnerTest {
         assertNull(result);
     }
 
+    @Test
+    public void inProgressAttemptSleepsOnlyForTheRestOfTheSleepTime() throws Exception {
+        int sleepTime = 60000;
+        RecordingSleepRunner runner = new RecordingSleepRunner(new InProgressBootstrap(2), sleepTime);
+
+        assertEquals(true, runner.call());
+
+        assertEquals(1, runner.sleeps.size());
+        assertTrue(runner.sleeps.get(0) <= sleepTime - ATTEMPT_MILLIS);
+    }
+
+    @Test
+    public void inProgressAttemptLongerThanTheSleepTimeDoesNotSleep() throws Exception {
+        RecordingSleepRunner runner = new RecordingSleepRunner(new InProgressBootstrap(3), ATTEMPT_MILLIS / 2);
+
+        assertEquals(true, runner.call());
+
+        assertTrue(runner.sleeps.isEmpty());
+    }
+
+    @Test
+    public void failedAttemptSleepsForTheWholeSleepTime() throws Exception {
+        int sleepTime = 60000;
+        RecordingSleepRunner runner = new RecordingSleepRunner(new MockBootstrapRunner(2), sleepTime);
+
+        assertEquals(true, runner.call());
+
+        assertEquals(List.of((long) sleepTime), runner.sleeps);
+    }
+
+    private static class RecordingSleepRunner extends OrchestratorBootstrapRunner {
+
+        private final List<Long> sleeps = new ArrayList<>();
+
+        private RecordingSleepRunner(OrchestratorBootstrap orchestratorBootstrap, int sleepTime) {
+            super(orchestratorBootstrap, new MockExitCriteria(), new MockExitCriteriaModel(), Map.of(), 5, sleepTime, 5);
+        }
+
+        @Override
+        void sleep(long sleepMillis) {
+            sleeps.add(sleepMillis);
+        }
+    }
+
+    private static class InProgressBootstrap implements OrchestratorBootstrap {
+
+        private int count;
+
+        private final int finishedAt;
+
+        private InProgressBootstrap(int finishedAt) {
+            this.finishedAt = finishedAt;
+        }
+
+        @Override
+        public Boolean call() throws Exception {
+            count++;
+            if (count < finishedAt) {
+                Thread.sleep(ATTEMPT_MILLIS);
+                throw new CloudbreakOrchestratorInProgressException(EXCEPTION_MESSAGE);
+            }
+            return true;
+        }
+    }
+
     private static class MockBootstrapRunner implements OrchestratorBootstrap {
 
         private int count;
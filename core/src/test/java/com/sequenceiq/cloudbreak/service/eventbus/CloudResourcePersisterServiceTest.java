@@ -0,0 +1,170 @@
+package com.sequenceiq.cloudbreak.service.eventbus;
+
+import static com.sequenceiq.common.api.type.CommonStatus.CREATED;
+import static com.sequenceiq.common.api.type.ResourceType.AWS_INSTANCE;
+import static com.sequenceiq.common.api.type.ResourceType.AWS_VOLUMESET;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sequenceiq.cloudbreak.cloud.context.CloudContext;
+import com.sequenceiq.cloudbreak.cloud.model.CloudResource;
+import com.sequenceiq.cloudbreak.cloud.notification.model.ResourceBatchNotification;
+import com.sequenceiq.cloudbreak.cloud.notification.model.ResourceNotificationType;
+import com.sequenceiq.cloudbreak.common.exception.NotFoundException;
+import com.sequenceiq.cloudbreak.converter.spi.CloudResourceToResourceConverter;
+import com.sequenceiq.cloudbreak.domain.Resource;
+import com.sequenceiq.cloudbreak.domain.stack.Stack;
+import com.sequenceiq.cloudbreak.repository.StackReferenceRepository;
+import com.sequenceiq.cloudbreak.service.resource.ResourceService;
+
+@ExtendWith(MockitoExtension.class)
+class CloudResourcePersisterServiceTest {
+
+    private static final Long STACK_ID = 1L;
+
+    private static final String INSTANCE_GROUP = "master";
+
+    @InjectMocks
+    private CloudResourcePersisterService underTest;
+
+    @Mock
+    private StackReferenceRepository stackReferenceRepository;
+
+    @Mock
+    private ResourceService resourceService;
+
+    @Mock
+    private CloudResourceToResourceConverter cloudResourceToResourceConverter;
+
+    @Captor
+    private ArgumentCaptor<List<Resource>> resourcesCaptor;
+
+    @Test
+    void testPersistAllSavesResourceOnceWhenItIsInTheBatchMoreThanOnce() {
+        when(resourceService.getAllByStackId(STACK_ID)).thenReturn(List.of());
+        when(stackReferenceRepository.getOne(STACK_ID)).thenReturn(new Stack());
+        mockConversion();
+
+        underTest.persistAll(notification(ResourceNotificationType.CREATE, stackAwareResource("vm-1"), stackAwareResource("vm-1")));
+
+        verify(resourceService).saveAll(resourcesCaptor.capture());
+        assertEquals(1, resourcesCaptor.getValue().size());
+        assertEquals("vm-1", resourcesCaptor.getValue().get(0).getResourceName());
+    }
+
+    @Test
+    void testPersistAllSavesNotStackAwareResourceOnceWhenItIsInTheBatchMoreThanOnce() {
+        when(resourceService.getAllByStackId(STACK_ID)).thenReturn(List.of());
+        when(resourceService.findByResourceReferenceAndType("vol-ref", AWS_VOLUMESET)).thenReturn(Optional.empty());
+        mockConversion();
+
+        underTest.persistAll(notification(ResourceNotificationType.CREATE, notStackAwareResource("vol-1", "vol-ref"),
+                notStackAwareResource("vol-1", "vol-ref")));
+
+        verify(resourceService).saveAll(resourcesCaptor.capture());
+        assertEquals(1, resourcesCaptor.getValue().size());
+        verify(resourceService, times(1)).findByResourceReferenceAndType("vol-ref", AWS_VOLUMESET);
+    }
+
+    @Test
+    void testPersistAllSkipsAlreadyPersistedResource() {
+        when(resourceService.getAllByStackId(STACK_ID)).thenReturn(List.of(resource(10L, "vm-1", null)));
+        when(stackReferenceRepository.getOne(STACK_ID)).thenReturn(new Stack());
+        mockConversion();
+
+        underTest.persistAll(notification(ResourceNotificationType.CREATE, stackAwareResource("vm-1"), stackAwareResource("vm-2")));
+
+        verify(resourceService).saveAll(resourcesCaptor.capture());
+        assertEquals(1, resourcesCaptor.getValue().size());
+        assertEquals("vm-2", resourcesCaptor.getValue().get(0).getResourceName());
+    }
+
+    @Test
+    void testUpdateAllCarriesOverIdAndInstanceGroupOfPersistedResources() {
+        when(resourceService.getAllByStackId(STACK_ID)).thenReturn(List.of(resource(10L, "vm-1", INSTANCE_GROUP), resource(11L, "vm-2", null)));
+        when(stackReferenceRepository.getOne(STACK_ID)).thenReturn(new Stack());
+        mockConversion();
+
+        underTest.updateAll(notification(ResourceNotificationType.UPDATE, stackAwareResource("vm-1"), stackAwareResource("vm-2")));
+
+        verify(resourceService).saveAll(resourcesCaptor.capture());
+        List<Resource> resources = resourcesCaptor.getValue();
+        assertEquals(2, resources.size());
+        assertEquals(10L, resources.get(0).getId().longValue());
+        assertEquals(INSTANCE_GROUP, resources.get(0).getInstanceGroup());
+        assertEquals(11L, resources.get(1).getId().longValue());
+    }
+
+    @Test
+    void testUpdateAllThrowsNotFoundWhenResourceIsNotPersisted() {
+        when(resourceService.getAllByStackId(STACK_ID)).thenReturn(List.of(resource(10L, "vm-1", INSTANCE_GROUP)));
+
+        ResourceBatchNotification notification = notification(ResourceNotificationType.UPDATE, stackAwareResource("vm-2"));
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> underTest.updateAll(notification));
+
+        assertEquals("resource 'vm-2' not found.", exception.getMessage());
+        verify(resourceService, never()).saveAll(any());
+    }
+
+    private void mockConversion() {
+        when(cloudResourceToResourceConverter.convert(any(CloudResource.class))).thenAnswer(invocation -> {
+            CloudResource cloudResource = invocation.getArgument(0);
+            Resource resource = new Resource();
+            resource.setResourceName(cloudResource.getName());
+            resource.setResourceType(cloudResource.getType());
+            resource.setResourceReference(cloudResource.getReference());
+            return resource;
+        });
+    }
+
+    private ResourceBatchNotification notification(ResourceNotificationType type, CloudResource... cloudResources) {
+        CloudContext cloudContext = CloudContext.Builder.builder().withId(STACK_ID).build();
+        return new ResourceBatchNotification(List.of(cloudResources), cloudContext, type);
+    }
+
+    private CloudResource stackAwareResource(String name) {
+        return CloudResource.builder()
+                .name(name)
+                .type(AWS_INSTANCE)
+                .status(CREATED)
+                .params(Collections.emptyMap())
+                .build();
+    }
+
+    private CloudResource notStackAwareResource(String name, String reference) {
+        return CloudResource.builder()
+                .name(name)
+                .reference(reference)
+                .type(AWS_VOLUMESET)
+                .status(CREATED)
+                .stackAware(false)
+                .params(Collections.emptyMap())
+                .build();
+    }
+
+    private Resource resource(Long id, String name, String instanceGroup) {
+        Resource resource = new Resource();
+        resource.setId(id);
+        resource.setResourceName(name);
+        resource.setResourceType(AWS_INSTANCE);
+        resource.setInstanceGroup(instanceGroup);
+        return resource;
+    }
+}
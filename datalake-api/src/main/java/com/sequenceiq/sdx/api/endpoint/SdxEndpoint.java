@@ -8,6 +8,8 @@ import java.util.List;
 import java.util.Set;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
@@ -36,6 +38,7 @@ import com.sequenceiq.sdx.api.model.AdvertisedRuntime;
 import com.sequenceiq.sdx.api.model.RangerCloudIdentitySyncStatus;
 import com.sequenceiq.sdx.api.model.SdxChangeImageCatalogRequest;
 import com.sequenceiq.sdx.api.model.SdxClusterDetailResponse;
+import com.sequenceiq.sdx.api.model.SdxClusterPageResponse;
 import com.sequenceiq.sdx.api.model.SdxClusterRequest;
 import com.sequenceiq.sdx.api.model.SdxClusterResizeRequest;
 import com.sequenceiq.sdx.api.model.SdxClusterResponse;
@@ -73,6 +76,13 @@ public interface SdxEndpoint {
     @ApiOperation(value = "list SDX clusters", produces = MediaType.APPLICATION_JSON, nickname = "listSdx")
     List<SdxClusterResponse> list(@QueryParam("envName") String envName, @DefaultValue("false") @QueryParam("includeDetached") boolean includeDetached);
 
+    @GET
+    @Path("list/page")
+    @Produces(MediaType.APPLICATION_JSON)
+    @ApiOperation(value = "list one page of the attached SDX clusters", produces = MediaType.APPLICATION_JSON, nickname = "listSdxPage")
+    SdxClusterPageResponse listPage(@QueryParam("envName") String envName, @QueryParam("pageToken") String pageToken,
+            @QueryParam("pageSize") @DefaultValue("20") @Min(1) @Max(100) int pageSize);
+
     @GET
     @Path("list/internal")
     @Produces(MediaType.APPLICATION_JSON)
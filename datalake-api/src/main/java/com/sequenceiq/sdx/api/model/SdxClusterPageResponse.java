@@ -0,0 +1,51 @@
+package com.sequenceiq.sdx.api.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.annotations.ApiModelProperty;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SdxClusterPageResponse {
+
+    private List<SdxClusterResponse> content = new ArrayList<>();
+
+    @ApiModelProperty("The token of the next page, it is missing on the last page")
+    private String nextPageToken;
+
+    public SdxClusterPageResponse() {
+    }
+
+    public SdxClusterPageResponse(List<SdxClusterResponse> content, String nextPageToken) {
+        this.content = content;
+        this.nextPageToken = nextPageToken;
+    }
+
+    public List<SdxClusterResponse> getContent() {
+        return content;
+    }
+
+    public void setContent(List<SdxClusterResponse> content) {
+        this.content = content;
+    }
+
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+    public void setNextPageToken(String nextPageToken) {
+        this.nextPageToken = nextPageToken;
+    }
+
+    @Override
+    public String toString() {
+        return "SdxClusterPageResponse{"
+                + "content=" + content
+                + ", nextPageToken='" + nextPageToken + '\''
+                + '}';
+    }
+}
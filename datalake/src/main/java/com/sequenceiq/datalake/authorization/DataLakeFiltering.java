@@ -1,9 +1,12 @@
 package com.sequenceiq.datalake.authorization;
 
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -13,13 +16,15 @@ import com.google.common.collect.Lists;
 import com.sequenceiq.authorization.service.list.ResourceWithId;
 import com.sequenceiq.authorization.resource.AuthorizationResourceAction;
 import com.sequenceiq.authorization.service.list.AbstractAuthorizationFiltering;
+import com.sequenceiq.authorization.service.list.ResourcePage;
+import com.sequenceiq.authorization.service.list.ResourcePageProvider;
 import com.sequenceiq.cloudbreak.auth.ThreadBasedUserCrnProvider;
 import com.sequenceiq.cloudbreak.auth.crn.Crn;
 import com.sequenceiq.datalake.entity.SdxCluster;
 import com.sequenceiq.datalake.service.sdx.SdxService;
 
 @Component
-public class DataLakeFiltering extends AbstractAuthorizationFiltering<List<SdxCluster>> {
+public class DataLakeFiltering extends AbstractAuthorizationFiltering<List<SdxCluster>> implements ResourcePageProvider {
 
     public static final String ENV_NAME = "ENV_NAME";
 
@@ -43,6 +48,13 @@ public class DataLakeFiltering extends AbstractAuthorizationFiltering<List<SdxCl
         return filterResources(Crn.safeFromString(ThreadBasedUserCrnProvider.getUserCrn()), action, args);
     }
 
+    public ResourcePage<List<SdxCluster>> filterAttachedDataLakePageByEnvNameOrAll(AuthorizationResourceAction action, String environmentName,
+            String pageToken, int pageSize) {
+        Map<String, Object> args = new HashMap<>();
+        args.put(ENV_NAME, environmentName);
+        return filterResourcePage(Crn.safeFromString(ThreadBasedUserCrnProvider.getUserCrn()), action, args, pageToken, pageSize);
+    }
+
     public List<SdxCluster> filterDataLakesByEnvCrn(AuthorizationResourceAction action, String environmentCrn) {
         Map<String, Object> args = new HashMap<>();
         args.put(ENV_CRN, environmentCrn);
@@ -65,9 +77,29 @@ public class DataLakeFiltering extends AbstractAuthorizationFiltering<List<SdxCl
         }
     }
 
+    /**
+     * Returns the attached data lakes only, the pages are used by the list endpoints which hide the detached ones.
+     */
+    @Override
+    public List<ResourceWithId> getResourcePage(Map<String, Object> args, Optional<Long> afterId, int limit) {
+        String accountId = ThreadBasedUserCrnProvider.getAccountId();
+        if (hasParam(ENV_NAME, args)) {
+            String envName = getEnvName(args);
+            if (Objects.isNull(envName)) {
+                return sdxService.findAttachedAsAuthorizationResourcesPage(accountId, afterId, limit);
+            } else {
+                return sdxService.findAttachedAsAuthorizationResourcesPageByEnvName(accountId, envName, afterId, limit);
+            }
+        } else {
+            return sdxService.findAttachedAsAuthorizationResourcesPageByEnvCrn(accountId, getEnvCrn(args), afterId, limit);
+        }
+    }
+
     @Override
     public List<SdxCluster> filterByIds(List<Long> authorizedResourceIds, Map<String, Object> args) {
-        return Lists.newArrayList(sdxService.findAllById(authorizedResourceIds));
+        return Lists.newArrayList(sdxService.findAllById(authorizedResourceIds)).stream()
+                .sorted(Comparator.comparing(SdxCluster::getId))
+                .collect(Collectors.toList());
     }
 
     @Override
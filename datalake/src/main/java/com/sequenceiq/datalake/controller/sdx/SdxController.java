@@ -26,6 +26,7 @@ import com.sequenceiq.authorization.annotation.RequestObject;
 import com.sequenceiq.authorization.annotation.ResourceCrn;
 import com.sequenceiq.authorization.annotation.ResourceName;
 import com.sequenceiq.authorization.resource.AuthorizationResourceAction;
+import com.sequenceiq.authorization.service.list.ResourcePage;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.dto.NameOrCrn;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.request.CertificatesRotationV4Request;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackV4Response;
@@ -61,6 +62,7 @@ import com.sequenceiq.sdx.api.model.AdvertisedRuntime;
 import com.sequenceiq.sdx.api.model.RangerCloudIdentitySyncStatus;
 import com.sequenceiq.sdx.api.model.SdxChangeImageCatalogRequest;
 import com.sequenceiq.sdx.api.model.SdxClusterDetailResponse;
+import com.sequenceiq.sdx.api.model.SdxClusterPageResponse;
 import com.sequenceiq.sdx.api.model.SdxClusterRequest;
 import com.sequenceiq.sdx.api.model.SdxClusterResizeRequest;
 import com.sequenceiq.sdx.api.model.SdxClusterResponse;
@@ -204,6 +206,14 @@ public class SdxController implements SdxEndpoint {
         return includeDetached ? convertSdxClusters(sdxClusters) : convertAttachedSdxClusters(sdxClusters);
     }
 
+    @Override
+    @FilterListBasedOnPermissions
+    public SdxClusterPageResponse listPage(@FilterParam(DataLakeFiltering.ENV_NAME) String envName, String pageToken, int pageSize) {
+        ResourcePage<List<SdxCluster>> page = dataLakeFiltering.filterAttachedDataLakePageByEnvNameOrAll(AuthorizationResourceAction.DESCRIBE_DATALAKE,
+                envName, pageToken, pageSize);
+        return new SdxClusterPageResponse(convertSdxClusters(page.getContent()), page.getNextPageToken());
+    }
+
     @Override
     @InternalOnly
     public List<SdxClusterResponse> internalList(@AccountId String accountId) {
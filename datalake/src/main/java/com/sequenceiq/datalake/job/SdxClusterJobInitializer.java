@@ -4,12 +4,12 @@ import javax.inject.Inject;
 
 import org.springframework.stereotype.Component;
 
-import com.sequenceiq.cloudbreak.quartz.model.JobInitializer;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.StatusCheckerJobInitializer;
 import com.sequenceiq.cloudbreak.quartz.statuschecker.service.StatusCheckerJobService;
 import com.sequenceiq.datalake.repository.SdxClusterRepository;
 
 @Component
-public class SdxClusterJobInitializer implements JobInitializer {
+public class SdxClusterJobInitializer implements StatusCheckerJobInitializer {
 
     @Inject
     private SdxClusterRepository sdxClusterRepository;
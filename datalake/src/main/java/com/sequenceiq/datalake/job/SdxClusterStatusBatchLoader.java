@@ -0,0 +1,36 @@
+package com.sequenceiq.datalake.job;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+
+import org.quartz.Job;
+import org.springframework.stereotype.Component;
+
+import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.request.StatusCrnsV4Request;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackStatusV4Response;
+import com.sequenceiq.cloudbreak.client.CloudbreakInternalCrnClient;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.service.RemoteStatusBatchLoader;
+
+@Component
+public class SdxClusterStatusBatchLoader extends RemoteStatusBatchLoader<StackStatusV4Response> {
+
+    @Inject
+    private CloudbreakInternalCrnClient cloudbreakInternalCrnClient;
+
+    @Override
+    public Class<? extends Job> getJobClass() {
+        return SdxClusterStatusCheckerJob.class;
+    }
+
+    @Override
+    protected Map<String, StackStatusV4Response> loadStatuses(List<String> remoteResourceCrns) {
+        StatusCrnsV4Request request = new StatusCrnsV4Request();
+        request.setCrns(remoteResourceCrns);
+        return cloudbreakInternalCrnClient.withInternalCrn().autoscaleEndpoint().getStatusByCrns(request).getResponses().stream()
+                .collect(Collectors.toMap(StackStatusV4Response::getCrn, Function.identity(), (first, second) -> first));
+    }
+}
@@ -48,6 +48,9 @@ public class SdxClusterStatusCheckerJob extends StatusCheckerJob {
     @Inject
     private StatusCheckerJobService jobService;
 
+    @Inject
+    private SdxClusterStatusBatchLoader sdxClusterStatusBatchLoader;
+
     public SdxClusterStatusCheckerJob(Tracer tracer) {
         super(tracer, "SDX Cluster Status Checker");
     }
@@ -74,7 +77,8 @@ public class SdxClusterStatusCheckerJob extends StatusCheckerJob {
 
     private void syncSdxStatus(JobExecutionContext context) {
         getCluster().ifPresent(sdx -> {
-            StackStatusV4Response stack = cloudbreakInternalCrnClient.withInternalCrn().autoscaleEndpoint().getStatusByCrn(getRemoteResourceCrn());
+            StackStatusV4Response stack = sdxClusterStatusBatchLoader.takeLoadedStatus(getRemoteResourceCrn())
+                    .orElseGet(() -> cloudbreakInternalCrnClient.withInternalCrn().autoscaleEndpoint().getStatusByCrn(getRemoteResourceCrn()));
             updateCertExpirationStateIfDifferent(sdx, stack);
             SdxStatusEntity sdxStatus = sdxStatusService.getActualStatusForSdx(sdx);
             DatalakeStatusEnum originalStatus = sdxStatus.getStatus();
@@ -8,6 +8,7 @@ import java.util.Set;
 import javax.transaction.Transactional;
 import javax.transaction.Transactional.TxType;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -102,6 +103,21 @@ public interface SdxClusterRepository extends AccountAwareResourceRepository<Sdx
             "WHERE s.accountId = :accountId AND s.envCrn = :envCrn AND s.deleted IS NULL")
     List<ResourceWithId> findAuthorizationResourcesByAccountIdAndEnvCrn(@Param("accountId") String accountId, @Param("envCrn") String envCrn);
 
+    @Query("SELECT new com.sequenceiq.authorization.service.list.ResourceWithId(s.id, s.crn, s.envCrn) FROM SdxCluster s " +
+            "WHERE s.accountId = :accountId AND s.deleted IS NULL AND s.detached = false AND s.id > :afterId ORDER BY s.id")
+    List<ResourceWithId> findAttachedAuthorizationResourcesByAccountIdAfterId(@Param("accountId") String accountId, @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    @Query("SELECT new com.sequenceiq.authorization.service.list.ResourceWithId(s.id, s.crn, s.envCrn) FROM SdxCluster s " +
+            "WHERE s.accountId = :accountId AND s.envName = :envName AND s.deleted IS NULL AND s.detached = false AND s.id > :afterId ORDER BY s.id")
+    List<ResourceWithId> findAttachedAuthorizationResourcesByAccountIdAndEnvNameAfterId(@Param("accountId") String accountId,
+            @Param("envName") String envName, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new com.sequenceiq.authorization.service.list.ResourceWithId(s.id, s.crn, s.envCrn) FROM SdxCluster s " +
+            "WHERE s.accountId = :accountId AND s.envCrn = :envCrn AND s.deleted IS NULL AND s.detached = false AND s.id > :afterId ORDER BY s.id")
+    List<ResourceWithId> findAttachedAuthorizationResourcesByAccountIdAndEnvCrnAfterId(@Param("accountId") String accountId,
+            @Param("envCrn") String envCrn, @Param("afterId") Long afterId, Pageable pageable);
+
     @Query("SELECT new com.sequenceiq.authorization.service.list.ResourceWithId(s.id, s.crn, s.envCrn) FROM SdxCluster s " +
             "WHERE s.accountId = :accountId AND s.envCrn IN (:envCrns) AND s.deleted IS NULL")
     List<ResourceWithId> findAuthorizationResourcesByAccountIdAndEnvCrns(@Param("accountId") String accountId, @Param("envCrns") List<String> envCrns);
@@ -36,6 +36,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import com.sequenceiq.authorization.resource.AuthorizationResourceType;
@@ -215,6 +216,20 @@ public class SdxService implements ResourceIdProvider, PayloadContextProvider, H
         return sdxClusterRepository.findAuthorizationResourcesByAccountIdAndEnvCrn(accountId, envCrn);
     }
 
+    public List<ResourceWithId> findAttachedAsAuthorizationResourcesPage(String accountId, Optional<Long> afterId, int limit) {
+        return sdxClusterRepository.findAttachedAuthorizationResourcesByAccountIdAfterId(accountId, afterId.orElse(Long.MIN_VALUE), PageRequest.of(0, limit));
+    }
+
+    public List<ResourceWithId> findAttachedAsAuthorizationResourcesPageByEnvName(String accountId, String envName, Optional<Long> afterId, int limit) {
+        return sdxClusterRepository.findAttachedAuthorizationResourcesByAccountIdAndEnvNameAfterId(accountId, envName, afterId.orElse(Long.MIN_VALUE),
+                PageRequest.of(0, limit));
+    }
+
+    public List<ResourceWithId> findAttachedAsAuthorizationResourcesPageByEnvCrn(String accountId, String envCrn, Optional<Long> afterId, int limit) {
+        return sdxClusterRepository.findAttachedAuthorizationResourcesByAccountIdAndEnvCrnAfterId(accountId, envCrn, afterId.orElse(Long.MIN_VALUE),
+                PageRequest.of(0, limit));
+    }
+
     public String getStackCrnByClusterCrn(String crn) {
         return sdxClusterRepository.findStackCrnByClusterCrn(crn)
                 .orElseThrow(notFound("SdxCluster", crn));
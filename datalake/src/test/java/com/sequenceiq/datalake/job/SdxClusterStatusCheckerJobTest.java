@@ -9,7 +9,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.inject.Inject;
 
@@ -30,10 +32,13 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.AutoscaleV4Endpoint;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.common.Status;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.request.StatusCrnsV4Request;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackStatusV4Response;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackStatusV4Responses;
 import com.sequenceiq.cloudbreak.client.CloudbreakInternalCrnClient;
 import com.sequenceiq.cloudbreak.client.CloudbreakServiceCrnEndpoints;
 import com.sequenceiq.cloudbreak.event.ResourceEvent;
+import com.sequenceiq.cloudbreak.quartz.model.JobResourceAdapter;
 import com.sequenceiq.cloudbreak.quartz.statuschecker.service.StatusCheckerJobService;
 import com.sequenceiq.datalake.entity.DatalakeStatusEnum;
 import com.sequenceiq.datalake.entity.SdxCluster;
@@ -59,6 +64,9 @@ class SdxClusterStatusCheckerJobTest {
     @Inject
     private StatusCheckerJobService jobService;
 
+    @Inject
+    private SdxClusterStatusBatchLoader sdxClusterStatusBatchLoader;
+
     @MockBean
     private SdxClusterRepository sdxClusterRepository;
 
@@ -133,6 +141,28 @@ class SdxClusterStatusCheckerJobTest {
         verify(sdxStatusService, never()).setStatusForDatalakeAndNotify(any(), any(), anyString(), eq(sdxCluster));
     }
 
+    @Test
+    void availableFromBatchLoadedStatus() throws JobExecutionException {
+        setUpSdxStatus(DatalakeStatusEnum.CLUSTER_AMBIGUOUS);
+        StackStatusV4Response loadedStack = new StackStatusV4Response();
+        loadedStack.setCrn(STACK_ID.toString());
+        loadedStack.setStatus(Status.AVAILABLE);
+        loadedStack.setClusterStatus(Status.AVAILABLE);
+        when(autoscaleV4Endpoint.getStatusByCrns(any(StatusCrnsV4Request.class))).thenReturn(new StackStatusV4Responses(Set.of(loadedStack)));
+        JobDataMap batchJobDataMap = new JobDataMap();
+        batchJobDataMap.put(JobResourceAdapter.REMOTE_RESOURCE_CRN, STACK_ID.toString());
+        sdxClusterStatusBatchLoader.load(List.of(batchJobDataMap));
+
+        underTest.executeTracedJob(jobExecutionContext);
+
+        verify(autoscaleV4Endpoint, never()).getStatusByCrn(anyString());
+        verify(sdxStatusService, times(1)).setStatusForDatalakeAndNotify(eq(DatalakeStatusEnum.RUNNING),
+                eq(ResourceEvent.CLUSTER_AMBARI_CLUSTER_SYNCHRONIZED),
+                any(),
+                eq(""),
+                eq(sdxCluster));
+    }
+
     @Test
     void ambiguousToClusterUnreachable() throws JobExecutionException {
         setUpSdxStatus(DatalakeStatusEnum.CLUSTER_AMBIGUOUS);
@@ -242,7 +272,7 @@ class SdxClusterStatusCheckerJobTest {
     }
 
     @Configuration
-    @Import(SdxClusterStatusCheckerJob.class)
+    @Import({SdxClusterStatusCheckerJob.class, SdxClusterStatusBatchLoader.class})
     @PropertySource("classpath:application.yml")
     static class TestAppContext {
 
@@ -6,6 +6,8 @@ import java.util.List;
 import java.util.Set;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
@@ -37,6 +39,7 @@ import com.sequenceiq.environment.api.v1.environment.model.request.aws.UpdateAws
 import com.sequenceiq.environment.api.v1.environment.model.request.azure.UpdateAzureResourceEncryptionParametersRequest;
 import com.sequenceiq.environment.api.v1.environment.model.response.DetailedEnvironmentResponse;
 import com.sequenceiq.environment.api.v1.environment.model.response.EnvironmentCrnResponse;
+import com.sequenceiq.environment.api.v1.environment.model.response.SimpleEnvironmentPageResponse;
 import com.sequenceiq.environment.api.v1.environment.model.response.SimpleEnvironmentResponse;
 import com.sequenceiq.environment.api.v1.environment.model.response.SimpleEnvironmentResponses;
 import com.sequenceiq.flow.api.model.FlowIdentifier;
@@ -102,6 +105,14 @@ public interface EnvironmentEndpoint {
     @ApiOperation(value = EnvironmentOpDescription.LIST, produces = MediaType.APPLICATION_JSON, notes = ENVIRONMENT_NOTES, nickname = "listEnvironmentV1")
     SimpleEnvironmentResponses list();
 
+    @GET
+    @Path("page")
+    @Produces(MediaType.APPLICATION_JSON)
+    @ApiOperation(value = EnvironmentOpDescription.LIST_PAGE, produces = MediaType.APPLICATION_JSON, notes = ENVIRONMENT_NOTES,
+            nickname = "listEnvironmentPageV1")
+    SimpleEnvironmentPageResponse listPage(@QueryParam("pageToken") String pageToken,
+            @QueryParam("pageSize") @DefaultValue("20") @Min(1) @Max(100) int pageSize);
+
     @GET
     @Path("internal")
     @Produces(MediaType.APPLICATION_JSON)
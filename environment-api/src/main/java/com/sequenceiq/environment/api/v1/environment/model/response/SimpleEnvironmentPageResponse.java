@@ -0,0 +1,53 @@
+package com.sequenceiq.environment.api.v1.environment.model.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+@ApiModel("SimpleEnvironmentPageV1Response")
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SimpleEnvironmentPageResponse {
+
+    private List<SimpleEnvironmentResponse> content = new ArrayList<>();
+
+    @ApiModelProperty("The token of the next page, it is missing on the last page")
+    private String nextPageToken;
+
+    public SimpleEnvironmentPageResponse() {
+    }
+
+    public SimpleEnvironmentPageResponse(List<SimpleEnvironmentResponse> content, String nextPageToken) {
+        this.content = content;
+        this.nextPageToken = nextPageToken;
+    }
+
+    public List<SimpleEnvironmentResponse> getContent() {
+        return content;
+    }
+
+    public void setContent(List<SimpleEnvironmentResponse> content) {
+        this.content = content;
+    }
+
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+    public void setNextPageToken(String nextPageToken) {
+        this.nextPageToken = nextPageToken;
+    }
+
+    @Override
+    public String toString() {
+        return "SimpleEnvironmentPageResponse{"
+                + "content=" + content
+                + ", nextPageToken='" + nextPageToken + '\''
+                + '}';
+    }
+}
@@ -2,19 +2,22 @@ package com.sequenceiq.environment.authorization;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.stereotype.Component;
 
 import com.sequenceiq.authorization.service.list.ResourceWithId;
 import com.sequenceiq.authorization.resource.AuthorizationResourceAction;
 import com.sequenceiq.authorization.service.list.AbstractAuthorizationFiltering;
+import com.sequenceiq.authorization.service.list.ResourcePage;
+import com.sequenceiq.authorization.service.list.ResourcePageProvider;
 import com.sequenceiq.cloudbreak.auth.ThreadBasedUserCrnProvider;
 import com.sequenceiq.cloudbreak.auth.crn.Crn;
 import com.sequenceiq.environment.environment.dto.EnvironmentDto;
 import com.sequenceiq.environment.environment.service.EnvironmentService;
 
 @Component
-public class EnvironmentFiltering extends AbstractAuthorizationFiltering<List<EnvironmentDto>> {
+public class EnvironmentFiltering extends AbstractAuthorizationFiltering<List<EnvironmentDto>> implements ResourcePageProvider {
 
     private final EnvironmentService environmentService;
 
@@ -26,11 +29,20 @@ public class EnvironmentFiltering extends AbstractAuthorizationFiltering<List<En
         return filterResources(Crn.safeFromString(ThreadBasedUserCrnProvider.getUserCrn()), action, Map.of());
     }
 
+    public ResourcePage<List<EnvironmentDto>> filterEnvironmentPage(AuthorizationResourceAction action, String pageToken, int pageSize) {
+        return filterResourcePage(Crn.safeFromString(ThreadBasedUserCrnProvider.getUserCrn()), action, Map.of(), pageToken, pageSize);
+    }
+
     @Override
     public List<ResourceWithId> getAllResources(Map<String, Object> args) {
         return environmentService.findAsAuthorizationResourcesInAccount(ThreadBasedUserCrnProvider.getAccountId());
     }
 
+    @Override
+    public List<ResourceWithId> getResourcePage(Map<String, Object> args, Optional<Long> afterId, int limit) {
+        return environmentService.findAsAuthorizationResourcesPageInAccount(ThreadBasedUserCrnProvider.getAccountId(), afterId, limit);
+    }
+
     @Override
     public List<EnvironmentDto> filterByIds(List<Long> authorizedResourceIds, Map<String, Object> args) {
         return environmentService.findAllByIds(authorizedResourceIds);
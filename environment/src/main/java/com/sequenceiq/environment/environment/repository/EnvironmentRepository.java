@@ -8,6 +8,7 @@ import java.util.Set;
 import javax.transaction.Transactional;
 import javax.transaction.Transactional.TxType;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -118,6 +119,11 @@ public interface EnvironmentRepository extends AccountAwareResourceRepository<En
             "WHERE e.accountId = :accountId AND e.archived = false")
     List<ResourceWithId> findAsAuthorizationResourcesInAccount(@Param("accountId") String accountId);
 
+    @Query("SELECT new com.sequenceiq.authorization.service.list.ResourceWithId(e.id, e.resourceCrn) FROM Environment e " +
+            "WHERE e.accountId = :accountId AND e.archived = false AND e.id > :afterId ORDER BY e.id")
+    List<ResourceWithId> findAsAuthorizationResourcesInAccountAfterId(@Param("accountId") String accountId, @Param("afterId") Long afterId,
+            Pageable pageable);
+
     @Query("SELECT new com.sequenceiq.cloudbreak.common.event.PayloadContext(e.resourceCrn, e.cloudPlatform) " +
             "FROM Environment e " +
             "WHERE e.id = :id")
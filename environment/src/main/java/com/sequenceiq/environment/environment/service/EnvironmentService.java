@@ -4,6 +4,7 @@ import static com.sequenceiq.cloudbreak.common.exception.NotFoundException.notFo
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -21,6 +22,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import com.google.common.collect.Lists;
@@ -216,6 +218,7 @@ public class EnvironmentService extends AbstractAccountAwareResourceService<Envi
     public List<EnvironmentDto> findAllByIds(List<Long> ids) {
         return Lists.newArrayList(environmentRepository.findAllByIdNotArchived(ids))
                 .stream()
+                .sorted(Comparator.comparing(Environment::getId))
                 .map(environmentDtoConverter::environmentToDto)
                 .collect(Collectors.toList());
     }
@@ -224,6 +227,10 @@ public class EnvironmentService extends AbstractAccountAwareResourceService<Envi
         return environmentRepository.findAsAuthorizationResourcesInAccount(accountId);
     }
 
+    public List<ResourceWithId> findAsAuthorizationResourcesPageInAccount(String accountId, Optional<Long> afterId, int limit) {
+        return environmentRepository.findAsAuthorizationResourcesInAccountAfterId(accountId, afterId.orElse(Long.MIN_VALUE), PageRequest.of(0, limit));
+    }
+
     public void setLocation(Environment environment, RegionWrapper regionWrapper, CloudRegions cloudRegions) {
         if (regionWrapper != null) {
             LOGGER.debug("Setting location for environment. Location: '{}'.", regionWrapper);
@@ -1,5 +1,6 @@
 package com.sequenceiq.environment.environment.service.freeipa;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -23,6 +24,8 @@ import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.create.CreateFreeIpaReq
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.describe.DescribeFreeIpaResponse;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.detachchildenv.DetachChildEnvironmentRequest;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.health.HealthDetailsFreeIpaResponse;
+import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.status.FreeIpaStatusResponse;
+import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.status.FreeIpaStatusesRequest;
 import com.sequenceiq.freeipa.api.v1.freeipa.user.UserV1Endpoint;
 import com.sequenceiq.freeipa.api.v1.freeipa.user.model.SyncOperationStatus;
 import com.sequenceiq.freeipa.api.v1.freeipa.user.model.SynchronizationStatus;
@@ -131,6 +134,21 @@ public class FreeIpaService {
         }
     }
 
+    public List<FreeIpaStatusResponse> getStatusesInternal(List<String> environmentCrns) {
+        FreeIpaStatusesRequest request = new FreeIpaStatusesRequest();
+        request.setEnvironmentCrns(environmentCrns);
+        try {
+            return ThreadBasedUserCrnProvider.doAsInternalActor(
+                    regionAwareInternalCrnGeneratorFactory.iam().getInternalCrnForServiceAsString(),
+                    () -> freeIpaV1Endpoint.getStatusesInternal(request));
+        } catch (WebApplicationException e) {
+            String errorMessage = webApplicationExceptionMessageExtractor.getErrorMessage(e);
+            LOGGER.error(String.format("Failed to get the statuses of FreeIpa clusters for %d environments due to: '%s'.", environmentCrns.size(),
+                    errorMessage), e);
+            throw new FreeIpaOperationFailedException(errorMessage, e);
+        }
+    }
+
     public SyncOperationStatus getSyncOperationStatus(String environmentCrn, String operationId) {
         try {
             return ThreadBasedUserCrnProvider.doAsInternalActor(
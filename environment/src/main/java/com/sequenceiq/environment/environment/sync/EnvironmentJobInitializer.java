@@ -6,12 +6,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import com.sequenceiq.cloudbreak.quartz.model.JobInitializer;
 import com.sequenceiq.cloudbreak.quartz.model.JobResource;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.StatusCheckerJobInitializer;
 import com.sequenceiq.environment.environment.service.EnvironmentService;
 
 @Component
-public class EnvironmentJobInitializer implements JobInitializer {
+public class EnvironmentJobInitializer implements StatusCheckerJobInitializer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EnvironmentJobInitializer.class);
 
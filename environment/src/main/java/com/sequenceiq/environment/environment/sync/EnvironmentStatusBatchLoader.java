@@ -0,0 +1,34 @@
+package com.sequenceiq.environment.environment.sync;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.quartz.Job;
+import org.springframework.stereotype.Component;
+
+import com.sequenceiq.cloudbreak.quartz.statuschecker.service.RemoteStatusBatchLoader;
+import com.sequenceiq.environment.environment.service.freeipa.FreeIpaService;
+import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.status.FreeIpaStatusResponse;
+
+@Component
+public class EnvironmentStatusBatchLoader extends RemoteStatusBatchLoader<FreeIpaStatusResponse> {
+
+    private final FreeIpaService freeIpaService;
+
+    public EnvironmentStatusBatchLoader(FreeIpaService freeIpaService) {
+        this.freeIpaService = freeIpaService;
+    }
+
+    @Override
+    public Class<? extends Job> getJobClass() {
+        return EnvironmentStatusCheckerJob.class;
+    }
+
+    @Override
+    protected Map<String, FreeIpaStatusResponse> loadStatuses(List<String> remoteResourceCrns) {
+        return freeIpaService.getStatusesInternal(remoteResourceCrns).stream()
+                .collect(Collectors.toMap(FreeIpaStatusResponse::getEnvironmentCrn, Function.identity(), (first, second) -> first));
+    }
+}
@@ -14,22 +14,29 @@ import org.springframework.stereotype.Component;
 import com.sequenceiq.environment.environment.EnvironmentStatus;
 import com.sequenceiq.environment.environment.domain.Environment;
 import com.sequenceiq.environment.environment.service.freeipa.FreeIpaService;
+import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.common.Status;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.describe.DescribeFreeIpaResponse;
+import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.status.FreeIpaStatusResponse;
 
 @Component
 public class EnvironmentSyncService {
 
     private final FreeIpaService freeIpaService;
 
-    public EnvironmentSyncService(FreeIpaService freeIpaService) {
+    private final EnvironmentStatusBatchLoader environmentStatusBatchLoader;
+
+    public EnvironmentSyncService(FreeIpaService freeIpaService, EnvironmentStatusBatchLoader environmentStatusBatchLoader) {
         this.freeIpaService = freeIpaService;
+        this.environmentStatusBatchLoader = environmentStatusBatchLoader;
     }
 
     public EnvironmentStatus getStatusByFreeipa(Environment environment) {
-        Optional<DescribeFreeIpaResponse> freeIpaResponseOpt = freeIpaService.internalDescribe(environment.getResourceCrn(), environment.getAccountId());
-        if (freeIpaResponseOpt.isPresent()) {
-            DescribeFreeIpaResponse freeIpaResponse = freeIpaResponseOpt.get();
-            switch (freeIpaResponse.getStatus()) {
+        Optional<Status> freeIpaStatusOpt = environmentStatusBatchLoader.takeLoadedStatus(environment.getResourceCrn())
+                .map(FreeIpaStatusResponse::getStatus)
+                .or(() -> freeIpaService.internalDescribe(environment.getResourceCrn(), environment.getAccountId())
+                        .map(DescribeFreeIpaResponse::getStatus));
+        if (freeIpaStatusOpt.isPresent()) {
+            switch (freeIpaStatusOpt.get()) {
                 case STOPPED:
                     return ENV_STOPPED;
                 case DELETED_ON_PROVIDER_SIDE:
@@ -33,6 +33,7 @@ import com.sequenceiq.authorization.annotation.ResourceCrnList;
 import com.sequenceiq.authorization.annotation.ResourceName;
 import com.sequenceiq.authorization.annotation.ResourceNameList;
 import com.sequenceiq.authorization.resource.AuthorizationResourceAction;
+import com.sequenceiq.authorization.service.list.ResourcePage;
 import com.sequenceiq.cloudbreak.auth.ThreadBasedUserCrnProvider;
 import com.sequenceiq.cloudbreak.auth.altus.EntitlementService;
 import com.sequenceiq.cloudbreak.auth.crn.CrnResourceDescriptor;
@@ -54,6 +55,7 @@ import com.sequenceiq.environment.api.v1.environment.model.request.aws.UpdateAws
 import com.sequenceiq.environment.api.v1.environment.model.request.azure.UpdateAzureResourceEncryptionParametersRequest;
 import com.sequenceiq.environment.api.v1.environment.model.response.DetailedEnvironmentResponse;
 import com.sequenceiq.environment.api.v1.environment.model.response.EnvironmentCrnResponse;
+import com.sequenceiq.environment.api.v1.environment.model.response.SimpleEnvironmentPageResponse;
 import com.sequenceiq.environment.api.v1.environment.model.response.SimpleEnvironmentResponse;
 import com.sequenceiq.environment.api.v1.environment.model.response.SimpleEnvironmentResponses;
 import com.sequenceiq.environment.authorization.EnvironmentFiltering;
@@ -267,6 +269,17 @@ public class EnvironmentController implements EnvironmentEndpoint {
         return toSimpleEnvironmentResponses(environmentDtos);
     }
 
+    @Override
+    @FilterListBasedOnPermissions
+    public SimpleEnvironmentPageResponse listPage(String pageToken, int pageSize) {
+        ResourcePage<List<EnvironmentDto>> page = environmentFiltering.filterEnvironmentPage(AuthorizationResourceAction.DESCRIBE_ENVIRONMENT, pageToken,
+                pageSize);
+        List<SimpleEnvironmentResponse> responses = page.getContent().stream()
+                .map(environmentResponseConverter::dtoToSimpleResponse)
+                .collect(Collectors.toList());
+        return new SimpleEnvironmentPageResponse(responses, page.getNextPageToken());
+    }
+
     @Override
     @InternalOnly
     public SimpleEnvironmentResponses listInternal(@AccountId String accountId) {
@@ -0,0 +1,26 @@
+-- // CB-16541 create table statuscheckershardrequest
+-- Migration SQL that makes the change goes here.
+
+CREATE SEQUENCE IF NOT EXISTS statuscheckershardrequest_id_seq START WITH 1 INCREMENT BY 1 NO MINVALUE NO MAXVALUE CACHE 1;
+
+CREATE TABLE IF NOT EXISTS statuscheckershardrequest (
+    id                BIGINT NOT NULL DEFAULT nextval('statuscheckershardrequest_id_seq'),
+    shard             INTEGER NOT NULL,
+    localid           VARCHAR(255) NOT NULL,
+    jobclass          VARCHAR(255),
+    jobdata           TEXT,
+    delayinseconds    INTEGER NOT NULL DEFAULT 0,
+    intervalinseconds INTEGER NOT NULL DEFAULT 0,
+    unschedule        BOOLEAN NOT NULL DEFAULT FALSE,
+
+    CONSTRAINT        pk_statuscheckershardrequest_id     PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_statuscheckershardrequest_shard ON statuscheckershardrequest (shard);
+
+-- //@UNDO
+-- SQL to undo the change goes here.
+
+DROP TABLE IF EXISTS statuscheckershardrequest;
+
+DROP SEQUENCE IF EXISTS statuscheckershardrequest_id_seq;
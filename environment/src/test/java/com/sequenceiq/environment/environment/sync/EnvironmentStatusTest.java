@@ -132,6 +132,7 @@ class EnvironmentStatusTest {
     @Import({
             EnvironmentStatusCheckerJob.class,
             EnvironmentSyncService.class,
+            EnvironmentStatusBatchLoader.class,
             AutoSyncConfig.class
     })
     @PropertySource("classpath:application.yml")
@@ -1,8 +1,12 @@
 package com.sequenceiq.environment.environment.sync;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Assertions;
@@ -11,19 +15,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobDataMap;
 
+import com.sequenceiq.cloudbreak.quartz.model.JobResourceAdapter;
 import com.sequenceiq.environment.environment.EnvironmentStatus;
 import com.sequenceiq.environment.environment.domain.Environment;
 import com.sequenceiq.environment.environment.service.freeipa.FreeIpaService;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.common.Status;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.describe.DescribeFreeIpaResponse;
+import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.status.FreeIpaStatusResponse;
 
 @ExtendWith(MockitoExtension.class)
 public class EnvironmentSyncServiceTest {
 
     private final FreeIpaService freeIpaService = mock(FreeIpaService.class);
 
-    private final EnvironmentSyncService underTest = new EnvironmentSyncService(freeIpaService);
+    private final EnvironmentStatusBatchLoader environmentStatusBatchLoader = new EnvironmentStatusBatchLoader(freeIpaService);
+
+    private final EnvironmentSyncService underTest = new EnvironmentSyncService(freeIpaService, environmentStatusBatchLoader);
 
     @ParameterizedTest(name = "{0}")
     @MethodSource("getStatusByFreeipaParams")
@@ -39,6 +48,25 @@ public class EnvironmentSyncServiceTest {
         Assertions.assertEquals(expected, actual);
     }
 
+    @Test
+    void testGetStatusByFreeipaUsesBatchLoadedStatus() {
+        Environment environment = new Environment();
+        environment.setAccountId("cloudera");
+        environment.setResourceCrn("crn");
+        FreeIpaStatusResponse freeIpaStatus = new FreeIpaStatusResponse();
+        freeIpaStatus.setEnvironmentCrn(environment.getResourceCrn());
+        freeIpaStatus.setStatus(Status.STOPPED);
+        when(freeIpaService.getStatusesInternal(List.of(environment.getResourceCrn()))).thenReturn(List.of(freeIpaStatus));
+        JobDataMap jobDataMap = new JobDataMap();
+        jobDataMap.put(JobResourceAdapter.REMOTE_RESOURCE_CRN, environment.getResourceCrn());
+        environmentStatusBatchLoader.load(List.of(jobDataMap));
+
+        EnvironmentStatus actual = underTest.getStatusByFreeipa(environment);
+
+        Assertions.assertEquals(EnvironmentStatus.ENV_STOPPED, actual);
+        verify(freeIpaService, never()).internalDescribe(any(), any());
+    }
+
     @Test
     void testGetStatusByFreeipaWhenFreeipaAttachedButNotFound() {
         Environment environment = new Environment();
@@ -0,0 +1,65 @@
+package com.sequenceiq.cloudbreak.ha.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.sequenceiq.cloudbreak.ha.domain.Node;
+import com.sequenceiq.flow.domain.FlowLog;
+
+/**
+ * Assigns the flows to nodes with rendezvous (highest random weight) hashing on the resource id of the flow. Every node computes the same owner
+ * for a resource without coordination, the flows of the same resource are kept together, and when a node leaves the cluster only the
+ * resources it owned move to the remaining nodes.
+ */
+@Service
+public class RendezvousFlowDistributor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RendezvousFlowDistributor.class);
+
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    public Map<Node, List<String>> distribute(Collection<FlowLog> flowLogs, List<Node> nodes) {
+        Map<Node, List<String>> result = new HashMap<>();
+        if (nodes.isEmpty()) {
+            LOGGER.debug("There are no active nodes to distribute {} flow logs", flowLogs.size());
+            return result;
+        }
+        for (FlowLog flowLog : flowLogs) {
+            Node owner = getOwner(getOwnershipKey(flowLog), nodes).orElseThrow();
+            List<String> flowIds = result.computeIfAbsent(owner, k -> new ArrayList<>());
+            if (!flowIds.contains(flowLog.getFlowId())) {
+                flowIds.add(flowLog.getFlowId());
+            }
+        }
+        LOGGER.debug("Result of rendezvous flow distribution: {}", result);
+        return result;
+    }
+
+    public Optional<Node> getOwner(String key, Collection<Node> nodes) {
+        Node owner = null;
+        long highestWeight = Long.MIN_VALUE;
+        for (Node node : nodes) {
+            long weight = HASH_FUNCTION.hashString(key + ':' + node.getUuid(), StandardCharsets.UTF_8).asLong();
+            if (owner == null || weight > highestWeight) {
+                owner = node;
+                highestWeight = weight;
+            }
+        }
+        return Optional.ofNullable(owner);
+    }
+
+    private String getOwnershipKey(FlowLog flowLog) {
+        return flowLog.getResourceId() != null ? "resource-" + flowLog.getResourceId() : "flow-" + flowLog.getFlowId();
+    }
+}
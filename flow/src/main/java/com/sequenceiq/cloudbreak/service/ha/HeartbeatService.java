@@ -1,11 +1,13 @@
 package com.sequenceiq.cloudbreak.service.ha;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -27,12 +29,14 @@ import com.sequenceiq.cloudbreak.common.service.TransactionService.TransactionEx
 import com.sequenceiq.cloudbreak.ha.domain.Node;
 import com.sequenceiq.cloudbreak.ha.service.FlowDistributor;
 import com.sequenceiq.cloudbreak.ha.service.NodeService;
+import com.sequenceiq.cloudbreak.ha.service.RendezvousFlowDistributor;
 import com.sequenceiq.cloudbreak.service.Retry;
 import com.sequenceiq.cloudbreak.service.flowlog.RestartFlowService;
 import com.sequenceiq.flow.cleanup.InMemoryCleanup;
 import com.sequenceiq.flow.core.ApplicationFlowInformation;
 import com.sequenceiq.flow.core.Flow2Handler;
 import com.sequenceiq.flow.core.FlowLogService;
+import com.sequenceiq.flow.core.FlowMetricType;
 import com.sequenceiq.flow.core.FlowRegister;
 import com.sequenceiq.flow.domain.FlowLog;
 import com.sequenceiq.flow.domain.StateStatus;
@@ -45,6 +49,9 @@ public class HeartbeatService {
     @Value("${cb.ha.heartbeat.threshold:60000}")
     private Integer heartbeatThresholdRate;
 
+    @Value("${cb.ha.flow.distribution.rendezvous.enabled:false}")
+    private boolean rendezvousDistributionEnabled;
+
     @Inject
     private NodeConfig nodeConfig;
 
@@ -66,6 +73,9 @@ public class HeartbeatService {
     @Inject
     private FlowDistributor flowDistributor;
 
+    @Inject
+    private RendezvousFlowDistributor rendezvousFlowDistributor;
+
     @Inject
     private FlowRegister runningFlows;
 
@@ -164,10 +174,7 @@ public class HeartbeatService {
         List<Node> activeNodes = nodes.stream().filter(c -> !failedNodes.contains(c)).collect(Collectors.toList());
         LOGGER.info("Active CB nodes: ({})[{}], failed CB nodes: ({})[{}]", activeNodes.size(), activeNodes, failedNodes.size(), failedNodes);
 
-        List<FlowLog> failedFlowLogs = failedNodes.stream()
-                .map(node -> flowLogService.findAllByCloudbreakNodeId(node.getUuid()))
-                .flatMap(Set::stream)
-                .collect(Collectors.toList());
+        List<FlowLog> failedFlowLogs = findFailedFlowLogs(failedNodes);
 
         if (!failedFlowLogs.isEmpty()) {
             LOGGER.info("The following flows will be distributed across the active nodes: {}", getFlowIds(failedFlowLogs));
@@ -180,15 +187,21 @@ public class HeartbeatService {
             updatedFlowLogs.addAll(invalidFlows);
             failedFlowLogs.removeAll(invalidFlows);
             LOGGER.info("The following flows have been filtered out from distribution: {}", getFlowIds(invalidFlows));
-            Map<Node, List<String>> flowDistribution = flowDistributor.distribute(getFlowIds(failedFlowLogs), activeNodes);
+            Map<String, List<FlowLog>> failedFlowLogsByFlowId = failedFlowLogs.stream()
+                    .collect(Collectors.groupingBy(flowLog -> flowLog.getFlowId().toLowerCase()));
+            Map<Node, List<String>> flowDistribution = distribute(failedFlowLogs, activeNodes);
+            int movedFlows = 0;
             for (Entry<Node, List<String>> entry : flowDistribution.entrySet()) {
-                entry.getValue().forEach(flowId ->
-                        failedFlowLogs.stream().filter(flowLog -> flowLog.getFlowId().equalsIgnoreCase(flowId)).forEach(flowLog -> {
-                            flowLog.setCloudbreakNodeId(entry.getKey().getUuid());
-                            updatedFlowLogs.add(flowLog);
-                        }));
+                for (String flowId : entry.getValue()) {
+                    movedFlows++;
+                    Optional.ofNullable(failedFlowLogsByFlowId.get(flowId.toLowerCase())).ifPresent(flowLogs -> flowLogs.forEach(flowLog -> {
+                        flowLog.setCloudbreakNodeId(entry.getKey().getUuid());
+                        updatedFlowLogs.add(flowLog);
+                    }));
+                }
             }
             transactionService.required(() -> flowLogService.saveAll(updatedFlowLogs));
+            recordDistributionMetrics(currentTimeMillis, movedFlows);
         }
         return failedNodes;
     }
@@ -269,6 +282,30 @@ public class HeartbeatService {
         haApplication.cleanupInMemoryStore(resourceId);
     }
 
+    private List<FlowLog> findFailedFlowLogs(List<Node> failedNodes) {
+        if (rendezvousDistributionEnabled) {
+            return failedNodes.isEmpty() ? new ArrayList<>()
+                    : new ArrayList<>(flowLogService.findAllByCloudbreakNodeIds(failedNodes.stream().map(Node::getUuid).collect(Collectors.toSet())));
+        }
+        return failedNodes.stream()
+                .map(node -> flowLogService.findAllByCloudbreakNodeId(node.getUuid()))
+                .flatMap(Set::stream)
+                .collect(Collectors.toList());
+    }
+
+    private Map<Node, List<String>> distribute(List<FlowLog> flowLogs, List<Node> activeNodes) {
+        return rendezvousDistributionEnabled
+                ? rendezvousFlowDistributor.distribute(flowLogs, activeNodes)
+                : flowDistributor.distribute(getFlowIds(flowLogs), activeNodes);
+    }
+
+    private void recordDistributionMetrics(long startTimeMillis, int movedFlows) {
+        Duration duration = Duration.ofMillis(clock.getCurrentTimeMillis() - startTimeMillis);
+        LOGGER.info("{} flows have been reassigned to the active nodes in {} ms", movedFlows, duration.toMillis());
+        metricService.recordTimerMetric(FlowMetricType.FLOW_DISTRIBUTION_DURATION, duration);
+        metricService.submit(FlowMetricType.FLOW_DISTRIBUTION_MOVED_FLOWS, movedFlows);
+    }
+
     private List<String> getFlowIds(Collection<FlowLog> flowLogCollection) {
         return flowLogCollection.stream().map(FlowLog::getFlowId).distinct().collect(Collectors.toList());
     }
@@ -423,7 +423,8 @@ public class Flow2Handler implements Consumer<Event<? extends Payload>> {
             boolean failureEvent = failHandledEvents.contains(key);
             LOGGER.debug("New flow state: {}, key: {}, failure event: {}", lastFlowLog, key, failureEvent);
             flowLogService.updateLastFlowLogStatus(lastFlowLog, failureEvent);
-            flowLogService.save(flowParameters, flowChainId, key, payload, flow.getVariables(), flow.getFlowConfigClass(), flow.getCurrentState());
+            flowLogService.saveTransition(flowParameters, flowChainId, key, payload, flow.getVariables(), flow.getFlowConfigClass(),
+                    flow.getCurrentState());
         }
     }
 
@@ -1,5 +1,6 @@
 package com.sequenceiq.flow.core;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -16,6 +17,9 @@ public interface FlowLogService {
     FlowLog save(FlowParameters flowParameters, String flowChanId, String key, Payload payload, Map<Object, Object> variables, Class<?> flowType,
             FlowState currentState);
 
+    FlowLog saveTransition(FlowParameters flowParameters, String flowChanId, String key, Payload payload, Map<Object, Object> variables,
+            Class<?> flowType, FlowState currentState);
+
     Iterable<FlowLog> saveAll(Iterable<FlowLog> entities);
 
     FlowLog close(Long resourceId, String flowId, boolean failed) throws TransactionService.TransactionExecutionException;
@@ -56,6 +60,8 @@ public interface FlowLogService {
 
     Set<FlowLog> findAllByCloudbreakNodeId(String cloudbreakNodeId);
 
+    Set<FlowLog> findAllByCloudbreakNodeIds(Collection<String> cloudbreakNodeIds);
+
     List<FlowLog> findAllForLastFlowIdByResourceIdOrderByCreatedDesc(Long id);
 
     List<FlowLog> findAllByResourceIdOrderByCreatedDesc(Long id);
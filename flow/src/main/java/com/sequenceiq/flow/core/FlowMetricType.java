@@ -4,7 +4,10 @@ import com.sequenceiq.cloudbreak.common.metrics.type.Metric;
 
 public enum FlowMetricType implements Metric {
     FLOW_STEP("flowstep"),
-    ACTIVE_FLOWS("activeflow");
+    ACTIVE_FLOWS("activeflow"),
+    FLOW_LOG_BATCH_SIZE("flowlog.batch.size"),
+    FLOW_DISTRIBUTION_DURATION("flow.distribution.duration"),
+    FLOW_DISTRIBUTION_MOVED_FLOWS("flow.distribution.moved.flows");
 
     private final String metricName;
 
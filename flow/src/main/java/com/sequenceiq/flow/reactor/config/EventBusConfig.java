@@ -2,9 +2,12 @@ package com.sequenceiq.flow.reactor.config;
 
 import java.util.Arrays;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 
@@ -18,8 +21,12 @@ import org.springframework.context.annotation.Lazy;
 import com.sequenceiq.cloudbreak.logger.MDCBuilder;
 import com.sequenceiq.cloudbreak.logger.concurrent.MDCCleanerThreadPoolExecutor;
 import com.sequenceiq.flow.core.ApplicationFlowInformation;
+import com.sequenceiq.flow.core.FlowConstants;
+import com.sequenceiq.flow.core.FlowEvent;
+import com.sequenceiq.flow.core.config.FlowConfiguration;
 import com.sequenceiq.flow.reactor.eventbus.ConsumerCheckerEventBus;
 import com.sequenceiq.flow.reactor.eventbus.EventCanNotBeDeliveredException;
+import com.sequenceiq.flow.reactor.eventbus.PartitionedDispatcher;
 import com.sequenceiq.flow.reactor.handler.ConsumerNotFoundHandler;
 import com.sequenceiq.flow.service.flowlog.FlowLogDBService;
 
@@ -27,6 +34,7 @@ import reactor.Environment;
 import reactor.bus.Event;
 import reactor.bus.EventBus;
 import reactor.bus.spec.EventBusSpec;
+import reactor.core.Dispatcher;
 import reactor.core.dispatch.ThreadPoolExecutorDispatcher;
 import reactor.core.support.Exceptions;
 import reactor.core.support.NamedDaemonThreadFactory;
@@ -46,6 +54,15 @@ public class EventBusConfig {
     @Value("${cb.eventbus.threadpool.backlog.size:1000}")
     private int eventBusThreadPoolBacklogSize;
 
+    @Value("${cb.eventbus.dispatcher.partitioned.enabled:false}")
+    private boolean partitionedDispatcherEnabled;
+
+    @Value("${cb.eventbus.dispatcher.partition.count:100}")
+    private int partitionCount;
+
+    @Value("${cb.eventbus.dispatcher.partition.capacity:100}")
+    private int partitionCapacity;
+
     @Inject
     @Lazy
     private ApplicationFlowInformation applicationFlowInformation;
@@ -54,7 +71,13 @@ public class EventBusConfig {
     @Lazy
     private FlowLogDBService flowLogDBService;
 
-    private void handleFlowFail(Throwable throwable, ThreadPoolExecutorDispatcher dispatcher) {
+    @Inject
+    @Lazy
+    private List<FlowConfiguration<?>> flowConfigs;
+
+    private volatile Set<String> flowSelectors;
+
+    private void handleFlowFail(Throwable throwable, Dispatcher dispatcher) {
         try {
             if (dispatcher.alive()) {
                 String flowId = getFlowIdFromThrowable(throwable);
@@ -134,8 +157,7 @@ public class EventBusConfig {
 
     @Bean
     public EventBus reactor(MDCCleanerThreadPoolExecutor threadPoolExecutor, Environment env) {
-        ThreadPoolExecutorDispatcher dispatcher = new ThreadPoolExecutorDispatcher(eventBusThreadPoolBacklogSize, eventBusThreadPoolCoreSize,
-                threadPoolExecutor);
+        Dispatcher dispatcher = createDispatcher(threadPoolExecutor);
         EventBus eventBus = new EventBusSpec()
                 .env(env)
                 .dispatcher(dispatcher)
@@ -153,6 +175,29 @@ public class EventBusConfig {
         return new ConsumerCheckerEventBus(eventBus);
     }
 
+    private Dispatcher createDispatcher(MDCCleanerThreadPoolExecutor threadPoolExecutor) {
+        Dispatcher sharedDispatcher = new ThreadPoolExecutorDispatcher(eventBusThreadPoolBacklogSize, eventBusThreadPoolCoreSize, threadPoolExecutor);
+        if (partitionedDispatcherEnabled) {
+            return new PartitionedDispatcher(partitionCount, partitionCapacity, sharedDispatcher, this::isFlowEvent);
+        } else {
+            return sharedDispatcher;
+        }
+    }
+
+    private boolean isFlowEvent(Object data) {
+        return data instanceof Event && getFlowSelectors().contains(String.valueOf(((Event<?>) data).getKey()));
+    }
+
+    private Set<String> getFlowSelectors() {
+        if (flowSelectors == null) {
+            flowSelectors = Stream.concat(Stream.of(FlowConstants.FLOW_FINAL, FlowConstants.FLOW_CANCEL), flowConfigs.stream()
+                    .flatMap(flowConfig -> Arrays.stream(flowConfig.getEvents()))
+                    .map(FlowEvent::event))
+                    .collect(Collectors.toSet());
+        }
+        return flowSelectors;
+    }
+
     @Bean("eventBusThreadPoolExecutor")
     public MDCCleanerThreadPoolExecutor getPoolExecutor() {
         return new MDCCleanerThreadPoolExecutor(eventBusThreadPoolCoreSize,
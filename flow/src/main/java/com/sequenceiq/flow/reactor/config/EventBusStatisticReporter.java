@@ -1,5 +1,7 @@
 package com.sequenceiq.flow.reactor.config;
 
+import java.util.List;
+
 import javax.inject.Inject;
 import javax.inject.Named;
 
@@ -8,6 +10,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import com.sequenceiq.cloudbreak.logger.concurrent.MDCCleanerThreadPoolExecutor;
+import com.sequenceiq.flow.reactor.eventbus.PartitionedDispatcher;
+import com.sequenceiq.flow.reactor.eventbus.PartitionedDispatcher.PartitionStatistics;
 
 import reactor.bus.EventBus;
 import reactor.core.Dispatcher;
@@ -38,6 +42,9 @@ public class EventBusStatisticReporter {
         stats.setBackLogSize(dispatcher.backlogSize());
         stats.setRemainingSlots(dispatcher.remainingSlots());
         stats.setInContext(dispatcher.inContext());
+        if (dispatcher instanceof PartitionedDispatcher) {
+            stats.setPartitions(((PartitionedDispatcher) dispatcher).getPartitionStatistics());
+        }
 
         stats.setPoolSize(executor.getPoolSize());
         stats.setCorePoolSize(executor.getCorePoolSize());
@@ -66,6 +73,8 @@ public class EventBusStatisticReporter {
 
         private boolean inContext;
 
+        private List<PartitionStatistics> partitions;
+
         public void setTaskCount(long taskCount) {
             this.taskCount = taskCount;
         }
@@ -98,6 +107,14 @@ public class EventBusStatisticReporter {
             this.inContext = inContext;
         }
 
+        public void setPartitions(List<PartitionStatistics> partitions) {
+            this.partitions = partitions;
+        }
+
+        public List<PartitionStatistics> getPartitions() {
+            return partitions;
+        }
+
         @Override
         public String toString() {
             return "EventBusStatistics{" +
@@ -109,6 +126,7 @@ public class EventBusStatisticReporter {
                     ", poolSize=" + poolSize +
                     ", activeCount=" + activeCount +
                     ", inContext=" + inContext +
+                    ", partitions=" + partitions +
                     '}';
         }
     }
@@ -0,0 +1,267 @@
+package com.sequenceiq.flow.reactor.eventbus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sequenceiq.cloudbreak.common.event.Payload;
+import com.sequenceiq.cloudbreak.logger.concurrent.MDCCleanerThreadPoolExecutor;
+
+import reactor.bus.Event;
+import reactor.core.Dispatcher;
+import reactor.core.support.NamedDaemonThreadFactory;
+import reactor.fn.Consumer;
+
+/**
+ * Dispatcher which shards the ordered events by the resource id of their payload onto single threaded partitions, so the events of a resource
+ * are processed in order, while the events of different resources are processed in parallel.
+ * <p>
+ * Only the events accepted by the ordered event predicate (the events of the flow state machines) are partitioned. Every other event, e.g. the
+ * requests of the event handlers and the notifications which are awaited by their senders, and the plain tasks are dispatched by the shared
+ * dispatcher. A partition thread waiting for such an event can not block itself this way, and a long-running handler does not stall the other
+ * resources of its partition.
+ * <p>
+ * The partitions have a bounded capacity. Threads outside of the dispatcher are blocked when the partition is full instead of rejecting the event.
+ * Events sent from a dispatcher thread (e.g. from an event handler) are always accepted to avoid deadlocks between the partitions.
+ */
+public class PartitionedDispatcher implements Dispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PartitionedDispatcher.class);
+
+    private static final String THREAD_NAME_PREFIX = "reactorPartition-";
+
+    private final List<Partition> partitions;
+
+    private final ThreadLocal<Boolean> partitionThread = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final Dispatcher sharedDispatcher;
+
+    private final Predicate<Object> orderedEventPredicate;
+
+    public PartitionedDispatcher(int partitionCount, int partitionCapacity, Dispatcher sharedDispatcher, Predicate<Object> orderedEventPredicate) {
+        this.sharedDispatcher = sharedDispatcher;
+        this.orderedEventPredicate = orderedEventPredicate;
+        partitions = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            partitions.add(new Partition(i, partitionCapacity));
+        }
+        LOGGER.info("Partitioned event bus dispatcher created with {} partitions and {} capacity per partition", partitionCount, partitionCapacity);
+    }
+
+    @Override
+    public <E> void tryDispatch(E data, Consumer<E> eventConsumer, Consumer<Throwable> errorConsumer) {
+        dispatch(data, eventConsumer, errorConsumer);
+    }
+
+    @Override
+    public <E> void dispatch(E data, Consumer<E> eventConsumer, Consumer<Throwable> errorConsumer) {
+        if (!orderedEventPredicate.test(data)) {
+            sharedDispatcher.dispatch(data, eventConsumer, errorConsumer);
+            return;
+        }
+        Partition partition = partitions.get(getPartitionIndex(data));
+        partition.submit(() -> {
+            partitionThread.set(Boolean.TRUE);
+            try {
+                eventConsumer.accept(data);
+            } catch (RuntimeException e) {
+                if (errorConsumer != null) {
+                    errorConsumer.accept(e);
+                } else {
+                    LOGGER.error("Event could not be processed by partition {}", partition.index, e);
+                }
+            } finally {
+                partitionThread.remove();
+            }
+        }, inContext());
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        sharedDispatcher.execute(command);
+    }
+
+    @Override
+    public long remainingSlots() {
+        return sharedDispatcher.remainingSlots() + partitions.stream().mapToLong(partition -> partition.capacity.availablePermits()).sum();
+    }
+
+    @Override
+    public long backlogSize() {
+        return sharedDispatcher.backlogSize() + partitions.stream().mapToLong(partition -> partition.maxCapacity).sum();
+    }
+
+    @Override
+    public boolean supportsOrdering() {
+        return true;
+    }
+
+    @Override
+    public boolean inContext() {
+        return partitionThread.get() || sharedDispatcher.inContext();
+    }
+
+    @Override
+    public boolean alive() {
+        return sharedDispatcher.alive() && partitions.stream().noneMatch(partition -> partition.executor.isShutdown());
+    }
+
+    @Override
+    public void shutdown() {
+        partitions.forEach(partition -> partition.executor.shutdown());
+        sharedDispatcher.shutdown();
+    }
+
+    @Override
+    public void forceShutdown() {
+        partitions.forEach(partition -> partition.executor.shutdownNow());
+        sharedDispatcher.forceShutdown();
+    }
+
+    @Override
+    public boolean awaitAndShutdown() {
+        return awaitAndShutdown(Long.MAX_VALUE, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public boolean awaitAndShutdown(long timeout, TimeUnit timeUnit) {
+        partitions.forEach(partition -> partition.executor.shutdown());
+        boolean terminated = true;
+        for (Partition partition : partitions) {
+            try {
+                terminated &= partition.executor.awaitTermination(timeout, timeUnit);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return sharedDispatcher.awaitAndShutdown(timeout, timeUnit) && terminated;
+    }
+
+    public List<PartitionStatistics> getPartitionStatistics() {
+        List<PartitionStatistics> statistics = new ArrayList<>(partitions.size());
+        for (Partition partition : partitions) {
+            statistics.add(new PartitionStatistics(partition.index, partition.queueDepth.get(), partition.lastWaitTime.get(),
+                    partition.maxWaitTime.get()));
+        }
+        return statistics;
+    }
+
+    private int getPartitionIndex(Object data) {
+        Object partitionKey = data;
+        if (data instanceof Event) {
+            Event<?> event = (Event<?>) data;
+            if (event.getData() instanceof Payload && ((Payload) event.getData()).getResourceId() != null) {
+                partitionKey = ((Payload) event.getData()).getResourceId();
+            } else {
+                partitionKey = event.getKey();
+            }
+        }
+        return partitionKey == null ? 0 : Math.floorMod(partitionKey.hashCode(), partitions.size());
+    }
+
+    private static class Partition {
+
+        private final int index;
+
+        private final int maxCapacity;
+
+        private final Semaphore capacity;
+
+        private final MDCCleanerThreadPoolExecutor executor;
+
+        private final AtomicInteger queueDepth = new AtomicInteger();
+
+        private final AtomicLong lastWaitTime = new AtomicLong();
+
+        private final AtomicLong maxWaitTime = new AtomicLong();
+
+        Partition(int index, int maxCapacity) {
+            this.index = index;
+            this.maxCapacity = maxCapacity;
+            capacity = new Semaphore(maxCapacity);
+            executor = new MDCCleanerThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                    new NamedDaemonThreadFactory(THREAD_NAME_PREFIX + index),
+                    (r, e) -> LOGGER.error("Task has been rejected from '{}{}' partition. Executor state: {}", THREAD_NAME_PREFIX, index, e));
+        }
+
+        void submit(Runnable task, boolean fromPartitionThread) {
+            boolean acquired = fromPartitionThread ? capacity.tryAcquire() : acquireUninterruptibly();
+            long enqueued = System.currentTimeMillis();
+            queueDepth.incrementAndGet();
+            executor.execute(() -> {
+                queueDepth.decrementAndGet();
+                long waitTime = System.currentTimeMillis() - enqueued;
+                lastWaitTime.set(waitTime);
+                maxWaitTime.accumulateAndGet(waitTime, Math::max);
+                try {
+                    task.run();
+                } finally {
+                    if (acquired) {
+                        capacity.release();
+                    }
+                }
+            });
+        }
+
+        private boolean acquireUninterruptibly() {
+            if (!capacity.tryAcquire()) {
+                LOGGER.debug("Partition {} is full, waiting for free capacity", index);
+                capacity.acquireUninterruptibly();
+            }
+            return true;
+        }
+    }
+
+    public static class PartitionStatistics {
+
+        private final int partition;
+
+        private final int queueDepth;
+
+        private final long lastWaitTime;
+
+        private final long maxWaitTime;
+
+        public PartitionStatistics(int partition, int queueDepth, long lastWaitTime, long maxWaitTime) {
+            this.partition = partition;
+            this.queueDepth = queueDepth;
+            this.lastWaitTime = lastWaitTime;
+            this.maxWaitTime = maxWaitTime;
+        }
+
+        public int getPartition() {
+            return partition;
+        }
+
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+        public long getLastWaitTime() {
+            return lastWaitTime;
+        }
+
+        public long getMaxWaitTime() {
+            return maxWaitTime;
+        }
+
+        @Override
+        public String toString() {
+            return "PartitionStatistics{" +
+                    "partition=" + partition +
+                    ", queueDepth=" + queueDepth +
+                    ", lastWaitTime=" + lastWaitTime +
+                    ", maxWaitTime=" + maxWaitTime +
+                    '}';
+        }
+    }
+}
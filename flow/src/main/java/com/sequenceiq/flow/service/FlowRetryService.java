@@ -26,6 +26,7 @@ import com.sequenceiq.flow.domain.RetryableFlow;
 import com.sequenceiq.flow.domain.RetryableStateResponse;
 import com.sequenceiq.flow.domain.StateStatus;
 import com.sequenceiq.flow.repository.FlowLogRepository;
+import com.sequenceiq.flow.service.flowlog.FlowLogWriteBehindBuffer;
 
 @Service
 public class FlowRetryService {
@@ -42,6 +43,9 @@ public class FlowRetryService {
     @Inject
     private FlowLogRepository flowLogRepository;
 
+    @Inject
+    private FlowLogWriteBehindBuffer flowLogWriteBehindBuffer;
+
     @Resource
     private List<String> retryableEvents;
 
@@ -130,6 +134,9 @@ public class FlowRetryService {
     }
 
     private Boolean isFlowPending(Long stackId) {
+        if (flowLogWriteBehindBuffer.isEnabled()) {
+            flowLogWriteBehindBuffer.flush();
+        }
         return flowLogRepository.findAnyByStackIdAndStateStatus(stackId, StateStatus.PENDING);
     }
 
@@ -1,10 +1,12 @@
 package com.sequenceiq.flow.service.flowlog;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -77,9 +79,28 @@ public class FlowLogDBService implements FlowLogService {
     @Inject
     private ResourceIdProvider resourceIdProvider;
 
+    @Inject
+    private FlowLogWriteBehindBuffer flowLogWriteBehindBuffer;
+
     @Override
     public FlowLog save(FlowParameters flowParameters, String flowChanId, String key, Payload payload, Map<Object, Object> variables, Class<?> flowType,
             FlowState currentState) {
+        FlowLog flowLog = createFlowLog(flowParameters, flowChanId, key, payload, variables, flowType, currentState);
+        return flowLogRepository.save(flowLog);
+    }
+
+    @Override
+    public FlowLog saveTransition(FlowParameters flowParameters, String flowChanId, String key, Payload payload, Map<Object, Object> variables,
+            Class<?> flowType, FlowState currentState) {
+        FlowLog flowLog = createFlowLog(flowParameters, flowChanId, key, payload, variables, flowType, currentState);
+        if (flowLogWriteBehindBuffer.isEnabled()) {
+            return flowLogWriteBehindBuffer.add(flowLog);
+        }
+        return flowLogRepository.save(flowLog);
+    }
+
+    private FlowLog createFlowLog(FlowParameters flowParameters, String flowChanId, String key, Payload payload, Map<Object, Object> variables,
+            Class<?> flowType, FlowState currentState) {
         String payloadAsString = getSerializedString(payload);
         String variablesJson = getSerializedString(variables);
         FlowLog flowLog = new FlowLog(payload.getResourceId(), flowParameters.getFlowId(), flowChanId, flowParameters.getFlowTriggerUserCrn(), key,
@@ -88,7 +109,7 @@ public class FlowLogDBService implements FlowLogService {
                 ? OperationType.valueOf(flowParameters.getFlowOperationType())
                 : OperationType.UNKNOWN);
         flowLog.setCloudbreakNodeId(nodeConfig.getId());
-        return flowLogRepository.save(flowLog);
+        return flowLog;
     }
 
     public String getSerializedString(Object object) {
@@ -138,17 +159,19 @@ public class FlowLogDBService implements FlowLogService {
     }
 
     public void finalize(String flowId) {
+        flushWriteBehindBuffer();
         flowLogRepository.finalizeByFlowId(flowId);
     }
 
     private FlowLog finalize(Long resourceId, String flowId, String state, boolean failed) throws TransactionExecutionException {
+        flushWriteBehindBuffer();
         return transactionService.required(() -> {
             flowLogRepository.finalizeByFlowId(flowId);
-            Optional<FlowLog> lastFlowLogOpt = getLastFlowLog(flowId);
+            Optional<FlowLog> lastFlowLogOpt = flowLogRepository.findFirstByFlowIdOrderByCreatedDesc(flowId);
             OperationType operationType = OperationType.UNKNOWN;
             if (lastFlowLogOpt.isPresent()) {
                 FlowLog lastFlowLog = lastFlowLogOpt.get();
-                updateLastFlowLogStatus(lastFlowLog, failed);
+                flowLogRepository.updateLastLogStatusInFlow(lastFlowLog.getId(), getStateStatus(failed));
                 operationType = lastFlowLog.getOperationType();
             }
             FlowLog flowLog = new FlowLog(resourceId, flowId, state, Boolean.TRUE, StateStatus.SUCCESSFUL, operationType);
@@ -171,8 +194,22 @@ public class FlowLogDBService implements FlowLogService {
 
     @Override
     public void updateLastFlowLogStatus(FlowLog lastFlowLog, boolean failureEvent) {
-        StateStatus stateStatus = failureEvent ? StateStatus.FAILED : StateStatus.SUCCESSFUL;
-        flowLogRepository.updateLastLogStatusInFlow(lastFlowLog.getId(), stateStatus);
+        StateStatus stateStatus = getStateStatus(failureEvent);
+        if (flowLogWriteBehindBuffer.isEnabled()) {
+            flowLogWriteBehindBuffer.updateStatus(lastFlowLog, stateStatus);
+        } else {
+            flowLogRepository.updateLastLogStatusInFlow(lastFlowLog.getId(), stateStatus);
+        }
+    }
+
+    private StateStatus getStateStatus(boolean failureEvent) {
+        return failureEvent ? StateStatus.FAILED : StateStatus.SUCCESSFUL;
+    }
+
+    private void flushWriteBehindBuffer() {
+        if (flowLogWriteBehindBuffer.isEnabled()) {
+            flowLogWriteBehindBuffer.flush();
+        }
     }
 
     @Override
@@ -244,13 +281,15 @@ public class FlowLogDBService implements FlowLogService {
                 .ifPresent(flowLog -> {
                     flowLog.setPayload(payloadJson);
                     flowLog.setVariables(variablesJson);
-                    flowLogRepository.save(flowLog);
+                    if (flowLog.getId() != null) {
+                        flowLogRepository.save(flowLog);
+                    }
                 });
     }
 
     @Override
     public Optional<FlowLog> getLastFlowLog(String flowId) {
-        return flowLogRepository.findFirstByFlowIdOrderByCreatedDesc(flowId);
+        return findFirstByFlowIdOrderByCreatedDesc(flowId);
     }
 
     @Override
@@ -260,7 +299,23 @@ public class FlowLogDBService implements FlowLogService {
 
     @Override
     public Optional<FlowLog> findFirstByFlowIdOrderByCreatedDesc(String flowId) {
-        return flowLogRepository.findFirstByFlowIdOrderByCreatedDesc(flowId);
+        Optional<FlowLog> persistedLastFlowLog = flowLogRepository.findFirstByFlowIdOrderByCreatedDesc(flowId);
+        Optional<FlowLog> bufferedLastFlowLog = flowLogWriteBehindBuffer.getLastFlowLog(flowId);
+        if (bufferedLastFlowLog.isEmpty()) {
+            return persistedLastFlowLog;
+        }
+        if (persistedLastFlowLog.filter(flowLog -> isTakenOver(flowLog, bufferedLastFlowLog.get())).isPresent()) {
+            LOGGER.info("Flow {} was taken over by node {} or finalized, discarding its buffered flow logs", flowId,
+                    persistedLastFlowLog.get().getCloudbreakNodeId());
+            flowLogWriteBehindBuffer.discardFlow(flowId);
+            return persistedLastFlowLog;
+        }
+        return bufferedLastFlowLog;
+    }
+
+    private boolean isTakenOver(FlowLog persistedFlowLog, FlowLog bufferedFlowLog) {
+        return Boolean.TRUE.equals(persistedFlowLog.getFinalized())
+                || !Objects.equals(persistedFlowLog.getCloudbreakNodeId(), bufferedFlowLog.getCloudbreakNodeId());
     }
 
     @Override
@@ -283,6 +338,11 @@ public class FlowLogDBService implements FlowLogService {
         return flowLogRepository.findAllByCloudbreakNodeId(cloudbreakNodeId);
     }
 
+    @Override
+    public Set<FlowLog> findAllByCloudbreakNodeIds(Collection<String> cloudbreakNodeIds) {
+        return flowLogRepository.findAllByCloudbreakNodeIds(cloudbreakNodeIds);
+    }
+
     @Override
     public List<FlowLog> findAllForLastFlowIdByResourceIdOrderByCreatedDesc(Long id) {
         return flowLogRepository.findFirstByResourceIdOrderByCreatedDesc(id)
@@ -0,0 +1,214 @@
+package com.sequenceiq.flow.service.flowlog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sequenceiq.cloudbreak.common.metrics.MetricService;
+import com.sequenceiq.cloudbreak.common.service.TransactionService;
+import com.sequenceiq.cloudbreak.common.service.TransactionService.TransactionExecutionException;
+import com.sequenceiq.flow.core.FlowMetricType;
+import com.sequenceiq.flow.domain.FlowLog;
+import com.sequenceiq.flow.domain.StateStatus;
+import com.sequenceiq.flow.repository.FlowLogRepository;
+
+/**
+ * Buffers flow log rows of state transitions on this node and group-commits them in batches.
+ * <p>
+ * The first (init) row of a flow and the finalization of a flow are always written synchronously, so a flow is visible to the other nodes
+ * and to the restart logic as soon as it starts. After a node crash at most the last flush interval of transitions is lost, in this case
+ * the flow is restarted from the last persisted state.
+ * <p>
+ * The changes made in a transaction are buffered only when the transaction commits, and dropped when it rolls back, as the rows would
+ * have been. The buffer holds at most {@code cb.flowlog.writebehind.max.size} changes, when it is full and cannot be flushed, the new
+ * changes are rejected with the flush error instead of being buffered.
+ * <p>
+ * Only the finalization of a flow flushes the buffer. The other reads of the flow logs go to the database and may miss the buffered
+ * transitions of the running flows of this node until the next flush, except the last flow log of a flow, which is taken from the buffer
+ * as long as the database still shows this node as the owner of the flow.
+ */
+@Component
+public class FlowLogWriteBehindBuffer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FlowLogWriteBehindBuffer.class);
+
+    @Value("${cb.flowlog.writebehind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${cb.flowlog.writebehind.batch.size:100}")
+    private int batchSize;
+
+    @Value("${cb.flowlog.writebehind.max.size:1000}")
+    private int maxSize;
+
+    @Inject
+    private FlowLogRepository flowLogRepository;
+
+    @Inject
+    private TransactionService transactionService;
+
+    @Inject
+    private MetricService metricService;
+
+    private final Map<String, FlowLog> bufferedLastFlowLogs = new HashMap<>();
+
+    private final List<FlowLog> bufferedFlowLogs = new ArrayList<>();
+
+    private final Map<Long, StateStatus> bufferedStatusUpdates = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public FlowLog add(FlowLog flowLog) {
+        ensureCapacity();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            synchronized (this) {
+                bufferedLastFlowLogs.put(flowLog.getFlowId(), flowLog);
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        addCommitted(flowLog);
+                    } else {
+                        discard(flowLog);
+                    }
+                }
+            });
+        } else {
+            addCommitted(flowLog);
+        }
+        return flowLog;
+    }
+
+    public void updateStatus(FlowLog flowLog, StateStatus stateStatus) {
+        ensureCapacity();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    updateStatusCommitted(flowLog, stateStatus);
+                }
+            });
+        } else {
+            updateStatusCommitted(flowLog, stateStatus);
+        }
+    }
+
+    public synchronized Optional<FlowLog> getLastFlowLog(String flowId) {
+        return Optional.ofNullable(bufferedLastFlowLogs.get(flowId));
+    }
+
+    /**
+     * Drops the buffered flow logs of a flow which was taken over by another node or finalized.
+     */
+    public synchronized void discardFlow(String flowId) {
+        bufferedLastFlowLogs.remove(flowId);
+        bufferedFlowLogs.removeIf(flowLog -> flowId.equals(flowLog.getFlowId()));
+    }
+
+    public synchronized int size() {
+        return bufferedFlowLogs.size() + bufferedStatusUpdates.size();
+    }
+
+    @Scheduled(fixedDelayString = "${cb.flowlog.writebehind.flush.interval.ms:500}")
+    public void scheduledFlush() {
+        if (enabled) {
+            flushSilently();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        LOGGER.info("Flushing {} buffered flow log changes before shutdown", size());
+        flush();
+    }
+
+    public synchronized void flush() {
+        if (bufferedFlowLogs.isEmpty() && bufferedStatusUpdates.isEmpty()) {
+            return;
+        }
+        int flowLogCount = bufferedFlowLogs.size();
+        int statusUpdateCount = bufferedStatusUpdates.size();
+        long start = System.currentTimeMillis();
+        try {
+            transactionService.requiresNew(() -> {
+                bufferedStatusUpdates.forEach(flowLogRepository::updateLastLogStatusInFlow);
+                return flowLogRepository.saveAll(bufferedFlowLogs);
+            });
+            bufferedStatusUpdates.clear();
+            bufferedFlowLogs.clear();
+            bufferedLastFlowLogs.clear();
+            long duration = System.currentTimeMillis() - start;
+            metricService.submit(FlowMetricType.FLOW_LOG_BATCH_SIZE, flowLogCount + statusUpdateCount);
+            LOGGER.debug("Flushed {} flow logs and {} flow log status updates in {}ms", flowLogCount, statusUpdateCount, duration);
+        } catch (TransactionExecutionException e) {
+            LOGGER.error("Failed to flush {} flow logs and {} flow log status updates, keeping them for the next flush",
+                    flowLogCount, statusUpdateCount, e);
+            bufferedFlowLogs.forEach(flowLog -> {
+                flowLog.setId(null);
+                flowLog.setVersion(null);
+            });
+            throw e.getCause();
+        }
+    }
+
+    private synchronized void addCommitted(FlowLog flowLog) {
+        bufferedFlowLogs.add(flowLog);
+        bufferedLastFlowLogs.put(flowLog.getFlowId(), flowLog);
+        flushIfFull();
+    }
+
+    private synchronized void discard(FlowLog flowLog) {
+        bufferedLastFlowLogs.remove(flowLog.getFlowId(), flowLog);
+        bufferedFlowLogs.stream()
+                .filter(bufferedFlowLog -> flowLog.getFlowId().equals(bufferedFlowLog.getFlowId()))
+                .reduce((first, second) -> second)
+                .ifPresent(bufferedFlowLog -> bufferedLastFlowLogs.putIfAbsent(bufferedFlowLog.getFlowId(), bufferedFlowLog));
+    }
+
+    private synchronized void updateStatusCommitted(FlowLog flowLog, StateStatus stateStatus) {
+        if (flowLog.getId() == null) {
+            flowLog.setStateStatus(stateStatus);
+        } else {
+            bufferedStatusUpdates.put(flowLog.getId(), stateStatus);
+            flushIfFull();
+        }
+    }
+
+    private synchronized void ensureCapacity() {
+        if (size() >= maxSize) {
+            LOGGER.warn("Flow log write-behind buffer is full with {} changes, flushing it before buffering new ones", size());
+            flush();
+        }
+    }
+
+    private void flushIfFull() {
+        if (size() >= batchSize) {
+            flushSilently();
+        }
+    }
+
+    private void flushSilently() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Flow log flush failed, it will be retried: {}", e.getMessage());
+        }
+    }
+}
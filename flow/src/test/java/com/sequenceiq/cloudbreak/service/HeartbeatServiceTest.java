@@ -46,12 +46,14 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import com.sequenceiq.cloudbreak.cloud.scheduler.PollGroup;
 import com.sequenceiq.cloudbreak.cloud.store.InMemoryStateStore;
+import com.sequenceiq.cloudbreak.common.metrics.MetricService;
 import com.sequenceiq.cloudbreak.common.service.Clock;
 import com.sequenceiq.cloudbreak.common.service.TransactionService;
 import com.sequenceiq.cloudbreak.common.service.TransactionService.TransactionExecutionException;
 import com.sequenceiq.cloudbreak.ha.domain.Node;
 import com.sequenceiq.cloudbreak.ha.service.FlowDistributor;
 import com.sequenceiq.cloudbreak.ha.service.NodeService;
+import com.sequenceiq.cloudbreak.ha.service.RendezvousFlowDistributor;
 import com.sequenceiq.cloudbreak.service.ha.HaApplication;
 import com.sequenceiq.cloudbreak.service.ha.HeartbeatService;
 import com.sequenceiq.flow.api.model.operation.OperationType;
@@ -114,6 +116,12 @@ public class HeartbeatServiceTest {
     @Mock
     private InMemoryCleanup inMemoryCleanup;
 
+    @Mock
+    private MetricService metricService;
+
+    @Mock
+    private RendezvousFlowDistributor rendezvousFlowDistributor;
+
     @Captor
     private ArgumentCaptor<String> stringCaptor;
 
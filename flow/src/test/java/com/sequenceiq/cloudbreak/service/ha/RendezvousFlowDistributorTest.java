@@ -0,0 +1,84 @@
+package com.sequenceiq.cloudbreak.service.ha;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.Test;
+
+import com.sequenceiq.cloudbreak.ha.domain.Node;
+import com.sequenceiq.cloudbreak.ha.service.RendezvousFlowDistributor;
+import com.sequenceiq.flow.domain.FlowLog;
+
+public class RendezvousFlowDistributorTest {
+
+    private static final int NODE_COUNT = 4;
+
+    private static final int RESOURCE_COUNT = 1000;
+
+    private final RendezvousFlowDistributor flowDistributor = new RendezvousFlowDistributor();
+
+    @Test
+    public void testFlowsOfTheSameResourceAreAssignedToTheSameNode() {
+        List<Node> nodes = getClusterNodes();
+        List<FlowLog> flowLogs = List.of(flowLog(1L, "flow-1"), flowLog(1L, "flow-2"), flowLog(1L, "flow-2"));
+
+        Map<Node, List<String>> result = flowDistributor.distribute(flowLogs, nodes);
+
+        assertEquals(1, result.size());
+        assertEquals(List.of("flow-1", "flow-2"), result.values().iterator().next());
+    }
+
+    @Test
+    public void testOnlyTheResourcesOfTheRemovedNodeMove() {
+        List<Node> nodes = getClusterNodes();
+        List<Node> remainingNodes = nodes.subList(1, nodes.size());
+        List<String> keys = LongStream.range(0, RESOURCE_COUNT).mapToObj(id -> "resource-" + id).collect(Collectors.toList());
+
+        for (String key : keys) {
+            Node originalOwner = flowDistributor.getOwner(key, nodes).orElseThrow();
+            Node newOwner = flowDistributor.getOwner(key, remainingNodes).orElseThrow();
+            if (!originalOwner.equals(nodes.get(0))) {
+                assertEquals(originalOwner, newOwner);
+            }
+        }
+    }
+
+    @Test
+    public void testResourcesAreSpreadAcrossTheNodes() {
+        List<Node> nodes = getClusterNodes();
+        List<FlowLog> flowLogs = LongStream.range(0, RESOURCE_COUNT).mapToObj(id -> flowLog(id, UUID.randomUUID().toString()))
+                .collect(Collectors.toList());
+
+        Map<Node, List<String>> result = flowDistributor.distribute(flowLogs, nodes);
+
+        assertEquals(NODE_COUNT, result.size());
+        result.values().forEach(flowIds -> assertTrue(flowIds.size() > RESOURCE_COUNT / NODE_COUNT / 2));
+    }
+
+    @Test
+    public void testNoActiveNodes() {
+        assertTrue(flowDistributor.distribute(List.of(flowLog(1L, "flow-1")), List.of()).isEmpty());
+    }
+
+    private List<Node> getClusterNodes() {
+        List<Node> nodes = new ArrayList<>();
+        for (int i = 0; i < NODE_COUNT; i++) {
+            nodes.add(new Node(UUID.randomUUID().toString()));
+        }
+        return nodes;
+    }
+
+    private FlowLog flowLog(Long resourceId, String flowId) {
+        FlowLog flowLog = new FlowLog();
+        flowLog.setResourceId(resourceId);
+        flowLog.setFlowId(flowId);
+        return flowLog;
+    }
+}
@@ -321,7 +321,8 @@ public class Flow2HandlerTest {
         ArgumentCaptor<FlowParameters> flowParamsCaptor = ArgumentCaptor.forClass(FlowParameters.class);
         underTest.accept(dummyEvent);
         verify(flowLogService, times(1))
-                .save(flowParamsCaptor.capture(), nullable(String.class), eq("KEY"), any(Payload.class), anyMap(), nullable(Class.class), eq(flowState));
+                .saveTransition(flowParamsCaptor.capture(), nullable(String.class), eq("KEY"), any(Payload.class), anyMap(), nullable(Class.class),
+                        eq(flowState));
         verify(flow, times(1)).sendEvent(eq("KEY"), isNull(), any(), any(), any());
         FlowParameters flowParameters = flowParamsCaptor.getValue();
         assertEquals(FLOW_ID, flowParameters.getFlowId());
@@ -343,7 +344,8 @@ public class Flow2HandlerTest {
         ArgumentCaptor<FlowParameters> flowParamsCaptor = ArgumentCaptor.forClass(FlowParameters.class);
         underTest.accept(dummyEvent);
         verify(flowLogService, times(1))
-                .save(flowParamsCaptor.capture(), nullable(String.class), eq("KEY"), any(Payload.class), anyMap(), nullable(Class.class), eq(flowState));
+                .saveTransition(flowParamsCaptor.capture(), nullable(String.class), eq("KEY"), any(Payload.class), anyMap(), nullable(Class.class),
+                        eq(flowState));
         verify(flow, times(1)).sendEvent(eq("KEY"), isNull(), any(), any(), any());
         FlowParameters flowParameters = flowParamsCaptor.getValue();
         assertEquals(FLOW_ID, flowParameters.getFlowId());
@@ -365,7 +367,7 @@ public class Flow2HandlerTest {
 
         dummyEvent.setKey("KEY");
         underTest.accept(dummyEvent);
-        verify(flowLogService, never()).save(any(), any(), any(), any(), any(), any(), any());
+        verify(flowLogService, never()).saveTransition(any(), any(), any(), any(), any(), any(), any());
         verify(flow, never()).sendEvent(any(), any(), any(), any(), any());
         verify(inMemoryCleanup, times(1)).cancelFlowWithoutDbUpdate(FLOW_ID);
     }
@@ -397,7 +399,8 @@ public class Flow2HandlerTest {
         BDDMockito.<FlowConfiguration<?>>given(flowConfigurationMap.get(any())).willReturn(flowConfig);
         dummyEvent.setKey("KEY");
         underTest.accept(dummyEvent);
-        verify(flowLogService, never()).save(any(FlowParameters.class), anyString(), anyString(), any(Payload.class), anyMap(), any(), any(FlowState.class));
+        verify(flowLogService, never()).saveTransition(any(FlowParameters.class), anyString(), anyString(), any(Payload.class), anyMap(), any(),
+                any(FlowState.class));
         verify(flow, never()).sendEvent(anyString(), anyString(), any(), any(), any());
     }
 
@@ -0,0 +1,174 @@
+package com.sequenceiq.flow.reactor.eventbus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.sequenceiq.cloudbreak.common.event.Payload;
+
+import reactor.bus.Event;
+import reactor.core.Dispatcher;
+import reactor.core.dispatch.ThreadPoolExecutorDispatcher;
+
+class PartitionedDispatcherTest {
+
+    private static final int PARTITION_COUNT = 4;
+
+    private static final int PARTITION_CAPACITY = 2;
+
+    private static final int EVENT_COUNT = 100;
+
+    private static final long TIMEOUT_SECONDS = 10L;
+
+    private static final int SHARED_BACKLOG_SIZE = 16;
+
+    private static final int SHARED_POOL_SIZE = 2;
+
+    private static final String PARTITION_THREAD_PREFIX = "reactorPartition-";
+
+    private final Dispatcher sharedDispatcher = new ThreadPoolExecutorDispatcher(SHARED_BACKLOG_SIZE, SHARED_POOL_SIZE);
+
+    private final PartitionedDispatcher underTest = new PartitionedDispatcher(PARTITION_COUNT, PARTITION_CAPACITY, sharedDispatcher,
+            data -> data instanceof Event && ((Event<?>) data).getData() instanceof TestPayload);
+
+    @AfterEach
+    void tearDown() {
+        underTest.forceShutdown();
+    }
+
+    @Test
+    void testEventsOfTheSameResourceAreProcessedInOrder() throws InterruptedException {
+        List<Integer> processed = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(EVENT_COUNT);
+
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            int sequence = i;
+            underTest.dispatch(new Event<>(new TestPayload(1L)), event -> {
+                processed.add(sequence);
+                latch.countDown();
+            }, null);
+        }
+
+        assertTrue(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(IntStream.range(0, EVENT_COUNT).boxed().collect(Collectors.toList()), processed);
+    }
+
+    @Test
+    void testBlockedResourceDoesNotBlockOtherPartitions() throws InterruptedException {
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch otherProcessed = new CountDownLatch(1);
+
+        underTest.dispatch(new Event<>(new TestPayload(0L)), event -> awaitQuietly(blocker), null);
+        underTest.dispatch(new Event<>(new TestPayload(1L)), event -> otherProcessed.countDown(), null);
+
+        assertTrue(otherProcessed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        blocker.countDown();
+    }
+
+    @Test
+    void testErrorIsPassedToErrorConsumer() throws InterruptedException {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        underTest.dispatch(new Event<>(new TestPayload(1L)), event -> {
+            throw new IllegalStateException("failed");
+        }, throwable -> {
+            error.set(throwable);
+            latch.countDown();
+        });
+
+        assertTrue(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals("failed", error.get().getMessage());
+    }
+
+    @Test
+    void testEventSentFromPartitionThreadIsAcceptedWhenPartitionIsFull() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(PARTITION_CAPACITY + 1);
+        AtomicBoolean inContext = new AtomicBoolean();
+
+        underTest.dispatch(new Event<>(new TestPayload(1L)), event -> {
+            inContext.set(underTest.inContext());
+            for (int i = 0; i < PARTITION_CAPACITY; i++) {
+                underTest.dispatch(new Event<>(new TestPayload(1L)), nested -> latch.countDown(), null);
+            }
+            latch.countDown();
+        }, null);
+
+        assertTrue(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(inContext.get());
+        assertFalse(underTest.inContext());
+    }
+
+    @Test
+    void testEventAwaitedOnPartitionThreadIsDispatchedBySharedDispatcher() throws InterruptedException, ExecutionException, TimeoutException {
+        CompletableFuture<String> awaitedResult = new CompletableFuture<>();
+
+        underTest.dispatch(new Event<>(new TestPayload(1L)), event -> {
+            CompletableFuture<String> notificationResult = new CompletableFuture<>();
+            underTest.dispatch(new Event<>("notification"), notification -> notificationResult.complete(Thread.currentThread().getName()), null);
+            try {
+                awaitedResult.complete(notificationResult.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            } catch (Exception e) {
+                awaitedResult.completeExceptionally(e);
+            }
+        }, null);
+
+        String notificationThread = awaitedResult.get(TIMEOUT_SECONDS * 2, TimeUnit.SECONDS);
+        assertFalse(notificationThread.startsWith(PARTITION_THREAD_PREFIX));
+    }
+
+    @Test
+    void testTaskIsExecutedBySharedDispatcher() throws InterruptedException, ExecutionException, TimeoutException {
+        CompletableFuture<String> taskThread = new CompletableFuture<>();
+
+        underTest.execute(() -> taskThread.complete(Thread.currentThread().getName()));
+
+        assertFalse(taskThread.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).startsWith(PARTITION_THREAD_PREFIX));
+    }
+
+    @Test
+    void testPartitionStatistics() {
+        List<PartitionedDispatcher.PartitionStatistics> statistics = underTest.getPartitionStatistics();
+
+        assertEquals(PARTITION_COUNT, statistics.size());
+        assertEquals(sharedDispatcher.backlogSize() + PARTITION_COUNT * PARTITION_CAPACITY, underTest.backlogSize());
+        assertEquals(sharedDispatcher.remainingSlots() + PARTITION_COUNT * PARTITION_CAPACITY, underTest.remainingSlots());
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class TestPayload implements Payload {
+
+        private final Long resourceId;
+
+        TestPayload(Long resourceId) {
+            this.resourceId = resourceId;
+        }
+
+        @Override
+        public Long getResourceId() {
+            return resourceId;
+        }
+    }
+}
@@ -30,6 +30,7 @@ import com.sequenceiq.flow.domain.ClassValue;
 import com.sequenceiq.flow.domain.FlowLog;
 import com.sequenceiq.flow.domain.StateStatus;
 import com.sequenceiq.flow.repository.FlowLogRepository;
+import com.sequenceiq.flow.service.flowlog.FlowLogWriteBehindBuffer;
 
 @RunWith(MockitoJUnitRunner.class)
 public class FlowRetryServiceTest {
@@ -47,6 +48,9 @@ public class FlowRetryServiceTest {
     @Mock
     private FlowLogRepository flowLogRepository;
 
+    @Mock
+    private FlowLogWriteBehindBuffer flowLogWriteBehindBuffer;
+
     private TestFlowConfig flowConfig;
 
     @Before
@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -26,6 +27,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -38,6 +40,7 @@ import com.sequenceiq.cloudbreak.common.exception.NotFoundException;
 import com.sequenceiq.cloudbreak.common.service.TransactionService;
 import com.sequenceiq.flow.core.ApplicationFlowInformation;
 import com.sequenceiq.flow.core.FlowEvent;
+import com.sequenceiq.flow.core.FlowParameters;
 import com.sequenceiq.flow.core.FlowState;
 import com.sequenceiq.flow.core.ResourceIdProvider;
 import com.sequenceiq.flow.core.RestartAction;
@@ -83,6 +86,9 @@ public class FlowLogDBServiceTest {
     @Mock
     private NodeConfig nodeConfig;
 
+    @Mock
+    private FlowLogWriteBehindBuffer flowLogWriteBehindBuffer;
+
     @Test
     public void updateLastFlowLogStatus() {
         runUpdateLastFlowLogStatusTest(false, StateStatus.SUCCESSFUL);
@@ -102,6 +108,95 @@ public class FlowLogDBServiceTest {
         verify(flowLogRepository, times(1)).updateLastLogStatusInFlow(ID, successful);
     }
 
+    @Test
+    public void updateLastFlowLogStatusWithWriteBehind() {
+        FlowLog flowLog = new FlowLog();
+        flowLog.setId(ID);
+        when(flowLogWriteBehindBuffer.isEnabled()).thenReturn(true);
+
+        underTest.updateLastFlowLogStatus(flowLog, false);
+
+        verify(flowLogWriteBehindBuffer, times(1)).updateStatus(flowLog, StateStatus.SUCCESSFUL);
+        verify(flowLogRepository, never()).updateLastLogStatusInFlow(anyLong(), any());
+    }
+
+    @Test
+    public void getLastFlowLogFromWriteBehindBufferWhenTheFlowIsStillOwnedByThisNode() {
+        FlowLog persistedFlowLog = createOwnedFlowLog("node1", false);
+        FlowLog bufferedFlowLog = createOwnedFlowLog("node1", false);
+        when(flowLogRepository.findFirstByFlowIdOrderByCreatedDesc(FLOW_ID)).thenReturn(Optional.of(persistedFlowLog));
+        when(flowLogWriteBehindBuffer.getLastFlowLog(FLOW_ID)).thenReturn(Optional.of(bufferedFlowLog));
+
+        Optional<FlowLog> lastFlowLog = underTest.getLastFlowLog(FLOW_ID);
+
+        assertEquals(Optional.of(bufferedFlowLog), lastFlowLog);
+        verify(flowLogWriteBehindBuffer, never()).discardFlow(anyString());
+    }
+
+    @Test
+    public void getLastFlowLogFromDatabaseWhenTheFlowWasTakenOverByAnotherNode() {
+        FlowLog persistedFlowLog = createOwnedFlowLog("node2", false);
+        when(flowLogRepository.findFirstByFlowIdOrderByCreatedDesc(FLOW_ID)).thenReturn(Optional.of(persistedFlowLog));
+        when(flowLogWriteBehindBuffer.getLastFlowLog(FLOW_ID)).thenReturn(Optional.of(createOwnedFlowLog("node1", false)));
+
+        Optional<FlowLog> lastFlowLog = underTest.getLastFlowLog(FLOW_ID);
+
+        assertEquals(Optional.of(persistedFlowLog), lastFlowLog);
+        verify(flowLogWriteBehindBuffer, times(1)).discardFlow(FLOW_ID);
+    }
+
+    @Test
+    public void getLastFlowLogFromDatabaseWhenTheFlowWasFinalized() {
+        FlowLog persistedFlowLog = createOwnedFlowLog("node1", true);
+        when(flowLogRepository.findFirstByFlowIdOrderByCreatedDesc(FLOW_ID)).thenReturn(Optional.of(persistedFlowLog));
+        when(flowLogWriteBehindBuffer.getLastFlowLog(FLOW_ID)).thenReturn(Optional.of(createOwnedFlowLog("node1", false)));
+
+        Optional<FlowLog> lastFlowLog = underTest.getLastFlowLog(FLOW_ID);
+
+        assertEquals(Optional.of(persistedFlowLog), lastFlowLog);
+        verify(flowLogWriteBehindBuffer, times(1)).discardFlow(FLOW_ID);
+    }
+
+    @Test
+    public void readsDoNotFlushWriteBehindBuffer() {
+        underTest.findAllByCloudbreakNodeId("node1");
+        underTest.findAllForLastFlowIdByResourceIdOrderByCreatedDesc(ID);
+
+        verify(flowLogWriteBehindBuffer, never()).flush();
+        verify(flowLogRepository, times(1)).findAllByCloudbreakNodeId("node1");
+        verify(flowLogRepository, times(1)).findFirstByResourceIdOrderByCreatedDesc(ID);
+    }
+
+    @Test
+    public void finalizeFlushesWriteBehindBufferBeforeFinalizingTheFlow() {
+        when(flowLogWriteBehindBuffer.isEnabled()).thenReturn(true);
+
+        underTest.finalize(FLOW_ID);
+
+        InOrder inOrder = inOrder(flowLogWriteBehindBuffer, flowLogRepository);
+        inOrder.verify(flowLogWriteBehindBuffer).flush();
+        inOrder.verify(flowLogRepository).finalizeByFlowId(FLOW_ID);
+    }
+
+    @Test
+    public void saveTransitionWithWriteBehindIsBufferedUntilTheFlowIsFinalized() {
+        when(flowLogWriteBehindBuffer.isEnabled()).thenReturn(true);
+        when(nodeConfig.getId()).thenReturn("node1");
+        when(flowLogWriteBehindBuffer.add(any(FlowLog.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        FlowLog flowLog = underTest.saveTransition(new FlowParameters(FLOW_ID, "userCrn", null), "flowChainId", "key", mock(Selectable.class),
+                Map.of(), TerminationFlowConfig.class, new MockFlowState());
+        underTest.finalize(FLOW_ID);
+
+        assertEquals(FLOW_ID, flowLog.getFlowId());
+        assertEquals("node1", flowLog.getCloudbreakNodeId());
+        InOrder inOrder = inOrder(flowLogWriteBehindBuffer, flowLogRepository);
+        inOrder.verify(flowLogWriteBehindBuffer).add(flowLog);
+        inOrder.verify(flowLogWriteBehindBuffer).flush();
+        inOrder.verify(flowLogRepository).finalizeByFlowId(FLOW_ID);
+        verify(flowLogRepository, never()).save(any());
+    }
+
     @Test
     public void getLastFlowLog() {
         FlowLog flowLog = new FlowLog();
@@ -320,4 +415,12 @@ public class FlowLogDBServiceTest {
             return null;
         }
     }
-}
\ No newline at end of file
+
+    private FlowLog createOwnedFlowLog(String cloudbreakNodeId, boolean finalized) {
+        FlowLog flowLog = new FlowLog();
+        flowLog.setFlowId(FLOW_ID);
+        flowLog.setCloudbreakNodeId(cloudbreakNodeId);
+        flowLog.setFinalized(finalized);
+        return flowLog;
+    }
+}
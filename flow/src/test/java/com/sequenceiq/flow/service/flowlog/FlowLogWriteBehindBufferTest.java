@@ -0,0 +1,246 @@
+package com.sequenceiq.flow.service.flowlog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sequenceiq.cloudbreak.common.metrics.MetricService;
+import com.sequenceiq.cloudbreak.common.service.TransactionService;
+import com.sequenceiq.flow.core.FlowMetricType;
+import com.sequenceiq.flow.domain.FlowLog;
+import com.sequenceiq.flow.domain.StateStatus;
+import com.sequenceiq.flow.repository.FlowLogRepository;
+
+@ExtendWith(MockitoExtension.class)
+class FlowLogWriteBehindBufferTest {
+
+    private static final String FLOW_ID = "flowId";
+
+    private static final int BATCH_SIZE = 3;
+
+    private static final int MAX_SIZE = 5;
+
+    @InjectMocks
+    private FlowLogWriteBehindBuffer underTest;
+
+    @Mock
+    private FlowLogRepository flowLogRepository;
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private MetricService metricService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(underTest, "enabled", true);
+        ReflectionTestUtils.setField(underTest, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(underTest, "maxSize", MAX_SIZE);
+    }
+
+    @Test
+    void testAddKeepsFlowLogInMemoryUntilBatchIsFull() {
+        FlowLog flowLog = createFlowLog(null);
+
+        underTest.add(flowLog);
+
+        assertEquals(Optional.of(flowLog), underTest.getLastFlowLog(FLOW_ID));
+        assertEquals(1, underTest.size());
+        verify(flowLogRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void testUpdateStatusOfBufferedFlowLogIsAppliedInMemory() {
+        FlowLog flowLog = createFlowLog(null);
+        underTest.add(flowLog);
+
+        underTest.updateStatus(flowLog, StateStatus.FAILED);
+
+        assertEquals(StateStatus.FAILED, flowLog.getStateStatus());
+        assertEquals(1, underTest.size());
+        verify(flowLogRepository, never()).updateLastLogStatusInFlow(anyLong(), any());
+    }
+
+    @Test
+    void testDiscardFlowDropsItsBufferedFlowLogs() {
+        FlowLog flowLog = createFlowLog(null);
+        FlowLog otherFlowLog = createFlowLog(null);
+        otherFlowLog.setFlowId("otherFlowId");
+        underTest.add(flowLog);
+        underTest.add(otherFlowLog);
+
+        underTest.discardFlow(FLOW_ID);
+
+        assertEquals(Optional.empty(), underTest.getLastFlowLog(FLOW_ID));
+        assertEquals(Optional.of(otherFlowLog), underTest.getLastFlowLog("otherFlowId"));
+        assertEquals(1, underTest.size());
+    }
+
+    @Test
+    void testFlushWhenBatchIsFull() throws TransactionService.TransactionExecutionException {
+        when(transactionService.requiresNew(any(Supplier.class))).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        FlowLog persistedFlowLog = createFlowLog(1L);
+        FlowLog first = createFlowLog(null);
+        FlowLog second = createFlowLog(null);
+
+        underTest.updateStatus(persistedFlowLog, StateStatus.SUCCESSFUL);
+        underTest.add(first);
+        underTest.add(second);
+
+        ArgumentCaptor<List<FlowLog>> flowLogsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(flowLogRepository, times(1)).updateLastLogStatusInFlow(1L, StateStatus.SUCCESSFUL);
+        verify(flowLogRepository, times(1)).saveAll(flowLogsCaptor.capture());
+        assertEquals(List.of(first, second), flowLogsCaptor.getValue());
+        assertEquals(0, underTest.size());
+        assertTrue(underTest.getLastFlowLog(FLOW_ID).isEmpty());
+        verify(metricService, times(1)).submit(FlowMetricType.FLOW_LOG_BATCH_SIZE, BATCH_SIZE);
+    }
+
+    @Test
+    void testStateTransitionsAreWrittenInOneTransactionPerBatch() throws TransactionService.TransactionExecutionException {
+        when(transactionService.requiresNew(any(Supplier.class))).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+
+        for (long id = 1L; id <= BATCH_SIZE; id++) {
+            underTest.updateStatus(createFlowLog(id), StateStatus.SUCCESSFUL);
+            underTest.add(createFlowLog(null));
+        }
+
+        verify(transactionService, times(2)).requiresNew(any(Supplier.class));
+        InOrder inOrder = inOrder(flowLogRepository);
+        inOrder.verify(flowLogRepository).updateLastLogStatusInFlow(1L, StateStatus.SUCCESSFUL);
+        inOrder.verify(flowLogRepository).updateLastLogStatusInFlow(2L, StateStatus.SUCCESSFUL);
+        inOrder.verify(flowLogRepository).saveAll(any());
+        inOrder.verify(flowLogRepository).updateLastLogStatusInFlow(3L, StateStatus.SUCCESSFUL);
+        inOrder.verify(flowLogRepository).saveAll(any());
+        assertEquals(0, underTest.size());
+    }
+
+    @Test
+    void testFailedFlushKeepsBufferedChanges() throws TransactionService.TransactionExecutionException {
+        when(transactionService.requiresNew(any(Supplier.class)))
+                .thenThrow(new TransactionService.TransactionExecutionException("error", new RuntimeException("db is down")));
+        underTest.add(createFlowLog(null));
+
+        assertThrows(RuntimeException.class, () -> underTest.flush());
+
+        assertEquals(1, underTest.size());
+        verify(metricService, never()).submit(any(), anyDouble());
+    }
+
+    @Test
+    void testFailedFlushClearsIdsAssignedInTheRolledBackTransaction() throws TransactionService.TransactionExecutionException {
+        when(flowLogRepository.saveAll(any())).thenAnswer(invocation -> {
+            Iterable<FlowLog> flowLogs = invocation.getArgument(0);
+            flowLogs.forEach(flowLog -> {
+                flowLog.setId(1L);
+                flowLog.setVersion(0L);
+            });
+            return flowLogs;
+        });
+        when(transactionService.requiresNew(any(Supplier.class))).thenAnswer(invocation -> {
+            ((Supplier<?>) invocation.getArgument(0)).get();
+            throw new TransactionService.TransactionExecutionException("error", new RuntimeException("commit failed"));
+        });
+        FlowLog flowLog = createFlowLog(null);
+        underTest.add(flowLog);
+
+        assertThrows(RuntimeException.class, () -> underTest.flush());
+
+        assertNull(flowLog.getId());
+        assertNull(flowLog.getVersion());
+        assertEquals(1, underTest.size());
+    }
+
+    @Test
+    void testFullBufferRejectsNewChangesWhenItCannotBeFlushed() throws TransactionService.TransactionExecutionException {
+        ReflectionTestUtils.setField(underTest, "batchSize", MAX_SIZE + 1);
+        for (int i = 0; i < MAX_SIZE; i++) {
+            underTest.add(createFlowLog(null));
+        }
+        when(transactionService.requiresNew(any(Supplier.class)))
+                .thenThrow(new TransactionService.TransactionExecutionException("error", new RuntimeException("db is down")));
+
+        assertThrows(RuntimeException.class, () -> underTest.add(createFlowLog(null)));
+
+        assertEquals(MAX_SIZE, underTest.size());
+    }
+
+    @Test
+    void testChangesOfCommittedTransactionAreBuffered() {
+        FlowLog persistedFlowLog = createFlowLog(1L);
+        FlowLog flowLog = createFlowLog(null);
+
+        List<TransactionSynchronization> synchronizations = inTransaction(() -> {
+            underTest.updateStatus(persistedFlowLog, StateStatus.SUCCESSFUL);
+            underTest.add(flowLog);
+        });
+        assertEquals(0, underTest.size());
+        assertEquals(Optional.of(flowLog), underTest.getLastFlowLog(FLOW_ID));
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertEquals(2, underTest.size());
+        assertEquals(Optional.of(flowLog), underTest.getLastFlowLog(FLOW_ID));
+    }
+
+    @Test
+    void testChangesOfRolledBackTransactionAreDropped() {
+        FlowLog committedFlowLog = createFlowLog(null);
+        underTest.add(committedFlowLog);
+        FlowLog rolledBackFlowLog = createFlowLog(null);
+
+        List<TransactionSynchronization> synchronizations = inTransaction(() -> {
+            underTest.updateStatus(committedFlowLog, StateStatus.SUCCESSFUL);
+            underTest.add(rolledBackFlowLog);
+        });
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertEquals(1, underTest.size());
+        assertEquals(StateStatus.PENDING, committedFlowLog.getStateStatus());
+        assertEquals(Optional.of(committedFlowLog), underTest.getLastFlowLog(FLOW_ID));
+    }
+
+    private List<TransactionSynchronization> inTransaction(Runnable runnable) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            runnable.run();
+            return TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private FlowLog createFlowLog(Long id) {
+        FlowLog flowLog = new FlowLog();
+        flowLog.setId(id);
+        flowLog.setFlowId(FLOW_ID);
+        flowLog.setStateStatus(StateStatus.PENDING);
+        return flowLog;
+    }
+}
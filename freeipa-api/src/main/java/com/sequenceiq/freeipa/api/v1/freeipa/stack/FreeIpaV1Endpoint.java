@@ -8,6 +8,8 @@ import static com.sequenceiq.freeipa.api.v1.freeipa.stack.doc.FreeIpaOperationDe
 import java.util.List;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.Consumes;
@@ -41,6 +43,7 @@ import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.detachchildenv.DetachCh
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.health.HealthDetailsFreeIpaResponse;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.imagecatalog.ChangeImageCatalogRequest;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.imagecatalog.GenerateImageCatalogResponse;
+import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.list.ListFreeIpaPageResponse;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.list.ListFreeIpaResponse;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.reboot.RebootInstancesRequest;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.rebuild.RebuildRequest;
@@ -49,6 +52,8 @@ import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.scale.DownscaleRequest;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.scale.DownscaleResponse;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.scale.UpscaleRequest;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.scale.UpscaleResponse;
+import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.status.FreeIpaStatusResponse;
+import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.status.FreeIpaStatusesRequest;
 import com.sequenceiq.freeipa.api.v1.operation.model.OperationStatus;
 
 import io.swagger.annotations.Api;
@@ -99,6 +104,13 @@ public interface FreeIpaV1Endpoint {
             notes = FreeIpaNotes.FREEIPA_NOTES, nickname = "internalGetFreeIpaByEnvironmentV1")
     DescribeFreeIpaResponse describeInternal(@QueryParam("environment") String environmentCrn, @QueryParam("accountId") @AccountId String accountId);
 
+    @POST
+    @Path("internal/status")
+    @Produces(MediaType.APPLICATION_JSON)
+    @ApiOperation(value = FreeIpaOperationDescriptions.INTERNAL_GET_STATUSES_BY_ENVIDS, produces = MediaType.APPLICATION_JSON,
+            notes = FreeIpaNotes.FREEIPA_NOTES, nickname = "internalGetFreeIpaStatusesByEnvironmentsV1")
+    List<FreeIpaStatusResponse> getStatusesInternal(@Valid @NotNull FreeIpaStatusesRequest request);
+
     @GET
     @Path("/all")
     @Produces(MediaType.APPLICATION_JSON)
@@ -122,6 +134,13 @@ public interface FreeIpaV1Endpoint {
             nickname = "listFreeIpaClustersByAccountV1")
     List<ListFreeIpaResponse> list();
 
+    @GET
+    @Path("/list/page")
+    @Produces(MediaType.APPLICATION_JSON)
+    @ApiOperation(value = FreeIpaOperationDescriptions.LIST_PAGE_BY_ACCOUNT, produces = MediaType.APPLICATION_JSON, notes = FreeIpaNotes.FREEIPA_NOTES,
+            nickname = "listFreeIpaClustersPageByAccountV1")
+    ListFreeIpaPageResponse listPage(@QueryParam("pageToken") String pageToken, @QueryParam("pageSize") @DefaultValue("20") @Min(1) @Max(100) int pageSize);
+
     @GET
     @Path("internal/list")
     @Produces(MediaType.APPLICATION_JSON)
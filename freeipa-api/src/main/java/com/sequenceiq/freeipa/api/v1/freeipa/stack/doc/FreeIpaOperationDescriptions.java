@@ -8,7 +8,9 @@ public final class FreeIpaOperationDescriptions {
     public static final String GET_ALL_BY_ENVID = "Get all FreeIPA stacks by environment CRN";
     public static final String INTERNAL_GET_ALL_BY_ENVID_AND_ACCOUNTID = "Get all FreeIPA stacks by environment CRN and account ID using the internal actor";
     public static final String INTERNAL_GET_BY_ENVID_AND_ACCOUNTID = "Get FreeIPA stack by environment CRN and account ID using the internal actor";
+    public static final String INTERNAL_GET_STATUSES_BY_ENVIDS = "Get the statuses of the FreeIPA stacks by environment CRNs using the internal actor";
     public static final String LIST_BY_ACCOUNT = "List all FreeIPA stacks by account";
+    public static final String LIST_PAGE_BY_ACCOUNT = "List one page of the FreeIPA stacks by account";
     public static final String INTERNAL_LIST_BY_ACCOUNT = "List all FreeIPA stacks by account using the internal actor";
     public static final String GET_ROOTCERTIFICATE_BY_ENVID = "Get FreeIPA root certificate by environment CRN";
     public static final String DELETE_BY_ENVID = "Delete FreeIPA stack by environment CRN";
@@ -0,0 +1,53 @@
+package com.sequenceiq.freeipa.api.v1.freeipa.stack.model.list;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+@ApiModel("ListFreeIpaPageV1Response")
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ListFreeIpaPageResponse {
+
+    private List<ListFreeIpaResponse> content = new ArrayList<>();
+
+    @ApiModelProperty("The token of the next page, it is missing on the last page")
+    private String nextPageToken;
+
+    public ListFreeIpaPageResponse() {
+    }
+
+    public ListFreeIpaPageResponse(List<ListFreeIpaResponse> content, String nextPageToken) {
+        this.content = content;
+        this.nextPageToken = nextPageToken;
+    }
+
+    public List<ListFreeIpaResponse> getContent() {
+        return content;
+    }
+
+    public void setContent(List<ListFreeIpaResponse> content) {
+        this.content = content;
+    }
+
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+    public void setNextPageToken(String nextPageToken) {
+        this.nextPageToken = nextPageToken;
+    }
+
+    @Override
+    public String toString() {
+        return "ListFreeIpaPageResponse{"
+                + "content=" + content
+                + ", nextPageToken='" + nextPageToken + '\''
+                + '}';
+    }
+}
@@ -0,0 +1,34 @@
+package com.sequenceiq.freeipa.api.v1.freeipa.stack.model.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.validation.constraints.NotNull;
+
+import com.sequenceiq.service.api.doc.ModelDescriptions;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+@ApiModel("FreeIpaStatusesV1Request")
+public class FreeIpaStatusesRequest {
+
+    @NotNull
+    @ApiModelProperty(value = ModelDescriptions.ENVIRONMENT_CRNS, required = true)
+    private List<String> environmentCrns = new ArrayList<>();
+
+    public List<String> getEnvironmentCrns() {
+        return environmentCrns;
+    }
+
+    public void setEnvironmentCrns(List<String> environmentCrns) {
+        this.environmentCrns = environmentCrns;
+    }
+
+    @Override
+    public String toString() {
+        return "FreeIpaStatusesRequest{" +
+                "environmentCrns=" + environmentCrns +
+                '}';
+    }
+}
@@ -81,6 +81,8 @@ public class FreeIpaClient {
 
     private final Tracer tracer;
 
+    private PipelinedBatchExecutor batchExecutor;
+
     public FreeIpaClient(JsonRpcHttpClient jsonRpcHttpClient, String apiAddress, String hostname, Tracer tracer) {
         this(jsonRpcHttpClient, DEFAULT_API_VERSION, apiAddress, hostname, tracer);
     }
@@ -101,6 +103,10 @@ public class FreeIpaClient {
         return hostname;
     }
 
+    public void setBatchExecutor(PipelinedBatchExecutor batchExecutor) {
+        this.batchExecutor = batchExecutor;
+    }
+
     public User userShow(String user) throws FreeIpaClientException {
         List<Object> flags = List.of(user);
         Map<String, Object> params = Map.of();
@@ -673,6 +679,10 @@ public class FreeIpaClient {
 
     public void callBatch(BiConsumer<String, String> warnings, List<Object> operations, Integer partitionSize,
             Set<FreeIpaErrorCodes> acceptableErrorCodes) throws FreeIpaClientException {
+        if (batchExecutor != null) {
+            batchExecutor.callBatch(this, warnings, operations, partitionSize, acceptableErrorCodes);
+            return;
+        }
         List<List<Object>> partitions = Lists.partition(operations, partitionSize);
         for (List<Object> operationsPartition : partitions) {
             BatchOperation.create(operationsPartition, warnings, acceptableErrorCodes).invoke(this);
@@ -51,6 +51,18 @@ public class FreeIpaClientExceptionUtil {
             FreeIpaErrorCodes.ACI_ERROR
     );
 
+    private static final Set<FreeIpaErrorCodes> TRANSPORT_OR_OVERLOAD_ERROR_CODES = Set.of(
+            FreeIpaErrorCodes.NETWORK_ERROR,
+            FreeIpaErrorCodes.SERVER_NETWORK_ERROR,
+            FreeIpaErrorCodes.HTTP_REQUEST_ERROR,
+            FreeIpaErrorCodes.LIMIT_EXCEEDED,
+            FreeIpaErrorCodes.DATABASE_TIMEOUT,
+            FreeIpaErrorCodes.TASK_TIMEOUT,
+            FreeIpaErrorCodes.TIME_LIMIT_EXCEEDED,
+            FreeIpaErrorCodes.SIZE_LIMIT_EXCEEDED,
+            FreeIpaErrorCodes.ADMIN_LIMIT_EXCEEDED
+    );
+
     private static final Set<FreeIpaErrorCodes> CLIENT_UNUSABLE_ERROR_CODES = Set.of(
             FreeIpaErrorCodes.AUTHENTICATION_ERROR,
             FreeIpaErrorCodes.SESSION_ERROR
@@ -115,7 +127,8 @@ public class FreeIpaClientExceptionUtil {
     }
 
     private static boolean isFreeIpaErrorCodeInSet(Set<FreeIpaErrorCodes> errorCodes, FreeIpaErrorCodes c) {
-        return errorCodes.contains(c);
+        // unknown codes are not in the lookup, and the immutable sets do not accept null in contains
+        return c != null && errorCodes.contains(c);
     }
 
     private static FreeIpaErrorCodes findFreeIpaErrorCodeByCode(Integer code) {
@@ -184,6 +197,15 @@ public class FreeIpaClientExceptionUtil {
         return e.getStatusCode().isPresent() && codes.contains(e.getStatusCode().getAsInt());
     }
 
+    /**
+     * @return true if the request failed because it could not be delivered or answered, or because the server is overloaded, so it is unknown
+     *         whether the request has been applied, and sending it again right away would add to the load
+     */
+    public static boolean isTransportOrOverloadFailure(FreeIpaClientException e) {
+        return isExceptionWithErrorCode(e, TRANSPORT_OR_OVERLOAD_ERROR_CODES) || isExceptionWithHttpCode(retryableHttpCodes, e)
+                || isExceptionWithIOExceptionCause(e);
+    }
+
     public static boolean isClientUnusable(FreeIpaClientException e) {
         return isExceptionWithErrorCode(e, CLIENT_UNUSABLE_ERROR_CODES) || isExceptionWithHttpCode(clientUnusableHttpCodes, e);
     }
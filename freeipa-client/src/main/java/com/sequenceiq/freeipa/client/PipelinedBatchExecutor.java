@@ -0,0 +1,186 @@
+package com.sequenceiq.freeipa.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sequenceiq.freeipa.client.operation.BatchOperation;
+
+/**
+ * Sends the partitions of a batch call concurrently, keeping a limited number of batches in flight per call. The partition size is adapted per
+ * FreeIPA server and operation: it grows while the batches are answered within the target latency, shrinks when they are slow, and is halved
+ * when a batch fails on transport or overload, which also pauses sending the next partitions for the overload backoff.
+ * <p>
+ * A batch which failed on transport or overload is reported as a warning and never sent again, because it is unknown which of its operations
+ * have been applied. A batch rejected because of one of its operations is split in halves and retried until the failing operation is isolated,
+ * but only if its operations are resendable, i.e. applying them again is harmless or fails with an acceptable error code. Otherwise the whole
+ * batch is reported as a warning, like the batches sent one by one.
+ */
+public class PipelinedBatchExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PipelinedBatchExecutor.class);
+
+    private static final String UNKNOWN_OPERATION = "unknown";
+
+    private final ExecutorService executorService;
+
+    private final int maxBatchesInFlight;
+
+    private final int maxPartitionSize;
+
+    private final long targetLatencyMillis;
+
+    private final long overloadBackoffMillis;
+
+    private final Set<String> resendableOperations;
+
+    private final Map<String, AdaptivePartitionSize> partitionSizes = new ConcurrentHashMap<>();
+
+    public PipelinedBatchExecutor(ExecutorService executorService, int maxBatchesInFlight, int maxPartitionSize, long targetLatencyMillis,
+            long overloadBackoffMillis, Set<String> resendableOperations) {
+        this.executorService = executorService;
+        this.maxBatchesInFlight = maxBatchesInFlight;
+        this.maxPartitionSize = maxPartitionSize;
+        this.targetLatencyMillis = targetLatencyMillis;
+        this.overloadBackoffMillis = overloadBackoffMillis;
+        this.resendableOperations = resendableOperations;
+    }
+
+    public void callBatch(FreeIpaClient freeIpaClient, BiConsumer<String, String> warnings, List<Object> operations, Integer initialPartitionSize,
+            Set<FreeIpaErrorCodes> acceptableErrorCodes) throws FreeIpaClientException {
+        if (operations.isEmpty()) {
+            return;
+        }
+        String operationName = getOperationName(operations);
+        AdaptivePartitionSize partitionSize = partitionSizes.computeIfAbsent(freeIpaClient.getHostname() + '/' + operationName,
+                key -> new AdaptivePartitionSize(Math.min(initialPartitionSize, maxPartitionSize), maxPartitionSize, targetLatencyMillis,
+                        overloadBackoffMillis));
+        boolean resendable = resendableOperations.contains(operationName);
+        BiConsumer<String, String> synchronizedWarnings = (key, value) -> {
+            synchronized (warnings) {
+                warnings.accept(key, value);
+            }
+        };
+        Semaphore batchesInFlight = new Semaphore(maxBatchesInFlight);
+        List<Future<Void>> futures = new ArrayList<>();
+        try {
+            int index = 0;
+            while (index < operations.size()) {
+                batchesInFlight.acquire();
+                long backoffMillis = partitionSize.getRemainingBackoffMillis();
+                if (backoffMillis > 0) {
+                    LOGGER.debug("Backing off for {} ms before sending the next batch to {}", backoffMillis, freeIpaClient.getHostname());
+                    Thread.sleep(backoffMillis);
+                }
+                List<Object> partition = operations.subList(index, Math.min(index + partitionSize.get(), operations.size()));
+                index += partition.size();
+                futures.add(executorService.submit(() -> {
+                    try {
+                        invokeAndSplitOnFailure(freeIpaClient, synchronizedWarnings, partition, acceptableErrorCodes, partitionSize, resendable);
+                        return null;
+                    } finally {
+                        batchesInFlight.release();
+                    }
+                }));
+            }
+            LOGGER.debug("Sent {} operations in {} batches to {}", operations.size(), futures.size(), freeIpaClient.getHostname());
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new FreeIpaClientException("Batch call has been interrupted", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof FreeIpaClientException) {
+                throw (FreeIpaClientException) e.getCause();
+            }
+            throw new FreeIpaClientException("Batch call failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void invokeAndSplitOnFailure(FreeIpaClient freeIpaClient, BiConsumer<String, String> warnings, List<Object> operations,
+            Set<FreeIpaErrorCodes> acceptableErrorCodes, AdaptivePartitionSize partitionSize, boolean resendable) throws FreeIpaClientException {
+        BatchOperation batchOperation = BatchOperation.create(operations, warnings, acceptableErrorCodes);
+        long start = System.nanoTime();
+        Optional<FreeIpaClientException> failure = batchOperation.tryInvoke(freeIpaClient);
+        if (failure.isEmpty()) {
+            partitionSize.onSuccess(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } else if (FreeIpaClientExceptionUtil.isTransportOrOverloadFailure(failure.get())) {
+            LOGGER.debug("Batch of {} operations failed on transport or overload, backing off without resending it", operations.size());
+            partitionSize.onOverload();
+            batchOperation.reportFailure(failure.get());
+        } else if (operations.size() == 1 || !resendable) {
+            batchOperation.reportFailure(failure.get());
+        } else {
+            LOGGER.debug("Batch of {} operations was rejected, retrying it in two halves", operations.size());
+            int half = operations.size() / 2;
+            invokeAndSplitOnFailure(freeIpaClient, warnings, operations.subList(0, half), acceptableErrorCodes, partitionSize, true);
+            invokeAndSplitOnFailure(freeIpaClient, warnings, operations.subList(half, operations.size()), acceptableErrorCodes, partitionSize, true);
+        }
+    }
+
+    private String getOperationName(List<Object> operations) {
+        Object operation = operations.get(0);
+        return operation instanceof Map ? String.valueOf(((Map<?, ?>) operation).get("method")) : UNKNOWN_OPERATION;
+    }
+
+    static class AdaptivePartitionSize {
+
+        private static final int GROWTH_DIVISOR = 4;
+
+        private static final int SHRINK_NUMERATOR = 3;
+
+        private final int maxSize;
+
+        private final long targetLatencyMillis;
+
+        private final long overloadBackoffMillis;
+
+        private int size;
+
+        private long backoffUntilNanos;
+
+        AdaptivePartitionSize(int initialSize, int maxSize, long targetLatencyMillis, long overloadBackoffMillis) {
+            this.size = Math.max(1, initialSize);
+            this.maxSize = maxSize;
+            this.targetLatencyMillis = targetLatencyMillis;
+            this.overloadBackoffMillis = overloadBackoffMillis;
+            this.backoffUntilNanos = System.nanoTime();
+        }
+
+        synchronized int get() {
+            return size;
+        }
+
+        synchronized long getRemainingBackoffMillis() {
+            return Math.max(0L, TimeUnit.NANOSECONDS.toMillis(backoffUntilNanos - System.nanoTime()));
+        }
+
+        synchronized void onSuccess(long latencyMillis) {
+            if (latencyMillis <= targetLatencyMillis) {
+                size = Math.min(maxSize, size + Math.max(1, size / GROWTH_DIVISOR));
+            } else {
+                size = Math.max(1, size * SHRINK_NUMERATOR / GROWTH_DIVISOR);
+            }
+        }
+
+        synchronized void onOverload() {
+            size = Math.max(1, size / 2);
+            backoffUntilNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(overloadBackoffMillis);
+        }
+    }
+}
@@ -45,6 +45,18 @@ public class BatchOperation extends AbstractFreeipaOperation<Object> {
 
     @Override
     public Optional<Object> invoke(FreeIpaClient freeipaClient) throws FreeIpaClientException {
+        Optional<FreeIpaClientException> failure = tryInvoke(freeipaClient);
+        if (failure.isPresent()) {
+            reportFailure(failure.get());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Invokes the batch without reporting its failure as a warning, so the caller can retry the operations in smaller batches. Errors with
+     * acceptable error codes are ignored, and the error is thrown if the client is not usable anymore.
+     */
+    public Optional<FreeIpaClientException> tryInvoke(FreeIpaClient freeipaClient) throws FreeIpaClientException {
         try {
             if (!operations.isEmpty()) {
                 rpcInvoke(freeipaClient, Object.class);
@@ -53,11 +65,18 @@ public class BatchOperation extends AbstractFreeipaOperation<Object> {
             if (FreeIpaClientExceptionUtil.isExceptionWithErrorCode(e, acceptableErrorCodes)) {
                 LOGGER.debug(String.format("Batch call had error with acceptable error code: %s", e.getMessage()));
             } else {
-                LOGGER.warn(e.getMessage());
-                warnings.accept("batch call failed: ", e.getMessage());
+                if (e.isClientUnusable()) {
+                    reportFailure(e);
+                }
                 freeipaClient.checkIfClientStillUsable(e);
+                return Optional.of(e);
             }
         }
         return Optional.empty();
     }
+
+    public void reportFailure(FreeIpaClientException e) {
+        LOGGER.warn(e.getMessage());
+        warnings.accept("batch call failed: ", e.getMessage());
+    }
 }
@@ -0,0 +1,173 @@
+package com.sequenceiq.freeipa.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.googlecode.jsonrpc4j.JsonRpcClientException;
+import com.sequenceiq.cloudbreak.client.RPCResponse;
+import com.sequenceiq.freeipa.client.operation.UserAddOperation;
+
+@ExtendWith(MockitoExtension.class)
+class PipelinedBatchExecutorTest {
+
+    private static final String BAD_USER = "user7";
+
+    private static final int OPERATION_COUNT = 20;
+
+    private static final int PARTITION_SIZE = 4;
+
+    private static final long TARGET_LATENCY_MILLIS = 10000L;
+
+    private static final long OVERLOAD_BACKOFF_MILLIS = 10L;
+
+    private static final Set<String> RESENDABLE_OPERATIONS = Set.of("user_add");
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+    private final PipelinedBatchExecutor underTest = new PipelinedBatchExecutor(executorService, 2, 8, TARGET_LATENCY_MILLIS, OVERLOAD_BACKOFF_MILLIS,
+            RESENDABLE_OPERATIONS);
+
+    @Mock
+    private FreeIpaClient freeIpaClient;
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void testEveryOperationIsSent() throws FreeIpaClientException {
+        Set<Object> sentOperations = ConcurrentHashMap.newKeySet();
+        when(freeIpaClient.getHostname()).thenReturn("ipa1");
+        when(freeIpaClient.invoke(eq("batch"), anyList(), any(), any())).thenAnswer(invocation -> {
+            List<Object> flags = invocation.getArgument(1);
+            sentOperations.addAll((List<Object>) flags.get(0));
+            return new RPCResponse<>();
+        });
+        List<Object> operations = createOperations();
+
+        underTest.callBatch(freeIpaClient, (key, value) -> { }, operations, PARTITION_SIZE, Set.of());
+
+        assertEquals(Set.copyOf(operations), sentOperations);
+    }
+
+    @Test
+    void testFailedBatchIsSplitUntilTheFailingOperationIsIsolated() throws FreeIpaClientException {
+        Object badOperation = UserAddOperation.create(BAD_USER, "first", "last", false).getOperationParamsForBatchCall();
+        when(freeIpaClient.getHostname()).thenReturn("ipa2");
+        when(freeIpaClient.invoke(eq("batch"), anyList(), any(), any())).thenAnswer(invocation -> {
+            List<Object> flags = invocation.getArgument(1);
+            if (((List<Object>) flags.get(0)).contains(badOperation)) {
+                throw new FreeIpaClientException("invalid user", new JsonRpcClientException(5000, "", null));
+            }
+            return new RPCResponse<>();
+        });
+        Map<String, String> warnings = new ConcurrentHashMap<>();
+
+        underTest.callBatch(freeIpaClient, warnings::put, createOperations(), PARTITION_SIZE, Set.of());
+
+        assertEquals(Map.of("batch call failed: ", "invalid user"), warnings);
+    }
+
+    @Test
+    void testRejectedBatchOfNotResendableOperationsIsNotSplit() throws FreeIpaClientException {
+        PipelinedBatchExecutor notResendable = new PipelinedBatchExecutor(executorService, 2, 8, TARGET_LATENCY_MILLIS, OVERLOAD_BACKOFF_MILLIS, Set.of());
+        Object badOperation = UserAddOperation.create(BAD_USER, "first", "last", false).getOperationParamsForBatchCall();
+        AtomicInteger badOperationSent = new AtomicInteger();
+        when(freeIpaClient.getHostname()).thenReturn("ipa4");
+        when(freeIpaClient.invoke(eq("batch"), anyList(), any(), any())).thenAnswer(invocation -> {
+            List<Object> flags = invocation.getArgument(1);
+            if (((List<Object>) flags.get(0)).contains(badOperation)) {
+                badOperationSent.incrementAndGet();
+                throw new FreeIpaClientException("invalid user", new JsonRpcClientException(5000, "", null));
+            }
+            return new RPCResponse<>();
+        });
+        Map<String, String> warnings = new ConcurrentHashMap<>();
+
+        notResendable.callBatch(freeIpaClient, warnings::put, createOperations(), PARTITION_SIZE, Set.of());
+
+        assertEquals(1, badOperationSent.get());
+        assertEquals(Map.of("batch call failed: ", "invalid user"), warnings);
+    }
+
+    @Test
+    void testBatchFailedOnTransportIsNotSplitNorResent() throws FreeIpaClientException {
+        Object badOperation = UserAddOperation.create(BAD_USER, "first", "last", false).getOperationParamsForBatchCall();
+        AtomicInteger badOperationSent = new AtomicInteger();
+        when(freeIpaClient.getHostname()).thenReturn("ipa5");
+        when(freeIpaClient.invoke(eq("batch"), anyList(), any(), any())).thenAnswer(invocation -> {
+            List<Object> flags = invocation.getArgument(1);
+            if (((List<Object>) flags.get(0)).contains(badOperation)) {
+                badOperationSent.incrementAndGet();
+                throw new FreeIpaClientException("read timed out", new IOException("Read timed out"));
+            }
+            return new RPCResponse<>();
+        });
+        Map<String, String> warnings = new ConcurrentHashMap<>();
+
+        underTest.callBatch(freeIpaClient, warnings::put, createOperations(), PARTITION_SIZE, Set.of());
+
+        assertEquals(1, badOperationSent.get());
+        assertEquals(Map.of("batch call failed: ", "read timed out"), warnings);
+    }
+
+    @Test
+    void testUnusableClientFailsTheCall() throws FreeIpaClientException {
+        FreeIpaClientException unusable = new FreeIpaClientException("unauthorized", 401);
+        when(freeIpaClient.getHostname()).thenReturn("ipa3");
+        when(freeIpaClient.invoke(eq("batch"), anyList(), any(), any())).thenThrow(unusable);
+        doThrow(unusable).when(freeIpaClient).checkIfClientStillUsable(unusable);
+
+        assertThrows(FreeIpaClientException.class,
+                () -> underTest.callBatch(freeIpaClient, (key, value) -> { }, createOperations(), PARTITION_SIZE, Set.of()));
+    }
+
+    @Test
+    void testPartitionSizeAdaptsToLatencyAndOverload() {
+        PipelinedBatchExecutor.AdaptivePartitionSize partitionSize = new PipelinedBatchExecutor.AdaptivePartitionSize(PARTITION_SIZE, 5, 100L, 60000L);
+
+        partitionSize.onSuccess(10L);
+        assertEquals(5, partitionSize.get());
+        partitionSize.onSuccess(10L);
+        assertEquals(5, partitionSize.get());
+        partitionSize.onSuccess(1000L);
+        assertEquals(3, partitionSize.get());
+        assertEquals(0L, partitionSize.getRemainingBackoffMillis());
+        partitionSize.onOverload();
+        assertEquals(1, partitionSize.get());
+        assertTrue(partitionSize.getRemainingBackoffMillis() > 0L);
+        partitionSize.onOverload();
+        assertEquals(1, partitionSize.get());
+    }
+
+    private List<Object> createOperations() {
+        List<Object> operations = new ArrayList<>();
+        for (int i = 0; i < OPERATION_COUNT; i++) {
+            operations.add(UserAddOperation.create("user" + i, "first", "last", false).getOperationParamsForBatchCall());
+        }
+        return operations;
+    }
+}
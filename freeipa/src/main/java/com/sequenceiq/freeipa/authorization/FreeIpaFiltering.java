@@ -2,6 +2,7 @@ package com.sequenceiq.freeipa.authorization;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import javax.inject.Inject;
 
@@ -10,6 +11,8 @@ import org.springframework.stereotype.Component;
 import com.sequenceiq.authorization.service.list.ResourceWithId;
 import com.sequenceiq.authorization.resource.AuthorizationResourceAction;
 import com.sequenceiq.authorization.service.list.AbstractAuthorizationFiltering;
+import com.sequenceiq.authorization.service.list.ResourcePage;
+import com.sequenceiq.authorization.service.list.ResourcePageProvider;
 import com.sequenceiq.cloudbreak.auth.ThreadBasedUserCrnProvider;
 import com.sequenceiq.cloudbreak.auth.crn.Crn;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.list.ListFreeIpaResponse;
@@ -17,7 +20,7 @@ import com.sequenceiq.freeipa.service.stack.FreeIpaListService;
 import com.sequenceiq.freeipa.util.CrnService;
 
 @Component
-public class FreeIpaFiltering extends AbstractAuthorizationFiltering<List<ListFreeIpaResponse>> {
+public class FreeIpaFiltering extends AbstractAuthorizationFiltering<List<ListFreeIpaResponse>> implements ResourcePageProvider {
 
     @Inject
     private CrnService crnService;
@@ -29,12 +32,22 @@ public class FreeIpaFiltering extends AbstractAuthorizationFiltering<List<ListFr
         return filterResources(Crn.safeFromString(ThreadBasedUserCrnProvider.getUserCrn()), action, Map.of());
     }
 
+    public ResourcePage<List<ListFreeIpaResponse>> filterFreeIpaPage(AuthorizationResourceAction action, String pageToken, int pageSize) {
+        return filterResourcePage(Crn.safeFromString(ThreadBasedUserCrnProvider.getUserCrn()), action, Map.of(), pageToken, pageSize);
+    }
+
     @Override
     public List<ResourceWithId> getAllResources(Map<String, Object> args) {
         String accountId = crnService.getCurrentAccountId();
         return freeIpaListService.listAsAuthorizationResources(accountId);
     }
 
+    @Override
+    public List<ResourceWithId> getResourcePage(Map<String, Object> args, Optional<Long> afterId, int limit) {
+        String accountId = crnService.getCurrentAccountId();
+        return freeIpaListService.listAsAuthorizationResourcesPage(accountId, afterId, limit);
+    }
+
     @Override
     public List<ListFreeIpaResponse> filterByIds(List<Long> authorizedResourceIds, Map<String, Object> args) {
         return freeIpaListService.listAllByIds(authorizedResourceIds);
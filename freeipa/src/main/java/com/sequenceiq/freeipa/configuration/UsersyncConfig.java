@@ -1,10 +1,13 @@
 package com.sequenceiq.freeipa.configuration;
 
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import javax.inject.Inject;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,6 +16,7 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import com.sequenceiq.cloudbreak.concurrent.ActorCrnTaskDecorator;
 import com.sequenceiq.cloudbreak.concurrent.CompositeTaskDecorator;
 import com.sequenceiq.cloudbreak.concurrent.TracingAndMdcCopyingTaskDecorator;
+import com.sequenceiq.freeipa.client.PipelinedBatchExecutor;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
@@ -23,12 +27,35 @@ public class UsersyncConfig {
 
     public static final String USERSYNC_TASK_EXECUTOR = "USERSYNC_TASK_EXECUTOR";
 
+    public static final String BATCH_CALL_TASK_EXECUTOR = "BATCH_CALL_TASK_EXECUTOR";
+
     @Value("${freeipa.usersync.threadpool.core.size}")
     private int usersyncCorePoolSize;
 
     @Value("${freeipa.usersync.threadpool.capacity.size}")
     private int usersyncQueueCapacity;
 
+    @Value("${freeipa.batch.pipelined.threadpool.core.size:40}")
+    private int batchCallCorePoolSize;
+
+    @Value("${freeipa.batch.pipelined.threadpool.capacity.size:40}")
+    private int batchCallQueueCapacity;
+
+    @Value("${freeipa.batch.pipelined.max-batches-in-flight:4}")
+    private int maxBatchesInFlight;
+
+    @Value("${freeipa.batch.pipelined.max-partition-size:500}")
+    private int maxBatchPartitionSize;
+
+    @Value("${freeipa.batch.pipelined.target-latency-millis:10000}")
+    private long batchTargetLatencyMillis;
+
+    @Value("${freeipa.batch.pipelined.overload-backoff-millis:2000}")
+    private long batchOverloadBackoffMillis;
+
+    @Value("${freeipa.batch.pipelined.resendable-operations:}")
+    private Set<String> resendableBatchOperations;
+
     @Inject
     private Tracer tracer;
 
@@ -47,4 +74,25 @@ public class UsersyncConfig {
         executor.initialize();
         return ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), USERSYNC_TASK_EXECUTOR, "freeipa_async");
     }
+
+    @Bean(name = BATCH_CALL_TASK_EXECUTOR)
+    public ExecutorService batchCallTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(batchCallCorePoolSize);
+        executor.setMaxPoolSize(batchCallCorePoolSize);
+        executor.setQueueCapacity(batchCallQueueCapacity);
+        executor.setThreadNamePrefix("batchCallExecutor-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(
+                new CompositeTaskDecorator(
+                        List.of(new TracingAndMdcCopyingTaskDecorator(tracer), new ActorCrnTaskDecorator())));
+        executor.initialize();
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), BATCH_CALL_TASK_EXECUTOR, "freeipa_async");
+    }
+
+    @Bean
+    public PipelinedBatchExecutor pipelinedBatchExecutor(@Qualifier(BATCH_CALL_TASK_EXECUTOR) ExecutorService batchCallTaskExecutor) {
+        return new PipelinedBatchExecutor(batchCallTaskExecutor, maxBatchesInFlight, maxBatchPartitionSize, batchTargetLatencyMillis,
+                batchOverloadBackoffMillis, resendableBatchOperations);
+    }
 }
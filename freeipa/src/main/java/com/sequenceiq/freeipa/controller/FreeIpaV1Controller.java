@@ -19,6 +19,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Controller;
 
+import com.sequenceiq.authorization.annotation.AccountIdNotNeeded;
 import com.sequenceiq.authorization.annotation.CheckPermissionByAccount;
 import com.sequenceiq.authorization.annotation.CheckPermissionByRequestProperty;
 import com.sequenceiq.authorization.annotation.CheckPermissionByResourceCrn;
@@ -27,6 +28,7 @@ import com.sequenceiq.authorization.annotation.InternalOnly;
 import com.sequenceiq.authorization.annotation.RequestObject;
 import com.sequenceiq.authorization.annotation.ResourceCrn;
 import com.sequenceiq.authorization.resource.AuthorizationResourceAction;
+import com.sequenceiq.authorization.service.list.ResourcePage;
 import com.sequenceiq.cloudbreak.auth.ThreadBasedUserCrnProvider;
 import com.sequenceiq.cloudbreak.auth.altus.EntitlementService;
 import com.sequenceiq.cloudbreak.auth.crn.CrnResourceDescriptor;
@@ -52,6 +54,7 @@ import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.detachchildenv.DetachCh
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.health.HealthDetailsFreeIpaResponse;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.imagecatalog.ChangeImageCatalogRequest;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.imagecatalog.GenerateImageCatalogResponse;
+import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.list.ListFreeIpaPageResponse;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.list.ListFreeIpaResponse;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.reboot.RebootInstancesRequest;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.rebuild.RebuildRequest;
@@ -60,6 +63,8 @@ import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.scale.DownscaleRequest;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.scale.DownscaleResponse;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.scale.UpscaleRequest;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.scale.UpscaleResponse;
+import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.status.FreeIpaStatusResponse;
+import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.status.FreeIpaStatusesRequest;
 import com.sequenceiq.freeipa.api.v1.operation.model.OperationStatus;
 import com.sequenceiq.freeipa.authorization.FreeIpaFiltering;
 import com.sequenceiq.freeipa.client.FreeIpaClientException;
@@ -214,6 +219,13 @@ public class FreeIpaV1Controller implements FreeIpaV1Endpoint {
         return freeIpaDescribeService.describe(environmentCrn, accountId);
     }
 
+    @Override
+    @InternalOnly
+    @AccountIdNotNeeded
+    public List<FreeIpaStatusResponse> getStatusesInternal(FreeIpaStatusesRequest request) {
+        return freeIpaDescribeService.getStatuses(request.getEnvironmentCrns());
+    }
+
     @Override
     @InternalOnly
     public DescribeFreeIpaResponse describeInternal(@ResourceCrn String environmentCrn, @AccountId String accountId) {
@@ -239,6 +251,13 @@ public class FreeIpaV1Controller implements FreeIpaV1Endpoint {
         return freeIpaFiltering.filterFreeIpas(AuthorizationResourceAction.DESCRIBE_ENVIRONMENT);
     }
 
+    @Override
+    @FilterListBasedOnPermissions
+    public ListFreeIpaPageResponse listPage(String pageToken, int pageSize) {
+        ResourcePage<List<ListFreeIpaResponse>> page = freeIpaFiltering.filterFreeIpaPage(AuthorizationResourceAction.DESCRIBE_ENVIRONMENT, pageToken, pageSize);
+        return new ListFreeIpaPageResponse(page.getContent(), page.getNextPageToken());
+    }
+
     @Override
     @InternalOnly
     public List<ListFreeIpaResponse> listInternal(@AccountId String accountId) {
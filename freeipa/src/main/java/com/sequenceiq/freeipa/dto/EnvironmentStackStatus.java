@@ -0,0 +1,30 @@
+package com.sequenceiq.freeipa.dto;
+
+import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.common.Status;
+
+public class EnvironmentStackStatus {
+
+    private final String environmentCrn;
+
+    private final String resourceCrn;
+
+    private final Status status;
+
+    public EnvironmentStackStatus(String environmentCrn, String resourceCrn, Status status) {
+        this.environmentCrn = environmentCrn;
+        this.resourceCrn = resourceCrn;
+        this.status = status;
+    }
+
+    public String getEnvironmentCrn() {
+        return environmentCrn;
+    }
+
+    public String getResourceCrn() {
+        return resourceCrn;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+}
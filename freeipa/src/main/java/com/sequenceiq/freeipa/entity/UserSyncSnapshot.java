@@ -0,0 +1,97 @@
+package com.sequenceiq.freeipa.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+
+import com.sequenceiq.cloudbreak.common.dal.model.AccountIdAwareResource;
+import com.sequenceiq.cloudbreak.common.json.Json;
+import com.sequenceiq.cloudbreak.common.json.JsonToString;
+
+@Entity
+public class UserSyncSnapshot implements AccountIdAwareResource {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO, generator = "usersyncsnapshot_generator")
+    @SequenceGenerator(name = "usersyncsnapshot_generator", sequenceName = "usersyncsnapshot_id_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(nullable = false)
+    private String environmentCrn;
+
+    @Column(nullable = false)
+    private String accountId;
+
+    @Column(nullable = false)
+    private Long stackId;
+
+    @Convert(converter = JsonToString.class)
+    @Column(columnDefinition = "TEXT")
+    private Json userFingerprints;
+
+    private Long lastFullSync;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getEnvironmentCrn() {
+        return environmentCrn;
+    }
+
+    public void setEnvironmentCrn(String environmentCrn) {
+        this.environmentCrn = environmentCrn;
+    }
+
+    @Override
+    public String getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(String accountId) {
+        this.accountId = accountId;
+    }
+
+    public Long getStackId() {
+        return stackId;
+    }
+
+    public void setStackId(Long stackId) {
+        this.stackId = stackId;
+    }
+
+    public Json getUserFingerprints() {
+        return userFingerprints;
+    }
+
+    public void setUserFingerprints(Json userFingerprints) {
+        this.userFingerprints = userFingerprints;
+    }
+
+    public Long getLastFullSync() {
+        return lastFullSync;
+    }
+
+    public void setLastFullSync(Long lastFullSync) {
+        this.lastFullSync = lastFullSync;
+    }
+
+    @Override
+    public String toString() {
+        return "UserSyncSnapshot{"
+                + "id=" + id
+                + ", environmentCrn='" + environmentCrn + '\''
+                + ", accountId='" + accountId + '\''
+                + ", stackId=" + stackId
+                + ", lastFullSync=" + lastFullSync
+                + '}';
+    }
+}
@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
@@ -30,4 +31,8 @@ public interface FreeIpaRepository extends CrudRepository<FreeIpa, Long> {
     @Query("SELECT new com.sequenceiq.authorization.service.list.ResourceWithId(f.id, f.stack.environmentCrn) " +
             "FROM FreeIpa f WHERE f.stack.accountId = :accountId AND f.stack.terminated = -1")
     List<ResourceWithId> findAllAsAuthorizationResources(@Param("accountId") String accountId);
+
+    @Query("SELECT new com.sequenceiq.authorization.service.list.ResourceWithId(f.id, f.stack.environmentCrn) " +
+            "FROM FreeIpa f WHERE f.stack.accountId = :accountId AND f.stack.terminated = -1 AND f.id > :afterId ORDER BY f.id")
+    List<ResourceWithId> findAsAuthorizationResourcesAfterId(@Param("accountId") String accountId, @Param("afterId") Long afterId, Pageable pageable);
 }
@@ -19,6 +19,7 @@ import com.sequenceiq.cloudbreak.common.dal.repository.AccountAwareResourceRepos
 import com.sequenceiq.cloudbreak.workspace.repository.EntityType;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.common.DetailedStackStatus;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.common.Status;
+import com.sequenceiq.freeipa.dto.EnvironmentStackStatus;
 import com.sequenceiq.freeipa.dto.StackIdWithStatus;
 import com.sequenceiq.freeipa.entity.ImageEntity;
 import com.sequenceiq.freeipa.entity.Stack;
@@ -96,6 +97,14 @@ public interface StackRepository extends AccountAwareResourceRepository<Stack, L
     @Query("SELECT new com.sequenceiq.freeipa.dto.StackIdWithStatus(s.id,s.stackStatus.status) FROM Stack s WHERE s.id IN (:ids)")
     List<StackIdWithStatus> findStackStatusesWithoutAuth(@Param("ids") Set<Long> ids);
 
+    @Query("SELECT new com.sequenceiq.freeipa.dto.EnvironmentStackStatus(s.environmentCrn, s.resourceCrn, s.stackStatus.status) FROM Stack s "
+            + "WHERE s.environmentCrn IN :environmentCrns AND s.terminated = -1")
+    List<EnvironmentStackStatus> findStatusesByEnvironmentCrnsWithoutAuth(@Param("environmentCrns") Collection<String> environmentCrns);
+
+    @Query("SELECT new com.sequenceiq.freeipa.dto.EnvironmentStackStatus(c.environmentCrn, s.resourceCrn, s.stackStatus.status) FROM Stack s "
+            + "JOIN ChildEnvironment c ON c.stack.id = s.id WHERE c.environmentCrn IN :environmentCrns AND s.terminated = -1")
+    List<EnvironmentStackStatus> findStatusesByChildEnvironmentCrnsWithoutAuth(@Param("environmentCrns") Collection<String> environmentCrns);
+
     @Override
     @Query("SELECT s FROM Stack s WHERE s.id = :id")
     Optional<Stack> findById(@Param("id") Long id);
@@ -12,6 +12,7 @@ import javax.inject.Inject;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
@@ -27,6 +28,7 @@ import com.sequenceiq.freeipa.client.FreeIpaClientBuilder;
 import com.sequenceiq.freeipa.client.FreeIpaClientException;
 import com.sequenceiq.freeipa.client.FreeIpaHostNotAvailableException;
 import com.sequenceiq.freeipa.client.InvalidFreeIpaStateException;
+import com.sequenceiq.freeipa.client.PipelinedBatchExecutor;
 import com.sequenceiq.freeipa.client.RetryableFreeIpaClientException;
 import com.sequenceiq.freeipa.entity.FreeIpa;
 import com.sequenceiq.freeipa.entity.InstanceMetaData;
@@ -82,6 +84,12 @@ public class FreeIpaClientFactory {
     @Inject
     private Tracer tracer;
 
+    @Value("${freeipa.batch.pipelined.enabled:false}")
+    private boolean pipelinedBatchCallEnabled;
+
+    @Inject
+    private PipelinedBatchExecutor pipelinedBatchExecutor;
+
     public FreeIpaClient getFreeIpaClientForStackId(Long stackId) throws FreeIpaClientException {
         LOGGER.debug("Retrieving stack for stack id {}", stackId);
 
@@ -171,7 +179,11 @@ public class FreeIpaClientFactory {
 
     public FreeIpaClient getFreeIpaClientForStack(Stack stack) throws FreeIpaClientException {
         LOGGER.debug("Creating FreeIpaClient for stack {}", stack.getResourceCrn());
-        return getFreeIpaClient(stack, false, false, Optional.empty());
+        FreeIpaClient freeIpaClient = getFreeIpaClient(stack, false, false, Optional.empty());
+        if (pipelinedBatchCallEnabled) {
+            freeIpaClient.setBatchExecutor(pipelinedBatchExecutor);
+        }
+        return freeIpaClient;
     }
 
     public FreeIpaClient getFreeIpaClientForStackForLegacyHealthCheck(Stack stack, String freeIpaFqdn) throws FreeIpaClientException {
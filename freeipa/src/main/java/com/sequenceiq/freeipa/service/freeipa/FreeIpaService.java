@@ -1,9 +1,11 @@
 package com.sequenceiq.freeipa.service.freeipa;
 
 import java.util.List;
+import java.util.Optional;
 
 import javax.inject.Inject;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import com.sequenceiq.authorization.service.list.ResourceWithId;
@@ -66,4 +68,8 @@ public class FreeIpaService implements ResourceIdProvider {
     public List<ResourceWithId> getAllAsAuthorizationResources(String accountId) {
         return repository.findAllAsAuthorizationResources(accountId);
     }
+
+    public List<ResourceWithId> getAsAuthorizationResourcesPage(String accountId, Optional<Long> afterId, int limit) {
+        return repository.findAsAuthorizationResourcesAfterId(accountId, afterId.orElse(Long.MIN_VALUE), PageRequest.of(0, limit));
+    }
 }
@@ -0,0 +1,227 @@
+package com.sequenceiq.freeipa.service.freeipa.user;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.Sets;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.sequenceiq.cloudbreak.common.json.Json;
+import com.sequenceiq.cloudbreak.common.service.Clock;
+import com.sequenceiq.freeipa.entity.Stack;
+import com.sequenceiq.freeipa.entity.UserSyncSnapshot;
+import com.sequenceiq.freeipa.repository.UserSyncSnapshotRepository;
+import com.sequenceiq.freeipa.service.freeipa.user.model.FmsGroup;
+import com.sequenceiq.freeipa.service.freeipa.user.model.FmsUser;
+import com.sequenceiq.freeipa.service.freeipa.user.model.UmsUsersState;
+import com.sequenceiq.freeipa.service.freeipa.user.model.UserMetadata;
+import com.sequenceiq.freeipa.service.freeipa.user.model.UserSyncOptions;
+import com.sequenceiq.freeipa.service.freeipa.user.model.UsersState;
+import com.sequenceiq.freeipa.service.freeipa.user.model.WorkloadCredential;
+
+/**
+ * Narrows a full user sync down to the users who changed in UMS since the last successful sync of the environment. A fingerprint of every
+ * user (attributes, group memberships and credentials version) is kept per environment, and the users whose fingerprint differs, together with
+ * the new and the deleted ones, are the only users whose FreeIPA state is fetched and compared. The groups and the workload administration
+ * groups have a fingerprint too, a complete comparison is done when they changed, periodically, and whenever there is no usable fingerprint
+ * of the environment.
+ */
+@Service
+public class IncrementalUserSyncService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalUserSyncService.class);
+
+    private static final HashFunction FINGERPRINT_FUNCTION = Hashing.murmur3_128();
+
+    private static final long NO_CREDENTIALS_VERSION = -1L;
+
+    // '#' is not allowed in workload usernames, so the fingerprint of the groups cannot collide with the fingerprint of a user
+    private static final String GROUPS_FINGERPRINT_KEY = "#groups";
+
+    private static final TypeReference<Map<String, Long>> FINGERPRINTS_TYPE = new TypeReference<>() {
+    };
+
+    @Value("${freeipa.usersync.incremental.enabled:false}")
+    private boolean enabled;
+
+    @Value("${freeipa.usersync.incremental.full-sync-interval:PT24H}")
+    private Duration fullSyncInterval;
+
+    @Value("${freeipa.usersync.incremental.max-changed-users:1000}")
+    private int maxChangedUsers;
+
+    @Inject
+    private UserSyncSnapshotRepository userSyncSnapshotRepository;
+
+    @Inject
+    private Clock clock;
+
+    /**
+     * Returns the part of the UMS state which has to be synchronized to FreeIPA, or empty if the complete state has to be compared.
+     */
+    public Optional<UmsUsersState> getChangedUsersState(Stack stack, UmsUsersState umsUsersState, UserSyncOptions options) {
+        if (!enabled || !options.isFullSync() || !options.isCredentialsUpdateOptimizationEnabled()) {
+            return Optional.empty();
+        }
+        Optional<Map<String, Long>> previousFingerprints = getPreviousFingerprints(stack);
+        if (previousFingerprints.isEmpty()) {
+            return Optional.empty();
+        }
+        Map<String, Long> fingerprints = calculateFingerprints(umsUsersState);
+        if (fingerprintChanged(GROUPS_FINGERPRINT_KEY, fingerprints, previousFingerprints.get())) {
+            LOGGER.info("The groups changed since the last user sync of environment {}, the complete users state is compared", stack.getEnvironmentCrn());
+            return Optional.empty();
+        }
+        Set<String> changedUsers = Sets.union(fingerprints.keySet(), previousFingerprints.get().keySet()).stream()
+                .filter(user -> !GROUPS_FINGERPRINT_KEY.equals(user))
+                .filter(user -> fingerprintChanged(user, fingerprints, previousFingerprints.get()))
+                .collect(Collectors.toSet());
+        LOGGER.info("{} of {} users changed since the last user sync of environment {}", changedUsers.size(), fingerprints.size() - 1,
+                stack.getEnvironmentCrn());
+        if (changedUsers.size() > maxChangedUsers) {
+            LOGGER.info("Too many users changed, the complete users state is compared");
+            return Optional.empty();
+        }
+        return Optional.of(restrictToUsers(umsUsersState, changedUsers));
+    }
+
+    public void saveSnapshot(Stack stack, UmsUsersState umsUsersState, boolean incrementalSync) {
+        if (!enabled) {
+            return;
+        }
+        UserSyncSnapshot snapshot = userSyncSnapshotRepository.findByEnvironmentCrn(stack.getEnvironmentCrn()).orElseGet(UserSyncSnapshot::new);
+        snapshot.setEnvironmentCrn(stack.getEnvironmentCrn());
+        snapshot.setAccountId(stack.getAccountId());
+        snapshot.setUserFingerprints(new Json(calculateFingerprints(umsUsersState)));
+        if (!incrementalSync || !stack.getId().equals(snapshot.getStackId())) {
+            snapshot.setLastFullSync(clock.getCurrentTimeMillis());
+        }
+        snapshot.setStackId(stack.getId());
+        userSyncSnapshotRepository.save(snapshot);
+    }
+
+    Map<String, Long> calculateFingerprints(UmsUsersState umsUsersState) {
+        UsersState usersState = umsUsersState.getUsersState();
+        Multimap<String, String> groupsByUser = HashMultimap.create();
+        usersState.getGroupMembership().forEach((group, user) -> groupsByUser.put(user, group));
+        Map<String, Long> fingerprints = new HashMap<>();
+        for (FmsUser user : usersState.getUsers()) {
+            fingerprints.put(user.getName(), fingerprint(user, groupsByUser.get(user.getName()), umsUsersState));
+        }
+        for (String user : groupsByUser.keySet()) {
+            fingerprints.computeIfAbsent(user, name -> fingerprint(null, groupsByUser.get(name), umsUsersState));
+        }
+        fingerprints.put(GROUPS_FINGERPRINT_KEY, groupsFingerprint(umsUsersState));
+        return fingerprints;
+    }
+
+    private boolean fingerprintChanged(String key, Map<String, Long> fingerprints, Map<String, Long> previousFingerprints) {
+        return !Objects.equals(fingerprints.get(key), previousFingerprints.get(key));
+    }
+
+    private Optional<Map<String, Long>> getPreviousFingerprints(Stack stack) {
+        Optional<UserSyncSnapshot> snapshot = userSyncSnapshotRepository.findByEnvironmentCrn(stack.getEnvironmentCrn());
+        if (snapshot.isEmpty() || snapshot.get().getUserFingerprints() == null) {
+            LOGGER.debug("There is no user sync snapshot of environment {}", stack.getEnvironmentCrn());
+            return Optional.empty();
+        } else if (!stack.getId().equals(snapshot.get().getStackId())) {
+            LOGGER.debug("The user sync snapshot of environment {} belongs to another stack", stack.getEnvironmentCrn());
+            return Optional.empty();
+        } else if (snapshot.get().getLastFullSync() == null
+                || clock.getCurrentTimeMillis() - snapshot.get().getLastFullSync() > fullSyncInterval.toMillis()) {
+            LOGGER.debug("The complete users state of environment {} is due to be compared", stack.getEnvironmentCrn());
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(snapshot.get().getUserFingerprints().get(FINGERPRINTS_TYPE));
+        } catch (IOException e) {
+            LOGGER.warn("The user sync snapshot of environment {} cannot be read", stack.getEnvironmentCrn(), e);
+            return Optional.empty();
+        }
+    }
+
+    private long fingerprint(FmsUser user, Collection<String> groups, UmsUsersState umsUsersState) {
+        Hasher hasher = FINGERPRINT_FUNCTION.newHasher();
+        if (user != null) {
+            putString(hasher, user.getName());
+            putString(hasher, user.getFirstName());
+            putString(hasher, user.getLastName());
+            putString(hasher, user.getState() == null ? null : user.getState().name());
+            UserMetadata userMetadata = umsUsersState.getUsersState().getUserMetadataMap().get(user.getName());
+            putString(hasher, userMetadata == null ? null : userMetadata.getCrn());
+            WorkloadCredential credential = umsUsersState.getUsersWorkloadCredentialMap().get(user.getName());
+            hasher.putLong(credential == null ? NO_CREDENTIALS_VERSION : credential.getVersion());
+        }
+        new TreeSet<>(groups).forEach(group -> putString(hasher, group));
+        return hasher.hash().asLong();
+    }
+
+    private long groupsFingerprint(UmsUsersState umsUsersState) {
+        Hasher hasher = FINGERPRINT_FUNCTION.newHasher();
+        putGroupNames(hasher, umsUsersState.getUsersState().getGroups());
+        putGroupNames(hasher, umsUsersState.getWorkloadAdministrationGroups());
+        return hasher.hash().asLong();
+    }
+
+    private void putGroupNames(Hasher hasher, Collection<FmsGroup> groups) {
+        Set<String> groupNames = groups.stream()
+                .map(FmsGroup::getName)
+                .map(name -> Objects.toString(name, ""))
+                .collect(Collectors.toCollection(TreeSet::new));
+        hasher.putInt(groupNames.size());
+        groupNames.forEach(group -> putString(hasher, group));
+    }
+
+    private void putString(Hasher hasher, String value) {
+        hasher.putString(Objects.toString(value, ""), StandardCharsets.UTF_8).putChar('\0');
+    }
+
+    private UmsUsersState restrictToUsers(UmsUsersState umsUsersState, Set<String> users) {
+        UsersState usersState = umsUsersState.getUsersState();
+        UsersState.Builder usersStateBuilder = UsersState.newBuilder();
+        usersState.getGroups().forEach(usersStateBuilder::addGroup);
+        usersState.getUsers().stream()
+                .filter(user -> users.contains(user.getName()))
+                .forEach(usersStateBuilder::addUser);
+        usersState.getGroupMembership().forEach((group, user) -> {
+            if (users.contains(user)) {
+                usersStateBuilder.addMemberToGroup(group, user);
+            }
+        });
+        usersState.getUserMetadataMap().forEach((user, userMetadata) -> {
+            if (users.contains(user)) {
+                usersStateBuilder.addUserMetadata(user, userMetadata);
+            }
+        });
+        UmsUsersState.Builder builder = UmsUsersState.newBuilder()
+                .setUsersState(usersStateBuilder.build())
+                .addAllRequestedWorkloadUsernames(users)
+                .setWorkloadAdministrationGroups(umsUsersState.getWorkloadAdministrationGroups());
+        umsUsersState.getUsersWorkloadCredentialMap().forEach((user, credential) -> {
+            if (users.contains(user)) {
+                builder.addWorkloadCredentials(user, credential);
+            }
+        });
+        return builder.build();
+    }
+}
@@ -158,6 +158,9 @@ public class UserSyncService {
     @Inject
     private BatchPartitionSizeProperties batchPartitionSizeProperties;
 
+    @Inject
+    private IncrementalUserSyncService incrementalUserSyncService;
+
     @Inject
     private RegionAwareInternalCrnGeneratorFactory regionAwareInternalCrnGeneratorFactory;
 
@@ -368,10 +371,13 @@ public class UserSyncService {
         Multimap<String, String> warnings = ArrayListMultimap.create();
         try {
             FreeIpaClient freeIpaClient = freeIpaClientFactory.getFreeIpaClientForStack(stack);
-            UsersStateDifference usersStateDifferenceBeforeSync = compareUmsAndFreeIpa(umsUsersState, options, freeIpaClient);
-            applyDifference(umsUsersState, environmentCrn, warnings, usersStateDifferenceBeforeSync, options, freeIpaClient);
+            Optional<UmsUsersState> changedUsersState = incrementalUserSyncService.getChangedUsersState(stack, umsUsersState, options);
+            UmsUsersState umsUsersStateToSync = changedUsersState.orElse(umsUsersState);
+            UserSyncOptions syncOptions = changedUsersState.isPresent() ? options.toPartialSync() : options;
+            UsersStateDifference usersStateDifferenceBeforeSync = compareUmsAndFreeIpa(umsUsersStateToSync, syncOptions, freeIpaClient);
+            applyDifference(umsUsersStateToSync, environmentCrn, warnings, usersStateDifferenceBeforeSync, syncOptions, freeIpaClient);
 
-            retrySyncIfBatchCallHasWarnings(stack, umsUsersState, warnings, options, freeIpaClient, usersStateDifferenceBeforeSync);
+            retrySyncIfBatchCallHasWarnings(stack, umsUsersStateToSync, warnings, options, syncOptions, freeIpaClient, usersStateDifferenceBeforeSync);
 
             // TODO For now we only sync cloud ids during full sync. We should eventually allow more granular syncs (actor level and group level sync).
             if (options.isFullSync() && entitlementService.cloudIdentityMappingEnabled(stack.getAccountId())) {
@@ -380,6 +386,9 @@ public class UserSyncService {
                 LOGGER.debug("Finished {}.", LogEvent.SYNC_CLOUD_IDENTITIES);
             }
 
+            if (options.isFullSync() && warnings.isEmpty()) {
+                incrementalUserSyncService.saveSnapshot(stack, umsUsersState, changedUsersState.isPresent());
+            }
             return toSyncStatusDetail(environmentCrn, warnings);
         } catch (Exception e) {
             LOGGER.warn("Failed to synchronize environment {}", environmentCrn, e);
@@ -387,10 +396,14 @@ public class UserSyncService {
         }
     }
 
+    /**
+     * The retry is decided by the requested options, the comparison and the retry use the sync options, which are partial for the incremental
+     * sync of a full sync request.
+     */
     private void retrySyncIfBatchCallHasWarnings(Stack stack, UmsUsersState umsUsersState, Multimap<String, String> warnings,
-            UserSyncOptions options, FreeIpaClient freeIpaClient, UsersStateDifference usersStateDifferenceBeforeSync)
+            UserSyncOptions requestedOptions, UserSyncOptions options, FreeIpaClient freeIpaClient, UsersStateDifference usersStateDifferenceBeforeSync)
             throws FreeIpaClientException {
-        if (options.isFullSync() && !warnings.isEmpty() && options.isFmsToFreeIpaBatchCallEnabled()) {
+        if (requestedOptions.isFullSync() && !warnings.isEmpty() && options.isFmsToFreeIpaBatchCallEnabled()) {
             UsersStateDifference usersStateDifferenceAfterSync = compareUmsAndFreeIpa(umsUsersState, options, freeIpaClient);
             if (usersStateDifferenceChanged(usersStateDifferenceBeforeSync, usersStateDifferenceAfterSync)) {
                 Multimap<String, String> retryWarnings = ArrayListMultimap.create();
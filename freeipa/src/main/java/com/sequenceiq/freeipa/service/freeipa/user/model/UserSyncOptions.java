@@ -31,4 +31,8 @@ public class UserSyncOptions {
     public boolean isCredentialsUpdateOptimizationEnabled() {
         return workloadCredentialsUpdateType == WorkloadCredentialsUpdateType.UPDATE_IF_CHANGED;
     }
+
+    public UserSyncOptions toPartialSync() {
+        return new UserSyncOptions(false, fmsToFreeIpaBatchCallEnabled, workloadCredentialsUpdateType);
+    }
 }
@@ -1,5 +1,6 @@
 package com.sequenceiq.freeipa.service.stack;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -13,7 +14,9 @@ import com.sequenceiq.cloudbreak.auth.altus.EntitlementService;
 import com.sequenceiq.cloudbreak.common.exception.BadRequestException;
 import com.sequenceiq.cloudbreak.logger.MDCBuilder;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.describe.DescribeFreeIpaResponse;
+import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.status.FreeIpaStatusResponse;
 import com.sequenceiq.freeipa.converter.stack.StackToDescribeFreeIpaResponseConverter;
+import com.sequenceiq.freeipa.dto.EnvironmentStackStatus;
 import com.sequenceiq.freeipa.entity.FreeIpa;
 import com.sequenceiq.freeipa.entity.ImageEntity;
 import com.sequenceiq.freeipa.entity.Stack;
@@ -64,6 +67,22 @@ public class FreeIpaDescribeService {
         return response;
     }
 
+    public List<FreeIpaStatusResponse> getStatuses(Collection<String> environmentCrns) {
+        List<FreeIpaStatusResponse> response = stackService.getStatusesByEnvironmentCrns(environmentCrns).stream()
+                .map(this::convertToStatusResponse)
+                .collect(Collectors.toList());
+        LOGGER.debug("FreeIPA statuses are found for {} of {} environments", response.size(), environmentCrns.size());
+        return response;
+    }
+
+    private FreeIpaStatusResponse convertToStatusResponse(EnvironmentStackStatus environmentStackStatus) {
+        FreeIpaStatusResponse response = new FreeIpaStatusResponse();
+        response.setEnvironmentCrn(environmentStackStatus.getEnvironmentCrn());
+        response.setCrn(environmentStackStatus.getResourceCrn());
+        response.setStatus(environmentStackStatus.getStatus());
+        return response;
+    }
+
     private DescribeFreeIpaResponse getResponseForStack(Stack stack, Boolean includeAllInstances) {
         MDCBuilder.buildMdcContext(stack);
         ImageEntity image = imageService.getByStack(stack);
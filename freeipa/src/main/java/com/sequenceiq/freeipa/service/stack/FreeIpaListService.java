@@ -1,6 +1,9 @@
 package com.sequenceiq.freeipa.service.stack;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -30,8 +33,14 @@ public class FreeIpaListService {
         return freeIpaService.getAllAsAuthorizationResources(accountId);
     }
 
+    public List<ResourceWithId> listAsAuthorizationResourcesPage(String accountId, Optional<Long> afterId, int limit) {
+        return freeIpaService.getAsAuthorizationResourcesPage(accountId, afterId, limit);
+    }
+
     public List<ListFreeIpaResponse> listAllByIds(List<Long> ids) {
-        List<FreeIpa> stackList = freeIpaService.getAllByIds(ids);
+        List<FreeIpa> stackList = freeIpaService.getAllByIds(ids).stream()
+                .sorted(Comparator.comparing(FreeIpa::getId))
+                .collect(Collectors.toList());
         return freeIpaToListFreeIpaResponseConverter.convertList(stackList);
     }
 }
@@ -2,6 +2,7 @@ package com.sequenceiq.freeipa.service.stack;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -10,6 +11,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -31,6 +33,7 @@ import com.sequenceiq.cloudbreak.quartz.model.JobResource;
 import com.sequenceiq.flow.core.PayloadContextProvider;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.common.DetailedStackStatus;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.common.Status;
+import com.sequenceiq.freeipa.dto.EnvironmentStackStatus;
 import com.sequenceiq.freeipa.dto.StackIdWithStatus;
 import com.sequenceiq.freeipa.entity.ImageEntity;
 import com.sequenceiq.freeipa.entity.Stack;
@@ -176,6 +179,21 @@ public class StackService implements EnvironmentPropertyProvider, PayloadContext
         return stackRepository.findStackStatusesWithoutAuth(stackIds);
     }
 
+    public List<EnvironmentStackStatus> getStatusesByEnvironmentCrns(Collection<String> environmentCrns) {
+        if (environmentCrns.isEmpty()) {
+            return List.of();
+        }
+        List<EnvironmentStackStatus> statuses = new ArrayList<>(stackRepository.findStatusesByEnvironmentCrnsWithoutAuth(environmentCrns));
+        Set<String> foundEnvironmentCrns = statuses.stream().map(EnvironmentStackStatus::getEnvironmentCrn).collect(Collectors.toSet());
+        List<String> childEnvironmentCrns = environmentCrns.stream()
+                .filter(environmentCrn -> !foundEnvironmentCrns.contains(environmentCrn))
+                .collect(Collectors.toList());
+        if (!childEnvironmentCrns.isEmpty()) {
+            statuses.addAll(stackRepository.findStatusesByChildEnvironmentCrnsWithoutAuth(childEnvironmentCrns));
+        }
+        return statuses;
+    }
+
     public List<Stack> findAllWithStatuses(Collection<Status> statuses) {
         return stackRepository.findAllWithStatuses(statuses);
     }
@@ -10,12 +10,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import com.sequenceiq.cloudbreak.quartz.model.JobInitializer;
 import com.sequenceiq.cloudbreak.quartz.model.JobResource;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.StatusCheckerJobInitializer;
 import com.sequenceiq.freeipa.service.stack.StackService;
 
 @Component
-public class StackJobInitializer implements JobInitializer {
+public class StackJobInitializer implements StatusCheckerJobInitializer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(StackJobInitializer.class);
 
@@ -0,0 +1,27 @@
+-- // CB-16540 create table usersyncsnapshot
+-- Migration SQL that makes the change goes here.
+
+CREATE SEQUENCE IF NOT EXISTS usersyncsnapshot_id_seq START WITH 1
+    INCREMENT BY 1
+    NO MINVALUE
+    NO MAXVALUE
+    CACHE 1;
+
+CREATE TABLE IF NOT EXISTS usersyncsnapshot (
+    id                BIGINT NOT NULL,
+    environmentcrn    VARCHAR(255) NOT NULL,
+    accountid         VARCHAR(255) NOT NULL,
+    stackid           BIGINT NOT NULL,
+    userfingerprints  TEXT,
+    lastfullsync      BIGINT,
+
+    CONSTRAINT        pk_usersyncsnapshot_id     PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_usersyncsnapshot_envcrn ON usersyncsnapshot (environmentcrn);
+
+-- //@UNDO
+-- SQL to undo the change goes here.
+
+DROP TABLE IF EXISTS usersyncsnapshot;
+DROP SEQUENCE IF EXISTS usersyncsnapshot_id_seq;
@@ -0,0 +1,203 @@
+package com.sequenceiq.freeipa.service.freeipa.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sequenceiq.cloudbreak.common.service.Clock;
+import com.sequenceiq.freeipa.api.v1.freeipa.user.model.WorkloadCredentialsUpdateType;
+import com.sequenceiq.freeipa.entity.Stack;
+import com.sequenceiq.freeipa.entity.UserSyncSnapshot;
+import com.sequenceiq.freeipa.repository.UserSyncSnapshotRepository;
+import com.sequenceiq.freeipa.service.freeipa.user.model.FmsGroup;
+import com.sequenceiq.freeipa.service.freeipa.user.model.FmsUser;
+import com.sequenceiq.freeipa.service.freeipa.user.model.UmsUsersState;
+import com.sequenceiq.freeipa.service.freeipa.user.model.UserMetadata;
+import com.sequenceiq.freeipa.service.freeipa.user.model.UserSyncOptions;
+import com.sequenceiq.freeipa.service.freeipa.user.model.UsersState;
+import com.sequenceiq.freeipa.service.freeipa.user.model.UsersStateDifference;
+
+@ExtendWith(MockitoExtension.class)
+class IncrementalUserSyncServiceTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalUserSyncServiceTest.class);
+
+    private static final int USER_COUNT = 50000;
+
+    private static final long NOW = 1_000_000_000L;
+
+    private static final Long STACK_ID = 1L;
+
+    private static final String GROUP = "group";
+
+    private static final UserSyncOptions FULL_SYNC = new UserSyncOptions(true, true, WorkloadCredentialsUpdateType.UPDATE_IF_CHANGED);
+
+    @Mock
+    private UserSyncSnapshotRepository userSyncSnapshotRepository;
+
+    @Mock
+    private Clock clock;
+
+    @InjectMocks
+    private IncrementalUserSyncService underTest;
+
+    private final Stack stack = UserSyncTestUtils.createStack();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(underTest, "enabled", true);
+        ReflectionTestUtils.setField(underTest, "fullSyncInterval", Duration.ofHours(24));
+        ReflectionTestUtils.setField(underTest, "maxChangedUsers", 1000);
+        stack.setId(STACK_ID);
+    }
+
+    @Test
+    void testCompleteStateIsComparedWithoutSnapshot() {
+        when(userSyncSnapshotRepository.findByEnvironmentCrn(stack.getEnvironmentCrn())).thenReturn(Optional.empty());
+
+        assertTrue(underTest.getChangedUsersState(stack, createUmsUsersState(10, 0), FULL_SYNC).isEmpty());
+    }
+
+    @Test
+    void testCompleteStateIsComparedWhenTheSnapshotIsTooOld() {
+        UserSyncSnapshot snapshot = saveSnapshot(createUmsUsersState(10, 0));
+        snapshot.setLastFullSync(NOW - TimeUnit.DAYS.toMillis(2));
+        when(userSyncSnapshotRepository.findByEnvironmentCrn(stack.getEnvironmentCrn())).thenReturn(Optional.of(snapshot));
+
+        assertTrue(underTest.getChangedUsersState(stack, createUmsUsersState(10, 0), FULL_SYNC).isEmpty());
+    }
+
+    @Test
+    void testCompleteStateIsComparedWhenCredentialsAreForceUpdated() {
+        UserSyncOptions options = new UserSyncOptions(true, true, WorkloadCredentialsUpdateType.FORCE_UPDATE);
+
+        assertTrue(underTest.getChangedUsersState(stack, createUmsUsersState(10, 0), options).isEmpty());
+    }
+
+    @Test
+    void testOnlyTheChangedUsersAreSynchronized() {
+        UserSyncSnapshot snapshot = saveSnapshot(createUmsUsersState(USER_COUNT, 0));
+        when(userSyncSnapshotRepository.findByEnvironmentCrn(stack.getEnvironmentCrn())).thenReturn(Optional.of(snapshot));
+        when(clock.getCurrentTimeMillis()).thenReturn(NOW);
+        // user0 is deleted, user1 gets new credentials, user2 is disabled, userN is added
+        UmsUsersState umsUsersState = createUmsUsersState(USER_COUNT + 1, 1, "user1", "user2");
+
+        long start = System.nanoTime();
+        UmsUsersState changedUsersState = underTest.getChangedUsersState(stack, umsUsersState, FULL_SYNC).orElseThrow();
+        long incrementalMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Set<String> expectedUsers = Set.of("user0", "user1", "user2", "user" + USER_COUNT);
+        assertEquals(expectedUsers, changedUsersState.getRequestedWorkloadUsernames());
+        assertEquals(3, changedUsersState.getUsersState().getUsers().size());
+        assertEquals(3, changedUsersState.getUsersWorkloadCredentialMap().size());
+        assertEquals(umsUsersState.getUsersState().getGroups(), changedUsersState.getUsersState().getGroups());
+
+        start = System.nanoTime();
+        UsersStateDifference.fromUmsAndIpaUsersStates(umsUsersState, createUmsUsersState(USER_COUNT, 0).getUsersState(), FULL_SYNC);
+        long fullMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        LOGGER.info("Finding the changed users of {} users took {}ms, the complete difference took {}ms", USER_COUNT, incrementalMillis, fullMillis);
+    }
+
+    @Test
+    void testCompleteStateIsComparedWhenTooManyUsersChanged() {
+        ReflectionTestUtils.setField(underTest, "maxChangedUsers", 1);
+        UserSyncSnapshot snapshot = saveSnapshot(createUmsUsersState(10, 0));
+        when(userSyncSnapshotRepository.findByEnvironmentCrn(stack.getEnvironmentCrn())).thenReturn(Optional.of(snapshot));
+        when(clock.getCurrentTimeMillis()).thenReturn(NOW);
+
+        assertTrue(underTest.getChangedUsersState(stack, createUmsUsersState(10, 2), FULL_SYNC).isEmpty());
+    }
+
+    @Test
+    void testCompleteStateIsComparedWhenTheGroupsChanged() {
+        UserSyncSnapshot snapshot = saveSnapshot(createUmsUsersState(10, 0));
+        when(userSyncSnapshotRepository.findByEnvironmentCrn(stack.getEnvironmentCrn())).thenReturn(Optional.of(snapshot));
+        when(clock.getCurrentTimeMillis()).thenReturn(NOW);
+
+        UmsUsersState umsUsersState = createUmsUsersState(List.of(GROUP, "newGroup"), List.of(), 10, 0);
+
+        assertTrue(underTest.getChangedUsersState(stack, umsUsersState, FULL_SYNC).isEmpty());
+    }
+
+    @Test
+    void testCompleteStateIsComparedWhenTheWorkloadAdministrationGroupsChanged() {
+        UserSyncSnapshot snapshot = saveSnapshot(createUmsUsersState(10, 0));
+        when(userSyncSnapshotRepository.findByEnvironmentCrn(stack.getEnvironmentCrn())).thenReturn(Optional.of(snapshot));
+        when(clock.getCurrentTimeMillis()).thenReturn(NOW);
+
+        UmsUsersState umsUsersState = createUmsUsersState(List.of(GROUP), List.of("_c_environments_adminfreeipa"), 10, 0);
+
+        assertTrue(underTest.getChangedUsersState(stack, umsUsersState, FULL_SYNC).isEmpty());
+    }
+
+    @Test
+    void testGroupsFingerprintIsNotCountedAsChangedUser() {
+        UserSyncSnapshot snapshot = saveSnapshot(createUmsUsersState(List.of(GROUP), List.of("admins"), 10, 0));
+        when(userSyncSnapshotRepository.findByEnvironmentCrn(stack.getEnvironmentCrn())).thenReturn(Optional.of(snapshot));
+        when(clock.getCurrentTimeMillis()).thenReturn(NOW);
+
+        UmsUsersState changedUsersState = underTest.getChangedUsersState(stack, createUmsUsersState(List.of(GROUP), List.of("admins"), 10, 0), FULL_SYNC)
+                .orElseThrow();
+
+        assertTrue(changedUsersState.getRequestedWorkloadUsernames().isEmpty());
+    }
+
+    private UserSyncSnapshot saveSnapshot(UmsUsersState umsUsersState) {
+        when(clock.getCurrentTimeMillis()).thenReturn(NOW);
+        when(userSyncSnapshotRepository.findByEnvironmentCrn(stack.getEnvironmentCrn())).thenReturn(Optional.empty());
+        underTest.saveSnapshot(stack, umsUsersState, false);
+        ArgumentCaptor<UserSyncSnapshot> snapshotCaptor = ArgumentCaptor.forClass(UserSyncSnapshot.class);
+        verify(userSyncSnapshotRepository).save(snapshotCaptor.capture());
+        UserSyncSnapshot snapshot = snapshotCaptor.getValue();
+        assertEquals(NOW, snapshot.getLastFullSync());
+        assertEquals(STACK_ID, snapshot.getStackId());
+        return snapshot;
+    }
+
+    private UmsUsersState createUmsUsersState(int userCount, int firstUser, String... changedUsers) {
+        return createUmsUsersState(List.of(GROUP), List.of(), userCount, firstUser, changedUsers);
+    }
+
+    private UmsUsersState createUmsUsersState(List<String> groups, List<String> workloadAdministrationGroups, int userCount, int firstUser,
+            String... changedUsers) {
+        Set<String> changed = Set.of(changedUsers);
+        UsersState.Builder usersStateBuilder = UsersState.newBuilder();
+        UmsUsersState.Builder builder = UmsUsersState.newBuilder();
+        usersStateBuilder.addGroup(new FmsGroup().withName(UserSyncConstants.CDP_USERSYNC_INTERNAL_GROUP));
+        groups.forEach(group -> usersStateBuilder.addGroup(new FmsGroup().withName(group)));
+        builder.setWorkloadAdministrationGroups(workloadAdministrationGroups.stream()
+                .map(group -> new FmsGroup().withName(group))
+                .collect(Collectors.toList()));
+        for (int i = firstUser; i < userCount; i++) {
+            String name = "user" + i;
+            boolean userChanged = changed.contains(name);
+            usersStateBuilder.addUser(new FmsUser().withName(name).withFirstName("first" + i).withLastName("last" + i)
+                    .withState(userChanged && name.equals("user2") ? FmsUser.State.DISABLED : FmsUser.State.ENABLED));
+            usersStateBuilder.addMemberToGroup(UserSyncConstants.CDP_USERSYNC_INTERNAL_GROUP, name);
+            usersStateBuilder.addMemberToGroup(GROUP, name);
+            long credentialsVersion = userChanged && name.equals("user1") ? 2L : 1L;
+            usersStateBuilder.addUserMetadata(name, new UserMetadata("crn:" + name, credentialsVersion));
+            builder.addWorkloadCredentials(name, UserSyncTestUtils.createWorkloadCredential("password", credentialsVersion));
+        }
+        return builder.setUsersState(usersStateBuilder.build()).build();
+    }
+}
@@ -97,6 +97,9 @@ public class UserSyncServiceTest {
     @Mock
     BatchPartitionSizeProperties batchPartitionSizeProperties;
 
+    @Mock
+    IncrementalUserSyncService incrementalUserSyncService;
+
     @InjectMocks
     UserSyncService underTest;
 
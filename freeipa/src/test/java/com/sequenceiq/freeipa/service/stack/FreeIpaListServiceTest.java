@@ -47,6 +47,26 @@ class FreeIpaListServiceTest {
         verify(freeIpaToListFreeIpaResponseConverter).convertList(freeIpaList);
     }
 
+    @Test
+    void testListAllByIdsIsOrderedById() {
+        FreeIpa first = createFreeIpa(1L);
+        FreeIpa second = createFreeIpa(2L);
+        List<ListFreeIpaResponse> responseList = createListFreeIpaResponseList();
+
+        when(freeIpaService.getAllByIds(List.of(1L, 2L))).thenReturn(List.of(second, first));
+        when(freeIpaToListFreeIpaResponseConverter.convertList(List.of(first, second))).thenReturn(responseList);
+
+        List<ListFreeIpaResponse> actual = underTest.listAllByIds(List.of(1L, 2L));
+
+        Assertions.assertEquals(responseList, actual);
+    }
+
+    private FreeIpa createFreeIpa(Long id) {
+        FreeIpa freeIpa = new FreeIpa();
+        freeIpa.setId(id);
+        return freeIpa;
+    }
+
     private List<FreeIpa> createSFreeIpaList() {
         return Collections.singletonList(new FreeIpa());
     }
@@ -21,6 +21,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.sequenceiq.cloudbreak.common.exception.NotFoundException;
 import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.common.DetailedStackStatus;
+import com.sequenceiq.freeipa.api.v1.freeipa.stack.model.common.Status;
+import com.sequenceiq.freeipa.dto.EnvironmentStackStatus;
 import com.sequenceiq.freeipa.entity.Stack;
 import com.sequenceiq.freeipa.repository.StackRepository;
 
@@ -61,6 +63,29 @@ class StackServiceTest {
         underTest.nowSupplier = () -> MOCK_NOW;
     }
 
+    @Test
+    void getStatusesByEnvironmentCrnsFallsBackToChildEnvironments() {
+        EnvironmentStackStatus ownStatus = new EnvironmentStackStatus(ENVIRONMENT_CRN, FREEIPA_CRN, Status.AVAILABLE);
+        EnvironmentStackStatus childStatus = new EnvironmentStackStatus(CHILD_ENVIRONMENT_CRN, FREEIPA_CRN, Status.AVAILABLE);
+        when(stackRepository.findStatusesByEnvironmentCrnsWithoutAuth(List.of(ENVIRONMENT_CRN, CHILD_ENVIRONMENT_CRN))).thenReturn(List.of(ownStatus));
+        when(stackRepository.findStatusesByChildEnvironmentCrnsWithoutAuth(List.of(CHILD_ENVIRONMENT_CRN))).thenReturn(List.of(childStatus));
+
+        List<EnvironmentStackStatus> statuses = underTest.getStatusesByEnvironmentCrns(List.of(ENVIRONMENT_CRN, CHILD_ENVIRONMENT_CRN));
+
+        assertEquals(List.of(ownStatus, childStatus), statuses);
+    }
+
+    @Test
+    void getStatusesByEnvironmentCrnsWhenAllFoundByOwnEnvironment() {
+        EnvironmentStackStatus ownStatus = new EnvironmentStackStatus(ENVIRONMENT_CRN, FREEIPA_CRN, Status.STOPPED);
+        when(stackRepository.findStatusesByEnvironmentCrnsWithoutAuth(List.of(ENVIRONMENT_CRN))).thenReturn(List.of(ownStatus));
+
+        List<EnvironmentStackStatus> statuses = underTest.getStatusesByEnvironmentCrns(List.of(ENVIRONMENT_CRN));
+
+        assertEquals(List.of(ownStatus), statuses);
+        verify(stackRepository, never()).findStatusesByChildEnvironmentCrnsWithoutAuth(Mockito.any());
+    }
+
     @Test
     void getByIdWithListsInTransactionNotFound() {
         when(stackRepository.findOneWithLists(STACK_ID)).thenReturn(Optional.empty());
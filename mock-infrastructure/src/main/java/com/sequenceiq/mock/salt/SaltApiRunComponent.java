@@ -15,6 +15,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import com.sequenceiq.cloudbreak.orchestrator.salt.domain.ApplyResponse;
 import com.sequenceiq.mock.verification.RequestResponseStorageService;
 
 @Component
@@ -28,6 +29,9 @@ public class SaltApiRunComponent {
     @Inject
     private SaltStoreService saltStoreService;
 
+    @Inject
+    private SaltEventService saltEventService;
+
     @Inject
     private RequestResponseStorageService requestResponseStorageService;
 
@@ -46,6 +50,7 @@ public class SaltApiRunComponent {
             if (saltResponse != null) {
                 Object response = saltResponse.run(mockUuid, params);
                 storeIfEnabled(mockUuid, params, response);
+                publishJobReturn(mockUuid, params, response);
                 return response;
             }
         }
@@ -64,6 +69,15 @@ public class SaltApiRunComponent {
         }
     }
 
+    private void publishJobReturn(String mockUuid, Map<String, List<String>> params, Object response) {
+        if (response instanceof ApplyResponse && params.containsKey("tgt")) {
+            String jid = ((ApplyResponse) response).getJid();
+            if (jid != null) {
+                saltEventService.publishJobReturn(mockUuid, jid, params.get("tgt"));
+            }
+        }
+    }
+
     public Map<String, List<String>> getParams(String body) {
         String[] split = body.split("&");
         Map<String, List<String>> params = new HashMap<>();
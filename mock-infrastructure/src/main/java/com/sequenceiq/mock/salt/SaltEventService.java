@@ -0,0 +1,47 @@
+package com.sequenceiq.mock.salt;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Component
+public class SaltEventService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SaltEventService.class);
+
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(String mockUuid) {
+        SseEmitter emitter = new SseEmitter(0L);
+        List<SseEmitter> mockEmitters = emitters.computeIfAbsent(mockUuid, key -> new CopyOnWriteArrayList<>());
+        mockEmitters.add(emitter);
+        emitter.onCompletion(() -> mockEmitters.remove(emitter));
+        emitter.onError(e -> mockEmitters.remove(emitter));
+        LOGGER.debug("Salt event stream subscribed for {}", mockUuid);
+        return emitter;
+    }
+
+    public void publishJobReturn(String mockUuid, String jid, List<String> minions) {
+        publish(mockUuid, "salt/job/" + jid + "/new", Map.of("jid", jid, "minions", minions));
+        minions.forEach(minion -> publish(mockUuid, "salt/job/" + jid + "/ret/" + minion, Map.of("jid", jid, "id", minion, "success", true)));
+    }
+
+    private void publish(String mockUuid, String tag, Map<String, Object> data) {
+        for (SseEmitter emitter : emitters.getOrDefault(mockUuid, List.of())) {
+            try {
+                emitter.send(SseEmitter.event().data(Map.of("tag", tag, "data", data), MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                LOGGER.debug("Salt event stream of {} is closed, {} event is not sent", mockUuid, tag, e);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
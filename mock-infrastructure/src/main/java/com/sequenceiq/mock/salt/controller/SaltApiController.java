@@ -1,17 +1,24 @@
 package com.sequenceiq.mock.salt.controller;
 
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 import javax.inject.Inject;
 import javax.ws.rs.core.MediaType;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.sequenceiq.mock.salt.SaltApiRunComponent;
+import com.sequenceiq.mock.salt.SaltEventService;
 
 @RestController
 @RequestMapping("/{mock_uuid}/saltapi/")
@@ -22,10 +29,23 @@ public class SaltApiController {
     @Inject
     private SaltApiRunComponent saltApiRunComponent;
 
+    @Inject
+    private SaltEventService saltEventService;
+
     @PostMapping(value = "run", produces = MediaType.APPLICATION_JSON)
     public Object saltRun(@PathVariable("mock_uuid") String mockUuid, @RequestBody String body) throws Exception {
         Object saltApiResponse = saltApiRunComponent.createSaltApiResponse(mockUuid, body);
         LOGGER.trace("{} body with result: {}", body, saltApiResponse);
         return saltApiResponse;
     }
+
+    @PostMapping(value = "login", produces = MediaType.APPLICATION_JSON)
+    public Object saltLogin(@PathVariable("mock_uuid") String mockUuid) {
+        return Map.of("return", List.of(Map.of("token", UUID.randomUUID().toString())));
+    }
+
+    @GetMapping(value = "events", produces = MediaType.SERVER_SENT_EVENTS)
+    public SseEmitter saltEvents(@PathVariable("mock_uuid") String mockUuid) {
+        return saltEventService.subscribe(mockUuid);
+    }
 }
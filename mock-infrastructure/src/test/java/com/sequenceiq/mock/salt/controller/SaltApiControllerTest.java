@@ -0,0 +1,74 @@
+package com.sequenceiq.mock.salt.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.sequenceiq.mock.salt.SaltApiRunComponent;
+import com.sequenceiq.mock.salt.SaltEventService;
+
+@ExtendWith(MockitoExtension.class)
+class SaltApiControllerTest {
+
+    private static final String MOCK_UUID = "mock-uuid";
+
+    private static final String JID = "20210101000000000001";
+
+    @InjectMocks
+    private SaltApiController underTest;
+
+    @Mock
+    private SaltApiRunComponent saltApiRunComponent;
+
+    @Spy
+    private SaltEventService saltEventService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(underTest).build();
+    }
+
+    @Test
+    void testLoginReturnsToken() throws Exception {
+        mockMvc.perform(post("/{mock_uuid}/saltapi/login", MOCK_UUID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.return[0].token").isNotEmpty());
+    }
+
+    @Test
+    void testEventStreamSendsStartAndReturnEventsOfTheJobs() throws Exception {
+        MvcResult result = mockMvc.perform(get("/{mock_uuid}/saltapi/events", MOCK_UUID).accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        saltEventService.publishJobReturn(MOCK_UUID, JID, List.of("host1", "host2"));
+        saltEventService.publishJobReturn("other-mock-uuid", "other-jid", List.of("host1"));
+
+        String events = result.getResponse().getContentAsString();
+        assertThat(events)
+                .contains("\"tag\":\"salt/job/" + JID + "/new\"")
+                .contains("\"tag\":\"salt/job/" + JID + "/ret/host1\"")
+                .contains("\"tag\":\"salt/job/" + JID + "/ret/host2\"")
+                .doesNotContain("other-jid");
+        assertThat(events.indexOf("salt/job/" + JID + "/new")).isLessThan(events.indexOf("salt/job/" + JID + "/ret/host1"));
+    }
+}
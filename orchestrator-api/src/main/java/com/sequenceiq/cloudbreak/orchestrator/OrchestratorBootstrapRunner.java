@@ -107,7 +107,7 @@ public class OrchestratorBootstrapRunner implements Callable<Boolean> {
                         type, retryCount, maxRetryCount, elapsedTimeLog, actualException, orchestratorBootstrap);
                 retryCount++;
                 if (retryCount <= maxRetryCount) {
-                    trySleeping();
+                    trySleeping(sleepTime - (System.currentTimeMillis() - startTime));
                 } else {
                     success = Boolean.FALSE;
                 }
@@ -119,7 +119,7 @@ public class OrchestratorBootstrapRunner implements Callable<Boolean> {
                 retryCount++;
                 errorCount++;
                 if (belowAttemptThreshold(retryCount, errorCount)) {
-                    trySleeping();
+                    trySleeping(sleepTime);
                 } else {
                     success = Boolean.FALSE;
                 }
@@ -172,10 +172,16 @@ public class OrchestratorBootstrapRunner implements Callable<Boolean> {
         return retryCount <= maxRetryCount && errorCount <= maxRetryOnError;
     }
 
-    private void trySleeping() {
-        if (!Thread.interrupted()) {
+    /**
+     * An attempt which is still in progress sleeps only for the rest of the sleep time, so a bootstrap which already waited for its job in the
+     * attempt (e.g. for the salt job return events) does not stretch the interval and the timeout of the polling.
+     */
+    private void trySleeping(long sleepMillis) {
+        if (sleepMillis <= 0) {
+            LOGGER.debug("The attempt took longer than the sleep time. Skipping sleeping and continuing execution.");
+        } else if (!Thread.interrupted()) {
             try {
-                Thread.sleep(sleepTime);
+                sleep(sleepMillis);
             } catch (InterruptedException ie) {
                 LOGGER.debug("The thread was interrupted during sleeping. Sleeping halted, continuing execution.", ie);
             }
@@ -184,6 +190,10 @@ public class OrchestratorBootstrapRunner implements Callable<Boolean> {
         }
     }
 
+    void sleep(long sleepMillis) throws InterruptedException {
+        Thread.sleep(sleepMillis);
+    }
+
     private boolean isExitNeeded() {
         boolean exitNeeded = false;
         if (exitCriteriaModel != null && exitCriteria != null) {
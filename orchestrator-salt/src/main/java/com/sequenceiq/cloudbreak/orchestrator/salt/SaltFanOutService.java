@@ -0,0 +1,195 @@
+package com.sequenceiq.cloudbreak.orchestrator.salt;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+
+import org.apache.http.HttpStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sequenceiq.cloudbreak.logger.concurrent.MDCCleanerThreadPoolExecutor;
+import com.sequenceiq.cloudbreak.orchestrator.exception.CloudbreakOrchestratorFailedException;
+import com.sequenceiq.cloudbreak.orchestrator.model.GatewayConfig;
+import com.sequenceiq.cloudbreak.orchestrator.model.GenericResponse;
+import com.sequenceiq.cloudbreak.orchestrator.salt.client.SaltConnector;
+import com.sequenceiq.cloudbreak.orchestrator.salt.client.target.HostList;
+import com.sequenceiq.cloudbreak.orchestrator.salt.states.SaltStates;
+import com.sequenceiq.cloudbreak.service.Retry;
+
+/**
+ * Spreads the salt functions targeting a list of hosts across the healthy gateways of a cluster. The hosts are split evenly between the gateways,
+ * the parts run in parallel and the result of every minion is handed to the caller as soon as it is parsed from the streamed response. A part
+ * which fails on a secondary gateway is run again on the primary gateway. The health of the secondary gateways is cached for a short while, so
+ * a fan-out does not start with a health call to every gateway, and a gateway which failed a part is left out until its health is checked again.
+ * <p>
+ * Only the functions with an explicit host list can be spread, so it is used by the host list based commands, like the free disk space
+ * query. The helpers targeting every minion through a glob, like the grains, minion IP address and package version queries, run on the
+ * primary gateway only, but they are streamed the same way.
+ */
+@Service
+public class SaltFanOutService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SaltFanOutService.class);
+
+    private static final String CMD_RUN = "cmd.run";
+
+    @Value("${cb.salt.fanout.enabled:false}")
+    private boolean enabled;
+
+    @Value("${cb.salt.fanout.parallelism:8}")
+    private int parallelism;
+
+    @Value("${cb.salt.fanout.queue.size:32}")
+    private int queueSize;
+
+    @Value("${cb.salt.fanout.gateway.health.cache.seconds:30}")
+    private long gatewayHealthCacheSeconds;
+
+    @Inject
+    private SaltService saltService;
+
+    @Inject
+    private Retry retry;
+
+    private MDCCleanerThreadPoolExecutor fanOutExecutor;
+
+    private Cache<String, Boolean> gatewayHealth;
+
+    @PostConstruct
+    public void init() {
+        fanOutExecutor = new MDCCleanerThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize),
+                new ThreadFactoryBuilder().setNameFormat("salt-fanout-%d").setDaemon(true).build(), new ThreadPoolExecutor.CallerRunsPolicy());
+        gatewayHealth = CacheBuilder.newBuilder()
+                .expireAfterWrite(gatewayHealthCacheSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOutExecutor.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Runs the command on the hosts, the whole fan-out is retried the same way as {@link SaltStates#runCommandOnHosts}.
+     */
+    public Map<String, String> runCommandOnHosts(List<GatewayConfig> allGatewayConfigs, Collection<String> hosts, String command) {
+        return retry.testWith2SecDelayMax15Times(() -> {
+            try {
+                Map<String, String> result = new ConcurrentHashMap<>();
+                runOnHosts(allGatewayConfigs, hosts, CMD_RUN, (minion, output) -> result.put(minion, output.asText()), command);
+                return result;
+            } catch (CloudbreakOrchestratorFailedException | RuntimeException e) {
+                LOGGER.error("Salt run command on hosts failed", e);
+                throw new Retry.ActionFailedException("Salt run command on hosts failed");
+            }
+        });
+    }
+
+    /**
+     * The consumer is called concurrently from the threads of the gateways, and it may be called again for a minion whose part is retried on the
+     * primary gateway.
+     */
+    public void runOnHosts(List<GatewayConfig> allGatewayConfigs, Collection<String> hosts, String fun, BiConsumer<String, JsonNode> minionResultConsumer,
+            String... args) throws CloudbreakOrchestratorFailedException {
+        if (hosts.isEmpty()) {
+            return;
+        }
+        GatewayConfig primaryGateway = saltService.getPrimaryGatewayConfig(allGatewayConfigs);
+        List<GatewayConfig> gateways = getHealthyGateways(allGatewayConfigs, primaryGateway);
+        List<List<String>> parts = split(hosts, gateways.size());
+        LOGGER.debug("Running {} on {} hosts through {} gateways", fun, hosts.size(), parts.size());
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < parts.size(); i++) {
+            GatewayConfig gateway = gateways.get(i);
+            List<String> part = parts.get(i);
+            futures.add(CompletableFuture.runAsync(() -> runPart(gateway, primaryGateway, part, fun, minionResultConsumer, args), fanOutExecutor));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            throw new CloudbreakOrchestratorFailedException("Failed to run " + fun + " on hosts: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void runPart(GatewayConfig gateway, GatewayConfig primaryGateway, List<String> hosts, String fun,
+            BiConsumer<String, JsonNode> minionResultConsumer, String... args) {
+        try {
+            runOnGateway(gateway, hosts, fun, minionResultConsumer, args);
+        } catch (RuntimeException e) {
+            if (gateway.isPrimary()) {
+                throw e;
+            }
+            LOGGER.info("Running {} on {} hosts through gateway {} failed, retrying through the primary gateway", fun, hosts.size(), gateway.getHostname(), e);
+            gatewayHealth.put(gateway.getGatewayUrl(), Boolean.FALSE);
+            runOnGateway(primaryGateway, hosts, fun, minionResultConsumer, args);
+        }
+    }
+
+    private void runOnGateway(GatewayConfig gateway, List<String> hosts, String fun, BiConsumer<String, JsonNode> minionResultConsumer, String... args) {
+        try (SaltConnector sc = saltService.createSaltConnector(gateway)) {
+            SaltStates.runOnHostsStreaming(sc, new HostList(hosts), fun, minionResultConsumer, args);
+        }
+    }
+
+    private List<GatewayConfig> getHealthyGateways(List<GatewayConfig> allGatewayConfigs, GatewayConfig primaryGateway) {
+        List<GatewayConfig> gateways = new ArrayList<>();
+        gateways.add(primaryGateway);
+        if (enabled) {
+            allGatewayConfigs.stream()
+                    .filter(gateway -> !gateway.isPrimary())
+                    .filter(this::isHealthy)
+                    .forEach(gateways::add);
+        }
+        return gateways;
+    }
+
+    private boolean isHealthy(GatewayConfig gateway) {
+        return gatewayHealth.asMap().computeIfAbsent(gateway.getGatewayUrl(), gatewayUrl -> checkHealth(gateway));
+    }
+
+    private boolean checkHealth(GatewayConfig gateway) {
+        try (SaltConnector sc = saltService.createSaltConnector(gateway)) {
+            GenericResponse health = sc.health();
+            return health != null && health.getStatusCode() == HttpStatus.SC_OK;
+        } catch (RuntimeException e) {
+            LOGGER.info("Gateway {} is not healthy, it is left out from the fan-out", gateway.getHostname(), e);
+            return false;
+        }
+    }
+
+    private List<List<String>> split(Collection<String> hosts, int partCount) {
+        List<List<String>> parts = new ArrayList<>();
+        int count = Math.min(partCount, hosts.size());
+        for (int i = 0; i < count; i++) {
+            parts.add(new ArrayList<>());
+        }
+        int index = 0;
+        for (String host : hosts) {
+            parts.get(index++ % count).add(host);
+        }
+        return parts;
+    }
+}
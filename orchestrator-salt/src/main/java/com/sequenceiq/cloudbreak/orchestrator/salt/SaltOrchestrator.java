@@ -38,6 +38,7 @@ import org.springframework.util.CollectionUtils;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.base.Joiner;
 import com.google.common.collect.Sets;
+import com.google.common.hash.Hashing;
 import com.sequenceiq.cloudbreak.common.exception.CloudbreakServiceException;
 import com.sequenceiq.cloudbreak.common.exception.NotFoundException;
 import com.sequenceiq.cloudbreak.common.orchestration.Node;
@@ -120,6 +121,10 @@ public class SaltOrchestrator implements HostOrchestrator {
 
     private static final String DISK_INITIALIZE = "format-and-mount-initialize.sh";
 
+    private static final String SALT_CONFIG_FOLDER = "/srv";
+
+    private static final String SALT_CONFIG_FILE = "salt.zip";
+
     private static final String DISK_COMMON = "format-and-mount-common.sh";
 
     private static final String DISK_FORMAT = "find-device-and-format.sh";
@@ -132,6 +137,8 @@ public class SaltOrchestrator implements HostOrchestrator {
 
     private static final String PERMISSION = "0600";
 
+    private static final String FREE_DISK_SPACE_COMMAND = "df -k / | tail -1 | awk '{print $4}'";
+
     private static final Logger LOGGER = LoggerFactory.getLogger(SaltOrchestrator.class);
 
     @Value("${cb.max.salt.new.service.retry}")
@@ -155,6 +162,11 @@ public class SaltOrchestrator implements HostOrchestrator {
     @Value("${cb.max.salt.cloudstorage.validation.retry:3}")
     private int maxCloudStorageValidationRetry;
 
+    @Value("${cb.salt.state.upload.skip.unchanged:false}")
+    private boolean skipUnchangedSaltStateUpload;
+
+    private volatile byte[] defaultStateConfigZip;
+
     @Inject
     private SaltRunner saltRunner;
 
@@ -173,6 +185,9 @@ public class SaltOrchestrator implements HostOrchestrator {
     @Inject
     private SaltService saltService;
 
+    @Inject
+    private SaltFanOutService saltFanOutService;
+
     @Inject
     private CompressUtil compressUtil;
 
@@ -331,7 +346,7 @@ public class SaltOrchestrator implements HostOrchestrator {
         try (SaltConnector sc = saltService.createSaltConnector(primaryGateway)) {
             if (!gatewayTargets.isEmpty()) {
                 LOGGER.info("Gateway targets are not empty, upload salt config: {}", gatewayTargets);
-                uploadSaltConfig(sc, gatewayTargets, stateConfigZip, exitModel);
+                uploadSaltConfig(sc, gatewayTargets, allGatewayConfigs, stateConfigZip, exitModel);
                 params.setRestartNeeded(true);
             }
             uploadSignKey(sc, primaryGateway, gatewayTargets, targets.stream().map(Node::getPrivateIp).collect(Collectors.toSet()), exitModel);
@@ -903,10 +918,14 @@ public class SaltOrchestrator implements HostOrchestrator {
     public Map<String, String> getFreeDiskSpaceByNodes(Set<Node> nodes, List<GatewayConfig> gatewayConfigs) {
         Map<String, String> freeDiskSpaceByNode;
         try {
-            GatewayConfig primaryGateway = saltService.getPrimaryGatewayConfig(gatewayConfigs);
-            SaltConnector sc = saltService.createSaltConnector(primaryGateway);
-            Target<String> allHosts = new HostList(nodes.stream().map(Node::getHostname).collect(Collectors.toSet()));
-            freeDiskSpaceByNode = SaltStates.runCommandOnHosts(retry, sc, allHosts, "df -k / | tail -1 | awk '{print $4}'");
+            Set<String> hostnames = nodes.stream().map(Node::getHostname).collect(Collectors.toSet());
+            if (saltFanOutService.isEnabled()) {
+                freeDiskSpaceByNode = saltFanOutService.runCommandOnHosts(gatewayConfigs, hostnames, FREE_DISK_SPACE_COMMAND);
+            } else {
+                GatewayConfig primaryGateway = saltService.getPrimaryGatewayConfig(gatewayConfigs);
+                SaltConnector sc = saltService.createSaltConnector(primaryGateway);
+                freeDiskSpaceByNode = SaltStates.runCommandOnHosts(retry, sc, new HostList(hostnames), FREE_DISK_SPACE_COMMAND);
+            }
         } catch (Exception e) {
             String errorMessage = String.format("Failed to get free disk space on hosts. Reason: %s", e.getMessage());
             LOGGER.warn(errorMessage, e);
@@ -935,7 +954,17 @@ public class SaltOrchestrator implements HostOrchestrator {
 
     @Override
     public byte[] getStateConfigZip() throws IOException {
-        return compressUtil.generateCompressedOutputFromFolders("salt-common", "salt");
+        byte[] stateConfigZip = defaultStateConfigZip;
+        if (stateConfigZip == null) {
+            synchronized (this) {
+                if (defaultStateConfigZip == null) {
+                    LOGGER.debug("Building the salt state bundle from the classpath");
+                    defaultStateConfigZip = compressUtil.generateCompressedOutputFromFolders("salt-common", "salt");
+                }
+                stateConfigZip = defaultStateConfigZip;
+            }
+        }
+        return stateConfigZip.clone();
     }
 
     @Override
@@ -1271,15 +1300,42 @@ public class SaltOrchestrator implements HostOrchestrator {
 
     private void uploadSaltConfig(SaltConnector saltConnector, Set<String> targets, ExitCriteriaModel exitCriteriaModel)
             throws CloudbreakOrchestratorFailedException, IOException {
-        uploadSaltConfig(saltConnector, targets, null, exitCriteriaModel);
+        LOGGER.debug("Upload salt.zip to gateways");
+        uploadFileToTargets(saltConnector, targets, exitCriteriaModel, SALT_CONFIG_FOLDER, SALT_CONFIG_FILE, getStateConfigZip());
     }
 
-    private void uploadSaltConfig(SaltConnector saltConnector, Set<String> targets, byte[] stateConfigZip, ExitCriteriaModel exitCriteriaModel)
-            throws CloudbreakOrchestratorFailedException, IOException {
+    private void uploadSaltConfig(SaltConnector saltConnector, Set<String> targets, List<GatewayConfig> allGatewayConfigs, byte[] stateConfigZip,
+            ExitCriteriaModel exitCriteriaModel) throws CloudbreakOrchestratorFailedException, IOException {
         byte[] byteArray;
         byteArray = stateConfigZip == null || stateConfigZip.length == 0 ? getStateConfigZip() : stateConfigZip;
-        LOGGER.debug("Upload salt.zip to gateways");
-        uploadFileToTargets(saltConnector, targets, exitCriteriaModel, "/srv", "salt.zip", byteArray);
+        Set<String> outdatedTargets = skipUnchangedSaltStateUpload ? getTargetsWithDifferentSaltConfig(saltConnector, targets, allGatewayConfigs, byteArray)
+                : targets;
+        if (outdatedTargets.isEmpty()) {
+            LOGGER.info("Every gateway already has the same salt.zip, upload is skipped: {}", targets);
+        } else {
+            LOGGER.debug("Upload salt.zip to gateways: {}", outdatedTargets);
+            uploadFileToTargets(saltConnector, outdatedTargets, exitCriteriaModel, SALT_CONFIG_FOLDER, SALT_CONFIG_FILE, byteArray);
+        }
+    }
+
+    private Set<String> getTargetsWithDifferentSaltConfig(SaltConnector saltConnector, Set<String> targets, List<GatewayConfig> allGatewayConfigs,
+            byte[] stateConfigZip) {
+        Map<String, String> hostnamesByPrivateIp = allGatewayConfigs.stream()
+                .filter(gatewayConfig -> targets.contains(gatewayConfig.getPrivateAddress()))
+                .collect(Collectors.toMap(GatewayConfig::getPrivateAddress, GatewayConfig::getHostname, (first, second) -> first));
+        try {
+            String expectedHash = Hashing.sha256().hashBytes(stateConfigZip).toString();
+            Map<String, String> hashesByHostname = SaltStates.getFileHashes(saltConnector, new HostList(hostnamesByPrivateIp.values()),
+                    SALT_CONFIG_FOLDER + '/' + SALT_CONFIG_FILE);
+            Set<String> outdatedTargets = targets.stream()
+                    .filter(target -> !expectedHash.equals(hashesByHostname.get(hostnamesByPrivateIp.get(target))))
+                    .collect(Collectors.toSet());
+            LOGGER.debug("Gateways with outdated salt.zip: {}, expected hash: {}", outdatedTargets, expectedHash);
+            return outdatedTargets;
+        } catch (RuntimeException e) {
+            LOGGER.info("Could not collect the hash of salt.zip from the gateways, uploading it to every gateway", e);
+            return targets;
+        }
     }
 
     private void uploadSignKey(SaltConnector saltConnector, GatewayConfig gateway, Set<String> gatewayTargets,
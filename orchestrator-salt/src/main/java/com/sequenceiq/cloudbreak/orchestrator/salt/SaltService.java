@@ -15,6 +15,7 @@ import org.springframework.stereotype.Service;
 import com.sequenceiq.cloudbreak.orchestrator.exception.CloudbreakOrchestratorFailedException;
 import com.sequenceiq.cloudbreak.orchestrator.model.GatewayConfig;
 import com.sequenceiq.cloudbreak.orchestrator.salt.client.SaltConnector;
+import com.sequenceiq.cloudbreak.orchestrator.salt.client.event.SaltJobEventListener;
 
 import io.opentracing.Tracer;
 
@@ -29,11 +30,16 @@ public class SaltService {
     @Inject
     private Tracer tracer;
 
+    @Inject
+    private SaltJobEventListener saltJobEventListener;
+
     @Value("${rest.debug}")
     private boolean restDebug;
 
     public SaltConnector createSaltConnector(GatewayConfig gatewayConfig) {
-        return new SaltConnector(gatewayConfig, saltErrorResolver, restDebug, tracer);
+        SaltConnector saltConnector = new SaltConnector(gatewayConfig, saltErrorResolver, restDebug, tracer);
+        saltJobEventListener.getEventStream(gatewayConfig).ifPresent(saltConnector::setJobEventStream);
+        return saltConnector;
     }
 
     public List<SaltConnector> createSaltConnector(Collection<GatewayConfig> gatewayConfigs) {
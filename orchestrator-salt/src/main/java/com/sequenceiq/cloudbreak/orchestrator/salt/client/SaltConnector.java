@@ -8,12 +8,15 @@ import static java.util.Collections.singletonMap;
 import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.client.Client;
@@ -25,6 +28,7 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
 import org.apache.http.HttpStatus;
+import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.client.authentication.HttpAuthenticationFeature;
 import org.glassfish.jersey.media.multipart.FormDataMultiPart;
 import org.glassfish.jersey.media.multipart.MultiPart;
@@ -34,7 +38,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sequenceiq.cloudbreak.aspect.Measure;
 import com.sequenceiq.cloudbreak.certificate.PkiUtil;
@@ -48,6 +55,8 @@ import com.sequenceiq.cloudbreak.orchestrator.model.GatewayConfig;
 import com.sequenceiq.cloudbreak.orchestrator.model.GenericResponse;
 import com.sequenceiq.cloudbreak.orchestrator.model.GenericResponses;
 import com.sequenceiq.cloudbreak.orchestrator.salt.SaltErrorResolver;
+import com.sequenceiq.cloudbreak.orchestrator.salt.client.event.SaltJobEventStream;
+import com.sequenceiq.cloudbreak.orchestrator.salt.client.event.SaltJobWatch;
 import com.sequenceiq.cloudbreak.orchestrator.salt.client.target.Target;
 import com.sequenceiq.cloudbreak.orchestrator.salt.domain.FingerprintRequest;
 import com.sequenceiq.cloudbreak.orchestrator.salt.domain.FingerprintsResponse;
@@ -74,14 +83,22 @@ public class SaltConnector implements Closeable {
 
     private static final String SIGN_HEADER = "signature";
 
+    private static final String AUTH_TOKEN_HEADER = "X-Auth-Token";
+
     private static final List<Integer> ACCEPTED_STATUSES = Arrays.asList(HttpStatus.SC_OK, HttpStatus.SC_CREATED, HttpStatus.SC_ACCEPTED);
 
     private static final int PROXY_TIMEOUT = 90000;
 
+    private static final int EVENT_STREAM_PROXY_TIMEOUT = (int) TimeUnit.HOURS.toMillis(1L);
+
+    private static final int NO_READ_TIMEOUT = 0;
+
     private final Client restClient;
 
     private final WebTarget saltTarget;
 
+    private final WebTarget saltEventTarget;
+
     private final String saltPassword;
 
     private final String signatureKey;
@@ -90,6 +107,8 @@ public class SaltConnector implements Closeable {
 
     private final String hostname;
 
+    private SaltJobEventStream jobEventStream;
+
     public SaltConnector(GatewayConfig gatewayConfig, SaltErrorResolver saltErrorResolver, boolean debug, Tracer tracer) {
         this.hostname = gatewayConfig.getHostname();
         ClientTracingFeature tracingFeature = new ClientTracingFeature.Builder(tracer)
@@ -104,6 +123,13 @@ public class SaltConnector implements Closeable {
                     .register(new DisableProxyAuthFeature())
                     .register(new SetProxyTimeoutFeature(PROXY_TIMEOUT))
                     .register(tracingFeature);
+            // the event stream is idle while no job runs, so it is read without the timeouts of the request-response calls
+            saltEventTarget = restClient.target(gatewayConfig.getGatewayUrl())
+                    .register(HttpAuthenticationFeature.basic(SALT_BOOT_USER, saltBootPasswd))
+                    .register(new DisableProxyAuthFeature())
+                    .register(new SetProxyTimeoutFeature(EVENT_STREAM_PROXY_TIMEOUT))
+                    .register(tracingFeature)
+                    .property(ClientProperties.READ_TIMEOUT, NO_READ_TIMEOUT);
             saltPassword = Optional.ofNullable(gatewayConfig.getSaltPassword()).orElse(SALT_PASSWORD);
             signatureKey = gatewayConfig.getSignatureKey();
             this.saltErrorResolver = saltErrorResolver;
@@ -163,31 +189,7 @@ public class SaltConnector implements Closeable {
     @Measure(SaltConnector.class)
     @Retryable(value = ClusterProxyWebApplicationException.class, backoff = @Backoff(delay = 1000))
     public <T> T run(Target<String> target, String fun, SaltClientType clientType, Class<T> clazz, Long timeout, String... arg) {
-        Form form = new Form();
-        form = addAuth(form)
-                .param("fun", fun)
-                .param("client", clientType.getType());
-        if (target != null) {
-            form = form.param("tgt", target.getTarget())
-                    .param("tgt_type", target.getType());
-        }
-        if (timeout != null) {
-            form = form.param("t", timeout.toString());
-        }
-        if ("state.show_sls".equals(fun)) {
-            form.param("full_return", "True");
-        }
-        if (arg != null) {
-            if (clientType.equals(SaltClientType.LOCAL) || clientType.equals(SaltClientType.LOCAL_ASYNC)) {
-                for (String a : arg) {
-                    form.param("arg", a);
-                }
-            } else {
-                for (int i = 0; i < arg.length - 1; i += 2) {
-                    form.param(arg[i], arg[i + 1]);
-                }
-            }
-        }
+        Form form = createRunForm(target, fun, clientType, timeout, arg);
         Response response = endpointInvocation(SaltEndpoint.SALT_RUN.getContextPath(), toJson(form.asMap()).getBytes())
                 .post(Entity.form(form));
         T responseEntity = JaxRSUtil.response(response, clazz);
@@ -199,6 +201,30 @@ public class SaltConnector implements Closeable {
         return responseEntity;
     }
 
+    /**
+     * Runs a function with the local client and hands the result of every minion to the consumer as soon as it is parsed from the response, so
+     * the response of a large cluster is never buffered or deserialized as a whole.
+     */
+    @Measure(SaltConnector.class)
+    @Retryable(value = ClusterProxyWebApplicationException.class, backoff = @Backoff(delay = 1000))
+    public void runStreaming(Target<String> target, String fun, Long timeout, BiConsumer<String, JsonNode> minionResultConsumer, String... arg) {
+        Form form = createRunForm(target, fun, SaltClientType.LOCAL, timeout, arg);
+        int minionCount;
+        try (Response response = endpointInvocation(SaltEndpoint.SALT_RUN.getContextPath(), toJson(form.asMap()).getBytes())
+                .post(Entity.form(form))) {
+            if (Response.Status.Family.SUCCESSFUL != response.getStatusInfo().getFamily()) {
+                // let the common response handling translate the error
+                JaxRSUtil.response(response, JsonNode.class);
+            }
+            try (InputStream inputStream = response.readEntity(InputStream.class); JsonParser parser = MAPPER.getFactory().createParser(inputStream)) {
+                minionCount = parseMinionResults(parser, minionResultConsumer);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to parse the streamed response of salt function: " + fun, e);
+            }
+        }
+        LOGGER.debug("Salt run has been executed with streamed response. fun: [{}], minion results: {}", fun, minionCount);
+    }
+
     @Measure(SaltConnector.class)
     @Retryable(value = ClusterProxyWebApplicationException.class, backoff = @Backoff(delay = 1000))
     public <T> T wheel(String fun, Collection<String> match, Class<T> clazz) {
@@ -230,6 +256,59 @@ public class SaltConnector implements Closeable {
         return getGenericResponses(targets, path, fileName, content, distributeResponse);
     }
 
+    private Form createRunForm(Target<String> target, String fun, SaltClientType clientType, Long timeout, String... arg) {
+        Form form = new Form();
+        form = addAuth(form)
+                .param("fun", fun)
+                .param("client", clientType.getType());
+        if (target != null) {
+            form = form.param("tgt", target.getTarget())
+                    .param("tgt_type", target.getType());
+        }
+        if (timeout != null) {
+            form = form.param("t", timeout.toString());
+        }
+        if ("state.show_sls".equals(fun)) {
+            form.param("full_return", "True");
+        }
+        if (arg != null) {
+            if (clientType.equals(SaltClientType.LOCAL) || clientType.equals(SaltClientType.LOCAL_ASYNC)) {
+                for (String a : arg) {
+                    form.param("arg", a);
+                }
+            } else {
+                for (int i = 0; i < arg.length - 1; i += 2) {
+                    form.param(arg[i], arg[i + 1]);
+                }
+            }
+        }
+        return form;
+    }
+
+    private int parseMinionResults(JsonParser parser, BiConsumer<String, JsonNode> minionResultConsumer) throws IOException {
+        int minionCount = 0;
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Salt response is not a JSON object");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("return".equals(fieldName) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String minion = parser.getCurrentName();
+                        parser.nextToken();
+                        minionResultConsumer.accept(minion, parser.readValueAsTree());
+                        minionCount++;
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return minionCount;
+    }
+
     private GenericResponses getGenericResponses(Iterable<String> targets, String path, String fileName, byte[] content, Response distributeResponse)
             throws IOException {
         if (distributeResponse.getStatus() == HttpStatus.SC_NOT_FOUND) {
@@ -329,6 +408,47 @@ public class SaltConnector implements Closeable {
         return JaxRSUtil.response(fingerprintResponse, FingerprintsResponse.class);
     }
 
+    /**
+     * Opens the server-sent event stream of the salt-api. The caller owns the returned stream and has to close it, the events are read until
+     * the gateway or the client closes the connection.
+     */
+    public InputStream openEventStream() {
+        String token = login();
+        LOGGER.debug("Opening salt event stream on {}", hostname);
+        Response response = saltEventTarget.path(SaltEndpoint.SALT_EVENTS.getContextPath()).request(MediaType.SERVER_SENT_EVENTS_TYPE)
+                .header(AUTH_TOKEN_HEADER, token)
+                .get();
+        if (Response.Status.Family.SUCCESSFUL != response.getStatusInfo().getFamily()) {
+            response.close();
+            throw new IllegalStateException("Failed to open salt event stream, status: " + response.getStatus());
+        }
+        return response.readEntity(InputStream.class);
+    }
+
+    /**
+     * Registers a watch for the return events of the given job on the event stream of the gateway. Empty if event based tracking is disabled
+     * or the stream is not connected, the caller has to poll the job state in that case.
+     */
+    public Optional<SaltJobWatch> watchJob(String jid) {
+        return jobEventStream == null ? Optional.empty() : jobEventStream.watch(jid);
+    }
+
+    public void setJobEventStream(SaltJobEventStream jobEventStream) {
+        this.jobEventStream = jobEventStream;
+    }
+
+    private String login() {
+        Form form = addAuth(new Form());
+        Response response = endpointInvocation(SaltEndpoint.SALT_LOGIN.getContextPath(), toJson(form.asMap()).getBytes())
+                .post(Entity.form(form));
+        JsonNode loginResponse = JaxRSUtil.response(response, JsonNode.class);
+        String token = loginResponse.path("return").path(0).path("token").asText(null);
+        if (token == null) {
+            throw new IllegalStateException("Salt login response does not contain a token");
+        }
+        return token;
+    }
+
     private void failedResponseErrorLog(Iterable<GenericResponse> failedResponses) {
         StringBuilder failedResponsesErrorMessage = new StringBuilder();
         failedResponsesErrorMessage.append("Failed response from salt bootstrap, endpoint: ").append(BOOT_HOSTNAME_ENDPOINT);
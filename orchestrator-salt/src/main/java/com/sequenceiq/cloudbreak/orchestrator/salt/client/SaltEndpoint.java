@@ -10,7 +10,9 @@ public enum SaltEndpoint {
     BOOT_ACTION_DISTRIBUTE("saltboot/salt/action/distribute"),
     BOOT_HOSTNAME_ENDPOINT("saltboot/hostname/distribute"),
     BOOT_FINGERPRINT_DISTRIBUTE("saltboot/salt/minion/fingerprint/distribute"),
-    SALT_RUN("saltapi/run");
+    SALT_RUN("saltapi/run"),
+    SALT_LOGIN("saltapi/login"),
+    SALT_EVENTS("saltapi/events");
 
     private final String contextPath;
 
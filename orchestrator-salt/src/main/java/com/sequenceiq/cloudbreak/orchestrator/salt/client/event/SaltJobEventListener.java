@@ -0,0 +1,96 @@
+package com.sequenceiq.cloudbreak.orchestrator.salt.client.event;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sequenceiq.cloudbreak.orchestrator.model.GatewayConfig;
+import com.sequenceiq.cloudbreak.orchestrator.salt.SaltErrorResolver;
+import com.sequenceiq.cloudbreak.orchestrator.salt.client.SaltConnector;
+
+import io.opentracing.Tracer;
+
+/**
+ * Keeps one salt event stream per gateway, the streams of the gateways which were not used for a while are closed. The wait for the events of a
+ * job ({@code cb.salt.job.event.wait.ms}) is part of an orchestrator runner attempt and is deducted from the sleep after the attempt, so it
+ * should not be longer than the sleep time of the salt runner.
+ */
+@Component
+public class SaltJobEventListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SaltJobEventListener.class);
+
+    @Value("${cb.salt.job.event.tracking.enabled:false}")
+    private boolean enabled;
+
+    @Value("${cb.salt.job.event.wait.ms:10000}")
+    private long waitMillis;
+
+    @Value("${cb.salt.job.event.reconnect.delay.ms:10000}")
+    private long reconnectDelayMillis;
+
+    @Value("${cb.salt.job.event.stream.idle.minutes:30}")
+    private long streamIdleMinutes;
+
+    @Value("${rest.debug}")
+    private boolean restDebug;
+
+    @Inject
+    private SaltErrorResolver saltErrorResolver;
+
+    @Inject
+    private Tracer tracer;
+
+    private Cache<String, SaltJobEventStream> eventStreams;
+
+    private ExecutorService executorService;
+
+    @PostConstruct
+    public void init() {
+        eventStreams = CacheBuilder.newBuilder()
+                .expireAfterAccess(streamIdleMinutes, TimeUnit.MINUTES)
+                .removalListener(this::closeEventStream)
+                .build();
+        executorService = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("salt-event-stream-%d").setDaemon(true).build());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        eventStreams.invalidateAll();
+        executorService.shutdownNow();
+    }
+
+    public Optional<SaltJobEventStream> getEventStream(GatewayConfig gatewayConfig) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        String gatewayUrl = gatewayConfig.getGatewayUrl();
+        SaltJobEventStream eventStream = eventStreams.asMap().computeIfAbsent(gatewayUrl,
+                key -> new SaltJobEventStream(key, this::createSaltConnector, executorService, waitMillis, reconnectDelayMillis));
+        eventStream.setGatewayConfig(gatewayConfig);
+        return Optional.of(eventStream);
+    }
+
+    private SaltConnector createSaltConnector(GatewayConfig gatewayConfig) {
+        return new SaltConnector(gatewayConfig, saltErrorResolver, restDebug, tracer);
+    }
+
+    private void closeEventStream(RemovalNotification<String, SaltJobEventStream> notification) {
+        LOGGER.debug("Closing salt event stream of {}, cause: {}", notification.getKey(), notification.getCause());
+        notification.getValue().close();
+    }
+}
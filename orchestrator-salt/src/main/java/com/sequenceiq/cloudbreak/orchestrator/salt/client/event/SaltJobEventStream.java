@@ -0,0 +1,265 @@
+package com.sequenceiq.cloudbreak.orchestrator.salt.client.event;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.sequenceiq.cloudbreak.orchestrator.model.GatewayConfig;
+import com.sequenceiq.cloudbreak.orchestrator.salt.client.SaltConnector;
+
+/**
+ * One long-lived connection to the event bus of the salt master of a gateway. The job return events are multiplexed to the trackers waiting for
+ * them, so a tracker wakes up when its job has returned on every minion instead of polling the active jobs. When the stream drops, every waiting
+ * tracker is woken up and falls back to polling until the stream is reconnected.
+ */
+public class SaltJobEventStream implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SaltJobEventStream.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String DATA_PREFIX = "data:";
+
+    private static final String JOB_TAG_PREFIX = "salt/job/";
+
+    private static final String NEW_JOB_EVENT = "new";
+
+    private static final String RETURN_EVENT = "ret";
+
+    private static final int NEW_JOB_TAG_PARTS = 2;
+
+    private static final int RETURN_TAG_PARTS = 3;
+
+    private static final long MAX_TRACKED_JOBS = 1000L;
+
+    private static final long TRACKED_JOB_EXPIRATION_HOURS = 6L;
+
+    private final String name;
+
+    private final Function<GatewayConfig, SaltConnector> connectorFactory;
+
+    private final Executor executor;
+
+    private final long waitMillis;
+
+    private final long reconnectDelayMillis;
+
+    private final Map<String, Set<SaltJobWatch>> watches = new ConcurrentHashMap<>();
+
+    private final Cache<String, JobProgress> jobs = CacheBuilder.newBuilder()
+            .maximumSize(MAX_TRACKED_JOBS)
+            .expireAfterWrite(TRACKED_JOB_EXPIRATION_HOURS, TimeUnit.HOURS)
+            .build();
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final AtomicLong connection = new AtomicLong();
+
+    private volatile boolean connected;
+
+    private volatile boolean closed;
+
+    private volatile GatewayConfig gatewayConfig;
+
+    private volatile SaltConnector saltConnector;
+
+    public SaltJobEventStream(String name, Function<GatewayConfig, SaltConnector> connectorFactory, Executor executor, long waitMillis,
+            long reconnectDelayMillis) {
+        this.name = name;
+        this.connectorFactory = connectorFactory;
+        this.executor = executor;
+        this.waitMillis = waitMillis;
+        this.reconnectDelayMillis = reconnectDelayMillis;
+    }
+
+    public void setGatewayConfig(GatewayConfig gatewayConfig) {
+        this.gatewayConfig = gatewayConfig;
+    }
+
+    public Optional<SaltJobWatch> watch(String jid) {
+        if (closed) {
+            return Optional.empty();
+        }
+        start();
+        if (!connected) {
+            LOGGER.debug("Salt event stream of {} is not connected, the state of job {} is polled", name, jid);
+            return Optional.empty();
+        }
+        SaltJobWatch watch = new SaltJobWatch(jid, this, connection.get(), waitMillis);
+        watches.compute(jid, (key, jobWatches) -> {
+            Set<SaltJobWatch> result = jobWatches == null ? ConcurrentHashMap.newKeySet() : jobWatches;
+            result.add(watch);
+            return result;
+        });
+        return Optional.of(watch);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        discardSaltConnector();
+        wakeUpAll();
+    }
+
+    boolean isConnected(long expectedConnection) {
+        return connected && connection.get() == expectedConnection;
+    }
+
+    void unregister(SaltJobWatch watch) {
+        watches.computeIfPresent(watch.getJid(), (key, jobWatches) -> {
+            jobWatches.remove(watch);
+            return jobWatches.isEmpty() ? null : jobWatches;
+        });
+    }
+
+    private void start() {
+        if (gatewayConfig != null && running.compareAndSet(false, true)) {
+            executor.execute(this::readEvents);
+        }
+    }
+
+    private void readEvents() {
+        try {
+            while (!closed) {
+                readUntilDisconnected();
+                if (!closed) {
+                    Thread.sleep(reconnectDelayMillis);
+                }
+            }
+        } catch (InterruptedException e) {
+            LOGGER.debug("Salt event stream reader of {} has been interrupted", name);
+            Thread.currentThread().interrupt();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void readUntilDisconnected() {
+        InputStream eventStream;
+        try {
+            eventStream = getSaltConnector().openEventStream();
+        } catch (Exception e) {
+            LOGGER.info("Failed to open salt event stream of {}, the connector is recreated before the next attempt", name, e);
+            discardSaltConnector();
+            return;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(eventStream, StandardCharsets.UTF_8))) {
+            connection.incrementAndGet();
+            connected = true;
+            LOGGER.info("Salt event stream of {} has been connected", name);
+            String line = reader.readLine();
+            while (!closed && line != null) {
+                if (line.startsWith(DATA_PREFIX)) {
+                    onEvent(line.substring(DATA_PREFIX.length()).trim());
+                }
+                line = reader.readLine();
+            }
+            LOGGER.info("Salt event stream of {} has been closed", name);
+        } catch (Exception e) {
+            if (!closed) {
+                LOGGER.info("Salt event stream of {} has dropped, the waiting jobs fall back to polling", name, e);
+            }
+        } finally {
+            connected = false;
+            wakeUpAll();
+        }
+    }
+
+    /**
+     * The connector is kept for the reconnects of the stream, a new one is created from the latest gateway config only when the stream
+     * cannot be opened with the current one.
+     */
+    private SaltConnector getSaltConnector() {
+        SaltConnector currentConnector = saltConnector;
+        if (currentConnector == null) {
+            currentConnector = connectorFactory.apply(gatewayConfig);
+            saltConnector = currentConnector;
+            if (closed) {
+                discardSaltConnector();
+            }
+        }
+        return currentConnector;
+    }
+
+    private void discardSaltConnector() {
+        SaltConnector currentConnector = saltConnector;
+        saltConnector = null;
+        if (currentConnector != null) {
+            currentConnector.close();
+        }
+    }
+
+    private void onEvent(String data) {
+        try {
+            JsonNode event = MAPPER.readTree(data);
+            String tag = event.path("tag").asText("");
+            if (tag.startsWith(JOB_TAG_PREFIX)) {
+                String[] parts = tag.substring(JOB_TAG_PREFIX.length()).split("/");
+                if (parts.length == NEW_JOB_TAG_PARTS && NEW_JOB_EVENT.equals(parts[1])) {
+                    onJobStarted(parts[0], event.path("data").path("minions"));
+                } else if (parts.length == RETURN_TAG_PARTS && RETURN_EVENT.equals(parts[1])) {
+                    onJobReturned(parts[0], parts[2]);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Skipping salt event which cannot be parsed: {}", data, e);
+        }
+    }
+
+    private void onJobStarted(String jid, JsonNode minions) {
+        Set<String> pendingMinions = new HashSet<>();
+        minions.forEach(minion -> pendingMinions.add(minion.asText()));
+        jobs.put(jid, new JobProgress(pendingMinions));
+    }
+
+    private void onJobReturned(String jid, String minion) {
+        JobProgress jobProgress = jobs.getIfPresent(jid);
+        // without the start event of the job every return wakes up the trackers, they check the state of the job on their own
+        boolean returnedEverywhere = jobProgress == null || jobProgress.returned(minion);
+        if (returnedEverywhere) {
+            LOGGER.debug("Job {} has returned on every minion of {}", jid, name);
+            Set<SaltJobWatch> jobWatches = watches.get(jid);
+            if (jobWatches != null) {
+                jobWatches.forEach(SaltJobWatch::signal);
+            }
+        }
+    }
+
+    private void wakeUpAll() {
+        watches.values().forEach(jobWatches -> jobWatches.forEach(SaltJobWatch::signal));
+    }
+
+    private static class JobProgress {
+
+        private final Set<String> pendingMinions;
+
+        JobProgress(Set<String> pendingMinions) {
+            this.pendingMinions = pendingMinions;
+        }
+
+        boolean returned(String minion) {
+            pendingMinions.remove(minion);
+            return pendingMinions.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.sequenceiq.cloudbreak.orchestrator.salt.client.event;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registration of a waiting tracker for the return events of one salt job on the event stream of a gateway. It has a fixed wait budget, so a
+ * tracker never waits longer for the events than the configured time before it falls back to the regular polling.
+ */
+public class SaltJobWatch implements AutoCloseable {
+
+    private final String jid;
+
+    private final SaltJobEventStream eventStream;
+
+    private final long connection;
+
+    private final long deadline;
+
+    private final Semaphore returns = new Semaphore(0);
+
+    SaltJobWatch(String jid, SaltJobEventStream eventStream, long connection, long waitMillis) {
+        this.jid = jid;
+        this.eventStream = eventStream;
+        this.connection = connection;
+        deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMillis);
+    }
+
+    /**
+     * Blocks until a return event of the job arrives. Returns false if the wait budget has run out or the event stream dropped in the meantime,
+     * the state of the job has to be polled in that case.
+     */
+    public boolean awaitReturn() {
+        try {
+            long remaining = deadline - System.nanoTime();
+            boolean returned = remaining > 0 && eventStream.isConnected(connection) && returns.tryAcquire(remaining, TimeUnit.NANOSECONDS);
+            returns.drainPermits();
+            return returned && eventStream.isConnected(connection);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * True if the event stream dropped since the watch was registered, the return events of the job may have been missed in that case.
+     */
+    public boolean isStreamDropped() {
+        return !eventStream.isConnected(connection);
+    }
+
+    public String getJid() {
+        return jid;
+    }
+
+    @Override
+    public void close() {
+        eventStream.unregister(this);
+    }
+
+    void signal() {
+        returns.release();
+    }
+}
@@ -5,6 +5,7 @@ import static com.sequenceiq.cloudbreak.orchestrator.salt.domain.JobId.jobId;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -16,6 +17,7 @@ import com.sequenceiq.cloudbreak.orchestrator.exception.CloudbreakOrchestratorFa
 import com.sequenceiq.cloudbreak.orchestrator.exception.CloudbreakOrchestratorInProgressException;
 import com.sequenceiq.cloudbreak.orchestrator.exception.CloudbreakOrchestratorTerminateException;
 import com.sequenceiq.cloudbreak.orchestrator.salt.client.SaltConnector;
+import com.sequenceiq.cloudbreak.orchestrator.salt.client.event.SaltJobWatch;
 import com.sequenceiq.cloudbreak.orchestrator.salt.domain.JobState;
 import com.sequenceiq.cloudbreak.orchestrator.salt.domain.RunningJobsResponse;
 import com.sequenceiq.cloudbreak.orchestrator.salt.states.SaltStates;
@@ -91,7 +93,7 @@ public class SaltJobIdTracker implements OrchestratorBootstrap {
     }
 
     private void checkIsFinished(String jobId) throws CloudbreakOrchestratorFailedException {
-        boolean jobRunning = SaltStates.jobIsRunning(saltConnector, jobId);
+        boolean jobRunning = isJobRunning(jobId);
         if (jobRunning) {
             LOGGER.debug("Job: {} is running currently, waiting for next polling attempt.", jobId);
             saltJobRunner.setJobState(JobState.IN_PROGRESS);
@@ -101,6 +103,25 @@ public class SaltJobIdTracker implements OrchestratorBootstrap {
         }
     }
 
+    private boolean isJobRunning(String jobId) throws CloudbreakOrchestratorFailedException {
+        Optional<SaltJobWatch> jobWatch = saltConnector.watchJob(jobId);
+        if (jobWatch.isEmpty()) {
+            return SaltStates.jobIsRunning(saltConnector, jobId);
+        }
+        try (SaltJobWatch watch = jobWatch.get()) {
+            boolean jobRunning = SaltStates.jobIsRunning(saltConnector, jobId);
+            while (jobRunning && watch.awaitReturn()) {
+                LOGGER.debug("Return event arrived for job: {}, checking whether it is still running.", jobId);
+                jobRunning = SaltStates.jobIsRunning(saltConnector, jobId);
+            }
+            if (jobRunning && watch.isStreamDropped()) {
+                LOGGER.debug("Salt event stream dropped while waiting for job: {}, checking whether it is still running.", jobId);
+                jobRunning = SaltStates.jobIsRunning(saltConnector, jobId);
+            }
+            return jobRunning;
+        }
+    }
+
     private String buildErrorMessage() {
         String jobId = saltJobRunner.getJid().getJobId();
         StringBuilder errorMessageBuilder = new StringBuilder();
@@ -14,6 +14,7 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -41,7 +42,6 @@ import com.sequenceiq.cloudbreak.orchestrator.salt.domain.JidInfoResponse;
 import com.sequenceiq.cloudbreak.orchestrator.salt.domain.Minion;
 import com.sequenceiq.cloudbreak.orchestrator.salt.domain.MinionIpAddressesResponse;
 import com.sequenceiq.cloudbreak.orchestrator.salt.domain.MinionStatusSaltResponse;
-import com.sequenceiq.cloudbreak.orchestrator.salt.domain.PackageVersionResponse;
 import com.sequenceiq.cloudbreak.orchestrator.salt.domain.PingResponse;
 import com.sequenceiq.cloudbreak.orchestrator.salt.domain.RunnerInfo;
 import com.sequenceiq.cloudbreak.orchestrator.salt.domain.RunnerInfo.DurationComparator;
@@ -248,9 +248,11 @@ public class SaltStates {
     }
 
     public static MinionIpAddressesResponse collectMinionIpAddresses(SaltConnector sc) {
-        MinionIpAddressesResponse minionIpAddressesResponse = measure(() -> sc.run(Glob.ALL, "network.ipaddrs", LOCAL,
-                        MinionIpAddressesResponse.class, NETWORK_IPADDRS_TIMEOUT),
+        Map<String, JsonNode> ipAddressesByMinion = new HashMap<>();
+        measure(() -> sc.runStreaming(Glob.ALL, "network.ipaddrs", NETWORK_IPADDRS_TIMEOUT, ipAddressesByMinion::put),
                 LOGGER, "Network IP address call took {}ms");
+        MinionIpAddressesResponse minionIpAddressesResponse = new MinionIpAddressesResponse();
+        minionIpAddressesResponse.setResult(List.of(ipAddressesByMinion));
         LOGGER.debug("Minion ip response: {}", minionIpAddressesResponse);
         return minionIpAddressesResponse;
     }
@@ -303,16 +305,12 @@ public class SaltStates {
     }
 
     private static Map<String, Map<String, String>> getSinglePackageVersion(SaltConnector sc, String singlePackage, Optional<String> versionPattern) {
-        PackageVersionResponse packageVersionResponse = measure(() -> sc.run(Glob.ALL, "pkg.version", LOCAL, PackageVersionResponse.class, singlePackage),
-                LOGGER, "Get package version took {}ms for package [{}] with pattern [{}]", singlePackage, versionPattern);
-        Map<String, String> packageVersionsMap =
-                CollectionUtils.isEmpty(packageVersionResponse.getResult()) ? new HashMap<>() : packageVersionResponse.getResult().get(0);
         Map<String, Map<String, String>> result = new HashMap<>();
-        for (Entry<String, String> e : packageVersionsMap.entrySet()) {
+        measure(() -> sc.runStreaming(Glob.ALL, "pkg.version", null, (minion, version) -> {
             Map<String, String> versionMap = new HashMap<>();
-            versionMap.put(singlePackage, parseVersion(e.getValue(), versionPattern));
-            result.put(e.getKey(), versionMap);
-        }
+            versionMap.put(singlePackage, parseVersion(version.asText(), versionPattern));
+            result.put(minion, versionMap);
+        }, singlePackage), LOGGER, "Get package version took {}ms for package [{}] with pattern [{}]", singlePackage, versionPattern);
         return result;
     }
 
@@ -359,15 +357,26 @@ public class SaltStates {
         });
     }
 
+    public static Map<String, String> getFileHashes(SaltConnector sc, Target<String> target, String path) {
+        CommandExecutionResponse resp = measure(() -> sc.run(target, "file.get_hash", LOCAL, CommandExecutionResponse.class, path, "form=sha256"), LOGGER,
+                "Getting the hash took {}ms for file [{}]", path);
+        List<Map<String, String>> result = resp.getResult();
+        return CollectionUtils.isEmpty(result) ? new HashMap<>() : result.get(0);
+    }
+
+    public static void runOnHostsStreaming(SaltConnector sc, Target<String> target, String fun, BiConsumer<String, JsonNode> minionResultConsumer,
+            String... args) {
+        measure(() -> sc.runStreaming(target, fun, null, minionResultConsumer, args), LOGGER, "Streamed run took {}ms for function [{}]", fun);
+    }
+
     public static Map<String, JsonNode> getGrains(SaltConnector sc, String grain) {
         return getGrains(sc, Glob.ALL, grain);
     }
 
     public static Map<String, JsonNode> getGrains(SaltConnector sc, Target<String> target, String grain) {
-        ApplyResponse resp = measure(() -> sc.run(target, "grains.get", LOCAL, ApplyResponse.class, grain), LOGGER,
-                "GrainsGet took {}ms for grain [{}]", grain);
-        Iterable<Map<String, JsonNode>> result = resp.getResult();
-        return result.iterator().hasNext() ? result.iterator().next() : new HashMap<>();
+        Map<String, JsonNode> grainsByMinion = new HashMap<>();
+        measure(() -> sc.runStreaming(target, "grains.get", null, grainsByMinion::put, grain), LOGGER, "GrainsGet took {}ms for grain [{}]", grain);
+        return grainsByMinion;
     }
 
     public static ApplyResponse applyState(SaltConnector sc, String service, Target<String> target) {
@@ -0,0 +1,203 @@
+package com.sequenceiq.cloudbreak.orchestrator.salt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.sequenceiq.cloudbreak.orchestrator.model.GatewayConfig;
+import com.sequenceiq.cloudbreak.orchestrator.model.GenericResponse;
+import com.sequenceiq.cloudbreak.orchestrator.salt.client.SaltConnector;
+import com.sequenceiq.cloudbreak.orchestrator.salt.client.target.Target;
+import com.sequenceiq.cloudbreak.service.Retry;
+
+@ExtendWith(MockitoExtension.class)
+class SaltFanOutServiceTest {
+
+    private static final String COMMAND = "df -k /";
+
+    private static final Set<String> HOSTS = Set.of("host1", "host2", "host3", "host4");
+
+    private static final String SECONDARY_GATEWAY_URL = "https://secondary:9443";
+
+    @Mock
+    private SaltService saltService;
+
+    @Mock
+    private Retry retry;
+
+    @InjectMocks
+    private SaltFanOutService underTest;
+
+    private final GatewayConfig primaryGateway = mock(GatewayConfig.class);
+
+    private final GatewayConfig secondaryGateway = mock(GatewayConfig.class);
+
+    private final SaltConnector primaryConnector = mock(SaltConnector.class);
+
+    private final SaltConnector secondaryConnector = mock(SaltConnector.class);
+
+    private final List<GatewayConfig> gateways = List.of(primaryGateway, secondaryGateway);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(underTest, "enabled", true);
+        ReflectionTestUtils.setField(underTest, "parallelism", 2);
+        ReflectionTestUtils.setField(underTest, "queueSize", 2);
+        ReflectionTestUtils.setField(underTest, "gatewayHealthCacheSeconds", 60L);
+        underTest.init();
+        when(retry.testWith2SecDelayMax15Times(any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        when(saltService.getPrimaryGatewayConfig(gateways)).thenReturn(primaryGateway);
+        when(saltService.createSaltConnector(primaryGateway)).thenReturn(primaryConnector);
+        answerWithHostOutputs(primaryConnector);
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.shutdown();
+    }
+
+    @Test
+    void testHostsAreSpreadAcrossTheHealthyGateways() throws Exception {
+        when(primaryGateway.isPrimary()).thenReturn(true);
+        when(secondaryGateway.getGatewayUrl()).thenReturn(SECONDARY_GATEWAY_URL);
+        when(saltService.createSaltConnector(secondaryGateway)).thenReturn(secondaryConnector);
+        when(secondaryConnector.health()).thenReturn(healthy());
+        answerWithHostOutputs(secondaryConnector);
+
+        Map<String, String> result = underTest.runCommandOnHosts(gateways, HOSTS, COMMAND);
+
+        assertEquals(HOSTS, result.keySet());
+        assertEquals("output-host1", result.get("host1"));
+        assertEquals(2, captureTargetHosts(primaryConnector, 1).length);
+        assertEquals(2, captureTargetHosts(secondaryConnector, 1).length);
+    }
+
+    @Test
+    void testFailedPartIsRetriedOnThePrimaryGateway() throws Exception {
+        when(primaryGateway.isPrimary()).thenReturn(true);
+        when(secondaryGateway.getGatewayUrl()).thenReturn(SECONDARY_GATEWAY_URL);
+        when(saltService.createSaltConnector(secondaryGateway)).thenReturn(secondaryConnector);
+        when(secondaryConnector.health()).thenReturn(healthy());
+        doThrow(new IllegalStateException("connection reset")).when(secondaryConnector).runStreaming(any(), eq("cmd.run"), isNull(), any(), eq(COMMAND));
+
+        Map<String, String> result = underTest.runCommandOnHosts(gateways, HOSTS, COMMAND);
+
+        assertEquals(HOSTS, result.keySet());
+        captureTargetHosts(primaryConnector, 2);
+    }
+
+    @Test
+    void testUnhealthyGatewayIsLeftOut() throws Exception {
+        when(primaryGateway.isPrimary()).thenReturn(true);
+        when(secondaryGateway.getGatewayUrl()).thenReturn(SECONDARY_GATEWAY_URL);
+        when(saltService.createSaltConnector(secondaryGateway)).thenReturn(secondaryConnector);
+        when(secondaryConnector.health()).thenThrow(new IllegalStateException("gateway is down"));
+
+        Map<String, String> result = underTest.runCommandOnHosts(gateways, HOSTS, COMMAND);
+
+        assertEquals(HOSTS, result.keySet());
+        assertEquals(HOSTS.size(), captureTargetHosts(primaryConnector, 1).length);
+        verify(secondaryConnector, never()).runStreaming(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testGatewayHealthIsCachedBetweenFanOuts() throws Exception {
+        when(primaryGateway.isPrimary()).thenReturn(true);
+        when(secondaryGateway.getGatewayUrl()).thenReturn(SECONDARY_GATEWAY_URL);
+        when(saltService.createSaltConnector(secondaryGateway)).thenReturn(secondaryConnector);
+        when(secondaryConnector.health()).thenReturn(healthy());
+        answerWithHostOutputs(secondaryConnector);
+
+        underTest.runCommandOnHosts(gateways, HOSTS, COMMAND);
+        underTest.runCommandOnHosts(gateways, HOSTS, COMMAND);
+
+        verify(secondaryConnector, times(1)).health();
+        captureTargetHosts(secondaryConnector, 2);
+    }
+
+    @Test
+    void testGatewayWhichFailedAPartIsLeftOutOfTheNextFanOut() throws Exception {
+        when(primaryGateway.isPrimary()).thenReturn(true);
+        when(secondaryGateway.getGatewayUrl()).thenReturn(SECONDARY_GATEWAY_URL);
+        when(saltService.createSaltConnector(secondaryGateway)).thenReturn(secondaryConnector);
+        when(secondaryConnector.health()).thenReturn(healthy());
+        doThrow(new IllegalStateException("connection reset")).when(secondaryConnector).runStreaming(any(), eq("cmd.run"), isNull(), any(), eq(COMMAND));
+
+        underTest.runCommandOnHosts(gateways, HOSTS, COMMAND);
+        Map<String, String> result = underTest.runCommandOnHosts(gateways, HOSTS, COMMAND);
+
+        assertEquals(HOSTS, result.keySet());
+        verify(secondaryConnector, times(1)).runStreaming(any(), eq("cmd.run"), isNull(), any(), eq(COMMAND));
+        assertEquals(HOSTS.size(), captureTargetHosts(primaryConnector, 3).length);
+    }
+
+    @Test
+    void testOnlyThePrimaryGatewayIsUsedWhenDisabled() throws Exception {
+        ReflectionTestUtils.setField(underTest, "enabled", false);
+
+        Map<String, String> result = underTest.runCommandOnHosts(gateways, HOSTS, COMMAND);
+
+        assertEquals(HOSTS, result.keySet());
+        verify(saltService, never()).createSaltConnector(secondaryGateway);
+    }
+
+    @Test
+    void testFailureOnThePrimaryGatewayFailsTheRetriedAttempt() throws Exception {
+        ReflectionTestUtils.setField(underTest, "enabled", false);
+        doThrow(new IllegalStateException("connection reset")).when(primaryConnector).runStreaming(any(), eq("cmd.run"), isNull(), any(), eq(COMMAND));
+
+        assertThrows(Retry.ActionFailedException.class, () -> underTest.runCommandOnHosts(gateways, HOSTS, COMMAND));
+
+        verify(retry, times(1)).testWith2SecDelayMax15Times(any());
+    }
+
+    private void answerWithHostOutputs(SaltConnector saltConnector) {
+        doAnswer(invocation -> {
+            Target<String> target = invocation.getArgument(0);
+            BiConsumer<String, JsonNode> minionResultConsumer = invocation.getArgument(3);
+            for (String host : target.getTarget().split(",")) {
+                minionResultConsumer.accept(host, new TextNode("output-" + host));
+            }
+            return null;
+        }).when(saltConnector).runStreaming(any(), eq("cmd.run"), isNull(), any(), eq(COMMAND));
+    }
+
+    private String[] captureTargetHosts(SaltConnector saltConnector, int invocations) {
+        ArgumentCaptor<Target<String>> targetCaptor = ArgumentCaptor.forClass(Target.class);
+        verify(saltConnector, times(invocations)).runStreaming(targetCaptor.capture(), eq("cmd.run"), isNull(), any(), eq(COMMAND));
+        return targetCaptor.getValue().getTarget().split(",");
+    }
+
+    private GenericResponse healthy() {
+        GenericResponse response = new GenericResponse();
+        response.setStatusCode(200);
+        return response;
+    }
+}
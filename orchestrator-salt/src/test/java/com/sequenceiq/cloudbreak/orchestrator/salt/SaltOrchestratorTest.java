@@ -58,6 +58,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.google.common.collect.Lists;
+import com.google.common.hash.Hashing;
 import com.sequenceiq.cloudbreak.common.orchestration.Node;
 import com.sequenceiq.cloudbreak.common.orchestration.OrchestrationNode;
 import com.sequenceiq.cloudbreak.common.service.HostDiscoveryService;
@@ -195,6 +196,22 @@ public class SaltOrchestratorTest {
                 eq(Collections.singletonList(gatewayConfig)), eq(targets), eq(bootstrapParams));
     }
 
+    @Test
+    public void bootstrapNewNodesSkipsUploadOfUnchangedSaltConfig() throws Exception {
+        whenNew(SaltBootstrap.class).withAnyArguments().thenReturn(mock(SaltBootstrap.class));
+        BootstrapParams bootstrapParams = mock(BootstrapParams.class);
+        byte[] stateConfigZip = "salt-states".getBytes();
+        Whitebox.setInternalState(saltOrchestrator, "skipUnchangedSaltStateUpload", true);
+        PowerMockito.mockStatic(SaltStates.class);
+        PowerMockito.when(SaltStates.getFileHashes(eq(saltConnector), any(), eq("/srv/salt.zip")))
+                .thenReturn(Map.of("10-0-0-1", Hashing.sha256().hashBytes(stateConfigZip).toString()));
+
+        saltOrchestrator.bootstrapNewNodes(Collections.singletonList(gatewayConfig), targets, targets, stateConfigZip, bootstrapParams, exitCriteriaModel);
+
+        // master_sign.pem, master_sign.pub and bootstrap, salt.zip is not uploaded again
+        verify(saltRunner, times(3)).runner(any(OrchestratorBootstrap.class), any(ExitCriteria.class), any(ExitCriteriaModel.class));
+    }
+
     @Test
     public void runServiceTest() throws Exception {
         whenNew(SaltBootstrap.class).withAnyArguments().thenReturn(mock(SaltBootstrap.class));
@@ -0,0 +1,169 @@
+package com.sequenceiq.cloudbreak.orchestrator.salt.client.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sequenceiq.cloudbreak.orchestrator.model.GatewayConfig;
+import com.sequenceiq.cloudbreak.orchestrator.salt.client.SaltConnector;
+
+class SaltJobEventStreamTest {
+
+    private static final String JID = "20210101000000000001";
+
+    private static final long WAIT_MILLIS = 500L;
+
+    private static final long RECONNECT_DELAY_MILLIS = 10000L;
+
+    private static final long SHORT_RECONNECT_DELAY_MILLIS = 10L;
+
+    private static final long CONNECT_TIMEOUT_SECONDS = 5L;
+
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+    private PipedOutputStream events;
+
+    private SaltJobEventStream underTest;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        events = new PipedOutputStream();
+        SaltConnector saltConnector = mock(SaltConnector.class);
+        when(saltConnector.openEventStream()).thenReturn(new PipedInputStream(events));
+        underTest = new SaltJobEventStream("gateway", gatewayConfig -> saltConnector, executorService, WAIT_MILLIS, RECONNECT_DELAY_MILLIS);
+        underTest.setGatewayConfig(mock(GatewayConfig.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.close();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void testWatchIsSignaledWhenTheJobReturnedOnEveryMinion() throws Exception {
+        try (SaltJobWatch watch = awaitWatch(JID)) {
+            sendEvent("salt/job/" + JID + "/new", "{\"jid\":\"" + JID + "\",\"minions\":[\"host1\",\"host2\"]}");
+            sendEvent("salt/job/" + JID + "/ret/host1", "{\"jid\":\"" + JID + "\",\"id\":\"host1\"}");
+            sendEvent("salt/job/" + JID + "/ret/host2", "{\"jid\":\"" + JID + "\",\"id\":\"host2\"}");
+
+            assertTrue(watch.awaitReturn());
+        }
+    }
+
+    @Test
+    void testWatchIsNotSignaledWhileMinionsArePending() throws Exception {
+        try (SaltJobWatch watch = awaitWatch(JID)) {
+            sendEvent("salt/job/" + JID + "/new", "{\"jid\":\"" + JID + "\",\"minions\":[\"host1\",\"host2\"]}");
+            sendEvent("salt/job/" + JID + "/ret/host1", "{\"jid\":\"" + JID + "\",\"id\":\"host1\"}");
+            sendEvent("salt/job/other/ret/host2", "{\"jid\":\"other\",\"id\":\"host2\"}");
+
+            assertFalse(watch.awaitReturn());
+        }
+    }
+
+    @Test
+    void testEveryReturnSignalsTheWatchWithoutStartEvent() throws Exception {
+        try (SaltJobWatch watch = awaitWatch(JID)) {
+            sendEvent("salt/job/" + JID + "/ret/host1", "{\"jid\":\"" + JID + "\",\"id\":\"host1\"}");
+
+            assertTrue(watch.awaitReturn());
+        }
+    }
+
+    @Test
+    void testWatchFallsBackToPollingWhenTheStreamDrops() throws Exception {
+        try (SaltJobWatch watch = awaitWatch(JID)) {
+            events.close();
+
+            assertFalse(watch.awaitReturn());
+            assertTrue(underTest.watch(JID).isEmpty());
+        }
+    }
+
+    @Test
+    void testConnectorIsReusedWhenTheStreamReconnects() throws Exception {
+        underTest.close();
+        PipedOutputStream firstEvents = new PipedOutputStream();
+        PipedOutputStream secondEvents = new PipedOutputStream();
+        SaltConnector saltConnector = mock(SaltConnector.class);
+        when(saltConnector.openEventStream()).thenReturn(new PipedInputStream(firstEvents), new PipedInputStream(secondEvents));
+        AtomicInteger createdConnectors = new AtomicInteger();
+        underTest = new SaltJobEventStream("gateway", gatewayConfig -> {
+            createdConnectors.incrementAndGet();
+            return saltConnector;
+        }, executorService, WAIT_MILLIS, SHORT_RECONNECT_DELAY_MILLIS);
+        underTest.setGatewayConfig(mock(GatewayConfig.class));
+        events = secondEvents;
+
+        try (SaltJobWatch watchOfFirstConnection = awaitWatch(JID)) {
+            firstEvents.close();
+
+            assertFalse(watchOfFirstConnection.awaitReturn());
+        }
+        try (SaltJobWatch watch = awaitWatch(JID)) {
+            sendEvent("salt/job/" + JID + "/ret/host1", "{\"jid\":\"" + JID + "\",\"id\":\"host1\"}");
+
+            assertTrue(watch.awaitReturn());
+        }
+        assertEquals(1, createdConnectors.get());
+        verify(saltConnector, never()).close();
+    }
+
+    @Test
+    void testConnectorIsRecreatedWhenTheStreamCannotBeOpened() throws Exception {
+        underTest.close();
+        SaltConnector failingConnector = mock(SaltConnector.class);
+        when(failingConnector.openEventStream()).thenThrow(new IllegalStateException("Failed to open salt event stream, status: 401"));
+        SaltConnector saltConnector = mock(SaltConnector.class);
+        when(saltConnector.openEventStream()).thenReturn(new PipedInputStream(events));
+        Queue<SaltConnector> connectors = new ConcurrentLinkedQueue<>(List.of(failingConnector, saltConnector));
+        underTest = new SaltJobEventStream("gateway", gatewayConfig -> connectors.poll(), executorService, WAIT_MILLIS, SHORT_RECONNECT_DELAY_MILLIS);
+        underTest.setGatewayConfig(mock(GatewayConfig.class));
+
+        try (SaltJobWatch watch = awaitWatch(JID)) {
+            sendEvent("salt/job/" + JID + "/ret/host1", "{\"jid\":\"" + JID + "\",\"id\":\"host1\"}");
+
+            assertTrue(watch.awaitReturn());
+        }
+        verify(failingConnector).close();
+        assertTrue(connectors.isEmpty());
+    }
+
+    private SaltJobWatch awaitWatch(String jid) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(CONNECT_TIMEOUT_SECONDS);
+        Optional<SaltJobWatch> watch = underTest.watch(jid);
+        while (watch.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10L);
+            watch = underTest.watch(jid);
+        }
+        return watch.orElseThrow();
+    }
+
+    private void sendEvent(String tag, String data) throws IOException {
+        String event = "tag: " + tag + "\ndata: {\"tag\":\"" + tag + "\",\"data\":" + data + "}\n\n";
+        events.write(event.getBytes(StandardCharsets.UTF_8));
+        events.flush();
+    }
+}
@@ -9,6 +9,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -24,6 +25,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -68,8 +70,11 @@ public class SaltBootstrapTest {
         when(saltConnector.action(any(SaltAction.class))).thenReturn(genericResponses);
 
         minionIpAddressesResponse = new MinionIpAddressesResponse();
-        when(saltConnector.run(any(), ArgumentMatchers.eq("network.ipaddrs"), any(), any(), anyLong()))
-                .thenReturn(minionIpAddressesResponse);
+        doAnswer(invocation -> {
+            BiConsumer<String, JsonNode> minionResultConsumer = invocation.getArgument(3);
+            minionIpAddressesResponse.getResult().forEach(ipAddressesForMinions -> ipAddressesForMinions.forEach(minionResultConsumer));
+            return null;
+        }).when(saltConnector).runStreaming(any(), ArgumentMatchers.eq("network.ipaddrs"), anyLong(), any());
     }
 
     @Test
@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.Before;
@@ -41,6 +42,7 @@ import com.sequenceiq.cloudbreak.orchestrator.exception.CloudbreakOrchestratorIn
 import com.sequenceiq.cloudbreak.orchestrator.exception.CloudbreakOrchestratorTerminateException;
 import com.sequenceiq.cloudbreak.orchestrator.salt.SaltErrorResolver;
 import com.sequenceiq.cloudbreak.orchestrator.salt.client.SaltConnector;
+import com.sequenceiq.cloudbreak.orchestrator.salt.client.event.SaltJobWatch;
 import com.sequenceiq.cloudbreak.orchestrator.salt.client.target.Target;
 import com.sequenceiq.cloudbreak.orchestrator.salt.domain.JobId;
 import com.sequenceiq.cloudbreak.orchestrator.salt.domain.JobState;
@@ -158,6 +160,19 @@ public class SaltJobIdTrackerTest {
         }
     }
 
+    private SaltJobRunner createInProgressSaltJobRunner(SaltConnector saltConnector, String jobId) {
+        SaltJobRunner saltJobRunner = Mockito.mock(BaseSaltJobRunner.class);
+        when(saltJobRunner.getJid()).thenReturn(JobId.jobId(jobId));
+        when(saltJobRunner.getJobState()).thenCallRealMethod();
+        doCallRealMethod().when(saltJobRunner).setJobState(any());
+        when(saltJobRunner.getTargetHostnames()).thenReturn(Sets.newHashSet("10.0.0.1", "10.0.0.2"));
+        SaltErrorResolver saltErrorResolver = Mockito.mock(SaltErrorResolver.class);
+        when(saltConnector.getSaltErrorResolver()).thenReturn(saltErrorResolver);
+        when(saltErrorResolver.resolveErrorMessages(any())).thenReturn(ArrayListMultimap.create());
+        saltJobRunner.setJobState(JobState.IN_PROGRESS);
+        return saltJobRunner;
+    }
+
     private void checkTargets(Set<String> targets, List<Target<String>> allValues) {
         for (Target<String> allValue : allValues) {
             for (String target : targets) {
@@ -241,6 +256,79 @@ public class SaltJobIdTrackerTest {
         checkTargets(targets, targetCaptor.getAllValues());
     }
 
+    @Test
+    public void callWithInProgressAndJobReturnedOnTheEventStream() throws Exception {
+        String jobId = "1";
+        SaltConnector saltConnector = Mockito.mock(SaltConnector.class);
+        SaltJobWatch saltJobWatch = Mockito.mock(SaltJobWatch.class);
+        when(saltConnector.watchJob(jobId)).thenReturn(Optional.of(saltJobWatch));
+        when(saltJobWatch.awaitReturn()).thenReturn(true);
+        SaltJobRunner saltJobRunner = createInProgressSaltJobRunner(saltConnector, jobId);
+
+        PowerMockito.mockStatic(SaltStates.class);
+        PowerMockito.when(SaltStates.jobIsRunning(any(), any())).thenReturn(true, false);
+        PowerMockito.when(SaltStates.jidInfo(any(), any(), any())).thenReturn(ArrayListMultimap.create());
+
+        SaltJobIdTracker underTest = new SaltJobIdTracker(saltConnector, saltJobRunner);
+        assertTrue(underTest.call());
+
+        assertEquals(JobState.FINISHED, saltJobRunner.getJobState());
+        PowerMockito.verifyStatic(SaltStates.class, times(2));
+        SaltStates.jobIsRunning(any(), eq(jobId));
+        verify(saltJobWatch, times(1)).awaitReturn();
+        verify(saltJobWatch).close();
+    }
+
+    @Test
+    public void callWithInProgressAndEventStreamDroppedChecksTheJobAgain() throws Exception {
+        String jobId = "1";
+        SaltConnector saltConnector = Mockito.mock(SaltConnector.class);
+        SaltJobWatch saltJobWatch = Mockito.mock(SaltJobWatch.class);
+        when(saltConnector.watchJob(jobId)).thenReturn(Optional.of(saltJobWatch));
+        when(saltJobWatch.awaitReturn()).thenReturn(false);
+        when(saltJobWatch.isStreamDropped()).thenReturn(true);
+        SaltJobRunner saltJobRunner = createInProgressSaltJobRunner(saltConnector, jobId);
+
+        PowerMockito.mockStatic(SaltStates.class);
+        PowerMockito.when(SaltStates.jobIsRunning(any(), any())).thenReturn(true, false);
+        PowerMockito.when(SaltStates.jidInfo(any(), any(), any())).thenReturn(ArrayListMultimap.create());
+
+        SaltJobIdTracker underTest = new SaltJobIdTracker(saltConnector, saltJobRunner);
+        assertTrue(underTest.call());
+
+        assertEquals(JobState.FINISHED, saltJobRunner.getJobState());
+        PowerMockito.verifyStatic(SaltStates.class, times(2));
+        SaltStates.jobIsRunning(any(), eq(jobId));
+        verify(saltJobWatch).close();
+    }
+
+    @Test
+    public void callWithInProgressAndNoReturnEventInTheWaitBudget() throws Exception {
+        String jobId = "1";
+        SaltConnector saltConnector = Mockito.mock(SaltConnector.class);
+        SaltJobWatch saltJobWatch = Mockito.mock(SaltJobWatch.class);
+        when(saltConnector.watchJob(jobId)).thenReturn(Optional.of(saltJobWatch));
+        when(saltJobWatch.awaitReturn()).thenReturn(false);
+        when(saltJobWatch.isStreamDropped()).thenReturn(false);
+        SaltJobRunner saltJobRunner = createInProgressSaltJobRunner(saltConnector, jobId);
+
+        PowerMockito.mockStatic(SaltStates.class);
+        PowerMockito.when(SaltStates.jobIsRunning(any(), any())).thenReturn(true);
+
+        SaltJobIdTracker underTest = new SaltJobIdTracker(saltConnector, saltJobRunner);
+        try {
+            underTest.call();
+            fail("should throw exception");
+        } catch (CloudbreakOrchestratorInProgressException e) {
+            assertThat(e.getMessage(), containsString("Target:"));
+        }
+
+        assertEquals(JobState.IN_PROGRESS, saltJobRunner.getJobState());
+        PowerMockito.verifyStatic(SaltStates.class, times(1));
+        SaltStates.jobIsRunning(any(), eq(jobId));
+        verify(saltJobWatch).close();
+    }
+
     @Test
     public void callWithInProgressAndMissingNodes() throws Exception {
         String jobId = "1";
@@ -11,6 +11,9 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -28,6 +31,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 import org.apache.commons.io.IOUtils;
@@ -42,7 +46,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.collect.Lists;
+import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.collect.Multimap;
 import com.sequenceiq.cloudbreak.orchestrator.exception.CloudbreakOrchestratorFailedException;
 import com.sequenceiq.cloudbreak.orchestrator.salt.client.SaltActionType;
@@ -56,7 +60,6 @@ import com.sequenceiq.cloudbreak.orchestrator.salt.domain.CommandExecutionRespon
 import com.sequenceiq.cloudbreak.orchestrator.salt.domain.FullNodeResponse;
 import com.sequenceiq.cloudbreak.orchestrator.salt.domain.JidInfoResponse;
 import com.sequenceiq.cloudbreak.orchestrator.salt.domain.Minion;
-import com.sequenceiq.cloudbreak.orchestrator.salt.domain.PackageVersionResponse;
 import com.sequenceiq.cloudbreak.orchestrator.salt.domain.PingResponse;
 import com.sequenceiq.cloudbreak.orchestrator.salt.domain.RunningJobsResponse;
 import com.sequenceiq.cloudbreak.orchestrator.salt.domain.SaltAction;
@@ -314,17 +317,27 @@ public class SaltStatesTest {
         assertThat(minionAddresses, containsInAnyOrder("10.0.0.1", "10.0.0.2", "10.0.0.3"));
     }
 
+    @Test
+    public void testGetGrainsCollectsTheStreamedMinionResults() {
+        doAnswer(invocation -> {
+            BiConsumer<String, JsonNode> minionResultConsumer = invocation.getArgument(3);
+            minionResultConsumer.accept("host1", new TextNode("manager_server"));
+            minionResultConsumer.accept("host2", new TextNode("manager_agent"));
+            return null;
+        }).when(saltConnector).runStreaming(eq(target), eq("grains.get"), isNull(), any(), eq("roles"));
+
+        Map<String, JsonNode> grains = SaltStates.getGrains(saltConnector, target, "roles");
+
+        assertEquals(Map.of("host1", new TextNode("manager_server"), "host2", new TextNode("manager_agent")), grains);
+    }
+
     @Test
     public void testGetPackageVersionsWithOnePackage() {
         // GIVEN
-        List<Map<String, String>> pkgVersionList = new ArrayList<>();
         Map<String, String> pkgVersionsOnHosts = new HashMap<>();
         pkgVersionsOnHosts.put("host1", "1.0");
         pkgVersionsOnHosts.put("host2", "2.0");
-        pkgVersionList.add(pkgVersionsOnHosts);
-        PackageVersionResponse resp = new PackageVersionResponse();
-        resp.setResult(pkgVersionList);
-        when(saltConnector.run(Glob.ALL, "pkg.version", LOCAL, PackageVersionResponse.class, "package")).thenReturn(resp);
+        answerPackageVersions("package", pkgVersionsOnHosts);
 
         Map<String, Optional<String>> packages = new HashMap<>();
         packages.put("package", Optional.empty());
@@ -343,10 +356,7 @@ public class SaltStatesTest {
     @Test
     public void testGetPackageVersionWithOnePackageShouldReturnEmptyMapWhenTheListIsEmptyInResponse() {
         // GIVEN
-        List<Map<String, String>> pkgVersionsList = new ArrayList<>();
-        PackageVersionResponse resp = new PackageVersionResponse();
-        resp.setResult(pkgVersionsList);
-        when(saltConnector.run(Glob.ALL, "pkg.version", LOCAL, PackageVersionResponse.class, "package")).thenReturn(resp);
+        answerPackageVersions("package", Map.of());
 
         Map<String, Optional<String>> packages = new HashMap<>();
         packages.put("package", Optional.empty());
@@ -376,12 +386,8 @@ public class SaltStatesTest {
         Map<String, String> pkgVersionsOnHost2Resp = new HashMap<>();
         pkgVersionsOnHost2Resp.put("host1", "2.0-3.0A13466743");
         pkgVersionsOnHost2Resp.put("host2", "3.0-3.0A13466743");
-        PackageVersionResponse resp1 = new PackageVersionResponse();
-        resp1.setResult(Lists.newArrayList(pkgVersionsOnHost1Resp));
-        PackageVersionResponse resp2 = new PackageVersionResponse();
-        resp2.setResult(Lists.newArrayList(pkgVersionsOnHost2Resp));
-        when(saltConnector.run(Glob.ALL, "pkg.version", LOCAL, PackageVersionResponse.class, "package1")).thenReturn(resp1);
-        when(saltConnector.run(Glob.ALL, "pkg.version", LOCAL, PackageVersionResponse.class, "package2")).thenReturn(resp2);
+        answerPackageVersions("package1", pkgVersionsOnHost1Resp);
+        answerPackageVersions("package2", pkgVersionsOnHost2Resp);
 
         Map<String, Optional<String>> packages = new HashMap<>();
         packages.put("package1", Optional.empty());
@@ -396,9 +402,8 @@ public class SaltStatesTest {
     @Test
     public void testGetPackageVersionWithMorePackagesShouldReturnEmptyMapWhenTheListIsEmptyInResponse() {
         // GIVEN
-        PackageVersionResponse resp = new PackageVersionResponse();
-        when(saltConnector.run(Glob.ALL, "pkg.version", LOCAL, PackageVersionResponse.class, "package1")).thenReturn(resp);
-        when(saltConnector.run(Glob.ALL, "pkg.version", LOCAL, PackageVersionResponse.class, "package2")).thenReturn(resp);
+        answerPackageVersions("package1", Map.of());
+        answerPackageVersions("package2", Map.of());
 
         Map<String, Optional<String>> packages = new HashMap<>();
         packages.put("package1", Optional.empty());
@@ -414,7 +419,7 @@ public class SaltStatesTest {
     public void testGetPackageVersionsThrowsRuntimeException() {
         // GIVEN
         RuntimeException exception = new RuntimeException();
-        when(saltConnector.run(Glob.ALL, "pkg.version", LOCAL, PackageVersionResponse.class, "package1")).thenThrow(exception);
+        doThrow(exception).when(saltConnector).runStreaming(eq(Glob.ALL), eq("pkg.version"), isNull(), any(), eq("package1"));
         // WHEN
         try {
             Map<String, Optional<String>> packages = new HashMap<>();
@@ -493,4 +498,11 @@ public class SaltStatesTest {
         assertEquals("Salt run command failed", actionFailedException.getMessage());
     }
 
+    private void answerPackageVersions(String packageName, Map<String, String> versionsByHost) {
+        doAnswer(invocation -> {
+            BiConsumer<String, JsonNode> minionResultConsumer = invocation.getArgument(3);
+            versionsByHost.forEach((host, version) -> minionResultConsumer.accept(host, new TextNode(version)));
+            return null;
+        }).when(saltConnector).runStreaming(eq(Glob.ALL), eq("pkg.version"), isNull(), any(), eq(packageName));
+    }
 }
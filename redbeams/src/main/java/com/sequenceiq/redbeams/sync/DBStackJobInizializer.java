@@ -10,12 +10,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import com.sequenceiq.cloudbreak.quartz.model.JobInitializer;
 import com.sequenceiq.cloudbreak.quartz.model.JobResource;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.StatusCheckerJobInitializer;
 import com.sequenceiq.redbeams.service.stack.DBStackService;
 
 @Component
-public class DBStackJobInizializer implements JobInitializer {
+public class DBStackJobInizializer implements StatusCheckerJobInitializer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DBStackJobInizializer.class);
 
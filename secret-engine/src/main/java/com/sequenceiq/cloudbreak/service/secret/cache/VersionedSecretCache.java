@@ -0,0 +1,83 @@
+package com.sequenceiq.cloudbreak.service.secret.cache;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.vault.support.Versioned;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * In-process cache of the secrets read from or written to a versioned key-value engine. Every entry remembers the version it was read at, and
+ * an entry is only replaced by the same or a newer version, so a slow read finishing after a write cannot bring back the overwritten value.
+ */
+@Component
+public class VersionedSecretCache {
+
+    @Value("${secret.cache.max.entries:10000}")
+    private long maxEntries;
+
+    @Value("${secret.cache.ttl.seconds:5}")
+    private long timeToLiveSeconds;
+
+    private Cache<String, CachedSecret> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = CacheBuilder.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(timeToLiveSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<String> get(String path) {
+        return Optional.ofNullable(cache.getIfPresent(path)).map(CachedSecret::getValue);
+    }
+
+    public void put(String path, String value, Versioned.Version version) {
+        CachedSecret cachedSecret = new CachedSecret(value, version.getVersion());
+        cache.asMap().merge(path, cachedSecret, (current, updated) -> updated.getVersion() >= current.getVersion() ? updated : current);
+    }
+
+    public void invalidate(String path) {
+        cache.invalidate(path);
+    }
+
+    public void invalidateAllWithPrefix(String pathPrefix) {
+        cache.asMap().keySet().removeIf(path -> path.startsWith(pathPrefix));
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    private static class CachedSecret {
+
+        private final String value;
+
+        private final int version;
+
+        CachedSecret(String value, int version) {
+            this.value = value;
+            this.version = version;
+        }
+
+        String getValue() {
+            return value;
+        }
+
+        int getVersion() {
+            return version;
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.sequenceiq.cloudbreak.service.secret.service;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -33,8 +37,9 @@ public class SecretAspectService {
 
     public Object proceedSave(ProceedingJoinPoint proceedingJoinPoint) {
         Collection<Object> entities = convertFirstArgToCollection(proceedingJoinPoint);
-        for (Object entity : entities) {
-            try {
+        List<PendingSecret> pendingSecrets = new ArrayList<>();
+        try {
+            for (Object entity : entities) {
                 for (Field field : entity.getClass().getDeclaredFields()) {
                     if (field.isAnnotationPresent(SecretValue.class)) {
                         LOGGER.debug("Found SecretValue annotation on {}", field);
@@ -45,20 +50,19 @@ public class SecretAspectService {
                             String path = String.format("%s/%s/%s/%s-%s", accountId,
                                     entity.getClass().getSimpleName().toLowerCase(), field.getName().toLowerCase(),
                                     UUID.randomUUID(), Long.toHexString(System.currentTimeMillis()));
-                            String secret = secretService.put(path, value.getRaw());
-                            LOGGER.debug("Field: '{}' is saved at path: {}", field.getName(), path);
-                            field.set(entity, new SecretProxy(secretService, secret));
+                            pendingSecrets.add(new PendingSecret(entity, field, path, value.getRaw()));
                         }
                     }
                 }
-            } catch (IllegalArgumentException e) {
-                LOGGER.error("Given entity isn't instance of {}. Secret is not updated!",
-                        AccountIdAwareResource.class.getSimpleName(), e);
-                throw new SecretOperationException(e.getMessage());
-            } catch (Exception e) {
-                LOGGER.warn("Looks like something went wrong with Secret store. Secret is not updated!", e);
-                throw new SecretOperationException(e.getMessage());
             }
+            saveSecrets(pendingSecrets);
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Given entity isn't instance of {}. Secret is not updated!",
+                    AccountIdAwareResource.class.getSimpleName(), e);
+            throw new SecretOperationException(e.getMessage());
+        } catch (Exception e) {
+            LOGGER.warn("Looks like something went wrong with Secret store. Secret is not updated!", e);
+            throw new SecretOperationException(e.getMessage());
         }
 
         Object proceed;
@@ -124,6 +128,17 @@ public class SecretAspectService {
         return arg instanceof Collection ? (Collection<Object>) arg : Collections.singleton(arg);
     }
 
+    private void saveSecrets(List<PendingSecret> pendingSecrets) throws Exception {
+        if (pendingSecrets.isEmpty()) {
+            return;
+        }
+        Map<String, String> secrets = secretService.putAll(pendingSecrets.stream().collect(Collectors.toMap(PendingSecret::getPath, PendingSecret::getRaw)));
+        for (PendingSecret pendingSecret : pendingSecrets) {
+            LOGGER.debug("Field: '{}' is saved at path: {}", pendingSecret.getField().getName(), pendingSecret.getPath());
+            pendingSecret.getField().set(pendingSecret.getEntity(), new SecretProxy(secretService, secrets.get(pendingSecret.getPath())));
+        }
+    }
+
     private String findAccountId(Object entity) throws IllegalArgumentException {
         if (entity != null) {
             if (entity instanceof AccountIdAwareResource) {
@@ -140,4 +155,38 @@ public class SecretAspectService {
             throw new IllegalArgumentException("The entity is null");
         }
     }
+
+    private static class PendingSecret {
+
+        private final Object entity;
+
+        private final Field field;
+
+        private final String path;
+
+        private final String raw;
+
+        PendingSecret(Object entity, Field field, String path, String raw) {
+            this.entity = entity;
+            this.field = field;
+            this.path = path;
+            this.raw = raw;
+        }
+
+        Object getEntity() {
+            return entity;
+        }
+
+        Field getField() {
+            return field;
+        }
+
+        String getPath() {
+            return path;
+        }
+
+        String getRaw() {
+            return raw;
+        }
+    }
 }
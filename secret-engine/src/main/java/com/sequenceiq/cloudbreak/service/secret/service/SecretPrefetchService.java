@@ -0,0 +1,112 @@
+package com.sequenceiq.cloudbreak.service.secret.service;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.inject.Inject;
+import javax.persistence.Embedded;
+import javax.persistence.ManyToMany;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.OneToOne;
+import javax.persistence.Persistence;
+import javax.persistence.PersistenceUtil;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.sequenceiq.cloudbreak.service.secret.SecretValue;
+import com.sequenceiq.cloudbreak.service.secret.domain.Secret;
+
+/**
+ * Reads every {@link SecretValue} of an already loaded entity graph with one parallel bulk read, so the lazily resolved secret proxies of the
+ * graph are served from the cache of the secret engine instead of one sequential read each. Associations which are not loaded yet are skipped,
+ * the prefetch never triggers a database query.
+ */
+@Service
+public class SecretPrefetchService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SecretPrefetchService.class);
+
+    private static final int MAX_DEPTH = 5;
+
+    private static final PersistenceUtil PERSISTENCE_UTIL = Persistence.getPersistenceUtil();
+
+    @Value("${secret.prefetch.enabled:false}")
+    private boolean prefetchEnabled;
+
+    private final SecretService secretService;
+
+    @Inject
+    public SecretPrefetchService(SecretService secretService) {
+        this.secretService = secretService;
+    }
+
+    public void prefetch(Object entity) {
+        if (!prefetchEnabled || entity == null) {
+            return;
+        }
+        Set<String> secrets = new HashSet<>();
+        collectSecrets(entity, Collections.newSetFromMap(new IdentityHashMap<>()), secrets, 0);
+        if (!secrets.isEmpty()) {
+            long start = System.currentTimeMillis();
+            try {
+                secretService.getAll(secrets);
+                LOGGER.debug("Prefetched {} secrets of {} in {} ms", secrets.size(), entity.getClass().getSimpleName(), System.currentTimeMillis() - start);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to prefetch the secrets of {}, they will be read one by one", entity.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    private void collectSecrets(Object entity, Set<Object> visited, Set<String> secrets, int depth) {
+        if (entity == null || depth > MAX_DEPTH || !visited.add(entity) || !PERSISTENCE_UTIL.isLoaded(entity)) {
+            return;
+        }
+        if (entity instanceof Collection) {
+            ((Collection<?>) entity).forEach(element -> collectSecrets(element, visited, secrets, depth));
+        } else if (entity instanceof Map) {
+            ((Map<?, ?>) entity).values().forEach(value -> collectSecrets(value, visited, secrets, depth));
+        } else {
+            for (Class<?> type = entity.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+                for (Field field : type.getDeclaredFields()) {
+                    collectSecrets(entity, field, visited, secrets, depth);
+                }
+            }
+        }
+    }
+
+    private void collectSecrets(Object entity, Field field, Set<Object> visited, Set<String> secrets, int depth) {
+        boolean secretField = field.isAnnotationPresent(SecretValue.class);
+        if (!secretField && !isAssociation(field)) {
+            return;
+        }
+        Object value;
+        try {
+            field.setAccessible(true);
+            value = field.get(entity);
+        } catch (IllegalAccessException | RuntimeException e) {
+            LOGGER.debug("Field {} is not readable, it is skipped from secret prefetch", field, e);
+            return;
+        }
+        if (secretField) {
+            if (value instanceof Secret && ((Secret) value).getSecret() != null) {
+                secrets.add(((Secret) value).getSecret());
+            }
+        } else {
+            collectSecrets(value, visited, secrets, depth + 1);
+        }
+    }
+
+    private boolean isAssociation(Field field) {
+        return field.isAnnotationPresent(OneToOne.class) || field.isAnnotationPresent(ManyToOne.class) || field.isAnnotationPresent(OneToMany.class)
+                || field.isAnnotationPresent(ManyToMany.class) || field.isAnnotationPresent(Embedded.class);
+    }
+}
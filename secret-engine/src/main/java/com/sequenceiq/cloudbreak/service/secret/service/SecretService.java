@@ -3,11 +3,21 @@ package com.sequenceiq.cloudbreak.service.secret.service;
 import static java.lang.String.format;
 
 import java.security.InvalidKeyException;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,10 +26,13 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
 import com.sequenceiq.cloudbreak.common.metrics.MetricService;
 import com.sequenceiq.cloudbreak.common.metrics.type.MetricType;
+import com.sequenceiq.cloudbreak.logger.concurrent.MDCCleanerThreadPoolExecutor;
 import com.sequenceiq.cloudbreak.service.secret.SecretEngine;
+import com.sequenceiq.cloudbreak.service.secret.SecretOperationException;
 import com.sequenceiq.cloudbreak.service.secret.conf.VaultConfig;
 import com.sequenceiq.cloudbreak.service.secret.model.SecretResponse;
 import com.sequenceiq.cloudbreak.service.secret.vault.VaultKvV1Engine;
@@ -35,6 +48,9 @@ public class SecretService {
     @Value("${secret.engine:}")
     private String engineClass;
 
+    @Value("${secret.operation.parallelism:8}")
+    private int parallelism;
+
     private final MetricService metricService;
 
     private final List<SecretEngine> engines;
@@ -43,6 +59,8 @@ public class SecretService {
 
     private final VaultRetryService vaultRetryService;
 
+    private MDCCleanerThreadPoolExecutor secretOperationExecutor;
+
     public SecretService(MetricService metricService, List<SecretEngine> engines, VaultRetryService vaultRetryService) {
         this.metricService = metricService;
         this.engines = engines;
@@ -55,6 +73,15 @@ public class SecretService {
             persistentEngine = engines.stream().filter(e -> e.getClass().getCanonicalName().startsWith(engineClass)).findFirst()
                     .orElseThrow(() -> new RuntimeException(format("Selected secret engine (%s) is not found, please check secret.engine", engineClass)));
         }
+        secretOperationExecutor = new MDCCleanerThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("secret-operation-%d").setDaemon(true).build(), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (secretOperationExecutor != null) {
+            secretOperationExecutor.shutdownNow();
+        }
     }
 
     /**
@@ -108,6 +135,33 @@ public class SecretService {
         return "null".equals(response) ? null : response;
     }
 
+    /**
+     * Stores the secrets in Secret's key-value store in parallel.
+     *
+     * @param valuesByKey Secret contents by the path where they will be stored
+     * @return The stored secrets by path
+     * @throws Exception is thrown in case any of the key-value keys already contains a secret or the write fails
+     */
+    public Map<String, String> putAll(Map<String, String> valuesByKey) throws Exception {
+        return runInParallel(valuesByKey.keySet(), key -> put(key, valuesByKey.get(key)));
+    }
+
+    /**
+     * Fetches the secrets from Secret's store in parallel, which also warms the cache of the engines for the following reads of the same secrets.
+     *
+     * @param secrets Key-value secrets in Secret
+     * @return Secret contents by secret, the content is null if the secret is not found
+     */
+    public Map<String, String> getAll(Collection<String> secrets) {
+        try {
+            return runInParallel(secrets.stream().filter(Objects::nonNull).collect(Collectors.toSet()), this::get);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SecretOperationException(e);
+        }
+    }
+
     /**
      * Fetches the secret from Secret's store. If the secret is not found then null is returned.
      * If the secret is null then null is returned.
@@ -180,9 +234,36 @@ public class SecretService {
                 .orElse(null);
     }
 
+    private <T> Map<String, T> runInParallel(Collection<String> keys, SecretOperation<T> operation) throws Exception {
+        Map<String, CompletableFuture<T>> futures = new HashMap<>();
+        for (String key : keys) {
+            futures.put(key, CompletableFuture.supplyAsync(() -> {
+                try {
+                    return operation.apply(key);
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, secretOperationExecutor));
+        }
+        Map<String, T> result = new HashMap<>();
+        try {
+            for (Map.Entry<String, CompletableFuture<T>> future : futures.entrySet()) {
+                result.put(future.getKey(), future.getValue().join());
+            }
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+        return result;
+    }
+
     private String convertSecretToMetric(String secret) {
         return getFirstEngineStream(secret)
                 .map(e -> e.scarifySecret(secret))
                 .orElse(null);
     }
+
+    @FunctionalInterface
+    private interface SecretOperation<T> {
+        T apply(String key) throws Exception;
+    }
 }
@@ -11,12 +11,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 import org.springframework.vault.core.VaultTemplate;
 import org.springframework.vault.support.Versioned;
 
+import com.sequenceiq.cloudbreak.service.secret.cache.VersionedSecretCache;
 import com.sequenceiq.cloudbreak.service.secret.conf.VaultConfig;
 import com.sequenceiq.cloudbreak.service.secret.model.SecretResponse;
 
@@ -34,15 +33,19 @@ public class VaultKvV2Engine extends AbstractVaultEngine<VaultKvV2Engine> {
 
     private VaultTemplate template;
 
-    public VaultKvV2Engine(VaultTemplate template) {
+    private VersionedSecretCache secretCache;
+
+    public VaultKvV2Engine(VaultTemplate template, VersionedSecretCache secretCache) {
         this.template = template;
+        this.secretCache = secretCache;
     }
 
     @Override
     public String put(String path, String value) {
         LOGGER.info("Storing secret to {}", path);
         VaultSecret secret = convertToVaultSecret(enginePath, appPath + path);
-        template.opsForVersionedKeyValue(enginePath).put(secret.getPath(), Collections.singletonMap("secret", value));
+        Versioned.Metadata metadata = template.opsForVersionedKeyValue(enginePath).put(secret.getPath(), Collections.singletonMap("secret", value));
+        secretCache.put(cacheKey(secret), value, metadata.getVersion());
         return gson().toJson(secret);
     }
 
@@ -55,18 +58,16 @@ public class VaultKvV2Engine extends AbstractVaultEngine<VaultKvV2Engine> {
     }
 
     @Override
-    @Cacheable(cacheNames = "vaultCache")
     public String get(@NotNull String secret) {
-        return Optional.ofNullable(convertToVaultSecret(secret)).map(s -> {
-            Versioned<Map<String, Object>> response = template.opsForVersionedKeyValue(s.getEnginePath()).get(s.getPath());
-            return response != null && response.getData() != null ? String.valueOf(response.getData().get("secret")) : null;
-        }).orElse(null);
+        return Optional.ofNullable(convertToVaultSecret(secret)).map(s -> secretCache.get(cacheKey(s)).orElseGet(() -> read(s))).orElse(null);
     }
 
     @Override
-    @CacheEvict(cacheNames = "vaultCache", allEntries = true)
     public void delete(String secret) {
-        Optional.ofNullable(convertToVaultSecret(secret)).ifPresent(s -> deleteAllVersionsOfSecret(s.getEnginePath(), s.getPath()));
+        Optional.ofNullable(convertToVaultSecret(secret)).ifPresent(s -> {
+            deleteAllVersionsOfSecret(s.getEnginePath(), s.getPath());
+            secretCache.invalidate(cacheKey(s));
+        });
     }
 
     @Override
@@ -86,9 +87,23 @@ public class VaultKvV2Engine extends AbstractVaultEngine<VaultKvV2Engine> {
     }
 
     @Override
-    @CacheEvict(cacheNames = "vaultCache", allEntries = true)
     public void cleanup(String path) {
         deleteAllVersionsOfSecret(enginePath, appPath + path);
+        secretCache.invalidateAllWithPrefix(enginePath + '/' + appPath + path);
+    }
+
+    private String read(VaultSecret secret) {
+        Versioned<Map<String, Object>> response = template.opsForVersionedKeyValue(secret.getEnginePath()).get(secret.getPath());
+        if (response == null || response.getData() == null) {
+            return null;
+        }
+        String value = String.valueOf(response.getData().get("secret"));
+        secretCache.put(cacheKey(secret), value, response.getVersion());
+        return value;
+    }
+
+    private String cacheKey(VaultSecret secret) {
+        return secret.getEnginePath() + '/' + secret.getPath();
     }
 
     private void deleteAllVersionsOfSecret(String engingPath, String path) {
@@ -0,0 +1,63 @@
+package com.sequenceiq.cloudbreak.service.secret.cache;
+
+import java.util.Optional;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.vault.support.Versioned;
+
+public class VersionedSecretCacheTest {
+
+    private static final String PATH = "cb/app/secret";
+
+    private final VersionedSecretCache underTest = new VersionedSecretCache();
+
+    @Before
+    public void setup() {
+        ReflectionTestUtils.setField(underTest, "maxEntries", 100L);
+        ReflectionTestUtils.setField(underTest, "timeToLiveSeconds", 60L);
+        underTest.init();
+    }
+
+    @Test
+    public void testGetCountsHitsAndMisses() {
+        Assert.assertEquals(Optional.empty(), underTest.get(PATH));
+
+        underTest.put(PATH, "value", Versioned.Version.from(1));
+
+        Assert.assertEquals(Optional.of("value"), underTest.get(PATH));
+        Assert.assertEquals(1L, underTest.getHitCount());
+        Assert.assertEquals(1L, underTest.getMissCount());
+    }
+
+    @Test
+    public void testNewerVersionReplacesTheCachedSecret() {
+        underTest.put(PATH, "old", Versioned.Version.from(1));
+
+        underTest.put(PATH, "new", Versioned.Version.from(2));
+
+        Assert.assertEquals(Optional.of("new"), underTest.get(PATH));
+    }
+
+    @Test
+    public void testOlderVersionDoesNotReplaceTheCachedSecret() {
+        underTest.put(PATH, "new", Versioned.Version.from(2));
+
+        underTest.put(PATH, "old", Versioned.Version.from(1));
+
+        Assert.assertEquals(Optional.of("new"), underTest.get(PATH));
+    }
+
+    @Test
+    public void testInvalidateAllWithPrefixKeepsOtherPaths() {
+        underTest.put(PATH, "value", Versioned.Version.from(1));
+        underTest.put("cb/other/secret", "other", Versioned.Version.from(1));
+
+        underTest.invalidateAllWithPrefix("cb/app/");
+
+        Assert.assertEquals(Optional.empty(), underTest.get(PATH));
+        Assert.assertEquals(Optional.of("other"), underTest.get("cb/other/secret"));
+    }
+}
@@ -1,9 +1,16 @@
 package com.sequenceiq.cloudbreak.service.secret.service;
 
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.Signature;
 import org.aspectj.lang.reflect.SourceLocation;
@@ -40,15 +47,34 @@ public class SecretAspectServiceTest {
         VaultTest vaultTest = new VaultTest("justice-league", "super");
         VaultTestProceedingJoinPoint proceedingJoinPoint = new VaultTestProceedingJoinPoint(vaultTest);
 
-        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<String> valueCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Map<String, String>> secretsCaptor = ArgumentCaptor.forClass(Map.class);
+
+        when(secretService.putAll(secretsCaptor.capture())).then(i -> Map.of(secretsCaptor.getValue().keySet().iterator().next(), "secret"));
+
+        underTest.proceedSave(proceedingJoinPoint);
+
+        Map.Entry<String, String> secret = secretsCaptor.getValue().entrySet().iterator().next();
+        Assert.assertTrue(secret.getKey().startsWith("justice-league/vaulttest/power/"));
+        Assert.assertEquals(secret.getValue(), "super");
+        Assert.assertEquals("secret", vaultTest.getPower().getSecret());
+    }
+
+    @Test
+    public void testVaultPutWhenMultipleEntitiesAreSavedThenSecretsMustBeWrittenInOneBatch() throws Exception {
+        VaultTest batman = new VaultTest("justice-league", "money");
+        VaultTest superman = new VaultTest("justice-league", "super");
+        VaultTestProceedingJoinPoint proceedingJoinPoint = new VaultTestProceedingJoinPoint(List.of(batman, superman));
 
-        when(secretService.put(keyCaptor.capture(), valueCaptor.capture())).thenReturn("");
+        when(secretService.putAll(anyMap())).then(i -> {
+            Map<String, String> secrets = i.getArgument(0);
+            return secrets.keySet().stream().collect(Collectors.toMap(Function.identity(), path -> "secret-" + secrets.get(path)));
+        });
 
         underTest.proceedSave(proceedingJoinPoint);
 
-        Assert.assertTrue(keyCaptor.getValue().startsWith("justice-league/vaulttest/power/"));
-        Assert.assertEquals(valueCaptor.getValue(), "super");
+        verify(secretService, times(1)).putAll(anyMap());
+        Assert.assertEquals("secret-money", batman.getPower().getSecret());
+        Assert.assertEquals("secret-super", superman.getPower().getSecret());
     }
 
     @Test
@@ -67,7 +93,7 @@ public class SecretAspectServiceTest {
         VaultTest vaultTest = new VaultTest("justice-league", "super");
         VaultTestProceedingJoinPoint proceedingJoinPoint = new VaultTestProceedingJoinPoint(vaultTest);
 
-        when(secretService.put(anyString(), anyString())).thenThrow(new RuntimeException("runtime"));
+        when(secretService.putAll(anyMap())).thenThrow(new RuntimeException("runtime"));
 
         thrown.expect(SecretOperationException.class);
         thrown.expectMessage("runtime");
@@ -0,0 +1,106 @@
+package com.sequenceiq.cloudbreak.service.secret.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sequenceiq.cloudbreak.service.secret.SecretValue;
+import com.sequenceiq.cloudbreak.service.secret.domain.Secret;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SecretPrefetchServiceTest {
+
+    @Mock
+    private SecretService secretService;
+
+    @InjectMocks
+    private SecretPrefetchService underTest;
+
+    @Before
+    public void setup() {
+        ReflectionTestUtils.setField(underTest, "prefetchEnabled", true);
+    }
+
+    @Test
+    public void testPrefetchReadsEverySecretOfTheGraphWithOneBulkRead() {
+        TestParent parent = new TestParent(new Secret(null, "parent-secret"));
+        parent.children.add(new TestChild(new Secret(null, "child-secret-1"), parent));
+        parent.children.add(new TestChild(new Secret(null, "child-secret-2"), parent));
+
+        underTest.prefetch(parent);
+
+        verify(secretService, times(1)).getAll(Set.of("parent-secret", "child-secret-1", "child-secret-2"));
+    }
+
+    @Test
+    public void testSecretsWithoutVaultPathAreNotPrefetched() {
+        TestParent parent = new TestParent(new Secret("raw"));
+        parent.children.add(new TestChild(new Secret(null, "child-secret"), parent));
+
+        underTest.prefetch(parent);
+
+        verify(secretService, times(1)).getAll(Set.of("child-secret"));
+    }
+
+    @Test
+    public void testPrefetchIsSkippedWhenDisabled() {
+        ReflectionTestUtils.setField(underTest, "prefetchEnabled", false);
+
+        underTest.prefetch(new TestParent(new Secret(null, "parent-secret")));
+
+        verify(secretService, never()).getAll(any());
+    }
+
+    @Test
+    public void testFailedPrefetchIsNotPropagated() {
+        when(secretService.getAll(any())).thenThrow(new RuntimeException("Vault is not available"));
+
+        underTest.prefetch(new TestParent(new Secret(null, "parent-secret")));
+
+        verify(secretService, times(1)).getAll(Set.of("parent-secret"));
+    }
+
+    private static class TestParent {
+
+        @SecretValue
+        private final Secret password;
+
+        @OneToMany
+        private final List<TestChild> children = new ArrayList<>();
+
+        TestParent(Secret password) {
+            this.password = password;
+        }
+    }
+
+    private static class TestChild {
+
+        @SecretValue
+        private final Secret password;
+
+        @ManyToOne
+        private final TestParent parent;
+
+        TestChild(Secret password, TestParent parent) {
+            this.password = password;
+            this.parent = parent;
+        }
+    }
+}
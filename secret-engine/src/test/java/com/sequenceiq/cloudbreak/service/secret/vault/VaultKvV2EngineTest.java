@@ -1,10 +1,15 @@
 package com.sequenceiq.cloudbreak.service.secret.vault;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -18,6 +23,7 @@ import org.springframework.vault.core.VaultVersionedKeyValueOperations;
 import org.springframework.vault.support.Versioned;
 
 import com.google.gson.Gson;
+import com.sequenceiq.cloudbreak.service.secret.cache.VersionedSecretCache;
 import com.sequenceiq.cloudbreak.service.secret.model.SecretResponse;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -40,6 +46,9 @@ public class VaultKvV2EngineTest {
     @Mock
     private Versioned<Map<String, Object>> vaultResponse;
 
+    @Mock
+    private VersionedSecretCache secretCache;
+
     @Before
     public void setup() {
         when(template.opsForVersionedKeyValue(anyString())).thenReturn(vaultVersionedKeyValueOperations);
@@ -102,6 +111,15 @@ public class VaultKvV2EngineTest {
         when(vaultVersionedKeyValueOperations.get(anyString())).thenReturn(vaultResponse);
 
         Assert.assertEquals("secret/path", underTest.get(gson.toJson(secret)));
+        verify(secretCache).put(eq("cb/" + secret.getPath()), eq("secret/path"), any());
+    }
+
+    @Test
+    public void testGetFromCache() {
+        when(secretCache.get("cb/" + secret.getPath())).thenReturn(Optional.of("cached/path"));
+
+        Assert.assertEquals("cached/path", underTest.get(gson.toJson(secret)));
+        verify(vaultVersionedKeyValueOperations, never()).get(anyString());
     }
 
     @Test
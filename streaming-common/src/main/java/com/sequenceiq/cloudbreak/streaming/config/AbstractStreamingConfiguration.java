@@ -8,10 +8,17 @@ public abstract class AbstractStreamingConfiguration {
 
     private final int queueSizeLimit;
 
+    private final StreamingBatchConfiguration batchConfiguration;
+
     public AbstractStreamingConfiguration(boolean enabled, int numberOfWorkers, int queueSizeLimit) {
+        this(enabled, numberOfWorkers, queueSizeLimit, new StreamingBatchConfiguration());
+    }
+
+    public AbstractStreamingConfiguration(boolean enabled, int numberOfWorkers, int queueSizeLimit, StreamingBatchConfiguration batchConfiguration) {
         this.enabled = enabled;
         this.numberOfWorkers = numberOfWorkers;
         this.queueSizeLimit = queueSizeLimit;
+        this.batchConfiguration = batchConfiguration != null ? batchConfiguration : new StreamingBatchConfiguration();
     }
 
     public boolean isEnabled() {
@@ -25,4 +32,8 @@ public abstract class AbstractStreamingConfiguration {
     public int getQueueSizeLimit() {
         return queueSizeLimit;
     }
+
+    public StreamingBatchConfiguration getBatchConfiguration() {
+        return batchConfiguration;
+    }
 }
@@ -0,0 +1,98 @@
+package com.sequenceiq.cloudbreak.streaming.config;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Batching and disk spill settings of a record processor. By default records are sent one by one and the records that do not fit into the
+ * processing queues are dropped.
+ */
+public class StreamingBatchConfiguration {
+
+    private static final int DEFAULT_MAX_BYTES = 1024 * 1024;
+
+    private static final long DEFAULT_MAX_DELAY_MILLIS = 1000L;
+
+    private static final long DEFAULT_SPILL_MAX_BYTES = 256L * 1024 * 1024;
+
+    private static final long DEFAULT_SPILL_SEGMENT_BYTES = 4L * 1024 * 1024;
+
+    private static final long DEFAULT_SPILL_RETRY_INTERVAL_MILLIS = 10000L;
+
+    private int maxRecords = 1;
+
+    private int maxBytes = DEFAULT_MAX_BYTES;
+
+    private long maxDelayMillis = DEFAULT_MAX_DELAY_MILLIS;
+
+    private String spillDirectory;
+
+    private long spillMaxBytes = DEFAULT_SPILL_MAX_BYTES;
+
+    private long spillSegmentBytes = DEFAULT_SPILL_SEGMENT_BYTES;
+
+    private long spillRetryIntervalMillis = DEFAULT_SPILL_RETRY_INTERVAL_MILLIS;
+
+    public int getMaxRecords() {
+        return maxRecords;
+    }
+
+    public void setMaxRecords(int maxRecords) {
+        this.maxRecords = maxRecords;
+    }
+
+    public int getMaxBytes() {
+        return maxBytes;
+    }
+
+    public void setMaxBytes(int maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public long getMaxDelayMillis() {
+        return maxDelayMillis;
+    }
+
+    public void setMaxDelayMillis(long maxDelayMillis) {
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    public String getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    public void setSpillDirectory(String spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+
+    public long getSpillMaxBytes() {
+        return spillMaxBytes;
+    }
+
+    public void setSpillMaxBytes(long spillMaxBytes) {
+        this.spillMaxBytes = spillMaxBytes;
+    }
+
+    public long getSpillSegmentBytes() {
+        return spillSegmentBytes;
+    }
+
+    public void setSpillSegmentBytes(long spillSegmentBytes) {
+        this.spillSegmentBytes = spillSegmentBytes;
+    }
+
+    public long getSpillRetryIntervalMillis() {
+        return spillRetryIntervalMillis;
+    }
+
+    public void setSpillRetryIntervalMillis(long spillRetryIntervalMillis) {
+        this.spillRetryIntervalMillis = spillRetryIntervalMillis;
+    }
+
+    public boolean isBatchingEnabled() {
+        return maxRecords > 1;
+    }
+
+    public boolean isSpillEnabled() {
+        return StringUtils.isNotBlank(spillDirectory);
+    }
+}
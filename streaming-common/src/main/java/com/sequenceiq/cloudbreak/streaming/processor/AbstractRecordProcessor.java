@@ -1,16 +1,21 @@
 package com.sequenceiq.cloudbreak.streaming.processor;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.sequenceiq.cloudbreak.streaming.config.AbstractStreamingConfiguration;
+import com.sequenceiq.cloudbreak.streaming.config.StreamingBatchConfiguration;
 import com.sequenceiq.cloudbreak.streaming.model.RecordRequest;
 import com.sequenceiq.cloudbreak.streaming.model.StreamProcessingException;
 
@@ -39,6 +44,8 @@ public abstract class AbstractRecordProcessor<C extends AbstractStreamingConfigu
 
     private final C configuration;
 
+    private RecordSpillLog spillLog;
+
     public AbstractRecordProcessor(C configuration) {
         this.configuration = configuration;
         this.numberOfWorkers = configuration.getNumberOfWorkers();
@@ -79,13 +86,24 @@ public abstract class AbstractRecordProcessor<C extends AbstractStreamingConfigu
             LOGGER.debug("Configuration failed for {} processing.", getServiceName());
         } else {
             LOGGER.debug("Starting record worker for {} processing service.", getServiceName());
+            spillLog = createSpillLog(configuration.getBatchConfiguration());
             RoundRobinStreamProcessingQueues<C, R, W> processingQueues = new RoundRobinStreamProcessingQueues<>(
-                    numberOfWorkers, queueSizeLimit, this);
+                    numberOfWorkers, queueSizeLimit, this, spillLog);
             processingQueuesRef.set(processingQueues);
             getProcessingQueues().startWorkers();
         }
     }
 
+    /**
+     * Flush the records spilled to disk, so they can be processed after a restart.
+     */
+    @PreDestroy
+    public void destroy() {
+        if (spillLog != null) {
+            spillLog.close();
+        }
+    }
+
     /**
      * Creating a new custom worker (client operations needs to be implemented in the worker)
      * @param threadName thread name of the worker that is calculsted by the round robin processing queue.
@@ -123,6 +141,18 @@ public abstract class AbstractRecordProcessor<C extends AbstractStreamingConfigu
         LOGGER.warn(String.format("Unexpected exception during stream record processing [skip] - input: %s", input), e);
     }
 
+    /**
+     * Returns the processor as a {@link SpillableRecordProcessor} if its records can be spilled to disk.
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<SpillableRecordProcessor<R>> getSpillableProcessor() {
+        return this instanceof SpillableRecordProcessor ? Optional.of((SpillableRecordProcessor<R>) this) : Optional.empty();
+    }
+
+    public Optional<RecordSpillLog> getSpillLog() {
+        return Optional.ofNullable(spillLog);
+    }
+
     public boolean isProcessingEnabled() {
         return processingEnabled.get();
     }
@@ -144,6 +174,19 @@ public abstract class AbstractRecordProcessor<C extends AbstractStreamingConfigu
         return configuration;
     }
 
+    private RecordSpillLog createSpillLog(StreamingBatchConfiguration batchConfiguration) {
+        RecordSpillLog recordSpillLog = null;
+        if (batchConfiguration != null && batchConfiguration.isSpillEnabled() && getSpillableProcessor().isPresent()) {
+            Path directory = Path.of(batchConfiguration.getSpillDirectory(), getServiceName().toLowerCase());
+            try {
+                recordSpillLog = new RecordSpillLog(directory, batchConfiguration.getSpillMaxBytes(), batchConfiguration.getSpillSegmentBytes());
+            } catch (IOException e) {
+                LOGGER.warn("Spill log cannot be created in {} for {} processing, records will be dropped instead.", directory, getServiceName(), e);
+            }
+        }
+        return recordSpillLog;
+    }
+
     private boolean messageIsNotEmpty(R input) {
         return input != null &&
                 (rawMessageIsNotEmpty(input) || input.getMessageBody().isPresent());
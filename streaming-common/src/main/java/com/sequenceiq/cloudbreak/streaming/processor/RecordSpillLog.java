@@ -0,0 +1,189 @@
+package com.sequenceiq.cloudbreak.streaming.processor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded, gzip compressed on-disk log of serialized records, used for the records that cannot be processed when they arrive.
+ * The log is split into segments, records are appended to the newest segment and read back segment by segment, oldest first.
+ * Segments left behind by a previous run are picked up when the log is created.
+ */
+public class RecordSpillLog {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RecordSpillLog.class);
+
+    private static final String SEGMENT_SUFFIX = ".segment";
+
+    private static final String SEGMENT_NAME_FORMAT = "%019d" + SEGMENT_SUFFIX;
+
+    private final Path directory;
+
+    private final long maxBytes;
+
+    private final long maxSegmentBytes;
+
+    private final Deque<Segment> segments = new ArrayDeque<>();
+
+    private DataOutputStream currentOutput;
+
+    private Segment currentSegment;
+
+    private long totalBytes;
+
+    private long nextSegmentId;
+
+    public RecordSpillLog(Path directory, long maxBytes, long maxSegmentBytes) throws IOException {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.maxSegmentBytes = maxSegmentBytes;
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().collect(Collectors.toList())) {
+                Segment segment = new Segment(file, Files.size(file));
+                segments.add(segment);
+                totalBytes += segment.bytes;
+                nextSegmentId = Math.max(nextSegmentId, parseSegmentId(file) + 1);
+            }
+        }
+        if (!segments.isEmpty()) {
+            LOGGER.info("Found {} spilled record segments ({} bytes) in {}", segments.size(), totalBytes, directory);
+        }
+    }
+
+    /**
+     * Appends a record to the log.
+     * @return false if the record does not fit into the log or it cannot be written
+     */
+    public synchronized boolean append(byte[] record) {
+        long recordBytes = (long) record.length + Integer.BYTES;
+        if (totalBytes + recordBytes > maxBytes) {
+            return false;
+        }
+        try {
+            if (currentOutput == null) {
+                openSegment();
+            }
+            currentOutput.writeInt(record.length);
+            currentOutput.write(record);
+            currentSegment.bytes += recordBytes;
+            totalBytes += recordBytes;
+            if (currentSegment.bytes >= maxSegmentBytes) {
+                closeSegment();
+            }
+            return true;
+        } catch (IOException e) {
+            LOGGER.warn("Record cannot be written to the spill log {}", directory, e);
+            return false;
+        }
+    }
+
+    /**
+     * Removes the oldest segment from the log and returns its records. Returns an empty list if the log is empty.
+     */
+    public synchronized List<byte[]> pollSegment() {
+        if (segments.isEmpty() && currentOutput != null) {
+            closeSegment();
+        }
+        Segment segment = segments.poll();
+        if (segment == null) {
+            return List.of();
+        }
+        totalBytes -= segment.bytes;
+        List<byte[]> records = readSegment(segment.path);
+        try {
+            Files.deleteIfExists(segment.path);
+        } catch (IOException e) {
+            LOGGER.warn("Spilled record segment {} cannot be deleted", segment.path, e);
+        }
+        return records;
+    }
+
+    public synchronized boolean isEmpty() {
+        return totalBytes == 0;
+    }
+
+    public synchronized long getSizeInBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Flushes the segment being written, its records are read back by the next log created on the same directory.
+     */
+    public synchronized void close() {
+        if (currentOutput != null) {
+            closeSegment();
+        }
+    }
+
+    private void openSegment() throws IOException {
+        Path path = directory.resolve(String.format(SEGMENT_NAME_FORMAT, nextSegmentId++));
+        currentOutput = new DataOutputStream(new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(path))));
+        currentSegment = new Segment(path, 0L);
+    }
+
+    private void closeSegment() {
+        try {
+            currentOutput.close();
+        } catch (IOException e) {
+            LOGGER.warn("Spilled record segment {} cannot be closed", currentSegment.path, e);
+        }
+        segments.add(currentSegment);
+        currentOutput = null;
+        currentSegment = null;
+    }
+
+    private List<byte[]> readSegment(Path path) {
+        List<byte[]> records = new ArrayList<>();
+        try (DataInputStream input = new DataInputStream(new GZIPInputStream(new BufferedInputStream(Files.newInputStream(path))))) {
+            while (true) {
+                int length = input.readInt();
+                byte[] record = new byte[length];
+                input.readFully(record);
+                records.add(record);
+            }
+        } catch (EOFException e) {
+            LOGGER.trace("End of spilled record segment {}", path);
+        } catch (IOException e) {
+            LOGGER.warn("Spilled record segment {} cannot be read completely, {} records are recovered", path, records.size(), e);
+        }
+        return records;
+    }
+
+    private long parseSegmentId(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private static class Segment {
+
+        private final Path path;
+
+        private long bytes;
+
+        Segment(Path path, long bytes) {
+            this.path = path;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -1,17 +1,30 @@
 package com.sequenceiq.cloudbreak.streaming.processor;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.protobuf.GeneratedMessageV3;
 import com.sequenceiq.cloudbreak.streaming.config.AbstractStreamingConfiguration;
+import com.sequenceiq.cloudbreak.streaming.config.StreamingBatchConfiguration;
 import com.sequenceiq.cloudbreak.streaming.model.RecordRequest;
 import com.sequenceiq.cloudbreak.streaming.model.StreamProcessingException;
 
 /**
  * Worker class that should use specific/custom clients for record processing.
  * It process data in order from a blocking queue. Blocking queues and workers has a one-to-one relation.
+ * If batching is configured, the records are taken from the queue in size and time bounded batches, and processed together
+ * by {@link #processRecordBatch(List)}. If a spill log is configured, the records of failed batches are spilled to disk,
+ * and the spilled records are processed again after a batch has been processed successfully, or periodically while the queue is idle.
  * @param <C> type of the streaming configuration.
  * @param <R> type of the request that is processed.
  */
@@ -27,12 +40,15 @@ public abstract class RecordWorker<P extends AbstractRecordProcessor, C extends
 
     private final C configuration;
 
+    private final StreamingMetrics metrics;
+
     public RecordWorker(String name, String serviceName, P recordProcessor, BlockingDeque<R> processingQueue, C configuration) {
         super(name);
         this.serviceName = serviceName;
         this.recordProcessor = recordProcessor;
         this.processingQueue = processingQueue;
         this.configuration = configuration;
+        this.metrics = new StreamingMetrics(serviceName);
     }
 
     @Override
@@ -40,15 +56,9 @@ public abstract class RecordWorker<P extends AbstractRecordProcessor, C extends
         LOGGER.info("Start processing {} records. [name:{}]", serviceName, getName());
         while (true) {
             try {
-                R input = processingQueue.take();
-                try {
-                    processRecordInput(input);
-                } catch (StreamProcessingException e) {
-                    LOGGER.warn("Unexpected error happened during data processing for {} service ", serviceName);
-                    recordProcessor.handleDataStreamingException(input, e);
-                } catch (Exception e) {
-                    LOGGER.warn("Unexpected error happened during data processing for {} service ", serviceName);
-                    recordProcessor.handleUnexpectedException(input, e);
+                List<R> batch = takeBatch();
+                if (batch.isEmpty() || processBatch(batch)) {
+                    processSpilledRecords();
                 }
             } catch (InterruptedException ie) {
                 onInterrupt();
@@ -62,6 +72,19 @@ public abstract class RecordWorker<P extends AbstractRecordProcessor, C extends
         return configuration;
     }
 
+    /**
+     * Processes a batch of records taken from the blocking queue (FIFO). Override this if the client is able to send more records at once.
+     * Default behaviour: process the records one by one with {@link #processRecordInput(RecordRequest)}.
+     * If an exception is thrown, every record of the batch is handled as failed.
+     * @param inputs records from the blocking queue, there is at least one record in the batch
+     * @throws StreamProcessingException throws this exception in case of any kind of error
+     */
+    public void processRecordBatch(List<R> inputs) throws StreamProcessingException {
+        for (R input : inputs) {
+            processRecordInput(input);
+        }
+    }
+
     /**
      * Consumes a record from the blocking queue (FIFO) and processing it with a custom client.
      * @param input incoming record from the blocking queue
@@ -73,4 +96,140 @@ public abstract class RecordWorker<P extends AbstractRecordProcessor, C extends
      * Triggered when the worker thread interrupted. It should cleanup resources or close clients.
      */
     public abstract void onInterrupt();
+
+    /**
+     * Estimated size of a record in bytes, it is used to limit the size of the batches.
+     */
+    protected int estimateSize(R input) {
+        if (input.getRawBody().isPresent()) {
+            return input.getRawBody().get().length();
+        }
+        return input.getMessageBody().map(GeneratedMessageV3::getSerializedSize).orElse(0);
+    }
+
+    /**
+     * Gzip compresses a batch payload.
+     */
+    protected byte[] compress(String payload) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(payload.getBytes(StandardCharsets.UTF_8));
+        }
+        return compressed.toByteArray();
+    }
+
+    private StreamingBatchConfiguration getBatchConfiguration() {
+        StreamingBatchConfiguration batchConfiguration = configuration != null ? configuration.getBatchConfiguration() : null;
+        return batchConfiguration != null ? batchConfiguration : new StreamingBatchConfiguration();
+    }
+
+    /**
+     * Takes the next batch from the queue. While there are spilled records, it waits at most for the spill retry interval,
+     * and returns an empty batch if no record arrived, so the spilled records are processed even without new records.
+     */
+    private List<R> takeBatch() throws InterruptedException {
+        List<R> batch = new ArrayList<>();
+        StreamingBatchConfiguration batchConfiguration = getBatchConfiguration();
+        R first = hasSpilledRecords()
+                ? processingQueue.poll(batchConfiguration.getSpillRetryIntervalMillis(), TimeUnit.MILLISECONDS)
+                : processingQueue.take();
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+        if (batchConfiguration.isBatchingEnabled()) {
+            long batchBytes = estimateSize(first);
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchConfiguration.getMaxDelayMillis());
+            while (batch.size() < batchConfiguration.getMaxRecords()) {
+                R next = processingQueue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    break;
+                }
+                batchBytes += estimateSize(next);
+                if (batchBytes > batchConfiguration.getMaxBytes()) {
+                    processingQueue.offerFirst(next);
+                    break;
+                }
+                batch.add(next);
+            }
+        }
+        return batch;
+    }
+
+    private boolean processBatch(List<R> batch) {
+        try {
+            processRecordBatch(batch);
+            metrics.batchSent(batch.size());
+            return true;
+        } catch (StreamProcessingException e) {
+            LOGGER.warn("Unexpected error happened during data processing for {} service ", serviceName);
+            List<R> notSpilled = spill(batch);
+            metrics.recordsFailed(notSpilled.size());
+            notSpilled.forEach(input -> recordProcessor.handleDataStreamingException(input, e));
+        } catch (Exception e) {
+            LOGGER.warn("Unexpected error happened during data processing for {} service ", serviceName);
+            metrics.recordsFailed(batch.size());
+            batch.forEach(input -> recordProcessor.handleUnexpectedException(input, e));
+        }
+        return false;
+    }
+
+    /**
+     * Reads back the oldest segment of the spill log, and processes its records. If the processing fails again, the records of the failed
+     * batch and the rest of the segment are spilled back.
+     */
+    private void processSpilledRecords() {
+        Optional<RecordSpillLog> spillLog = recordProcessor.getSpillLog();
+        Optional<SpillableRecordProcessor<R>> spillableProcessor = recordProcessor.getSpillableProcessor();
+        if (spillLog.isEmpty() || spillLog.get().isEmpty() || spillableProcessor.isEmpty()) {
+            return;
+        }
+        List<R> spilledRecords = new ArrayList<>();
+        for (byte[] record : spillLog.get().pollSegment()) {
+            try {
+                spilledRecords.add(spillableProcessor.get().fromSpilledRecord(record));
+            } catch (RuntimeException e) {
+                LOGGER.warn("Spilled {} record cannot be restored, skipping it", serviceName, e);
+                metrics.recordsFailed(1);
+            }
+        }
+        LOGGER.debug("Processing {} spilled {} records", spilledRecords.size(), serviceName);
+        int batchSize = Math.max(1, getBatchConfiguration().getMaxRecords());
+        for (int index = 0; index < spilledRecords.size(); index += batchSize) {
+            List<R> batch = spilledRecords.subList(index, Math.min(index + batchSize, spilledRecords.size()));
+            if (!processBatch(batch)) {
+                List<R> remaining = spilledRecords.subList(index + batch.size(), spilledRecords.size());
+                List<R> notSpilled = spill(remaining);
+                metrics.recordsFailed(notSpilled.size());
+                notSpilled.forEach(input -> recordProcessor.handleDroppedRecordRequest(input, configuration.getQueueSizeLimit()));
+                break;
+            }
+        }
+    }
+
+    private boolean hasSpilledRecords() {
+        Optional<RecordSpillLog> spillLog = recordProcessor.getSpillLog();
+        return spillLog.isPresent() && !spillLog.get().isEmpty();
+    }
+
+    /**
+     * Spills the records to disk, returns the records that cannot be spilled.
+     */
+    private List<R> spill(List<R> inputs) {
+        Optional<RecordSpillLog> spillLog = recordProcessor.getSpillLog();
+        Optional<SpillableRecordProcessor<R>> spillableProcessor = recordProcessor.getSpillableProcessor();
+        if (spillLog.isEmpty() || spillableProcessor.isEmpty()) {
+            return inputs;
+        }
+        List<R> notSpilled = new ArrayList<>();
+        for (R input : inputs) {
+            Optional<byte[]> spilledRecord = spillableProcessor.get().toSpilledRecord(input);
+            if (spilledRecord.isPresent() && spillLog.get().append(spilledRecord.get())) {
+                metrics.recordsSpilled(1);
+            } else {
+                notSpilled.add(input);
+            }
+        }
+        return notSpilled;
+    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.sequenceiq.cloudbreak.streaming.processor;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -34,12 +35,26 @@ public class RoundRobinStreamProcessingQueues
 
     private final int sizeLimit;
 
+    private final RecordSpillLog spillLog;
+
+    private final StreamingMetrics metrics;
+
     public RoundRobinStreamProcessingQueues(int numberOfQueues, int sizeLimit, AbstractRecordProcessor<C, R, W> recordProcessor) {
+        this(numberOfQueues, sizeLimit, recordProcessor, null);
+    }
+
+    /**
+     * @param spillLog log that receives the records which do not fit into the processing queues, if null those records are dropped.
+     */
+    public RoundRobinStreamProcessingQueues(int numberOfQueues, int sizeLimit, AbstractRecordProcessor<C, R, W> recordProcessor,
+            RecordSpillLog spillLog) {
         this.numberOfQueues = numberOfQueues > 0 ? numberOfQueues : 1;
         this.sizeLimit = sizeLimit > 0 ? sizeLimit : DEFAULT_SIZE_LIMIT;
         this.workers = new ArrayList<>();
         this.processingQueueList = new ArrayList<>();
         this.recordProcessor = recordProcessor;
+        this.spillLog = spillLog;
+        this.metrics = new StreamingMetrics(recordProcessor.getServiceName());
         initProcessingQueuesAndWorkers();
     }
 
@@ -65,16 +80,31 @@ public class RoundRobinStreamProcessingQueues
 
     /**
      * Put a record into a processing queue. Uses round robin scheduling for picking the queue (for the record location).
+     * If the queue is full, the record is spilled to disk if it is possible, otherwise it is dropped.
      */
     public void process(R input) throws InterruptedException {
         BlockingDeque<R> queue = iterator().next();
         if (queue.size() >= sizeLimit) {
-            recordProcessor.handleDroppedRecordRequest(input, sizeLimit);
+            if (spill(input)) {
+                metrics.recordsSpilled(1);
+            } else {
+                metrics.recordDropped();
+                recordProcessor.handleDroppedRecordRequest(input, sizeLimit);
+            }
         } else {
             queue.put(input);
         }
     }
 
+    private boolean spill(R input) {
+        Optional<SpillableRecordProcessor<R>> spillableProcessor = recordProcessor.getSpillableProcessor();
+        if (spillLog == null || spillableProcessor.isEmpty()) {
+            return false;
+        }
+        Optional<byte[]> spilledRecord = spillableProcessor.get().toSpilledRecord(input);
+        return spilledRecord.isPresent() && spillLog.append(spilledRecord.get());
+    }
+
     List<BlockingDeque<R>> getProcessingQueueList() {
         return processingQueueList;
     }
@@ -0,0 +1,27 @@
+package com.sequenceiq.cloudbreak.streaming.processor;
+
+import java.util.Optional;
+
+import com.sequenceiq.cloudbreak.streaming.model.RecordRequest;
+
+/**
+ * Implement this in a record processor to let its records be spilled to disk (if a spill directory is configured)
+ * instead of dropping them when the processing queues are full or the processing fails.
+ * @param <R> type of the request that is processed.
+ */
+public interface SpillableRecordProcessor<R extends RecordRequest> {
+
+    /**
+     * Serializes a record that cannot be processed now.
+     * @param input record request that cannot be processed now.
+     * @return serialized form of the record or empty if it cannot be spilled
+     */
+    Optional<byte[]> toSpilledRecord(R input);
+
+    /**
+     * Restores a record that has been serialized by {@link #toSpilledRecord(RecordRequest)}.
+     * @param record serialized form of the record
+     * @return record request that is processed again
+     */
+    R fromSpilledRecord(byte[] record);
+}
@@ -0,0 +1,56 @@
+package com.sequenceiq.cloudbreak.streaming.processor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Record throughput and loss counters of a record processor, tagged with the service name of the processor.
+ */
+class StreamingMetrics {
+
+    private static final String RECORDS_METRIC = "streaming.records";
+
+    private static final String BATCH_SIZE_METRIC = "streaming.batch.size";
+
+    private static final String PROCESSOR_TAG = "processor";
+
+    private static final String OUTCOME_TAG = "outcome";
+
+    private final Counter sent;
+
+    private final Counter failed;
+
+    private final Counter dropped;
+
+    private final Counter spilled;
+
+    private final DistributionSummary batchSize;
+
+    StreamingMetrics(String serviceName) {
+        Tags tags = Tags.of(PROCESSOR_TAG, String.valueOf(serviceName));
+        sent = Metrics.counter(RECORDS_METRIC, tags.and(OUTCOME_TAG, "sent"));
+        failed = Metrics.counter(RECORDS_METRIC, tags.and(OUTCOME_TAG, "failed"));
+        dropped = Metrics.counter(RECORDS_METRIC, tags.and(OUTCOME_TAG, "dropped"));
+        spilled = Metrics.counter(RECORDS_METRIC, tags.and(OUTCOME_TAG, "spilled"));
+        batchSize = Metrics.summary(BATCH_SIZE_METRIC, tags);
+    }
+
+    void batchSent(int records) {
+        sent.increment(records);
+        batchSize.record(records);
+    }
+
+    void recordsFailed(int records) {
+        failed.increment(records);
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    void recordsSpilled(int records) {
+        spilled.increment(records);
+    }
+}
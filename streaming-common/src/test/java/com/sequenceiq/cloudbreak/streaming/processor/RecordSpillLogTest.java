@@ -0,0 +1,78 @@
+package com.sequenceiq.cloudbreak.streaming.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RecordSpillLogTest {
+
+    private static final long MAX_BYTES = 100L;
+
+    private static final long MAX_SEGMENT_BYTES = 20L;
+
+    private static final long LARGE_MAX_BYTES = 1000L;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testRecordsAreReadBackSegmentBySegmentInOrder() throws IOException {
+        RecordSpillLog underTest = new RecordSpillLog(directory, MAX_BYTES, MAX_SEGMENT_BYTES);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(underTest.append(record("record" + i)));
+        }
+
+        assertEquals(List.of("record0", "record1"), toStrings(underTest.pollSegment()));
+        assertEquals(List.of("record2", "record3"), toStrings(underTest.pollSegment()));
+        assertEquals(List.of("record4"), toStrings(underTest.pollSegment()));
+        assertTrue(underTest.isEmpty());
+        assertTrue(underTest.pollSegment().isEmpty());
+    }
+
+    @Test
+    public void testRecordsAreRejectedWhenTheLogIsFull() throws IOException {
+        RecordSpillLog underTest = new RecordSpillLog(directory, MAX_BYTES, MAX_SEGMENT_BYTES);
+        int appended = 0;
+        while (underTest.append(record("record" + appended))) {
+            appended++;
+        }
+
+        assertEquals(9, appended);
+        underTest.pollSegment();
+        assertTrue(underTest.append(record("record")));
+    }
+
+    @Test
+    public void testSegmentsAreRecoveredAfterRestart() throws IOException {
+        RecordSpillLog previous = new RecordSpillLog(directory, LARGE_MAX_BYTES, MAX_SEGMENT_BYTES);
+        previous.append(record("record0"));
+        previous.append(record("record1"));
+        previous.append(record("record2"));
+        previous.close();
+
+        RecordSpillLog underTest = new RecordSpillLog(directory, LARGE_MAX_BYTES, MAX_SEGMENT_BYTES);
+        underTest.append(record("record3"));
+
+        assertFalse(underTest.isEmpty());
+        assertEquals(List.of("record0", "record1"), toStrings(underTest.pollSegment()));
+        assertEquals(List.of("record2"), toStrings(underTest.pollSegment()));
+        assertEquals(List.of("record3"), toStrings(underTest.pollSegment()));
+    }
+
+    private byte[] record(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private List<String> toStrings(List<byte[]> records) {
+        return records.stream().map(record -> new String(record, StandardCharsets.UTF_8)).collect(Collectors.toList());
+    }
+}
@@ -3,13 +3,21 @@ package com.sequenceiq.cloudbreak.streaming.processor;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -30,6 +38,12 @@ public class RoundRobinStreamProcessingQueuesTest {
     @Mock
     private RecordWorker recordWorker;
 
+    @Mock
+    private SpillableRecordProcessor<RecordRequest> spillableRecordProcessor;
+
+    @TempDir
+    Path spillDirectory;
+
     @Test
     public void testProcess() throws InterruptedException {
         // GIVEN
@@ -51,6 +65,29 @@ public class RoundRobinStreamProcessingQueuesTest {
         verify(recordProcessor, times(1)).handleDroppedRecordRequest(input, 2);
     }
 
+    @Test
+    public void testProcessSpillsRecordsWhenTheQueueIsFull() throws InterruptedException, IOException {
+        // GIVEN
+        DummyRequest input = new DummyRequest("body", null, new Date().getTime(), true);
+        byte[] spilledRecord = "body".getBytes(StandardCharsets.UTF_8);
+        given(recordProcessor.getServiceName()).willReturn("DummyService");
+        given(recordProcessor.getSpillableProcessor()).willReturn(Optional.of(spillableRecordProcessor));
+        given(spillableRecordProcessor.toSpilledRecord(input)).willReturn(Optional.of(spilledRecord));
+        RecordSpillLog spillLog = new RecordSpillLog(spillDirectory, 1000L, 1000L);
+        RoundRobinStreamProcessingQueues<AbstractStreamingConfiguration, RecordRequest, RecordWorker> underTest =
+                new RoundRobinStreamProcessingQueues<>(1, 1, recordProcessor, spillLog);
+        // WHEN
+        underTest.process(input);
+        underTest.process(input);
+        underTest.process(input);
+        // THEN
+        assertEquals(1, underTest.getProcessingQueueList().get(0).size());
+        assertEquals(List.of("body", "body"), spillLog.pollSegment().stream()
+                .map(record -> new String(record, StandardCharsets.UTF_8))
+                .collect(Collectors.toList()));
+        verify(recordProcessor, never()).handleDroppedRecordRequest(input, 1);
+    }
+
     static class DummyRequest extends RecordRequest {
 
         DummyRequest(String rawBody, GeneratedMessageV3 messageBody, long timestamp, boolean forceRawOutput) {
@@ -79,20 +79,47 @@ public class CmTemplateProcessor implements BlueprintTextProcessor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CmTemplateProcessor.class);
 
-    private final ApiClusterTemplate cmTemplate;
+    private final String cmTemplateText;
+
+    private ApiClusterTemplate cmTemplate;
+
+    private boolean sharedTemplate;
 
     public CmTemplateProcessor(@Nonnull String cmTemplateText) {
+        this.cmTemplateText = cmTemplateText;
+        this.cmTemplate = parse(cmTemplateText);
+    }
+
+    /**
+     * Creates a processor on an already parsed template that may be shared with other processors. The shared template is only read,
+     * it is parsed again from the text before the first modification, or before any part of it is handed out to the caller.
+     */
+    CmTemplateProcessor(@Nonnull String cmTemplateText, @Nonnull ApiClusterTemplate sharedTemplate) {
+        this.cmTemplateText = cmTemplateText;
+        this.cmTemplate = sharedTemplate;
+        this.sharedTemplate = true;
+    }
+
+    static ApiClusterTemplate parse(String cmTemplateText) {
         try {
-            cmTemplate = JsonUtil.readValue(cmTemplateText, ApiClusterTemplate.class);
-            transformHostGroupNameToLowerCase();
+            ApiClusterTemplate template = JsonUtil.readValue(cmTemplateText, ApiClusterTemplate.class);
+            transformHostGroupNameToLowerCase(template);
+            return template;
         } catch (IOException e) {
             throw new BlueprintProcessingException("Failed to parse blueprint text.", e);
         }
     }
 
-    private void transformHostGroupNameToLowerCase() {
-        if (!CollectionUtils.isEmpty(cmTemplate.getHostTemplates())) {
-            cmTemplate.getHostTemplates().forEach(ht -> ht.setRefName(ht.getRefName().toLowerCase()));
+    private static void transformHostGroupNameToLowerCase(ApiClusterTemplate template) {
+        if (!CollectionUtils.isEmpty(template.getHostTemplates())) {
+            template.getHostTemplates().forEach(ht -> ht.setRefName(ht.getRefName().toLowerCase()));
+        }
+    }
+
+    private void ensureWritable() {
+        if (sharedTemplate) {
+            cmTemplate = parse(cmTemplateText);
+            sharedTemplate = false;
         }
     }
 
@@ -398,11 +425,12 @@ public class CmTemplateProcessor implements BlueprintTextProcessor {
     }
 
     public List<ApiClusterTemplateHostTemplate> getHostTemplates() {
+        ensureWritable();
         return cmTemplate.getHostTemplates();
     }
 
     public boolean everyHostTemplateHasRoleConfigGroupsRefNames() {
-        for (ApiClusterTemplateHostTemplate hostTemplate : getHostTemplates()) {
+        for (ApiClusterTemplateHostTemplate hostTemplate : cmTemplate.getHostTemplates()) {
             if (hostTemplate.getRoleConfigGroupsRefNames() == null) {
                 return false;
             }
@@ -434,6 +462,7 @@ public class CmTemplateProcessor implements BlueprintTextProcessor {
     }
 
     public void addInstantiator(ClouderaManagerRepo clouderaManagerRepoDetails, TemplatePreparationObject templatePreparationObject, String sdxContextName) {
+        ensureWritable();
         ApiClusterTemplateInstantiator instantiator = ofNullable(cmTemplate.getInstantiator()).orElseGet(ApiClusterTemplateInstantiator::new);
         if (instantiator.getClusterName() == null) {
             instantiator.setClusterName(templatePreparationObject.getGeneralClusterConfigs().getClusterName());
@@ -474,12 +503,14 @@ public class CmTemplateProcessor implements BlueprintTextProcessor {
     }
 
     public void addVariables(List<ApiClusterTemplateVariable> vars) {
+        ensureWritable();
         for (ApiClusterTemplateVariable v : vars) {
             cmTemplate.getInstantiator().addVariablesItem(v);
         }
     }
 
     public void extendTemplateWithAdditionalServices(Map<String, ApiClusterTemplateService> hostGroupServices) {
+        ensureWritable();
         for (Entry<String, ApiClusterTemplateService> hostGroupService : hostGroupServices.entrySet()) {
             ApiClusterTemplateService service = hostGroupService.getValue();
             List<String> serviceRefNames = service.getRoleConfigGroups().stream()
@@ -672,7 +703,7 @@ public class CmTemplateProcessor implements BlueprintTextProcessor {
     }
 
     public boolean isRoleTypePresentInService(String serviceType, List<String> roleTypes) {
-        return getServiceByType(serviceType).filter(acts -> isAnyRoleTypePresent(acts, roleTypes)).isPresent();
+        return findServiceByType(serviceType).filter(acts -> isAnyRoleTypePresent(acts, roleTypes)).isPresent();
     }
 
     private boolean isAnyRoleTypePresent(ApiClusterTemplateService apiClusterTemplateService, List<String> roleTypes) {
@@ -681,6 +712,11 @@ public class CmTemplateProcessor implements BlueprintTextProcessor {
     }
 
     public Optional<ApiClusterTemplateService> getServiceByType(String serviceType) {
+        ensureWritable();
+        return findServiceByType(serviceType);
+    }
+
+    private Optional<ApiClusterTemplateService> findServiceByType(String serviceType) {
         for (ApiClusterTemplateService service : cmTemplate.getServices()) {
             if (serviceType.equalsIgnoreCase(service.getServiceType())) {
                 return Optional.of(service);
@@ -690,10 +726,12 @@ public class CmTemplateProcessor implements BlueprintTextProcessor {
     }
 
     public ApiClusterTemplate getTemplate() {
+        ensureWritable();
         return cmTemplate;
     }
 
     public void addHosts(Map<String, List<Map<String, String>>> hostGroupMappings) {
+        ensureWritable();
         hostGroupMappings.forEach((hostGroup, hostAttributes) -> hostAttributes.forEach(
                 attr -> cmTemplate.getInstantiator().addHostsItem(new ApiClusterTemplateHostInfo()
                         .hostName(attr.get(ClusterHostAttributes.FQDN))
@@ -704,14 +742,17 @@ public class CmTemplateProcessor implements BlueprintTextProcessor {
     }
 
     public void resetProducts() {
+        ensureWritable();
         cmTemplate.setProducts(new ArrayList<>());
     }
 
     public void resetRepositories() {
+        ensureWritable();
         cmTemplate.setRepositories(new ArrayList<>());
     }
 
     public void addProduct(String product, String version) {
+        ensureWritable();
         ApiProductVersion productVersion = new ApiProductVersion();
         productVersion.setProduct(product);
         productVersion.setVersion(version);
@@ -719,30 +760,37 @@ public class CmTemplateProcessor implements BlueprintTextProcessor {
     }
 
     public void addRepositoryItem(String repositoriesItem) {
+        ensureWritable();
         cmTemplate.addRepositoriesItem(repositoriesItem);
     }
 
     public void setCmVersion(String cmVersion) {
+        ensureWritable();
         cmTemplate.setCmVersion(cmVersion);
     }
 
     public void setCdhVersion(String cdhVersion) {
+        ensureWritable();
         cmTemplate.setCdhVersion(cdhVersion);
     }
 
     public void setDisplayName(String displayName) {
+        ensureWritable();
         cmTemplate.setDisplayName(displayName);
     }
 
     public void setHostTemplates(List<ApiClusterTemplateHostTemplate> hostTemplates) {
+        ensureWritable();
         cmTemplate.setHostTemplates(hostTemplates);
     }
 
     public void setServices(List<ApiClusterTemplateService> services) {
+        ensureWritable();
         cmTemplate.setServices(services);
     }
 
     public void addDiagnosticTags(TemplatePreparationObject templatePreparationObject, ClouderaManagerRepo clouderaManagerRepo) {
+        ensureWritable();
         if (Objects.nonNull(clouderaManagerRepo) && isTagsResourceSupportedViaBlueprint(clouderaManagerRepo)) {
             cmTemplate.addTagsItem(new ApiEntityTag().name("_cldr_cb_origin").value("cloudbreak"));
             cmTemplate.addTagsItem(new ApiEntityTag().name("_cldr_cb_clustertype").value(getClusterType(templatePreparationObject.getStackType())));
@@ -793,6 +841,7 @@ public class CmTemplateProcessor implements BlueprintTextProcessor {
     }
 
     public void removeDanglingVariableReferences() {
+        ensureWritable();
         if (cmTemplate.getServices() != null) {
             Set<String> existingVariables = cmTemplate.getInstantiator() != null && cmTemplate.getInstantiator().getVariables() != null
                     ? cmTemplate.getInstantiator().getVariables().stream()
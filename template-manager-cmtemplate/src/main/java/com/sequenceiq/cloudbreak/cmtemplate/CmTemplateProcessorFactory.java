@@ -1,10 +1,52 @@
 package com.sequenceiq.cloudbreak.cmtemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
 import org.springframework.stereotype.Component;
 
+import com.cloudera.api.swagger.model.ApiClusterTemplate;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Creates the template processors. The parsed templates are cached by the hash of their text and shared by the processors created from the
+ * same text, a processor parses its own copy of the template only when the template is modified or handed out through it.
+ */
 @Component
 public class CmTemplateProcessorFactory {
+
+    private static final long MAX_CACHED_TEMPLATES = 200L;
+
+    private static final long CACHE_EXPIRATION_MINUTES = 60L;
+
+    private final Cache<String, ApiClusterTemplate> parsedTemplates = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_TEMPLATES)
+            .expireAfterAccess(CACHE_EXPIRATION_MINUTES, TimeUnit.MINUTES)
+            .recordStats()
+            .build();
+
     public CmTemplateProcessor get(String cmTemplateText) {
-        return new CmTemplateProcessor(cmTemplateText);
+        if (cmTemplateText == null) {
+            return new CmTemplateProcessor(cmTemplateText);
+        }
+        String key = Hashing.sha256().hashString(cmTemplateText, StandardCharsets.UTF_8).toString();
+        try {
+            return new CmTemplateProcessor(cmTemplateText, parsedTemplates.get(key, () -> CmTemplateProcessor.parse(cmTemplateText)));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @VisibleForTesting
+    long getCacheHitCount() {
+        return parsedTemplates.stats().hitCount();
     }
 }
@@ -0,0 +1,95 @@
+package com.sequenceiq.cloudbreak.cmtemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sequenceiq.cloudbreak.template.BlueprintProcessingException;
+import com.sequenceiq.cloudbreak.util.FileReaderUtils;
+
+class CmTemplateProcessorFactoryTest {
+
+    private final CmTemplateProcessorFactory underTest = new CmTemplateProcessorFactory();
+
+    @Test
+    void testParsedTemplateIsReusedForTheSameText() {
+        String templateText = getBlueprintText("input/clouderamanager.bp");
+
+        CmTemplateProcessor first = underTest.get(templateText);
+        CmTemplateProcessor second = underTest.get(templateText);
+
+        assertEquals(1L, underTest.getCacheHitCount());
+        assertEquals(first.getComponentsByHostGroup(), second.getComponentsByHostGroup());
+        assertEquals(first.getCardinalityByHostGroup(), second.getCardinalityByHostGroup());
+    }
+
+    @Test
+    void testModificationsAreNotVisibleToOtherProcessors() {
+        String templateText = getBlueprintText("input/clouderamanager.bp");
+        CmTemplateProcessor modified = underTest.get(templateText);
+        CmTemplateProcessor other = underTest.get(templateText);
+        String originalCdhVersion = other.getStackVersion();
+
+        modified.setCdhVersion("7.99.0");
+        modified.getHostTemplates().clear();
+
+        assertEquals("7.99.0", modified.getStackVersion());
+        assertTrue(modified.getHostTemplateNames().isEmpty());
+        assertEquals(originalCdhVersion, other.getStackVersion());
+        assertFalse(other.getHostTemplateNames().isEmpty());
+        assertEquals(originalCdhVersion, underTest.get(templateText).getStackVersion());
+        assertNotSame(modified.getTemplate(), other.getTemplate());
+    }
+
+    @Test
+    void testHandedOutTemplatesAreNotShared() {
+        String templateText = getBlueprintText("input/clouderamanager.bp");
+
+        assertNotSame(underTest.get(templateText).getTemplate(), underTest.get(templateText).getTemplate());
+    }
+
+    @Test
+    void testDifferentTextsAreCachedSeparately() {
+        String templateText = getBlueprintText("input/clouderamanager.bp");
+        String otherTemplateText = getBlueprintText("input/cdp-streaming.bp");
+
+        CmTemplateProcessor processor = underTest.get(templateText);
+        CmTemplateProcessor otherProcessor = underTest.get(otherTemplateText);
+
+        assertEquals(0L, underTest.getCacheHitCount());
+        assertEquals(new CmTemplateProcessor(templateText).getComponentsByHostGroup(), processor.getComponentsByHostGroup());
+        assertEquals(new CmTemplateProcessor(otherTemplateText).getComponentsByHostGroup(), otherProcessor.getComponentsByHostGroup());
+    }
+
+    @Test
+    void testReadOnlyCallsKeepTheSharedTemplate() {
+        String templateText = getBlueprintText("input/clouderamanager.bp");
+        CmTemplateProcessor processor = underTest.get(templateText);
+
+        processor.getComponentsByHostGroup();
+        processor.getCardinalityByHostGroup();
+        processor.isRoleTypePresentInService("HDFS", List.of("NAMENODE"));
+        processor.everyHostTemplateHasRoleConfigGroupsRefNames();
+
+        assertSame(ReflectionTestUtils.getField(underTest.get(templateText), "cmTemplate"), ReflectionTestUtils.getField(processor, "cmTemplate"));
+    }
+
+    @Test
+    void testInvalidTemplateText() {
+        assertThrows(BlueprintProcessingException.class, () -> underTest.get("{invalid"));
+        assertThrows(BlueprintProcessingException.class, () -> underTest.get("{invalid"));
+        assertEquals(0L, underTest.getCacheHitCount());
+    }
+
+    private String getBlueprintText(String path) {
+        return FileReaderUtils.readFileFromClasspathQuietly(path);
+    }
+}
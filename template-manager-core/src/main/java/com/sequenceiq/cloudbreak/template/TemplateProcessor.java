@@ -8,10 +8,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import com.github.jknack.handlebars.Handlebars;
 import com.github.jknack.handlebars.TagType;
 import com.github.jknack.handlebars.Template;
-import com.sequenceiq.cloudbreak.handlebar.HandlebarTemplate;
 import com.sequenceiq.cloudbreak.handlebar.HandlebarUtils;
 import com.sequenceiq.cloudbreak.common.json.JsonUtil;
 
@@ -20,8 +18,6 @@ public class TemplateProcessor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TemplateProcessor.class);
 
-    private final Handlebars handlebars = HandlebarUtils.handlebars();
-
     public String process(String sourceTemplate, TemplatePreparationObject source, Map<String, Object> customProperties) throws IOException {
         long started = System.currentTimeMillis();
         String generateBlueprint = generateTemplateWithParameters(sourceTemplate, source, customProperties);
@@ -42,13 +38,13 @@ public class TemplateProcessor {
 
     private String generateTemplateWithParameters(String sourceTemplate, TemplatePreparationObject source, Map<String, Object> customProperties)
             throws IOException {
-        Template template = handlebars.compileInline(sourceTemplate, HandlebarTemplate.DEFAULT_PREFIX.key(), HandlebarTemplate.DEFAULT_POSTFIX.key());
+        Template template = HandlebarUtils.compileInline(sourceTemplate);
         return template.apply(prepareTemplateObject(source, customProperties));
     }
 
     private List<String> queryTemplateParameters(String sourceTemplate)
             throws IOException {
-        Template template = handlebars.compileInline(sourceTemplate, HandlebarTemplate.DEFAULT_PREFIX.key(), HandlebarTemplate.DEFAULT_POSTFIX.key());
+        Template template = HandlebarUtils.compileInline(sourceTemplate);
         return template.collect(TagType.VAR);
     }
 
@@ -14,9 +14,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import com.github.jknack.handlebars.Handlebars;
 import com.github.jknack.handlebars.Template;
-import com.sequenceiq.cloudbreak.handlebar.HandlebarTemplate;
 import com.sequenceiq.cloudbreak.handlebar.HandlebarUtils;
 import com.sequenceiq.cloudbreak.template.processor.BlueprintTextProcessor;
 import com.sequenceiq.common.api.cloudstorage.query.ConfigQueryEntries;
@@ -28,8 +26,6 @@ public class CloudStorageConfigDetails {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CloudStorageConfigDetails.class);
 
-    private final Handlebars handlebars = HandlebarUtils.handlebars();
-
     public Set<ConfigQueryEntry> queryParameters(BlueprintTextProcessor blueprintTextProcessor,
             ConfigQueryEntries configQueryEntries, FileSystemConfigQueryObject request) {
 
@@ -99,9 +95,9 @@ public class CloudStorageConfigDetails {
 
     private String generateConfigWithParameters(String sourceTemplate, FileSystemType fileSystemType, Map<String, Object> templateObject) throws IOException {
         String defaultPath = fileSystemType.getDefaultPath();
-        Template defaultPathTemplate = handlebars.compileInline(defaultPath, HandlebarTemplate.DEFAULT_PREFIX.key(), HandlebarTemplate.DEFAULT_POSTFIX.key());
+        Template defaultPathTemplate = HandlebarUtils.compileInline(defaultPath);
         templateObject.put("defaultPath", defaultPathTemplate.apply(templateObject));
-        Template template = handlebars.compileInline(sourceTemplate, HandlebarTemplate.DEFAULT_PREFIX.key(), HandlebarTemplate.DEFAULT_POSTFIX.key());
+        Template template = HandlebarUtils.compileInline(sourceTemplate);
         return template.apply(templateObject);
     }
 
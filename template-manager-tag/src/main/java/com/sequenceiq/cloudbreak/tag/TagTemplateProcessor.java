@@ -11,9 +11,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import com.github.jknack.handlebars.Handlebars;
 import com.github.jknack.handlebars.Template;
-import com.sequenceiq.cloudbreak.handlebar.HandlebarTemplate;
 import com.sequenceiq.cloudbreak.handlebar.HandlebarUtils;
 import com.sequenceiq.cloudbreak.common.json.JsonUtil;
 import com.sequenceiq.cloudbreak.common.service.Clock;
@@ -23,8 +21,6 @@ public class TagTemplateProcessor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TagTemplateProcessor.class);
 
-    private final Handlebars handlebars = HandlebarUtils.handlebars();
-
     @Inject
     private Clock clock;
 
@@ -39,7 +35,7 @@ public class TagTemplateProcessor {
 
     private String generateTemplateWithParameters(String sourceTemplate, TagPreparationObject model)
             throws IOException {
-        Template template = handlebars.compileInline(sourceTemplate, HandlebarTemplate.DEFAULT_PREFIX.key(), HandlebarTemplate.DEFAULT_POSTFIX.key());
+        Template template = HandlebarUtils.compileInline(sourceTemplate);
         return template.apply(prepareTemplateObject(model));
     }
 
@@ -5,6 +5,8 @@ import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import com.sequenceiq.cloudbreak.streaming.config.StreamingBatchConfiguration;
+
 @Component
 @ConfigurationProperties("telemetry.usage.http")
 public class EdhHttpConfiguration {
@@ -21,6 +23,8 @@ public class EdhHttpConfiguration {
 
     private List<EdhHttpAdditionalField> additionalFields;
 
+    private StreamingBatchConfiguration batch = new StreamingBatchConfiguration();
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -68,4 +72,12 @@ public class EdhHttpConfiguration {
     public void setAdditionalFields(List<EdhHttpAdditionalField> additionalFields) {
         this.additionalFields = additionalFields;
     }
+
+    public StreamingBatchConfiguration getBatch() {
+        return batch;
+    }
+
+    public void setBatch(StreamingBatchConfiguration batch) {
+        this.batch = batch;
+    }
 }
@@ -1,6 +1,7 @@
 package com.sequenceiq.cloudbreak.usage.http;
 
 import com.sequenceiq.cloudbreak.streaming.config.AbstractStreamingConfiguration;
+import com.sequenceiq.cloudbreak.streaming.config.StreamingBatchConfiguration;
 
 public class UsageHttpConfiguration extends AbstractStreamingConfiguration {
 
@@ -11,6 +12,11 @@ public class UsageHttpConfiguration extends AbstractStreamingConfiguration {
         this.endpoint = endpoint;
     }
 
+    public UsageHttpConfiguration(boolean enabled, int numberOfWorkers, int queueSizeLimit, String endpoint, StreamingBatchConfiguration batchConfiguration) {
+        super(enabled, numberOfWorkers, queueSizeLimit, batchConfiguration);
+        this.endpoint = endpoint;
+    }
+
     public String getEndpoint() {
         return endpoint;
     }
@@ -1,5 +1,13 @@
 package com.sequenceiq.cloudbreak.usage.http;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 import java.util.concurrent.BlockingDeque;
 
 import org.apache.commons.lang3.StringUtils;
@@ -7,14 +15,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import com.cloudera.thunderhead.service.common.usage.UsageProto;
 import com.sequenceiq.cloudbreak.streaming.model.StreamProcessingException;
 import com.sequenceiq.cloudbreak.streaming.processor.AbstractRecordProcessor;
+import com.sequenceiq.cloudbreak.streaming.processor.SpillableRecordProcessor;
 import com.sequenceiq.cloudbreak.usage.strategy.LoggingUsageProcessingStrategy;
 
 import io.opentracing.Tracer;
 
 @Component
-public class UsageHttpRecordProcessor extends AbstractRecordProcessor<UsageHttpConfiguration, UsageHttpRecordRequest, UsageHttpRecordWorker> {
+public class UsageHttpRecordProcessor extends AbstractRecordProcessor<UsageHttpConfiguration, UsageHttpRecordRequest, UsageHttpRecordWorker>
+        implements SpillableRecordProcessor<UsageHttpRecordRequest> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(UsageHttpRecordProcessor.class);
 
@@ -24,7 +35,7 @@ public class UsageHttpRecordProcessor extends AbstractRecordProcessor<UsageHttpC
 
     public UsageHttpRecordProcessor(EdhHttpConfiguration edhHttpConfiguration, LoggingUsageProcessingStrategy loggingUsageProcessingStrategy, Tracer tracer) {
         super(new UsageHttpConfiguration(edhHttpConfiguration.isEnabled(), edhHttpConfiguration.getWorkers(), edhHttpConfiguration.getQueueSizeLimit(),
-                edhHttpConfiguration.getEndpoint()));
+                edhHttpConfiguration.getEndpoint(), edhHttpConfiguration.getBatch()));
         this.loggingUsageProcessingStrategy = loggingUsageProcessingStrategy;
         this.tracer = tracer;
     }
@@ -57,8 +68,54 @@ public class UsageHttpRecordProcessor extends AbstractRecordProcessor<UsageHttpC
         loggingUsageProcessingStrategy.processUsage(input.messageBodyAsUsageEvent(), null);
     }
 
+    @Override
+    public Optional<byte[]> toSpilledRecord(UsageHttpRecordRequest input) {
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(record)) {
+            output.writeLong(input.getTimestamp());
+            output.writeBoolean(input.isForceRawOutput());
+            writeBytes(output, input.getRawBody().map(rawBody -> rawBody.getBytes(StandardCharsets.UTF_8)).orElse(null));
+            writeBytes(output, input.getMessageBody().map(messageBody -> messageBody.toByteArray()).orElse(null));
+        } catch (IOException e) {
+            LOGGER.debug("Usage http record cannot be serialized for spilling.", e);
+            return Optional.empty();
+        }
+        return Optional.of(record.toByteArray());
+    }
+
+    @Override
+    public UsageHttpRecordRequest fromSpilledRecord(byte[] record) {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(record))) {
+            long timestamp = input.readLong();
+            boolean forceRawOutput = input.readBoolean();
+            byte[] rawBody = readBytes(input);
+            byte[] messageBody = readBytes(input);
+            return new UsageHttpRecordRequest(rawBody == null ? null : new String(rawBody, StandardCharsets.UTF_8),
+                    messageBody == null ? null : UsageProto.Event.parseFrom(messageBody), timestamp, forceRawOutput);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Spilled usage http record cannot be read", e);
+        }
+    }
+
     @Override
     public boolean isProcessingEnabled() {
         return getConfiguration() != null && getConfiguration().isEnabled() && StringUtils.isNotBlank(getConfiguration().getEndpoint());
     }
+
+    private void writeBytes(DataOutputStream output, byte[] bytes) throws IOException {
+        output.writeInt(bytes == null ? -1 : bytes.length);
+        if (bytes != null) {
+            output.write(bytes);
+        }
+    }
+
+    private byte[] readBytes(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return bytes;
+    }
 }
@@ -6,8 +6,10 @@ import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.BlockingDeque;
+import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
 
@@ -55,9 +57,53 @@ public class UsageHttpRecordWorker extends RecordWorker<UsageHttpRecordProcessor
                 throw new StreamProcessingException(String.format("Usage could not be uploaded to %s (status code: %s)",
                         getConfiguration().getEndpoint(), response.statusCode()));
             }
-        } catch (URISyntaxException | IOException | InterruptedException e) {
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             LOGGER.error("Error during processing http request (usage)", e);
             throw new StreamProcessingException(e);
+        } catch (URISyntaxException | IOException e) {
+            LOGGER.error("Error during processing http request (usage)", e);
+            throw new StreamProcessingException(e);
+        }
+    }
+
+    /**
+     * Sends the batch as one gzip compressed JSON array, single records are sent as they are.
+     */
+    @Override
+    public void processRecordBatch(List<UsageHttpRecordRequest> inputs) throws StreamProcessingException {
+        if (inputs.size() == 1) {
+            processRecordInput(inputs.get(0));
+            return;
+        }
+        if (inputs.stream().anyMatch(input -> input.getRawBody().isEmpty())) {
+            throw new StreamProcessingException("Raw body payload is missing from a usage request of the batch");
+        }
+        String payload = inputs.stream()
+                .map(input -> input.getRawBody().get())
+                .collect(Collectors.joining(",", "[", "]"));
+        try {
+            HttpRequest httpRequest = HttpRequest.newBuilder()
+                    .uri(new URI(getConfiguration().getEndpoint()))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(compress(payload)))
+                    .header("Content-Type", "application/json")
+                    .header("Content-Encoding", "gzip")
+                    .build();
+            HttpResponse<String> response = getHttpClient().send(httpRequest, HttpResponse.BodyHandlers.ofString());
+            Response.Status.Family statusFamily = Response.Status.Family.familyOf(response.statusCode());
+            if (Response.Status.Family.SUCCESSFUL.equals(statusFamily) || Response.Status.Family.REDIRECTION.equals(statusFamily)) {
+                LOGGER.debug("Batch of {} records has been sent successfully to usage http endpoint.", inputs.size());
+            } else {
+                throw new StreamProcessingException(String.format("Usage batch could not be uploaded to %s (status code: %s)",
+                        getConfiguration().getEndpoint(), response.statusCode()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.error("Error during processing http batch request (usage)", e);
+            throw new StreamProcessingException(e);
+        } catch (URISyntaxException | IOException e) {
+            LOGGER.error("Error during processing http batch request (usage)", e);
+            throw new StreamProcessingException(e);
         }
     }
 
@@ -1,5 +1,6 @@
 package com.sequenceiq.cloudbreak.usage.http;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -10,17 +11,23 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.List;
 import java.util.concurrent.BlockingDeque;
+import java.util.zip.GZIPOutputStream;
 
 import javax.ws.rs.core.Response;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -102,6 +109,46 @@ public class UsageHttpRecordWorkerTest {
         assertTrue(exception.getMessage().contains("unexpected error"));
     }
 
+    @Test
+    public void testProcessRecordBatch() throws Exception {
+        // GIVEN
+        underTest = spy(underTest);
+        doReturn(httpClient).when(underTest).getHttpClient();
+        given(httpClient.<String>send(any(), any())).willReturn(httpResponse);
+        given(configuration.getEndpoint()).willReturn("http://endpoint");
+        given(httpResponse.statusCode()).willReturn(Response.Status.OK.getStatusCode());
+        // WHEN
+        underTest.processRecordBatch(List.of(createRequest(), createRequest(), createRequest()));
+        // THEN
+        ArgumentCaptor<HttpRequest> requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(httpClient, times(1)).send(requestCaptor.capture(), any());
+        assertEquals("gzip", requestCaptor.getValue().headers().firstValue("Content-Encoding").orElse(null));
+        assertEquals(gzip("[{},{},{}]").length, requestCaptor.getValue().bodyPublisher().orElseThrow().contentLength());
+    }
+
+    @Test
+    public void testProcessRecordBatchWithBadStatus() throws Exception {
+        // GIVEN
+        underTest = spy(underTest);
+        doReturn(httpClient).when(underTest).getHttpClient();
+        given(httpClient.<String>send(any(), any())).willReturn(httpResponse);
+        given(configuration.getEndpoint()).willReturn("http://endpoint");
+        given(httpResponse.statusCode()).willReturn(Response.Status.SERVICE_UNAVAILABLE.getStatusCode());
+        // WHEN
+        StreamProcessingException exception = assertThrows(StreamProcessingException.class,
+                () -> underTest.processRecordBatch(List.of(createRequest(), createRequest())));
+        // THEN
+        assertTrue(exception.getMessage().contains("Usage batch could not be uploaded to http://endpoint (status code: 503)"));
+    }
+
+    private byte[] gzip(String payload) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(payload.getBytes(StandardCharsets.UTF_8));
+        }
+        return compressed.toByteArray();
+    }
+
     private UsageHttpRecordRequest createRequest() {
         return new UsageHttpRecordRequest("{}", null, new Date().getTime(), true);
     }